@@ -0,0 +1,55 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점수 한 건 정정 후 석차 재산정 비용 비교
+ * - sortBased: 기존 방식 (전체 Map 복사 후 정렬)
+ * - indexed: ScoreRankIndex 갱신 (석차가 바뀐 학생만 반환)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoreRankBenchmark {
+
+    @Param({"30", "300", "3000"})
+    private int cohortSize;
+
+    private Map<Long, Double> scoreMap;
+    private ScoreRankIndex index;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        scoreMap = new HashMap<>();
+        for (long id = 1; id <= cohortSize; id++) {
+            scoreMap.put(id, randomScore());
+        }
+        index = ScoreRankIndex.of(scoreMap);
+    }
+
+    @Benchmark
+    public void sortBased(Blackhole bh) {
+        long id = 1 + random.nextInt(cohortSize);
+        scoreMap.put(id, randomScore());
+        bh.consume(ScoreLevelUtil.calculateRanks(scoreMap));
+    }
+
+    @Benchmark
+    public void indexed(Blackhole bh) {
+        long id = 1 + random.nextInt(cohortSize);
+        bh.consume(index.update(id, randomScore()));
+    }
+
+    // 0.1 단위 환산 점수 (동점 발생 포함)
+    private double randomScore() {
+        return random.nextInt(1001) / 10.0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반 / 학년 통계 계산 비용 비교 (할당량은 -prof gc 로 확인, build.gradle jmh 설정에 포함)
+ * - legacy: 변경 전 Collection<Double> + 스트림 + Math.pow
+ * - primitive: double[] 커널
+ * - welford: 단일 패스 평균 / 분산 (반올림 없음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScoreStatBenchmark {
+
+    @Param({"30", "300", "3000"})
+    private int size;
+
+    private List<Double> boxed;
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        boxed = new ArrayList<>(size);
+        values = new double[size];
+        for (int i = 0; i < size; i++) {
+            double v = random.nextInt(1001) / 10.0;
+            boxed.add(v);
+            values[i] = v;
+        }
+    }
+
+    @Benchmark
+    public double legacy() {
+        // 호출 측의 values().stream().toList() 복사 포함
+        List<Double> copy = boxed.stream().toList();
+        double sum = 0.0;
+        for (double v : copy) {
+            sum += v;
+        }
+        double avg = Math.round(sum / copy.size() * 100.0) / 100.0;
+
+        double mean = copy.stream().mapToDouble(d -> d).average().orElse(0.0);
+        double sumSquared = copy.stream().mapToDouble(d -> Math.pow(d - mean, 2)).sum();
+        return avg + Math.round(Math.sqrt(sumSquared / copy.size()) * 10.0) / 10.0;
+    }
+
+    @Benchmark
+    public double primitive() {
+        return ScoreStatUtil.average(values) + ScoreStatUtil.standardDeviation(values);
+    }
+
+    @Benchmark
+    public double welford() {
+        ScoreStatUtil.Moments moments = ScoreStatUtil.moments(values);
+        return moments.getMean() + moments.getStdDeviation();
+    }
+}
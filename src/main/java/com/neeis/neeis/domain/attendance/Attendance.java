@@ -12,6 +12,7 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_attendance_student_date", columnList = "student_id, date"))
 public class Attendance {
 
     @Id
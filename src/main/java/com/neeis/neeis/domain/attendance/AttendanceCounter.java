@@ -0,0 +1,51 @@
+package com.neeis.neeis.domain.attendance;
+
+import com.neeis.neeis.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+/**
+ * 학생별 월별 출결 집계 (결석 / 지각 / 조퇴)
+ * 출결 저장과 같은 트랜잭션에서 증감분만 반영하며, 학기 통계는 해당 월 버킷 합으로 계산한다.
+ * 행 생성 / 갱신은 AttendanceJdbcRepository 에서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "attendance_counter",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_attendance_counter_student_month",
+                columnNames = {"student_id", "month_key"}
+        )
+)
+public class AttendanceCounter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    // yyyyMM (예: 202504)
+    @Column(name = "month_key", nullable = false)
+    private int monthKey;
+
+    @Column(nullable = false)
+    private int absentCount;
+
+    @Column(nullable = false)
+    private int lateCount;
+
+    @Column(nullable = false)
+    private int earlyCount;
+
+    public static int monthKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+}
@@ -0,0 +1,70 @@
+package com.neeis.neeis.domain.attendance;
+
+import com.neeis.neeis.global.backfill.BackfillMarkerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * attendance_counter 초기 적재
+ * 도입 직후 한 번, 출결 원본으로 학생별 월별 버킷을 다시 만든다. 이후에는 출결 저장 시 증감분으로만 갱신된다.
+ * 완료 여부는 집계 행 유무가 아니라 backfill_marker 로 판단하므로, 백필 전에 들어온 증감분이 있어도 건너뛰지 않는다.
+ * 학생 CHUNK_SIZE 명 단위 트랜잭션에서 출결 저장과 같은 학생 행 잠금을 잡고 재구성하므로, 동시에 저장된 증감분을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class AttendanceCounterBackfillJob {
+    static final String MARKER = "attendance_counter";
+    static final int CHUNK_SIZE = 500;
+
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final BackfillMarkerRepository backfillMarkerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AttendanceCounterBackfillJob(AttendanceJdbcRepository attendanceJdbcRepository,
+                                        BackfillMarkerRepository backfillMarkerRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.attendanceJdbcRepository = attendanceJdbcRepository;
+        this.backfillMarkerRepository = backfillMarkerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 기동 완료 후 백그라운드에서 실행
+    @Async("SummaryExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            run();
+        } catch (DataAccessException e) {
+            log.warn("출결 집계 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public void run() {
+        if (backfillMarkerRepository.isCompleted(MARKER)) return;
+
+        // 중간에 실패하면 완료 표시 없이 끝나고, 다음 기동 때 처음부터 다시 재구성한다 (학생 단위로 덮어쓰므로 안전)
+        int buckets = 0;
+        long afterId = 0L;
+        List<Long> studentIds;
+        while (!(studentIds = attendanceJdbcRepository.findStudentIdsAfter(afterId, CHUNK_SIZE)).isEmpty()) {
+            List<Long> chunk = studentIds;
+            Integer rebuilt = transactionTemplate.execute(status -> {
+                attendanceJdbcRepository.lockStudents(chunk);
+                return attendanceJdbcRepository.rebuildCounters(chunk);
+            });
+            buckets += rebuilt == null ? 0 : rebuilt;
+            afterId = chunk.get(chunk.size() - 1);
+        }
+
+        backfillMarkerRepository.markCompleted(MARKER);
+        log.info("출결 집계 초기 적재 완료 - {}건", buckets);
+    }
+}
@@ -0,0 +1,18 @@
+package com.neeis.neeis.domain.attendance;
+
+import com.neeis.neeis.domain.attendance.dto.AttendanceCountDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AttendanceCounterRepository extends JpaRepository<AttendanceCounter, Long> {
+
+    // 기간 내 월 버킷 합계 (버킷이 없으면 0)
+    @Query("SELECT new com.neeis.neeis.domain.attendance.dto.AttendanceCountDto(" +
+            "COALESCE(SUM(c.absentCount), 0), COALESCE(SUM(c.lateCount), 0), COALESCE(SUM(c.earlyCount), 0)) " +
+            "FROM AttendanceCounter c " +
+            "WHERE c.studentId = :studentId AND c.monthKey BETWEEN :fromMonthKey AND :toMonthKey")
+    AttendanceCountDto sumByStudentAndMonthKeyBetween(@Param("studentId") Long studentId,
+                                                      @Param("fromMonthKey") int fromMonthKey,
+                                                      @Param("toMonthKey") int toMonthKey);
+}
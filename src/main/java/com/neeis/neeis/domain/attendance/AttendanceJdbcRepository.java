@@ -0,0 +1,175 @@
+package com.neeis.neeis.domain.attendance;
+
+import com.neeis.neeis.domain.attendance.dto.AttendanceCounterDeltaDto;
+import com.neeis.neeis.domain.attendance.dto.res.AttendanceAnalyticsRowDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 출결 일괄 저장용 JDBC 리포지토리
+ * Attendance 는 IDENTITY 키라 Hibernate 배치 insert 가 되지 않으므로 insert / update / delete 를 JDBC 배치로 처리한다.
+ * 월별 출결 집계(attendance_counter)도 여기서 함께 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO attendance (student_id, date, status) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE attendance SET status = ? WHERE id = ?";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM attendance WHERE id IN (:ids)";
+
+    private static final String ADD_COUNTER_SQL = """
+            INSERT INTO attendance_counter
+                (student_id, month_key, absent_count, late_count, early_count, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                absent_count = absent_count + VALUES(absent_count),
+                late_count = late_count + VALUES(late_count),
+                early_count = early_count + VALUES(early_count),
+                modified_at = VALUES(modified_at)
+            """;
+
+    // 학생 행 잠금 - 출결 저장(증감 반영)과 집계 재구성이 같은 학생에 대해 이 잠금으로 직렬화된다
+    private static final String LOCK_STUDENTS_SQL =
+            "SELECT id FROM student WHERE id IN (:studentIds) ORDER BY id FOR UPDATE";
+
+    private static final String FIND_STUDENT_IDS_SQL =
+            "SELECT id FROM student WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String DELETE_COUNTERS_SQL =
+            "DELETE FROM attendance_counter WHERE student_id IN (:studentIds)";
+
+    // 출결 원본으로 학생들의 월별 집계 재구성 (기존 버킷은 먼저 삭제)
+    private static final String REBUILD_COUNTER_SQL = """
+            INSERT INTO attendance_counter
+                (student_id, month_key, absent_count, late_count, early_count, created_at, modified_at)
+            SELECT student_id, YEAR(date) * 100 + MONTH(date),
+                   SUM(status = 'ABSENT'), SUM(status = 'LATE'), SUM(status = 'EARLY'), NOW(), NOW()
+            FROM attendance
+            WHERE student_id IN (:studentIds)
+            GROUP BY student_id, YEAR(date) * 100 + MONTH(date)
+            """;
+
+    // 학년 / 반 / 월 / 요일별 출결 집계 (DAYOFWEEK: 1 = 일요일 ~ 7 = 토요일)
+    private static final String ANALYTICS_SQL = """
+            SELECT c.grade, c.class_num, YEAR(a.date) AS y, MONTH(a.date) AS m, DAYOFWEEK(a.date) AS dow,
+                   SUM(a.status = 'ABSENT') AS absent_count,
+                   SUM(a.status = 'LATE') AS late_count,
+                   SUM(a.status = 'EARLY') AS early_count
+            FROM attendance a
+            JOIN classroom_student cs ON cs.student_id = a.student_id
+            JOIN classroom c ON c.id = cs.classroom_id
+            WHERE c.year = ? AND a.date BETWEEN ? AND ?
+            GROUP BY c.grade, c.class_num, YEAR(a.date), MONTH(a.date), DAYOFWEEK(a.date)
+            ORDER BY y, m, c.grade, c.class_num, dow
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 신규 출결 배치 insert
+    public void insertAll(List<Attendance> attendances) {
+        if (attendances.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, attendances, attendances.size(), (ps, attendance) -> {
+            ps.setLong(1, attendance.getStudent().getId());
+            ps.setDate(2, Date.valueOf(attendance.getDate()));
+            ps.setString(3, attendance.getStatus().name());
+        });
+    }
+
+    // 출결 상태 배치 update (key: attendance ID)
+    public void updateStatuses(Map<Long, AttendanceStatus> statusById) {
+        if (statusById.isEmpty()) return;
+
+        List<Map.Entry<Long, AttendanceStatus>> entries = new ArrayList<>(statusById.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getValue().name());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    // 출결 삭제 (단일 DELETE 문)
+    public int deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return 0;
+
+        return namedParameterJdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", ids));
+    }
+
+    // 월별 출결 집계 증감 반영 (출결 저장과 같은 트랜잭션)
+    public void addCounters(List<AttendanceCounterDeltaDto> deltas) {
+        if (deltas.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ADD_COUNTER_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getStudentId());
+            ps.setInt(2, delta.getMonthKey());
+            ps.setInt(3, delta.getAbsentDelta());
+            ps.setInt(4, delta.getLateDelta());
+            ps.setInt(5, delta.getEarlyDelta());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    /**
+     * 학생 행 잠금 (트랜잭션 안에서 호출)
+     * 출결 저장은 기존 출결을 읽기 전에, 집계 재구성은 재계산 전에 잡아 서로의 증감분을 덮어쓰지 않게 한다.
+     */
+    public void lockStudents(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) return;
+
+        namedParameterJdbcTemplate.queryForList(LOCK_STUDENTS_SQL,
+                new MapSqlParameterSource("studentIds", studentIds), Long.class);
+    }
+
+    // 학생 ID 를 afterId 다음부터 limit 건 (ID 순)
+    public List<Long> findStudentIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(FIND_STUDENT_IDS_SQL, Long.class, afterId, limit);
+    }
+
+    // 출결 원본 기준 학생들의 집계 재구성 - 반영된 버킷 수 반환 (lockStudents 와 같은 트랜잭션)
+    public int rebuildCounters(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) return 0;
+
+        MapSqlParameterSource params = new MapSqlParameterSource("studentIds", studentIds);
+        namedParameterJdbcTemplate.update(DELETE_COUNTERS_SQL, params);
+        return namedParameterJdbcTemplate.update(REBUILD_COUNTER_SQL, params);
+    }
+
+    // 학년도 출결 집계 - 결과 행을 읽는 즉시 consumer 로 넘긴다 (월 순서)
+    public void streamAnalytics(int year, LocalDate from, LocalDate to, Consumer<AttendanceAnalyticsRowDto> consumer) {
+        jdbcTemplate.query(ANALYTICS_SQL, (RowCallbackHandler) rs -> {
+            consumer.accept(AttendanceAnalyticsRowDto.builder()
+                    .grade(rs.getInt("grade"))
+                    .classNum(rs.getInt("class_num"))
+                    .year(rs.getInt("y"))
+                    .month(rs.getInt("m"))
+                    .dayOfWeek(DayOfWeek.of((rs.getInt("dow") + 5) % 7 + 1))
+                    .absentCount(rs.getInt("absent_count"))
+                    .lateCount(rs.getInt("late_count"))
+                    .earlyCount(rs.getInt("early_count"))
+                    .build());
+        }, year, Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -1,13 +1,31 @@
 package com.neeis.neeis.domain.attendance;
 
+import com.neeis.neeis.domain.attendance.dto.AttendanceMatrixRowDto;
+import com.neeis.neeis.domain.classroom.Classroom;
 import com.neeis.neeis.domain.student.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     Optional<Attendance> findByStudentAndDate(Student student, LocalDate localDate);
     List<Attendance> findByStudentAndDateBetween(Student student, LocalDate startDate, LocalDate endDate);
+
+    // 여러 학생의 기간 출결 (한 번의 범위 쿼리)
+    List<Attendance> findAllByStudentIdInAndDateBetween(Collection<Long> studentIds, LocalDate startDate, LocalDate endDate);
+
+    // 학급 월별 출결 (학생 LEFT JOIN 출결, 한 번의 쿼리) - 출석번호, 날짜 순
+    @Query("SELECT new com.neeis.neeis.domain.attendance.dto.AttendanceMatrixRowDto(s.id, s.name, cs.number, a.date, a.status) " +
+            "FROM ClassroomStudent cs JOIN cs.student s " +
+            "LEFT JOIN Attendance a ON a.student = s AND a.date BETWEEN :startDate AND :endDate " +
+            "WHERE cs.classroom = :classroom " +
+            "ORDER BY cs.number, a.date")
+    List<AttendanceMatrixRowDto> findMonthlyRowsByClassroom(@Param("classroom") Classroom classroom,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
 }
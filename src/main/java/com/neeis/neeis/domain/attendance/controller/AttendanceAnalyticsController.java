@@ -0,0 +1,53 @@
+package com.neeis.neeis.domain.attendance.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neeis.neeis.domain.attendance.dto.SchoolYearRangeDto;
+import com.neeis.neeis.domain.attendance.service.AttendanceAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/attendances/analytics")
+public class AttendanceAnalyticsController {
+
+    private final AttendanceAnalyticsService attendanceAnalyticsService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "[교사 / 관리자] 학년도 출결 분석", description = "학년 / 반 / 월 / 요일별 결석, 지각, 조퇴 건수를 조회합니다. <br>" +
+            "결과는 월 순서로 한 줄에 한 건씩(NDJSON) 전송됩니다. <br>" +
+            "학년(grade)은 선택사항이며, 입력하지 않으면 전체 학년을 조회합니다.")
+    public ResponseEntity<StreamingResponseBody> getAnalytics(@AuthenticationPrincipal UserDetails userDetails,
+                                                              @RequestParam("year") @Parameter(description = "학년도") int year,
+                                                              @RequestParam(value = "grade", required = false) @Parameter(description = "학년(선택)") Integer grade) {
+        // 권한 / 학년도 확인은 응답 전송 전에 처리 (오류 응답을 그대로 내려주기 위함)
+        SchoolYearRangeDto range = attendanceAnalyticsService.prepare(userDetails.getUsername(), year);
+
+        StreamingResponseBody body = outputStream -> attendanceAnalyticsService.streamAnalytics(range, grade, row -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(row));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -3,6 +3,7 @@ package com.neeis.neeis.domain.attendance.controller;
 import com.neeis.neeis.domain.attendance.dto.req.AttendanceBulkRequestDto;
 import com.neeis.neeis.domain.attendance.dto.req.AttendanceFeedbackReqDto;
 import com.neeis.neeis.domain.attendance.dto.res.AttendanceFeedbackResDto;
+import com.neeis.neeis.domain.attendance.dto.res.AttendanceMatrixResDto;
 import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceResDto;
 import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceSummaryDto;
 import com.neeis.neeis.domain.attendance.service.AttendanceService;
@@ -56,6 +57,23 @@ public class AttendanceController {
                 attendanceService.getAttendances(userDetails.getUsername(), year, grade, classNum, month)));
     }
 
+    @GetMapping("/matrix")
+    @Operation(summary = "[교사 전용] 학급별 월별 출결 매트릭스 조회", description = "학급 전체 학생의 월별 출결을 학생별 압축 값으로 조회합니다. <br>" +
+            "days 는 d일 상태를 (d - 1) * 2 번째 비트부터 2비트에 담은 64비트 값의 16진수 문자열입니다. <br>" +
+            "코드 : 0 PRESENT(출석), 1 ABSENT(결석), 2 LATE(지각), 3 EARLY(조퇴) <br>" +
+            "월(month)은 선택사항이며, 입력하지 않으면 당월을 기본값으로 조회합니다.")
+    public ResponseEntity<CommonResponse<AttendanceMatrixResDto>> getAttendanceMatrix(@AuthenticationPrincipal UserDetails userDetails,
+                                                                                      @RequestParam("year") @Parameter(description = "연도") int year,
+                                                                                      @RequestParam("grade") @Parameter(description = "학년") int grade,
+                                                                                      @RequestParam("classNum") @Parameter(description = "반") int classNum,
+                                                                                      @RequestParam(value = "month", required = false) @Parameter(description = "월(선택)") Integer month){
+        if (month == null) {
+            month = LocalDate.now().getMonthValue(); // 현재 달로 기본 설정
+        }
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_GET_ATTENDANCE.getMessage(),
+                attendanceService.getAttendanceMatrix(userDetails.getUsername(), year, grade, classNum, month)));
+    }
+
     @GetMapping("/student")
     @Operation(summary = "[교사 및 학생 전용] 담임 학생 월별 출결 개별 조회", description = "로그인한 교사의 학급 월별 출결을 개별 조회합니다. <br>" +
             "조회하려는 학급의 년도, 학년, 반이 필수로 입력해야합니다. <br>" +
@@ -0,0 +1,75 @@
+package com.neeis.neeis.domain.attendance.controller;
+
+import com.neeis.neeis.domain.attendance.dto.req.RollCallMarkReqDto;
+import com.neeis.neeis.domain.attendance.dto.res.RollCallResDto;
+import com.neeis.neeis.domain.attendance.service.RollCallService;
+import com.neeis.neeis.global.common.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+import static com.neeis.neeis.global.common.StatusCode.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/attendances/roll-call")
+public class RollCallController {
+
+    private final RollCallService rollCallService;
+
+    @PostMapping
+    @Operation(summary = "[교사 전용] 출석 부르기 시작", description = "담임 학급의 하루 출석 부르기를 시작하고 현재 출결을 조회합니다. <br>" +
+            "날짜(date)는 선택사항이며, 입력하지 않으면 오늘로 시작합니다. 미래 날짜는 입력할 수 없습니다.")
+    public ResponseEntity<CommonResponse<RollCallResDto>> openRollCall(@AuthenticationPrincipal UserDetails userDetails,
+                                                                       @RequestParam("year") @Parameter(description = "연도") int year,
+                                                                       @RequestParam("grade") @Parameter(description = "학년") int grade,
+                                                                       @RequestParam("classNum") @Parameter(description = "반") int classNum,
+                                                                       @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                       @Parameter(description = "날짜(선택)") LocalDate date) {
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_GET_ATTENDANCE.getMessage(),
+                rollCallService.open(userDetails.getUsername(), year, grade, classNum, date)));
+    }
+
+    @PatchMapping
+    @Operation(summary = "[교사 전용] 출석 부르기 학생 출결 표시", description = "학생 한 명의 출결을 표시합니다. <br>" +
+            "변경 내용은 몇 초간 모았다가 한 번에 저장되며, 조회 시에는 저장 전 변경분도 함께 반영됩니다. <br>" +
+            "status : PRESENT(출석), ABSENT(결석), LATE(지각), EARLY(조퇴)")
+    public ResponseEntity<CommonResponse<Object>> markAttendance(@AuthenticationPrincipal UserDetails userDetails,
+                                                                 @Valid @RequestBody RollCallMarkReqDto rollCallMarkReqDto) {
+        rollCallService.mark(userDetails.getUsername(), rollCallMarkReqDto);
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_POST_ATTENDANCE.getMessage()));
+    }
+
+    @GetMapping
+    @Operation(summary = "[교사 전용] 출석 부르기 현재 출결 조회", description = "저장 전 변경분을 포함한 하루 출결을 조회합니다. <br>" +
+            "날짜(date)는 선택사항이며, 입력하지 않으면 오늘을 조회합니다.")
+    public ResponseEntity<CommonResponse<RollCallResDto>> getRollCall(@AuthenticationPrincipal UserDetails userDetails,
+                                                                      @RequestParam("year") @Parameter(description = "연도") int year,
+                                                                      @RequestParam("grade") @Parameter(description = "학년") int grade,
+                                                                      @RequestParam("classNum") @Parameter(description = "반") int classNum,
+                                                                      @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                      @Parameter(description = "날짜(선택)") LocalDate date) {
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_GET_ATTENDANCE.getMessage(),
+                rollCallService.getRollCall(userDetails.getUsername(), year, grade, classNum, date)));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "[교사 전용] 출석 부르기 종료", description = "남은 변경분을 바로 저장하고 출석 부르기를 종료합니다.")
+    public ResponseEntity<CommonResponse<RollCallResDto>> closeRollCall(@AuthenticationPrincipal UserDetails userDetails,
+                                                                        @RequestParam("year") @Parameter(description = "연도") int year,
+                                                                        @RequestParam("grade") @Parameter(description = "학년") int grade,
+                                                                        @RequestParam("classNum") @Parameter(description = "반") int classNum,
+                                                                        @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                        @Parameter(description = "날짜(선택)") LocalDate date) {
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_CLOSE_ROLL_CALL.getMessage(),
+                rollCallService.close(userDetails.getUsername(), year, grade, classNum, date)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.neeis.neeis.domain.attendance.dto;
+
+import lombok.Getter;
+
+/**
+ * 출결 집계 합계 프로젝션 (결석 / 지각 / 조퇴)
+ */
+@Getter
+public class AttendanceCountDto {
+    private final int absentCount;
+    private final int lateCount;
+    private final int earlyCount;
+
+    public AttendanceCountDto(Long absentCount, Long lateCount, Long earlyCount) {
+        this.absentCount = absentCount != null ? absentCount.intValue() : 0;
+        this.lateCount = lateCount != null ? lateCount.intValue() : 0;
+        this.earlyCount = earlyCount != null ? earlyCount.intValue() : 0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.neeis.neeis.domain.attendance.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 출결 집계 증감분 (학생 / 월 단위)
+ */
+@Getter
+public class AttendanceCounterDeltaDto {
+    private final Long studentId;
+    private final int monthKey;
+    private final int absentDelta;
+    private final int lateDelta;
+    private final int earlyDelta;
+
+    @Builder
+    private AttendanceCounterDeltaDto(Long studentId, int monthKey, int absentDelta, int lateDelta, int earlyDelta) {
+        this.studentId = studentId;
+        this.monthKey = monthKey;
+        this.absentDelta = absentDelta;
+        this.lateDelta = lateDelta;
+        this.earlyDelta = earlyDelta;
+    }
+}
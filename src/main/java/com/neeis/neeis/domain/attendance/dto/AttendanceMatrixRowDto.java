@@ -0,0 +1,32 @@
+package com.neeis.neeis.domain.attendance.dto;
+
+import com.neeis.neeis.domain.attendance.AttendanceStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 학급 월별 출결 프로젝션
+ * ClassroomStudent LEFT JOIN Attendance 결과 한 행 - 해당 월 출결이 없는 학생은 date / status 가 null 인 한 행으로 나온다.
+ */
+@Getter
+public class AttendanceMatrixRowDto {
+    private final Long studentId;
+    private final String studentName;
+    private final int number;
+    private final LocalDate date;
+    private final AttendanceStatus status;
+
+    public AttendanceMatrixRowDto(Long studentId, String studentName, int number, LocalDate date, AttendanceStatus status) {
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.number = number;
+        this.date = date;
+        this.status = status;
+    }
+
+    // 출석 외 특이사항 여부
+    public boolean isException() {
+        return status != null && status != AttendanceStatus.PRESENT;
+    }
+}
@@ -0,0 +1,31 @@
+package com.neeis.neeis.domain.attendance.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 출석 부르기 세션 단위 (학급, 날짜)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class RollCallKey {
+    private final int year;
+    private final int grade;
+    private final int classNum;
+    private final LocalDate date;
+
+    private RollCallKey(int year, int grade, int classNum, LocalDate date) {
+        this.year = year;
+        this.grade = grade;
+        this.classNum = classNum;
+        this.date = date;
+    }
+
+    public static RollCallKey of(int year, int grade, int classNum, LocalDate date) {
+        return new RollCallKey(year, grade, classNum, date);
+    }
+}
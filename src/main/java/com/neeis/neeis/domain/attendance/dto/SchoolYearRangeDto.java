@@ -0,0 +1,21 @@
+package com.neeis.neeis.domain.attendance.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 학년도 기간 (1학기 시작일 ~ 마지막 학기 종료일)
+ */
+@Getter
+public class SchoolYearRangeDto {
+    private final int year;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public SchoolYearRangeDto(int year, LocalDate startDate, LocalDate endDate) {
+        this.year = year;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
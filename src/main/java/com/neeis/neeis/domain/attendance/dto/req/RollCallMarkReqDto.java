@@ -0,0 +1,48 @@
+package com.neeis.neeis.domain.attendance.dto.req;
+
+import com.neeis.neeis.domain.attendance.AttendanceStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class RollCallMarkReqDto {
+
+    @NotNull(message = "년도는 필수 입력 값입니다.")
+    @Schema(example = "2025")
+    private int year;
+
+    @NotNull(message = "학년은 필수 입력 값입니다.")
+    @Schema(example = "1")
+    private int grade;
+
+    @NotNull(message = "반은 필수 입력 값입니다.")
+    @Schema(example = "2")
+    private int classNumber;
+
+    @Schema(example = "2025-04-07", description = "출결 날짜 (생략 시 오늘)")
+    private LocalDate date;
+
+    @NotNull(message = "학생 ID는 필수 입력 값입니다.")
+    @Schema(example = "1")
+    private Long studentId;
+
+    @NotNull(message = "출결 상태는 필수 입력 값입니다.")
+    @Schema(example = "LATE")
+    private AttendanceStatus status;
+
+    @Builder
+    private RollCallMarkReqDto(int year, int grade, int classNumber, LocalDate date, Long studentId, AttendanceStatus status) {
+        this.year = year;
+        this.grade = grade;
+        this.classNumber = classNumber;
+        this.date = date;
+        this.studentId = studentId;
+        this.status = status;
+    }
+}
@@ -0,0 +1,41 @@
+package com.neeis.neeis.domain.attendance.dto.res;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+
+/**
+ * 출결 분석 집계 한 행 (학년, 반, 월, 요일 단위)
+ */
+@Getter
+public class AttendanceAnalyticsRowDto {
+    private final int grade;
+    private final int classNum;
+    private final int year;
+    private final int month;
+    private final DayOfWeek dayOfWeek;
+    private final int absentCount;
+    private final int lateCount;
+    private final int earlyCount;
+
+    @Builder
+    private AttendanceAnalyticsRowDto(int grade, int classNum, int year, int month, DayOfWeek dayOfWeek,
+                                      int absentCount, int lateCount, int earlyCount) {
+        this.grade = grade;
+        this.classNum = classNum;
+        this.year = year;
+        this.month = month;
+        this.dayOfWeek = dayOfWeek;
+        this.absentCount = absentCount;
+        this.lateCount = lateCount;
+        this.earlyCount = earlyCount;
+    }
+
+    // yyyyMM
+    @JsonIgnore
+    public int getMonthKey() {
+        return year * 100 + month;
+    }
+}
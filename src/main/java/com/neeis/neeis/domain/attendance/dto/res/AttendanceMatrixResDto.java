@@ -0,0 +1,27 @@
+package com.neeis.neeis.domain.attendance.dto.res;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 학급 월별 출결 매트릭스 (학생 x 일자)
+ * 학생별 days 는 d일 상태를 (d - 1) * 2 번째 비트부터 2비트에 담은 64비트 값의 16진수 표현이다.
+ * 코드: 0 = PRESENT, 1 = ABSENT, 2 = LATE, 3 = EARLY
+ */
+@Getter
+public class AttendanceMatrixResDto {
+    private final int year;
+    private final int month;
+    private final int lengthOfMonth;
+    private final List<StudentAttendanceMatrixDto> students;
+
+    @Builder
+    private AttendanceMatrixResDto(int year, int month, int lengthOfMonth, List<StudentAttendanceMatrixDto> students) {
+        this.year = year;
+        this.month = month;
+        this.lengthOfMonth = lengthOfMonth;
+        this.students = students;
+    }
+}
@@ -0,0 +1,29 @@
+package com.neeis.neeis.domain.attendance.dto.res;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class RollCallResDto {
+    private final LocalDate date;
+
+    @Schema(description = "아직 저장되지 않은 변경 건수")
+    private final int pendingCount;
+
+    @Schema(description = "저장을 여러 번 실패해 포기한 건수 (해당 학생을 다시 표시하면 재시도)")
+    private final int failedCount;
+
+    private final List<RollCallStudentDto> students;
+
+    @Builder
+    private RollCallResDto(LocalDate date, int pendingCount, int failedCount, List<RollCallStudentDto> students) {
+        this.date = date;
+        this.pendingCount = pendingCount;
+        this.failedCount = failedCount;
+        this.students = students;
+    }
+}
@@ -0,0 +1,24 @@
+package com.neeis.neeis.domain.attendance.dto.res;
+
+import com.neeis.neeis.domain.attendance.AttendanceStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class RollCallStudentDto {
+    private final Long studentId;
+    private final String studentName;
+    private final int number;
+    private final AttendanceStatus status;
+    // 저장을 포기한 학생 - status 는 DB 에 저장된 출결
+    private final boolean saveFailed;
+
+    @Builder
+    private RollCallStudentDto(Long studentId, String studentName, int number, AttendanceStatus status, boolean saveFailed) {
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.number = number;
+        this.status = status;
+        this.saveFailed = saveFailed;
+    }
+}
@@ -0,0 +1,23 @@
+package com.neeis.neeis.domain.attendance.dto.res;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class StudentAttendanceMatrixDto {
+    private final Long studentId;
+    private final String studentName;
+    private final int number;
+
+    @Schema(description = "월간 출결 (일자당 2비트, 16진수)", example = "0000000000000004")
+    private final String days;
+
+    @Builder
+    private StudentAttendanceMatrixDto(Long studentId, String studentName, int number, String days) {
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.number = number;
+        this.days = days;
+    }
+}
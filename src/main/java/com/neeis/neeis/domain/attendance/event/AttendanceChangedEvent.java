@@ -0,0 +1,14 @@
+package com.neeis.neeis.domain.attendance.event;
+
+import lombok.Getter;
+
+@Getter
+public class AttendanceChangedEvent {
+    private final int year;      // 학년도 (학급 기준)
+    private final int monthKey;  // 변경된 출결 월 (yyyyMM)
+
+    public AttendanceChangedEvent(int year, int monthKey) {
+        this.year = year;
+        this.monthKey = monthKey;
+    }
+}
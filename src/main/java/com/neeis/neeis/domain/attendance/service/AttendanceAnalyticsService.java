@@ -0,0 +1,141 @@
+package com.neeis.neeis.domain.attendance.service;
+
+import com.neeis.neeis.domain.attendance.AttendanceJdbcRepository;
+import com.neeis.neeis.domain.attendance.dto.SchoolYearRangeDto;
+import com.neeis.neeis.domain.attendance.dto.res.AttendanceAnalyticsRowDto;
+import com.neeis.neeis.domain.attendance.event.AttendanceChangedEvent;
+import com.neeis.neeis.domain.semester.Semester;
+import com.neeis.neeis.domain.semester.SemesterRepository;
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.domain.user.service.UserService;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * 학년도 출결 분석 (학년 / 반 / 월 / 요일별 결석 / 지각 / 조퇴)
+ * 한 번의 GROUP BY 쿼리 결과를 읽는 대로 흘려보내고, 지난 달까지의 결과는 학년도별로 메모리에 보관한다.
+ * 이후 요청은 보관된 월을 먼저 내보내고 이번 달 이후만 다시 집계한다.
+ * 지난 달의 출결이 수정되면(AttendanceChangedEvent) 해당 학년도 보관분을 버린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceAnalyticsService {
+
+    private final UserService userService;
+    private final SemesterRepository semesterRepository;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+
+    private final Map<Integer, ClosedMonths> closedMonthsCache = new ConcurrentHashMap<>();
+    // 집계 도중 무효화가 일어났는지 확인하는 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    // 권한 확인 및 학년도 기간 계산 (스트리밍 시작 전 요청 스레드에서 호출)
+    public SchoolYearRangeDto prepare(String username, int year) {
+        User user = userService.getUser(username);
+        if (user.getRole() != Role.ADMIN && user.getRole() != Role.TEACHER) {
+            throw new CustomException(ErrorCode.HANDLE_ACCESS_DENIED);
+        }
+
+        List<Semester> semesters = semesterRepository.findAllByYear(year);
+        if (semesters.isEmpty()) {
+            throw new CustomException(ErrorCode.DATA_NOT_FOUND);
+        }
+
+        LocalDate startDate = semesters.stream().map(Semester::getStartDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate endDate = semesters.stream().map(Semester::getEndDate).max(Comparator.naturalOrder()).orElseThrow();
+        return new SchoolYearRangeDto(year, startDate, endDate);
+    }
+
+    /**
+     * 출결 집계를 월 순서로 sink 에 전달
+     * @param grade null 이면 전체 학년
+     */
+    public void streamAnalytics(SchoolYearRangeDto range, Integer grade, Consumer<AttendanceAnalyticsRowDto> sink) {
+        long startGeneration = generation.get();
+        Consumer<AttendanceAnalyticsRowDto> filtered = row -> {
+            if (grade == null || row.getGrade() == grade) sink.accept(row);
+        };
+
+        // 보관된 지난 달 결과 먼저 전달
+        ClosedMonths cached = closedMonthsCache.get(range.getYear());
+        LocalDate from = range.getStartDate();
+        int cachedThrough = 0;
+        if (cached != null) {
+            cached.rows.forEach(filtered);
+            cachedThrough = cached.throughMonthKey;
+            from = max(from, toYearMonth(cachedThrough).plusMonths(1).atDay(1));
+        }
+
+        int closedThrough = Math.min(monthKey(YearMonth.now().minusMonths(1)), monthKey(YearMonth.from(range.getEndDate())));
+        List<AttendanceAnalyticsRowDto> newlyClosed = new ArrayList<>();
+
+        if (!from.isAfter(range.getEndDate())) {
+            attendanceJdbcRepository.streamAnalytics(range.getYear(), from, range.getEndDate(), row -> {
+                if (row.getMonthKey() <= closedThrough) newlyClosed.add(row);
+                filtered.accept(row);
+            });
+        }
+
+        // 끝까지 전달한 경우에만 새로 마감된 달을 보관 (집계 중 무효화가 있었으면 보관하지 않음)
+        if (closedThrough > cachedThrough) {
+            List<AttendanceAnalyticsRowDto> rows = new ArrayList<>(cached != null ? cached.rows : List.of());
+            rows.addAll(newlyClosed);
+            closedMonthsCache.compute(range.getYear(), (year, current) ->
+                    (generation.get() == startGeneration && current == cached) ? new ClosedMonths(closedThrough, List.copyOf(rows)) : current);
+        }
+    }
+
+    /**
+     * 지난 달 출결이 바뀌면 해당 학년도 보관분 폐기
+     * 보관분이 없어도 세대 번호는 올린다 - 보관분 없이 시작한 집계가 수정 전 행을 읽었을 수 있으므로 보관하지 못하게 한다.
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        if (event.getMonthKey() > monthKey(YearMonth.now().minusMonths(1))) return;
+
+        generation.incrementAndGet();
+        if (closedMonthsCache.remove(event.getYear()) != null) {
+            log.debug("{}학년도 출결 분석 캐시 무효화 ({}월 변경)", event.getYear(), event.getMonthKey());
+        }
+    }
+
+    private static int monthKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    private static YearMonth toYearMonth(int monthKey) {
+        return YearMonth.of(monthKey / 100, monthKey % 100);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static class ClosedMonths {
+        private final int throughMonthKey;
+        private final List<AttendanceAnalyticsRowDto> rows;
+
+        private ClosedMonths(int throughMonthKey, List<AttendanceAnalyticsRowDto> rows) {
+            this.throughMonthKey = throughMonthKey;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.neeis.neeis.domain.attendance.service;
+
+import com.neeis.neeis.domain.attendance.AttendanceStatus;
+
+/**
+ * 학생 한 명의 한 달 출결을 long 하나에 담는 2비트 인코딩
+ * d일(1 ~ 31)의 상태는 (d - 1) * 2 번째 비트부터 2비트에 저장한다. (최대 62비트)
+ * 코드: 0 = PRESENT, 1 = ABSENT, 2 = LATE, 3 = EARLY (enum 순서와 무관하게 고정)
+ * JSON 으로 내보낼 때는 자바스크립트 숫자 정밀도(53비트)를 넘으므로 16자리 16진수 문자열로 변환한다.
+ */
+public class AttendanceMonthCodec {
+
+    private static final int BITS_PER_DAY = 2;
+    private static final long DAY_MASK = 0b11L;
+    private static final AttendanceStatus[] STATUSES = {
+            AttendanceStatus.PRESENT, AttendanceStatus.ABSENT, AttendanceStatus.LATE, AttendanceStatus.EARLY
+    };
+
+    private AttendanceMonthCodec() {
+    }
+
+    // day 일의 상태를 기록한 값 반환
+    public static long set(long packed, int day, AttendanceStatus status) {
+        int shift = shift(day);
+        return (packed & ~(DAY_MASK << shift)) | ((long) code(status) << shift);
+    }
+
+    // day 일의 상태
+    public static AttendanceStatus get(long packed, int day) {
+        return STATUSES[(int) ((packed >>> shift(day)) & DAY_MASK)];
+    }
+
+    public static String toHex(long packed) {
+        return String.format("%016x", packed);
+    }
+
+    public static long fromHex(String hex) {
+        return Long.parseUnsignedLong(hex, 16);
+    }
+
+    private static int code(AttendanceStatus status) {
+        return switch (status) {
+            case PRESENT -> 0;
+            case ABSENT -> 1;
+            case LATE -> 2;
+            case EARLY -> 3;
+        };
+    }
+
+    private static int shift(int day) {
+        if (day < 1 || day > 31) {
+            throw new IllegalArgumentException("day out of range: " + day);
+        }
+        return (day - 1) * BITS_PER_DAY;
+    }
+}
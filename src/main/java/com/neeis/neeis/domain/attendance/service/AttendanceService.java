@@ -1,27 +1,32 @@
 package com.neeis.neeis.domain.attendance.service;
 
 import com.neeis.neeis.domain.attendance.*;
+import com.neeis.neeis.domain.attendance.dto.AttendanceCountDto;
+import com.neeis.neeis.domain.attendance.dto.AttendanceCounterDeltaDto;
+import com.neeis.neeis.domain.attendance.dto.AttendanceMatrixRowDto;
 import com.neeis.neeis.domain.attendance.dto.req.AttendanceBulkRequestDto;
 import com.neeis.neeis.domain.attendance.dto.req.AttendanceFeedbackReqDto;
 import com.neeis.neeis.domain.attendance.dto.req.DailyAttendanceDto;
 import com.neeis.neeis.domain.attendance.dto.req.StudentAttendanceDto;
 import com.neeis.neeis.domain.attendance.dto.res.AttendanceFeedbackResDto;
+import com.neeis.neeis.domain.attendance.dto.res.AttendanceMatrixResDto;
+import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceMatrixDto;
 import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceResDto;
 import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceSummaryDto;
+import com.neeis.neeis.domain.attendance.event.AttendanceChangedEvent;
 import com.neeis.neeis.domain.classroom.Classroom;
 import com.neeis.neeis.domain.classroom.ClassroomService;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
+import com.neeis.neeis.domain.classroomStudent.StudentAccessResolver;
 import com.neeis.neeis.domain.notification.service.NotificationService;
-import com.neeis.neeis.domain.parent.Parent;
-import com.neeis.neeis.domain.parent.ParentService;
 import com.neeis.neeis.domain.semester.Semester;
 import com.neeis.neeis.domain.semester.SemesterRepository;
+import com.neeis.neeis.domain.semester.service.SchoolCalendarService;
 import com.neeis.neeis.domain.student.Student;
 import com.neeis.neeis.domain.teacher.Teacher;
 import com.neeis.neeis.domain.teacher.service.TeacherService;
 import com.neeis.neeis.domain.user.User;
-import com.neeis.neeis.domain.user.service.UserService;
 import com.neeis.neeis.global.exception.CustomException;
 import com.neeis.neeis.global.exception.ErrorCode;
 import com.neeis.neeis.global.fcm.event.SendAttendanceFeedbackFcmEvent;
@@ -32,11 +37,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static com.neeis.neeis.global.exception.ErrorCode.CLASSROOM_NOT_FOUND;
 import static com.neeis.neeis.global.exception.ErrorCode.HANDLE_ACCESS_DENIED;
 
 @Service
@@ -45,7 +53,8 @@ import static com.neeis.neeis.global.exception.ErrorCode.HANDLE_ACCESS_DENIED;
 public class AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
-    private final UserService userService;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final AttendanceCounterRepository attendanceCounterRepository;
     private final TeacherService teacherService;
     private final ClassroomService classroomService;
     private final ClassroomStudentRepository classroomStudentRepository;
@@ -53,7 +62,8 @@ public class AttendanceService {
     private final AttendanceFeedbackRepository feedbackRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final NotificationService notificationService;
-    private final ParentService parentService;
+    private final SchoolCalendarService schoolCalendarService;
+    private final StudentAccessResolver studentAccessResolver;
 
     // [교사] - 출결 저장 및 업데이트
     @Transactional
@@ -66,8 +76,8 @@ public class AttendanceService {
             throw new CustomException(HANDLE_ACCESS_DENIED);
         }
 
-        // 담당 학생들 확인
-        List<ClassroomStudent> classroomStudentList = classroomStudentRepository.findByClassroom(classroom);
+        // 담당 학생들 확인 (학생 함께 조회)
+        List<ClassroomStudent> classroomStudentList = classroomStudentRepository.findByClassroomWithStudent(classroom);
         Map<Long, Student> studentMap = classroomStudentList.stream()
                 .collect(Collectors.toMap(
                         cs -> cs.getStudent().getId(),
@@ -81,44 +91,139 @@ public class AttendanceService {
         }
 
         // 출결 저장
-        // 입력받은 연도 + 월 -> 마지막 일 구하기
+        // 입력받은 연도 + 월 -> 해당 월 전체 구간
         YearMonth yearMonth = YearMonth.of(requestDto.getYear(), requestDto.getMonth());
-        int lastDay = yearMonth.lengthOfMonth(); // 해당 월의 마지막 일
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+
+        // 제출된 학생들의 해당 월 기존 출결을 한 번에 조회 (학생 ID -> 날짜 -> 출결)
+        List<Long> studentIds = requestDto.getStudents().stream()
+                .map(StudentAttendanceDto::getStudentId)
+                .toList();
+        // 집계 재구성과 겹치지 않도록 학생 행을 먼저 잠근다
+        attendanceJdbcRepository.lockStudents(studentIds);
+        Map<Long, Map<LocalDate, Attendance>> existingMap = new HashMap<>();
+        List<Long> deleteIds = new ArrayList<>();
+        // 학생별 월 집계 증감 (결석 / 지각 / 조퇴)
+        Map<Long, int[]> counterDeltas = new HashMap<>();
+        for (Attendance attendance : attendanceRepository.findAllByStudentIdInAndDateBetween(studentIds, start, end)) {
+            Long studentId = attendance.getStudent().getId();
+            Attendance duplicate = existingMap
+                    .computeIfAbsent(studentId, id -> new HashMap<>())
+                    .putIfAbsent(attendance.getDate(), attendance);
+            // 같은 날짜에 중복 저장된 행은 정리
+            if (duplicate != null) {
+                deleteIds.add(attendance.getId());
+                addCounterDelta(counterDeltas, studentId, attendance.getStatus(), -1);
+            }
+        }
+
+        // 제출 내용과 비교해 insert / update / delete 대상 분류
+        List<Attendance> inserts = new ArrayList<>();
+        Map<Long, AttendanceStatus> updates = new HashMap<>();
 
         for (StudentAttendanceDto studentDto : requestDto.getStudents()) {
             Student student = studentMap.get(studentDto.getStudentId());
+            Map<LocalDate, Attendance> existingByDate = existingMap.getOrDefault(student.getId(), Map.of());
 
             // 날짜별 출결사항 매핑
             Map<LocalDate, AttendanceStatus> statusMap = studentDto.getAttendances().stream()
                     .collect(Collectors.toMap(DailyAttendanceDto::getDate, DailyAttendanceDto::getStatus));
 
-            // 한달치 모든 날짜에 대해 저장
-            for (int day = 1; day <= lastDay; day++) {
-                LocalDate date = LocalDate.of(requestDto.getYear(), requestDto.getMonth(), day);
+            // 한달치 모든 날짜에 대해 비교
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
                 AttendanceStatus status = statusMap.getOrDefault(date, AttendanceStatus.PRESENT); // 없으면 출석으로
-
-                // 특이사항만 저장
-                if (status != AttendanceStatus.PRESENT) {
-                    attendanceRepository.findByStudentAndDate(student, date)
-                            .ifPresentOrElse(
-                                    existing -> {
-                                        if (existing.getStatus() != status) {
-                                            existing.updateStatus(status);
-                                            attendanceRepository.save(existing);
-                                        }
-                                    },
-                                    () -> {
-                                        Attendance newAttendance = Attendance.builder()
-                                                .student(student)
-                                                .date(date)
-                                                .status(status)
-                                                .build();
-                                        attendanceRepository.save(newAttendance);
-                                    }
-                            );
+                Attendance existing = existingByDate.get(date);
+
+                // 특이사항만 저장 - 출석으로 바뀐 날은 기존 기록 삭제
+                if (status == AttendanceStatus.PRESENT) {
+                    if (existing != null) {
+                        deleteIds.add(existing.getId());
+                        addCounterDelta(counterDeltas, student.getId(), existing.getStatus(), -1);
+                    }
+                } else if (existing == null) {
+                    inserts.add(Attendance.builder()
+                            .student(student)
+                            .date(date)
+                            .status(status)
+                            .build());
+                    addCounterDelta(counterDeltas, student.getId(), status, 1);
+                } else if (existing.getStatus() != status) {
+                    updates.put(existing.getId(), status);
+                    addCounterDelta(counterDeltas, student.getId(), existing.getStatus(), -1);
+                    addCounterDelta(counterDeltas, student.getId(), status, 1);
                 }
             }
         }
+
+        attendanceJdbcRepository.deleteAllByIds(deleteIds);
+        attendanceJdbcRepository.updateStatuses(updates);
+        attendanceJdbcRepository.insertAll(inserts);
+
+        // 월별 출결 집계 갱신 (증감이 있는 학생만)
+        int monthKey = AttendanceCounter.monthKey(yearMonth);
+        addCounters(counterDeltas, monthKey);
+
+        // 출결 분석 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new AttendanceChangedEvent(requestDto.getYear(), monthKey));
+    }
+
+    /**
+     * [출석 부르기] 하루치 출결 반영 (RollCallService 에서 모아 둔 변경분을 한 번에 저장)
+     * 권한 확인(담당 교사 / 학급 학생)은 RollCallService 세션 생성 시 끝난 상태여야 하므로, 권한 확인 없이 호출되지 않도록 package-private 으로 둔다.
+     * (Spring 6 의 클래스 기반 프록시는 package-private 메서드에도 트랜잭션을 적용한다)
+     * @param year     학급 연도
+     * @param students 학생 ID -> 학생 (담당 학급 학생)
+     * @param statuses 학생 ID -> 출결 (출석이면 기존 기록 삭제)
+     */
+    @Transactional
+    void saveDailyAttendance(int year, LocalDate date, Map<Long, Student> students, Map<Long, AttendanceStatus> statuses) {
+        if (statuses.isEmpty()) return;
+
+        attendanceJdbcRepository.lockStudents(statuses.keySet());
+        Map<Long, Attendance> existingMap = new HashMap<>();
+        List<Long> deleteIds = new ArrayList<>();
+        Map<Long, int[]> counterDeltas = new HashMap<>();
+        for (Attendance attendance : attendanceRepository.findAllByStudentIdInAndDateBetween(statuses.keySet(), date, date)) {
+            Long studentId = attendance.getStudent().getId();
+            // 같은 날짜에 중복 저장된 행은 정리
+            if (existingMap.putIfAbsent(studentId, attendance) != null) {
+                deleteIds.add(attendance.getId());
+                addCounterDelta(counterDeltas, studentId, attendance.getStatus(), -1);
+            }
+        }
+
+        List<Attendance> inserts = new ArrayList<>();
+        Map<Long, AttendanceStatus> updates = new HashMap<>();
+        statuses.forEach((studentId, status) -> {
+            Attendance existing = existingMap.get(studentId);
+
+            if (status == AttendanceStatus.PRESENT) {
+                if (existing != null) {
+                    deleteIds.add(existing.getId());
+                    addCounterDelta(counterDeltas, studentId, existing.getStatus(), -1);
+                }
+            } else if (existing == null) {
+                inserts.add(Attendance.builder()
+                        .student(students.get(studentId))
+                        .date(date)
+                        .status(status)
+                        .build());
+                addCounterDelta(counterDeltas, studentId, status, 1);
+            } else if (existing.getStatus() != status) {
+                updates.put(existing.getId(), status);
+                addCounterDelta(counterDeltas, studentId, existing.getStatus(), -1);
+                addCounterDelta(counterDeltas, studentId, status, 1);
+            }
+        });
+
+        attendanceJdbcRepository.deleteAllByIds(deleteIds);
+        attendanceJdbcRepository.updateStatuses(updates);
+        attendanceJdbcRepository.insertAll(inserts);
+
+        int monthKey = AttendanceCounter.monthKey(YearMonth.from(date));
+        addCounters(counterDeltas, monthKey);
+        eventPublisher.publishEvent(new AttendanceChangedEvent(year, monthKey));
     }
 
     // [교사권한] 학급 학생들 월별 조회
@@ -126,37 +231,64 @@ public class AttendanceService {
         teacherService.authenticate(username);
         Classroom classroom = classroomService.findClassroom(year, grade, classNum);
 
-        List<ClassroomStudent> classroomStudentList = classroomStudentRepository.findByClassroom(classroom);
-
-        return classroomStudentList.stream()
-                .map(cs -> {
-                    Student student = cs.getStudent();
-                    List<Attendance> attendances = attendanceRepository
-                            .findByStudentAndDateBetween(student,
-                                    LocalDate.of(year, month, 1),
-                                    LocalDate.of(year, month, YearMonth.of(year, month).lengthOfMonth()))
-                            .stream()
-                            .filter(a -> a.getStatus() != AttendanceStatus.PRESENT) // 출석은 제외
-                            .toList();
+        return findMonthlyRows(classroom, YearMonth.of(year, month)).values().stream()
+                .map(rows -> {
+                    AttendanceMatrixRowDto first = rows.getFirst();
 
-                    List<DailyAttendanceDto> dailyAttendanceDtos = attendances.stream()
-                            .map(a -> DailyAttendanceDto.builder()
-                                    .date(a.getDate())
-                                    .status(a.getStatus())
+                    List<DailyAttendanceDto> dailyAttendanceDtos = rows.stream()
+                            .filter(AttendanceMatrixRowDto::isException) // 출석은 제외
+                            .map(row -> DailyAttendanceDto.builder()
+                                    .date(row.getDate())
+                                    .status(row.getStatus())
                                     .build())
                             .toList();
 
-                    return StudentAttendanceResDto.toDto(cs,
-                            attendances.isEmpty() ? Attendance.builder().student(student).build() : attendances.getFirst(),
-                            dailyAttendanceDtos
-                    );
+                    return StudentAttendanceResDto.builder()
+                            .studentId(first.getStudentId())
+                            .studentName(first.getStudentName())
+                            .number(first.getNumber())
+                            .attendances(dailyAttendanceDtos)
+                            .build();
                 })
                 .collect(Collectors.toList());
     }
 
+    // [교사권한] 학급 월별 출결 매트릭스 조회 (학생별 한 달 출결을 2비트 단위로 압축)
+    public AttendanceMatrixResDto getAttendanceMatrix(String username, int year, int grade, int classNum, int month) {
+        teacherService.authenticate(username);
+        Classroom classroom = classroomService.findClassroom(year, grade, classNum);
+
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<StudentAttendanceMatrixDto> students = findMonthlyRows(classroom, yearMonth).values().stream()
+                .map(rows -> {
+                    long packed = 0L;
+                    for (AttendanceMatrixRowDto row : rows) {
+                        if (row.isException()) {
+                            packed = AttendanceMonthCodec.set(packed, row.getDate().getDayOfMonth(), row.getStatus());
+                        }
+                    }
+
+                    AttendanceMatrixRowDto first = rows.getFirst();
+                    return StudentAttendanceMatrixDto.builder()
+                            .studentId(first.getStudentId())
+                            .studentName(first.getStudentName())
+                            .number(first.getNumber())
+                            .days(AttendanceMonthCodec.toHex(packed))
+                            .build();
+                })
+                .toList();
+
+        return AttendanceMatrixResDto.builder()
+                .year(year)
+                .month(month)
+                .lengthOfMonth(yearMonth.lengthOfMonth())
+                .students(students)
+                .build();
+    }
+
     // [교사 / 학생] 개인 학생 월별 조회
     public StudentAttendanceResDto getStudentMonthlyAttendance(String username, int year, int grade, int classNum, int number, int month) {
-        ClassroomStudent classroomStudent = checkValidate(username, year, grade, classNum, number);
+        ClassroomStudent classroomStudent = studentAccessResolver.resolve(username, year, grade, classNum, number);
 
         Student student = classroomStudent.getStudent();
 
@@ -184,7 +316,7 @@ public class AttendanceService {
 
     // [교사 / 학생] 출결 통계 조회
     public StudentAttendanceSummaryDto getStudentAttendanceSummary(String username, int year, int semester, int grade, int classNum, int number) {
-        ClassroomStudent classroomStudent = checkValidate(username, year, grade, classNum, number);
+        ClassroomStudent classroomStudent = studentAccessResolver.resolve(username, year, grade, classNum, number);
 
         Student student = classroomStudent.getStudent();
 
@@ -199,21 +331,32 @@ public class AttendanceService {
             throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
         }
 
-        // 수업일수: startDate ~ endDate 까지 평일(월~금)만 카운트
-        int totalSchoolDays = (int) startDate.datesUntil(endDate.plusDays(1))
-                .filter(d -> d.getDayOfWeek().getValue() <= 5) // 1~5 : 월~금
-                .count();
+        // 수업일수: 학사 일정(휴업일 / 보강일)을 반영한 학기 달력 기준
+        int totalSchoolDays = schoolCalendarService.countSchoolDays(semesterEntity, startDate, endDate);
 
-        List<Attendance> attendances = attendanceRepository.findByStudentAndDateBetween(student, startDate, endDate);
+        // 기간에 걸친 월 버킷 합계
+        YearMonth startMonth = YearMonth.from(startDate);
+        YearMonth endMonth = YearMonth.from(endDate);
+        AttendanceCountDto counts = attendanceCounterRepository.sumByStudentAndMonthKeyBetween(
+                student.getId(), AttendanceCounter.monthKey(startMonth), AttendanceCounter.monthKey(endMonth));
 
-        int absentCount = 0;
-        int lateCount = 0;
-        int leaveEarlyCount = 0;
+        int absentCount = counts.getAbsentCount();
+        int lateCount = counts.getLateCount();
+        int leaveEarlyCount = counts.getEarlyCount();
 
-        for (Attendance attendance : attendances) {
-            if (attendance.getStatus() == AttendanceStatus.ABSENT) absentCount++;
-            else if (attendance.getStatus() == AttendanceStatus.LATE) lateCount++;
-            else if (attendance.getStatus() == AttendanceStatus.EARLY) leaveEarlyCount++;
+        // 첫 달 / 마지막 달 중 기간 밖 날짜의 출결은 제외
+        List<Attendance> outside = new ArrayList<>();
+        if (startDate.isAfter(startMonth.atDay(1))) {
+            outside.addAll(attendanceRepository.findByStudentAndDateBetween(student, startMonth.atDay(1), startDate.minusDays(1)));
+        }
+        if (endDate.isBefore(endMonth.atEndOfMonth())) {
+            outside.addAll(attendanceRepository.findByStudentAndDateBetween(student, endDate.plusDays(1), endMonth.atEndOfMonth()));
+        }
+
+        for (Attendance attendance : outside) {
+            if (attendance.getStatus() == AttendanceStatus.ABSENT) absentCount--;
+            else if (attendance.getStatus() == AttendanceStatus.LATE) lateCount--;
+            else if (attendance.getStatus() == AttendanceStatus.EARLY) leaveEarlyCount--;
         }
 
         int presentDays = totalSchoolDays - (absentCount + lateCount + leaveEarlyCount);
@@ -232,7 +375,7 @@ public class AttendanceService {
     // [교사] 출결 피드백 저장
     @Transactional
     public AttendanceFeedbackResDto saveFeedback(String username, int year, int grade, int classNum, int number, AttendanceFeedbackReqDto requestDto) {
-        ClassroomStudent classroomStudent = checkValidate(username, year, grade, classNum, number);
+        ClassroomStudent classroomStudent = studentAccessResolver.resolve(username, year, grade, classNum, number);
 
         AttendanceFeedback feedback = AttendanceFeedbackReqDto.of(requestDto, classroomStudent);
 
@@ -252,7 +395,7 @@ public class AttendanceService {
 
         Teacher teacher = teacherService.authenticate(username);
 
-        ClassroomStudent classroomStudent = checkValidate(username, year, grade, classNum, number);
+        ClassroomStudent classroomStudent = studentAccessResolver.resolve(username, year, grade, classNum, number);
 
         AttendanceFeedback feedback = feedbackRepository.findByClassroomStudent(classroomStudent).orElseThrow(
                 () -> new CustomException(ErrorCode.DATA_NOT_FOUND)
@@ -276,7 +419,7 @@ public class AttendanceService {
     // [교사 / 학생] 출결 피드백 조회
     public AttendanceFeedbackResDto getFeedback(String username, int year, int grade, int classNum, int number) {
 
-        ClassroomStudent classroomStudent = checkValidate(username, year, grade, classNum, number);
+        ClassroomStudent classroomStudent = studentAccessResolver.resolve(username, year, grade, classNum, number);
 
         AttendanceFeedback attendanceFeedback = feedbackRepository.findByClassroomStudent(classroomStudent).orElseThrow(
                 (() -> new CustomException(ErrorCode.DATA_NOT_FOUND))
@@ -288,48 +431,37 @@ public class AttendanceService {
                 .build();
     }
 
-    private ClassroomStudent checkValidate(String username, int year, int grade, int classNum, int number) {
-        User user = userService.getUser(username);
-
-        switch (user.getRole()) {
-            case STUDENT -> {
-                // 본인이 요청한 게 맞는지 확인
-                ClassroomStudent cs = classroomStudentRepository.findByStudentUser(user).orElseThrow(
-                        () -> new CustomException(ErrorCode.CLASSROOM_NOT_FOUND)
-                );
-                if (cs.getNumber() != number) {
-                    throw new CustomException(HANDLE_ACCESS_DENIED);
-                }
-                return cs;
-            }
-
-            case TEACHER -> {
-                teacherService.authenticate(username);
-                // 교사임을 체크 ->
-                Classroom classroom = classroomService.findClassroom(year, grade, classNum);
-
-                return classroomStudentRepository.findByClassroomAndNumber(classroom, number)
-                        .orElseThrow(() -> new CustomException(HANDLE_ACCESS_DENIED));
-            }
-
-            case PARENT -> {
-                Parent parent = parentService.getParentByUser(user);
-
-                Student student = parent.getStudent();
-                Classroom classroom = classroomService.findClassroom(year, grade, classNum);
-
-                ClassroomStudent classroomStudent = classroomStudentRepository.findByClassroomAndNumber(classroom, number)
-                        .orElseThrow(() -> new CustomException(CLASSROOM_NOT_FOUND));
-
-                // 자녀가 아니면 접근 불가함.
-                if (!student.getId().equals(classroomStudent.getStudent().getId())) {
-                    throw new CustomException(HANDLE_ACCESS_DENIED);
-                }
-
-                return classroomStudent;
-            }
+    // 월별 출결 집계 증감 저장 (증감이 있는 학생만)
+    private void addCounters(Map<Long, int[]> counterDeltas, int monthKey) {
+        List<AttendanceCounterDeltaDto> deltas = counterDeltas.entrySet().stream()
+                .filter(entry -> Arrays.stream(entry.getValue()).anyMatch(delta -> delta != 0))
+                .map(entry -> AttendanceCounterDeltaDto.builder()
+                        .studentId(entry.getKey())
+                        .monthKey(monthKey)
+                        .absentDelta(entry.getValue()[0])
+                        .lateDelta(entry.getValue()[1])
+                        .earlyDelta(entry.getValue()[2])
+                        .build())
+                .toList();
+        attendanceJdbcRepository.addCounters(deltas);
+    }
 
-            default -> throw new CustomException(HANDLE_ACCESS_DENIED);
+    private static void addCounterDelta(Map<Long, int[]> counterDeltas, Long studentId, AttendanceStatus status, int delta) {
+        int index = switch (status) {
+            case ABSENT -> 0;
+            case LATE -> 1;
+            case EARLY -> 2;
+            case PRESENT -> -1;
+        };
+        if (index >= 0) {
+            counterDeltas.computeIfAbsent(studentId, id -> new int[3])[index] += delta;
         }
     }
+
+    // 학급 월별 출결을 한 번에 조회해 학생별로 묶음 (출석번호 순 유지)
+    private Map<Long, List<AttendanceMatrixRowDto>> findMonthlyRows(Classroom classroom, YearMonth yearMonth) {
+        return attendanceRepository.findMonthlyRowsByClassroom(classroom, yearMonth.atDay(1), yearMonth.atEndOfMonth())
+                .stream()
+                .collect(Collectors.groupingBy(AttendanceMatrixRowDto::getStudentId, LinkedHashMap::new, Collectors.toList()));
+    }
 }
@@ -0,0 +1,329 @@
+package com.neeis.neeis.domain.attendance.service;
+
+import com.neeis.neeis.domain.attendance.Attendance;
+import com.neeis.neeis.domain.attendance.AttendanceRepository;
+import com.neeis.neeis.domain.attendance.AttendanceStatus;
+import com.neeis.neeis.domain.attendance.dto.RollCallKey;
+import com.neeis.neeis.domain.attendance.dto.req.RollCallMarkReqDto;
+import com.neeis.neeis.domain.attendance.dto.res.RollCallResDto;
+import com.neeis.neeis.domain.attendance.dto.res.RollCallStudentDto;
+import com.neeis.neeis.domain.classroom.Classroom;
+import com.neeis.neeis.domain.classroom.ClassroomService;
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
+import com.neeis.neeis.domain.student.Student;
+import com.neeis.neeis.domain.teacher.Teacher;
+import com.neeis.neeis.domain.teacher.service.TeacherService;
+import com.neeis.neeis.global.exception.CustomException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.neeis.neeis.global.exception.ErrorCode.HANDLE_ACCESS_DENIED;
+import static com.neeis.neeis.global.exception.ErrorCode.INVALID_ROLL_CALL_DATE;
+
+/**
+ * 출석 부르기 (학급, 날짜 단위 세션)
+ * 학생별 출결 변경은 메모리 세션에 모아 두고, 첫 변경 후 저장 지연(FLUSH_DELAY)이 지나거나 세션을 닫을 때
+ * AttendanceService.saveDailyAttendance 로 한 번에 저장한다. (학생 35명을 부르면 트랜잭션 35번 대신 1번)
+ * 조회 시에는 DB 출결 위에 아직 저장되지 않은 변경분을 덮어 보여 준다.
+ * 저장에 실패한 변경분은 다시 예약하되, 같은 값으로 MAX_FLUSH_ATTEMPTS 번 실패하면 포기하고 저장 실패로 표시한다. (교사가 다시 표시하면 재시도)
+ * 서버 종료 시 남은 변경분을 모두 저장한다.
+ */
+@Service
+@Slf4j
+public class RollCallService {
+    private static final Duration FLUSH_DELAY = Duration.ofSeconds(3);
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration EVICT_INTERVAL = Duration.ofMinutes(5);
+    static final int MAX_FLUSH_ATTEMPTS = 5;
+
+    private final AttendanceService attendanceService;
+    private final AttendanceRepository attendanceRepository;
+    private final TeacherService teacherService;
+    private final ClassroomService classroomService;
+    private final ClassroomStudentRepository classroomStudentRepository;
+    private final TaskScheduler worker;
+    private final Duration flushDelay;
+
+    private final Map<RollCallKey, Session> sessions = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastEvictedAt = LocalDateTime.now();
+
+    @Autowired
+    public RollCallService(AttendanceService attendanceService,
+                           AttendanceRepository attendanceRepository,
+                           TeacherService teacherService,
+                           ClassroomService classroomService,
+                           ClassroomStudentRepository classroomStudentRepository) {
+        this(attendanceService, attendanceRepository, teacherService, classroomService, classroomStudentRepository,
+                createWorker(), FLUSH_DELAY);
+    }
+
+    RollCallService(AttendanceService attendanceService,
+                    AttendanceRepository attendanceRepository,
+                    TeacherService teacherService,
+                    ClassroomService classroomService,
+                    ClassroomStudentRepository classroomStudentRepository,
+                    TaskScheduler worker, Duration flushDelay) {
+        this.attendanceService = attendanceService;
+        this.attendanceRepository = attendanceRepository;
+        this.teacherService = teacherService;
+        this.classroomService = classroomService;
+        this.classroomStudentRepository = classroomStudentRepository;
+        this.worker = worker;
+        this.flushDelay = flushDelay;
+    }
+
+    private static ThreadPoolTaskScheduler createWorker() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("ROLL-CALL-FLUSH-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    // 종료 전 남은 변경분 저장
+    @PreDestroy
+    public void shutdown() {
+        sessions.forEach(this::flush);
+        if (worker instanceof ThreadPoolTaskScheduler scheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    // [교사] 출석 부르기 시작 (이미 열려 있으면 현재 상태 조회)
+    public RollCallResDto open(String username, int year, int grade, int classNum, LocalDate date) {
+        evictIdle();
+
+        Teacher teacher = teacherService.authenticate(username);
+        RollCallKey key = RollCallKey.of(year, grade, classNum, resolveDate(date));
+        return view(key, getSession(teacher, key));
+    }
+
+    // [교사] 학생 한 명 출결 표시 - 저장은 모아서 나중에
+    public void mark(String username, RollCallMarkReqDto requestDto) {
+        evictIdle();
+
+        Teacher teacher = teacherService.authenticate(username);
+        RollCallKey key = RollCallKey.of(requestDto.getYear(), requestDto.getGrade(), requestDto.getClassNumber(),
+                resolveDate(requestDto.getDate()));
+        Session session = getSession(teacher, key);
+
+        if (!session.students.containsKey(requestDto.getStudentId())) {
+            throw new CustomException(HANDLE_ACCESS_DENIED);
+        }
+
+        // 유휴 세션 정리와 겹치지 않도록 맵 안에서 반영
+        sessions.compute(key, (k, s) -> {
+            Session target = (s != null) ? s : session;
+            synchronized (target) {
+                target.pending.put(requestDto.getStudentId(), requestDto.getStatus());
+                // 새로 표시한 값은 처음부터 다시 시도
+                target.attempts.remove(requestDto.getStudentId());
+                target.failed.remove(requestDto.getStudentId());
+                target.touchedAt = LocalDateTime.now();
+                if (!target.scheduled) {
+                    target.scheduled = true;
+                    schedule(k, target);
+                }
+            }
+            return target;
+        });
+        log.debug("출석 부르기 {} - 학생 {} {}", key, requestDto.getStudentId(), requestDto.getStatus());
+    }
+
+    // [교사] 현재 출결 조회 (저장 전 변경분 포함)
+    public RollCallResDto getRollCall(String username, int year, int grade, int classNum, LocalDate date) {
+        Teacher teacher = teacherService.authenticate(username);
+        RollCallKey key = RollCallKey.of(year, grade, classNum, resolveDate(date));
+        return view(key, getSession(teacher, key));
+    }
+
+    // [교사] 출석 부르기 종료 - 남은 변경분을 바로 저장하고 세션 정리
+    public RollCallResDto close(String username, int year, int grade, int classNum, LocalDate date) {
+        Teacher teacher = teacherService.authenticate(username);
+        RollCallKey key = RollCallKey.of(year, grade, classNum, resolveDate(date));
+        Session session = getSession(teacher, key);
+
+        flush(key, session);
+        RollCallResDto result = view(key, session);
+
+        // 저장에 실패해 남은 변경분이 있으면 세션 유지 (예약된 재시도에서 저장)
+        sessions.computeIfPresent(key, (k, s) -> {
+            synchronized (s) {
+                return s.isIdle() ? null : s;
+            }
+        });
+        return result;
+    }
+
+    // 세션 변경분을 한 번에 저장 (세션별로 한 번에 하나만 실행)
+    private void flush(RollCallKey key, Session session) {
+        synchronized (session.flushLock) {
+            Map<Long, AttendanceStatus> batch;
+            synchronized (session) {
+                session.scheduled = false;
+                if (session.pending.isEmpty()) return;
+
+                batch = new HashMap<>(session.pending);
+                session.pending.clear();
+                session.inFlight = batch;
+            }
+
+            boolean success = false;
+            try {
+                attendanceService.saveDailyAttendance(key.getYear(), key.getDate(), session.students, batch);
+                success = true;
+            } catch (Exception e) {
+                log.error("출석 부르기 저장 실패: key={}, {}건, 오류={}", key, batch.size(), e.getMessage(), e);
+            }
+
+            synchronized (session) {
+                session.inFlight = Map.of();
+                if (success) {
+                    batch.keySet().forEach(session.attempts::remove);
+                } else {
+                    restoreFailed(key, session, batch);
+                }
+                if (!session.pending.isEmpty() && !session.scheduled) {
+                    session.scheduled = true;
+                    schedule(key, session);
+                }
+            }
+        }
+    }
+
+    // 실패한 변경분은 되돌림 (그 사이 새로 표시한 값이 우선) - 시도 횟수를 넘긴 학생은 저장 실패로 남기고 재시도하지 않는다
+    private void restoreFailed(RollCallKey key, Session session, Map<Long, AttendanceStatus> batch) {
+        batch.forEach((studentId, status) -> {
+            if (session.pending.containsKey(studentId)) return;
+
+            int attempts = session.attempts.merge(studentId, 1, Integer::sum);
+            if (attempts < MAX_FLUSH_ATTEMPTS) {
+                session.pending.put(studentId, status);
+            } else {
+                session.attempts.remove(studentId);
+                session.failed.put(studentId, status);
+                log.error("출석 부르기 저장 포기: key={}, 학생={}, 출결={}, 시도={}회", key, studentId, status, attempts);
+            }
+        });
+    }
+
+    private void schedule(RollCallKey key, Session session) {
+        worker.schedule(() -> flush(key, session), Instant.now().plus(flushDelay));
+    }
+
+    // 세션 조회 - 없으면 담당 학급 확인 후 학생 명단과 함께 생성
+    private Session getSession(Teacher teacher, RollCallKey key) {
+        Session session = sessions.get(key);
+        if (session == null) {
+            Classroom classroom = classroomService.findClassroom(key.getYear(), key.getGrade(), key.getClassNum(), teacher.getId());
+            List<ClassroomStudent> roster = classroomStudentRepository.findByClassroomWithStudent(classroom);
+            session = sessions.computeIfAbsent(key, k -> new Session(teacher.getId(), roster));
+        }
+
+        if (!session.teacherId.equals(teacher.getId())) {
+            throw new CustomException(HANDLE_ACCESS_DENIED);
+        }
+        return session;
+    }
+
+    // DB 출결 위에 저장 중 / 대기 중 변경분을 덮어씀 (변경분을 먼저 복사해야 저장 완료 직후에도 누락이 없다)
+    private RollCallResDto view(RollCallKey key, Session session) {
+        Map<Long, AttendanceStatus> overlay = new HashMap<>();
+        Set<Long> failed;
+        synchronized (session) {
+            overlay.putAll(session.inFlight);
+            overlay.putAll(session.pending);
+            failed = new HashSet<>(session.failed.keySet());
+        }
+        int pendingCount = overlay.size();
+
+        Map<Long, AttendanceStatus> statuses = new HashMap<>();
+        for (Attendance attendance : attendanceRepository.findAllByStudentIdInAndDateBetween(
+                session.students.keySet(), key.getDate(), key.getDate())) {
+            statuses.put(attendance.getStudent().getId(), attendance.getStatus());
+        }
+        statuses.putAll(overlay);
+
+        List<RollCallStudentDto> students = session.roster.stream()
+                .map(cs -> RollCallStudentDto.builder()
+                        .studentId(cs.getStudent().getId())
+                        .studentName(cs.getStudent().getName())
+                        .number(cs.getNumber())
+                        .status(statuses.getOrDefault(cs.getStudent().getId(), AttendanceStatus.PRESENT))
+                        .saveFailed(failed.contains(cs.getStudent().getId()))
+                        .build())
+                .toList();
+
+        return RollCallResDto.builder()
+                .date(key.getDate())
+                .pendingCount(pendingCount)
+                .failedCount(failed.size())
+                .students(students)
+                .build();
+    }
+
+    private LocalDate resolveDate(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        if (date == null) return today;
+        if (date.isAfter(today)) {
+            throw new CustomException(INVALID_ROLL_CALL_DATE);
+        }
+        return date;
+    }
+
+    // 오래 사용하지 않은 세션 정리 (저장할 변경분이 남은 세션은 유지)
+    private void evictIdle() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastEvictedAt.plus(EVICT_INTERVAL).isAfter(now)) return;
+        lastEvictedAt = now;
+
+        LocalDateTime threshold = now.minus(IDLE_TIMEOUT);
+        for (RollCallKey key : sessions.keySet()) {
+            sessions.computeIfPresent(key, (k, s) -> {
+                synchronized (s) {
+                    return (s.isIdle() && s.touchedAt.isBefore(threshold)) ? null : s;
+                }
+            });
+        }
+    }
+
+    private static class Session {
+        private final Long teacherId;
+        private final List<ClassroomStudent> roster;
+        private final Map<Long, Student> students = new HashMap<>();
+        private final Map<Long, AttendanceStatus> pending = new HashMap<>();
+        // 학생별 연속 저장 실패 횟수 / 재시도를 포기한 변경분
+        private final Map<Long, Integer> attempts = new HashMap<>();
+        private final Map<Long, AttendanceStatus> failed = new HashMap<>();
+        private final Object flushLock = new Object();
+        private Map<Long, AttendanceStatus> inFlight = Map.of();
+        private boolean scheduled;
+        private LocalDateTime touchedAt = LocalDateTime.now();
+
+        private Session(Long teacherId, List<ClassroomStudent> roster) {
+            this.teacherId = teacherId;
+            this.roster = roster;
+            for (ClassroomStudent cs : roster) {
+                students.put(cs.getStudent().getId(), cs.getStudent());
+            }
+        }
+
+        private boolean isIdle() {
+            return pending.isEmpty() && inFlight.isEmpty() && !scheduled;
+        }
+    }
+}
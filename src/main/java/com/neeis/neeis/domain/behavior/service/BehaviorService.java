@@ -6,20 +6,13 @@ import com.neeis.neeis.domain.behavior.BehaviorRepository;
 import com.neeis.neeis.domain.behavior.dto.req.BehaviorRequestDto;
 import com.neeis.neeis.domain.behavior.dto.res.BehaviorDetailResponseDto;
 import com.neeis.neeis.domain.behavior.dto.res.BehaviorResponseDto;
-import com.neeis.neeis.domain.classroom.Classroom;
-import com.neeis.neeis.domain.classroom.ClassroomRepository;
-import com.neeis.neeis.domain.classroom.ClassroomService;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
-import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudentService;
+import com.neeis.neeis.domain.classroomStudent.StudentAccessResolver;
 import com.neeis.neeis.domain.notification.service.NotificationService;
-import com.neeis.neeis.domain.parent.Parent;
-import com.neeis.neeis.domain.parent.ParentService;
-import com.neeis.neeis.domain.student.Student;
 import com.neeis.neeis.domain.teacher.Teacher;
 import com.neeis.neeis.domain.teacher.service.TeacherService;
 import com.neeis.neeis.domain.user.User;
-import com.neeis.neeis.domain.user.service.UserService;
 import com.neeis.neeis.global.exception.CustomException;
 import com.neeis.neeis.global.exception.ErrorCode;
 import com.neeis.neeis.global.fcm.event.SendBehaviorFcmEvent;
@@ -28,11 +21,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import static com.neeis.neeis.domain.user.Role.STUDENT;
-import static com.neeis.neeis.domain.user.Role.TEACHER;
-import static com.neeis.neeis.global.exception.ErrorCode.CLASSROOM_NOT_FOUND;
-import static com.neeis.neeis.global.exception.ErrorCode.HANDLE_ACCESS_DENIED;
-
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -40,12 +28,9 @@ public class BehaviorService {
     private final BehaviorRepository behaviorRepository;
     private final TeacherService teacherService;
     private final ClassroomStudentService classroomStudentService;
-    private final ClassroomService classroomService;
     private final ApplicationEventPublisher eventPublisher;
     private final NotificationService notificationService;
-    private final UserService userService;
-    private final ClassroomStudentRepository classroomStudentRepository;
-    private final ParentService parentService;
+    private final StudentAccessResolver studentAccessResolver;
 
     // [교사] 행동 작성
     @Transactional //false
@@ -72,7 +57,7 @@ public class BehaviorService {
     // [교사 / 학생 ] 행동 조회
     public BehaviorDetailResponseDto getBehavior(String username, Integer year, Integer grade, Integer classNum, Integer number) {
 
-        ClassroomStudent classroomStudent = checkValidate(username, year, grade, classNum, number);
+        ClassroomStudent classroomStudent = studentAccessResolver.resolve(username, year, grade, classNum, number);
         Behavior behavior = behaviorRepository.findByClassroomStudentId(classroomStudent.getId()).orElseThrow(
                 () -> new CustomException(ErrorCode.BEHAVIOR_NOT_FOUND));
 
@@ -100,50 +85,4 @@ public class BehaviorService {
 
         return BehaviorDetailResponseDto.of(behavior);
     }
-
-    private ClassroomStudent checkValidate(String username, int year, int grade, int classNum, int number) {
-        User user = userService.getUser(username);
-
-        switch (user.getRole()) {
-            case STUDENT -> {
-                // 본인이 요청한 게 맞는지 확인
-                ClassroomStudent cs = classroomStudentRepository.findByStudentUser(user).orElseThrow(
-                        () -> new CustomException(ErrorCode.CLASSROOM_NOT_FOUND)
-                );
-                if (cs.getNumber() != number) {
-                    throw new CustomException(HANDLE_ACCESS_DENIED);
-                }
-                return cs;
-            }
-
-            case TEACHER -> {
-                teacherService.authenticate(username);
-                Classroom classroom = classroomService.findClassroom(year, grade, classNum);
-
-                return classroomStudentRepository.findByClassroomAndNumber(classroom, number)
-                        .orElseThrow(() -> new CustomException(HANDLE_ACCESS_DENIED));
-            }
-
-            case PARENT -> {
-                Parent parent = parentService.getParentByUser(user);
-
-                Student student = parent.getStudent();
-                Classroom classroom = classroomService.findClassroom(year, grade, classNum);
-
-                ClassroomStudent classroomStudent = classroomStudentRepository.findByClassroomAndNumber(classroom, number)
-                        .orElseThrow(() -> new CustomException(CLASSROOM_NOT_FOUND));
-
-                // 자녀가 아니면 접근 불가함.
-                if (!student.getId().equals(classroomStudent.getStudent().getId())) {
-                    throw new CustomException(HANDLE_ACCESS_DENIED);
-                }
-
-                return classroomStudent;
-            }
-
-            default -> throw new CustomException(HANDLE_ACCESS_DENIED);
-        }
-    }
-
-
 }
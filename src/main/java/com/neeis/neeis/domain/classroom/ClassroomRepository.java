@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
@@ -21,5 +22,9 @@ public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
             "where year = :year and grade = :grade and class_num = :classNum ;", nativeQuery = true)
     Optional<Classroom> findByYearAndGradeAndClassNum(int year, int grade, int classNum);
 
+    @Query(value = "select id from classroom " +
+            "where year = :year and grade = :grade ;", nativeQuery = true)
+    List<Long> findIdsByYearAndGrade(int year, int grade);
+
     Optional<Classroom> findByTeacher(Teacher teacher);
 }
@@ -6,6 +6,8 @@ import com.neeis.neeis.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ClassroomService {
@@ -23,4 +25,9 @@ public class ClassroomService {
         return classroomRepository.findByYearAndGradeAndClassNum(year, grade, classNum).orElseThrow(
                 () -> new CustomException(ErrorCode.CLASSROOM_NOT_FOUND));
     }
+
+    // 학년 전체 학급 ID (성적 요약 잠금 용)
+    public List<Long> findClassroomIds(int year, int grade){
+        return classroomRepository.findIdsByYearAndGrade(year, grade);
+    }
 }
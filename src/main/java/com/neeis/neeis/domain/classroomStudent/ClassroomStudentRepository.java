@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,14 @@ public interface ClassroomStudentRepository extends JpaRepository<ClassroomStude
 
     List<ClassroomStudent> findByClassroom(Classroom classroom);
 
+    List<ClassroomStudent> findByClassroomIn(Collection<Classroom> classrooms);
+
+    /**
+     * 반 학생 조회 (학생 정보 함께 로딩, 출석번호 순)
+     */
+    @Query("SELECT cs FROM ClassroomStudent cs JOIN FETCH cs.student WHERE cs.classroom = :classroom ORDER BY cs.number")
+    List<ClassroomStudent> findByClassroomWithStudent(@Param("classroom") Classroom classroom);
+
     @Query(value = "SELECT cs.* FROM classroom_student cs " +
             "JOIN classroom c ON cs.classroom_id = c.id " +
             "WHERE cs.student_id = :studentId AND c.year = :year", nativeQuery = true)
@@ -27,6 +36,17 @@ public interface ClassroomStudentRepository extends JpaRepository<ClassroomStude
 
     Optional<ClassroomStudent> findByClassroomAndNumber(Classroom classroom, int number);
 
+    /**
+     * 학급 정보 + 출석 번호로 학급 학생 조회 (학생 / 학급 함께 조회, 접근 확인용 단일 쿼리)
+     */
+    @Query("SELECT cs FROM ClassroomStudent cs JOIN FETCH cs.student JOIN FETCH cs.classroom c " +
+            "WHERE c.year = :year AND c.grade = :grade AND c.classNum = :classNum AND cs.number = :number")
+    Optional<ClassroomStudent> findByClassInfoAndNumber(@Param("year") int year, @Param("grade") int grade,
+                                                        @Param("classNum") int classNum, @Param("number") int number);
+
+    @Query("SELECT cs FROM ClassroomStudent cs JOIN FETCH cs.student JOIN FETCH cs.classroom WHERE cs.id = :id")
+    Optional<ClassroomStudent> findByIdWithStudent(@Param("id") Long id);
+
     @Query(value = "SELECT cs FROM ClassroomStudent cs " +
             "WHERE cs.student.user = :user")
     Optional<ClassroomStudent> findByStudentUser(@Param("user") User user);
@@ -54,4 +74,10 @@ public interface ClassroomStudentRepository extends JpaRepository<ClassroomStude
      */
     @Query("SELECT cs FROM ClassroomStudent cs WHERE cs.student.id = :studentId ORDER BY cs.classroom.year DESC")
     List<ClassroomStudent> findByStudentIdOrderByClassroomYearDesc(@Param("studentId") Long studentId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 연도, 학년의 모든 학생 조회 (학년 전체 석차 산정용)
+     */
+    @Query("SELECT cs FROM ClassroomStudent cs JOIN FETCH cs.classroom c WHERE c.year = :year AND c.grade = :grade")
+    List<ClassroomStudent> findByClassroomYearAndGrade(@Param("year") int year, @Param("grade") int grade);
+}
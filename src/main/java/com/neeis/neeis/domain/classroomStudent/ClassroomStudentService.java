@@ -8,6 +8,7 @@ import com.neeis.neeis.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +36,16 @@ public class ClassroomStudentService {
         return classroomStudentRepository.findByClassroom(classroom);
     }
 
+    // 반 학생 조회 (학생 정보 fetch join, 출석번호 순)
+    public List<ClassroomStudent> findByClassroomWithStudent(Classroom classroom) {
+        return classroomStudentRepository.findByClassroomWithStudent(classroom);
+    }
+
+    // 여러 반 학생 일괄 조회
+    public List<ClassroomStudent> findByClassroomIn(Collection<Classroom> classrooms) {
+        return classroomStudentRepository.findByClassroomIn(classrooms);
+    }
+
     /**
      * PDF 생성을 위해 추가된 메서드
      * User 객체로 ClassroomStudent 조회
@@ -0,0 +1,161 @@
+package com.neeis.neeis.domain.classroomStudent;
+
+import com.neeis.neeis.domain.parent.ParentService;
+import com.neeis.neeis.domain.teacher.service.TeacherService;
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.domain.user.service.UserService;
+import com.neeis.neeis.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.neeis.neeis.global.exception.ErrorCode.CLASSROOM_NOT_FOUND;
+import static com.neeis.neeis.global.exception.ErrorCode.HANDLE_ACCESS_DENIED;
+
+/**
+ * 학생 단위 조회 권한 확인 (출결 / 행동 / 성적 요약 공통)
+ * 사용자별 접근 범위(역할, 본인 학급 학생, 자녀 학생)는 짧은 시간(SCOPE_TTL) 동안 캐시하고,
+ * 같은 요청 안에서 같은 학생을 다시 확인하면 조회 결과를 재사용한다.
+ * 캐시가 살아 있으면 권한 확인에 쿼리는 학급 학생 조회 한 번뿐이다.
+ * 학급 배정 / 학부모 연결 변경은 SCOPE_TTL 안에 반영되며, 항목 수는 MAX_ENTRIES 로 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentAccessResolver {
+    public static final Set<Role> STUDENT_TEACHER_PARENT = EnumSet.of(Role.STUDENT, Role.TEACHER, Role.PARENT);
+    public static final Set<Role> STUDENT_TEACHER = EnumSet.of(Role.STUDENT, Role.TEACHER);
+
+    private static final Duration SCOPE_TTL = Duration.ofMinutes(1);
+    static final int MAX_ENTRIES = 10_000;
+    private static final String REQUEST_MEMO_PREFIX = StudentAccessResolver.class.getName() + ".";
+
+    private final UserService userService;
+    private final TeacherService teacherService;
+    private final ParentService parentService;
+    private final ClassroomStudentRepository classroomStudentRepository;
+
+    private final Map<String, AccessScope> scopes = new ConcurrentHashMap<>();
+
+    // 학생 / 교사 / 학부모 조회 권한 확인 후 대상 학급 학생 반환
+    public ClassroomStudent resolve(String username, int year, int grade, int classNum, int number) {
+        return resolve(username, year, grade, classNum, number, STUDENT_TEACHER_PARENT);
+    }
+
+    /**
+     * 조회 권한 확인 후 대상 학급 학생 반환
+     * - 학생: 본인 출석 번호만
+     * - 교사: 모든 학급 학생
+     * - 학부모: 자녀만
+     * @param allowedRoles 접근을 허용할 역할
+     */
+    public ClassroomStudent resolve(String username, int year, int grade, int classNum, int number, Set<Role> allowedRoles) {
+        AccessScope scope = getScope(username);
+        if (scope.role == null || !allowedRoles.contains(scope.role)) {
+            throw new CustomException(HANDLE_ACCESS_DENIED);
+        }
+
+        String memoKey = REQUEST_MEMO_PREFIX + username + ":" + year + ":" + grade + ":" + classNum + ":" + number;
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null && request.getAttribute(memoKey, RequestAttributes.SCOPE_REQUEST) instanceof ClassroomStudent memo) {
+            return memo;
+        }
+
+        ClassroomStudent classroomStudent = switch (scope.role) {
+            case STUDENT -> {
+                // 본인이 요청한 게 맞는지 확인
+                if (scope.ownNumber != number) {
+                    throw new CustomException(HANDLE_ACCESS_DENIED);
+                }
+                yield classroomStudentRepository.findByIdWithStudent(scope.ownClassroomStudentId)
+                        .orElseThrow(() -> new CustomException(CLASSROOM_NOT_FOUND));
+            }
+            case TEACHER -> classroomStudentRepository.findByClassInfoAndNumber(year, grade, classNum, number)
+                    .orElseThrow(() -> new CustomException(HANDLE_ACCESS_DENIED));
+            case PARENT -> {
+                ClassroomStudent cs = classroomStudentRepository.findByClassInfoAndNumber(year, grade, classNum, number)
+                        .orElseThrow(() -> new CustomException(CLASSROOM_NOT_FOUND));
+                // 자녀가 아니면 접근 불가함.
+                if (!scope.childStudentId.equals(cs.getStudent().getId())) {
+                    throw new CustomException(HANDLE_ACCESS_DENIED);
+                }
+                yield cs;
+            }
+            default -> throw new CustomException(HANDLE_ACCESS_DENIED);
+        };
+
+        if (request != null) {
+            request.setAttribute(memoKey, classroomStudent, RequestAttributes.SCOPE_REQUEST);
+        }
+        return classroomStudent;
+    }
+
+    private AccessScope getScope(String username) {
+        AccessScope cached = scopes.get(username);
+        Instant now = Instant.now();
+        if (cached != null && cached.expiresAt.isAfter(now)) {
+            return cached;
+        }
+
+        AccessScope scope = loadScope(username);
+        if (scopes.size() >= MAX_ENTRIES) {
+            evictExpired(now);
+        }
+        if (scopes.size() < MAX_ENTRIES || scopes.containsKey(username)) {
+            scopes.put(username, scope);
+        }
+        return scope;
+    }
+
+    private void evictExpired(Instant now) {
+        scopes.values().removeIf(scope -> !scope.expiresAt.isAfter(now));
+    }
+
+    private AccessScope loadScope(String username) {
+        User user = userService.getUser(username);
+        Instant expiresAt = Instant.now().plus(SCOPE_TTL);
+
+        if (user.getRole() == null) {
+            return new AccessScope(null, null, 0, null, expiresAt);
+        }
+        return switch (user.getRole()) {
+            case STUDENT -> {
+                ClassroomStudent cs = classroomStudentRepository.findByStudentUser(user)
+                        .orElseThrow(() -> new CustomException(CLASSROOM_NOT_FOUND));
+                yield new AccessScope(Role.STUDENT, cs.getId(), cs.getNumber(), null, expiresAt);
+            }
+            case TEACHER -> {
+                // 교사 정보가 있는지 확인
+                teacherService.authenticate(username);
+                yield new AccessScope(Role.TEACHER, null, 0, null, expiresAt);
+            }
+            case PARENT -> new AccessScope(Role.PARENT, null, 0,
+                    parentService.getParentByUser(user).getStudent().getId(), expiresAt);
+            default -> new AccessScope(user.getRole(), null, 0, null, expiresAt);
+        };
+    }
+
+    private static class AccessScope {
+        private final Role role;
+        private final Long ownClassroomStudentId; // 학생 본인 학급 학생 ID
+        private final int ownNumber;               // 학생 본인 출석 번호
+        private final Long childStudentId;         // 학부모의 자녀 학생 ID
+        private final Instant expiresAt;
+
+        private AccessScope(Role role, Long ownClassroomStudentId, int ownNumber, Long childStudentId, Instant expiresAt) {
+            this.role = role;
+            this.ownClassroomStudentId = ownClassroomStudentId;
+            this.ownNumber = ownNumber;
+            this.childStudentId = childStudentId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
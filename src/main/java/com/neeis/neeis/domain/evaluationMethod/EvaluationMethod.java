@@ -74,6 +74,11 @@ public class EvaluationMethod {
         this.fullScore = fullScore;
     }
 
+    // 학기 키 (점수 / 성적 요약 비정규화 컬럼)
+    public int getTermKey() {
+        return TermKey.of(year, semester, grade);
+    }
+
     public void update(ExamType examType , UpdateEvaluationMethodDto dto){
         this.examType = examType;
         this.title = dto.getTitle();
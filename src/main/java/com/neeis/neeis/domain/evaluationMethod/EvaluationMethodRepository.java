@@ -3,7 +3,9 @@ package com.neeis.neeis.domain.evaluationMethod;
 import com.neeis.neeis.domain.subject.Subject;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface EvaluationMethodRepository extends JpaRepository<EvaluationMethod, Long> {
@@ -16,4 +18,12 @@ public interface EvaluationMethodRepository extends JpaRepository<EvaluationMeth
 
     @Query("SELECT DISTINCT e.subject FROM EvaluationMethod e WHERE e.year = :year AND e.semester = :semester AND e.grade = :grade")
     List<Subject> findDistinctSubjectsByYearSemesterGrade(int year, int semester, int grade);
-}
\ No newline at end of file
+
+    @Query("SELECT e FROM EvaluationMethod e JOIN FETCH e.subject WHERE e.id IN :ids")
+    List<EvaluationMethod> findAllWithSubjectByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e FROM EvaluationMethod e JOIN FETCH e.subject s " +
+            "WHERE e.year = :year AND e.semester = :semester AND e.grade = :grade ORDER BY s.id, e.id")
+    List<EvaluationMethod> findAllWithSubjectByYearAndSemesterAndGrade(
+            @Param("year") int year, @Param("semester") int semester, @Param("grade") int grade);
+}
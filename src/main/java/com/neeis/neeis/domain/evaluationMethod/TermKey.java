@@ -0,0 +1,18 @@
+package com.neeis.neeis.domain.evaluationMethod;
+
+/**
+ * 학기 키 - (연도, 학기, 학년)을 정수 하나로 압축 (예: 2025년 1학기 2학년 -> 202512)
+ * 점수 / 성적 요약에 비정규화하여 저장하고 (학생, 학기 키, 과목) 복합 인덱스로 조회한다.
+ */
+public final class TermKey {
+
+    // SQL 에서 같은 값을 계산할 때 사용하는 식 (evaluation_method 별칭 e 기준)
+    public static final String SQL_EXPRESSION = "e.year * 100 + e.semester * 10 + e.grade";
+
+    private TermKey() {
+    }
+
+    public static int of(int year, int semester, int grade) {
+        return year * 100 + semester * 10 + grade;
+    }
+}
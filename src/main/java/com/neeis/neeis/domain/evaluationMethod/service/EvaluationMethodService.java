@@ -16,7 +16,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -145,10 +150,26 @@ public class EvaluationMethodService {
         );
     }
 
+    // 평가 방식 일괄 조회 (과목 포함) - 하나라도 없으면 예외
+    public Map<Long, EvaluationMethod> findAllByIds(Collection<Long> ids) {
+        Map<Long, EvaluationMethod> methods = evaluationMethodRepository.findAllWithSubjectByIdIn(ids).stream()
+                .collect(Collectors.toMap(EvaluationMethod::getId, Function.identity()));
+
+        if (methods.size() != new HashSet<>(ids).size()) {
+            throw new CustomException(ErrorCode.EVALUATION_METHOD_NOT_FOUND);
+        }
+        return methods;
+    }
+
     public List<EvaluationMethod> findAllBySubjectAndYearAndSemesterAndGrade(Subject subject, int year, int semester, int grade) {
         return evaluationMethodRepository.findAllBySubjectAndYearAndSemesterAndGrade(subject, year, semester, grade);
     }
 
+    // 학기 전체 평가 방식 (과목 fetch join, 과목 ID -> 평가 ID 순)
+    public List<EvaluationMethod> findAllWithSubjectByYearAndSemesterAndGrade(int year, int semester, int grade) {
+        return evaluationMethodRepository.findAllWithSubjectByYearAndSemesterAndGrade(year, semester, grade);
+    }
+
     public List<Subject> findSubject(int year, int semester, int grade){
        return evaluationMethodRepository.findDistinctSubjectsByYearSemesterGrade(year, semester, grade);
     }
@@ -11,6 +11,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "notification",
+        // 알림함 커서 조회 (user_id 로 찾고 created_at, id 역순으로 읽음)
+        indexes = @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, id")
+)
 public class Notification extends BaseEntity {
 
     @Id
@@ -39,4 +44,10 @@ public class Notification extends BaseEntity {
         this.isRead = true;
     }
 
+    // 묶음 알림에 과목이 추가되면 내용을 갱신하고 다시 읽지 않음으로 표시
+    public void updateContent(String content) {
+        this.content = content;
+        this.isRead = false;
+    }
+
 }
@@ -0,0 +1,117 @@
+package com.neeis.neeis.domain.notification;
+
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 성적 알림 묶음 (받는 사람 + 학생 단위)
+ * flushAt 전까지 들어온 과목을 하나로 모아 푸시 한 번, 알림 기록 한 건으로 보낸다.
+ * 학생 본인 묶음은 알림 기록(notification)을 함께 갱신하고, 학부모 묶음은 푸시만 보낸다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "notification_digest",
+        indexes = {
+                @Index(name = "idx_notification_digest_recipient", columnList = "recipient_id, student_id, flush_at"),
+                @Index(name = "idx_notification_digest_flush_at", columnList = "flush_at")
+        }
+)
+public class NotificationDigest extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipient_id", nullable = false)
+    private User recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Role role;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "student_name")
+    private String studentName;
+
+    // 과목명 목록 (쉼표 구분, 들어온 순서)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String subjects;
+
+    // 성적 요약 ID 목록 (쉼표 구분, subjects 와 같은 순서)
+    @Column(name = "summary_ids", nullable = false, columnDefinition = "TEXT")
+    private String summaryIds;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_id")
+    private Notification notification;
+
+    // 푸시 발송 시각 - 이후로는 과목을 더하지 않는다
+    @Column(name = "flush_at", nullable = false)
+    private LocalDateTime flushAt;
+
+    @Builder
+    private NotificationDigest(User recipient, Role role, Long studentId, String studentName,
+                               String subject, Long summaryId, LocalDateTime flushAt) {
+        this.recipient = recipient;
+        this.role = role;
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.subjects = subject;
+        this.summaryIds = String.valueOf(summaryId);
+        this.flushAt = flushAt;
+    }
+
+    public void attachNotification(Notification notification) {
+        this.notification = notification;
+    }
+
+    /**
+     * 과목 추가 (같은 과목이 다시 들어오면 최신 요약으로 교체)
+     */
+    public void append(String subject, Long summaryId) {
+        List<String> subjectList = new ArrayList<>(getSubjectList());
+        List<String> summaryIdList = new ArrayList<>(Arrays.asList(summaryIds.split(",")));
+        int index = subjectList.indexOf(subject);
+        if (index >= 0) {
+            subjectList.remove(index);
+            summaryIdList.remove(index);
+        }
+        subjectList.add(subject);
+        summaryIdList.add(String.valueOf(summaryId));
+        this.subjects = String.join(",", subjectList);
+        this.summaryIds = String.join(",", summaryIdList);
+    }
+
+    public List<String> getSubjectList() {
+        return Arrays.asList(subjects.split(","));
+    }
+
+    public List<Long> getSummaryIdList() {
+        return Arrays.stream(summaryIds.split(",")).map(Long::valueOf).toList();
+    }
+
+    // 알림 기록 / 푸시 본문
+    public String content() {
+        String subjectNames = String.join(", ", getSubjectList());
+        if (role == Role.PARENT) {
+            return String.format("%s 학생의 %s 과목 성적이 입력되었습니다.", studentName, subjectNames);
+        }
+        return subjectNames + " 과목의 성적이 입력되었습니다.";
+    }
+}
@@ -0,0 +1,26 @@
+package com.neeis.neeis.domain.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationDigestRepository extends JpaRepository<NotificationDigest, Long> {
+
+    // 아직 발송 전인 묶음 (받는 사람 기준, 알림 기록 함께 로딩)
+    @Query("SELECT d FROM NotificationDigest d LEFT JOIN FETCH d.notification " +
+            "WHERE d.recipient.id IN :recipientIds AND d.flushAt > :openAfter")
+    List<NotificationDigest> findOpenByRecipientIds(Collection<Long> recipientIds, LocalDateTime openAfter);
+
+    // 푸시 발송용 - 받는 사람 계정 함께 로딩
+    @Query("SELECT d FROM NotificationDigest d JOIN FETCH d.recipient WHERE d.id IN :ids")
+    List<NotificationDigest> findAllWithRecipientByIdIn(Collection<Long> ids);
+
+    // 발송이 끝난 지 오래된 묶음 정리
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM NotificationDigest d WHERE d.flushAt < :threshold")
+    int deleteFlushedBefore(LocalDateTime threshold);
+}
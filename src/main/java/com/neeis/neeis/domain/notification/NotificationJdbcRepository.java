@@ -0,0 +1,215 @@
+package com.neeis.neeis.domain.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 일괄 저장용 JDBC 리포지토리
+ * Notification / NotificationDigest 는 IDENTITY 키라 Hibernate 배치 insert 가 되지 않으므로
+ * CHUNK_SIZE 건씩 다중 행 INSERT 한 문장으로 저장하고, 생성된 ID 를 입력 순서대로 돌려준다.
+ * 사용자별 읽지 않은 알림 수(notification_unread_counter)도 여기서 함께 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notification (user_id, content, is_read, created_at, modified_at) VALUES ";
+    private static final String NOTIFICATION_ROW = "(?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DIGEST_SQL =
+            "INSERT INTO notification_digest (recipient_id, role, student_id, student_name, subjects, summary_ids, " +
+                    "notification_id, flush_at, created_at, modified_at) VALUES ";
+    private static final String DIGEST_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ADD_UNREAD_SQL = """
+            INSERT INTO notification_unread_counter (user_id, unread_count, created_at, modified_at)
+            VALUES (?, GREATEST(?, 0), ?, ?)
+            ON DUPLICATE KEY UPDATE
+                unread_count = GREATEST(unread_count + ?, 0),
+                modified_at = VALUES(modified_at)
+            """;
+
+    private static final String RESET_UNREAD_SQL =
+            "UPDATE notification_unread_counter SET unread_count = 0, modified_at = ? WHERE user_id = ?";
+
+    private static final String FIND_UNREAD_SQL =
+            "SELECT unread_count FROM notification_unread_counter WHERE user_id = ?";
+
+    // 집계 행 잠금 - 알림 저장 / 읽음 처리의 증감 반영도 같은 행을 잠그므로 재구성 / 전체 읽음과 직렬화된다
+    private static final String LOCK_UNREAD_SQL =
+            "SELECT user_id FROM notification_unread_counter WHERE user_id IN (:userIds) ORDER BY user_id FOR UPDATE";
+
+    // 받는 사람 계정 행 잠금 - 같은 사람의 열린 묶음 조회 / 추가를 직렬화한다
+    private static final String LOCK_RECIPIENTS_SQL =
+            "SELECT user_id FROM user WHERE user_id IN (:userIds) ORDER BY user_id FOR UPDATE";
+
+    private static final String FIND_RECIPIENT_IDS_SQL =
+            "SELECT DISTINCT user_id FROM notification WHERE user_id > ? ORDER BY user_id LIMIT ?";
+
+    // 알림 원본으로 사용자들의 읽지 않은 알림 수 재구성 (이미 있는 행은 덮어씀)
+    private static final String REBUILD_UNREAD_SQL = """
+            INSERT INTO notification_unread_counter (user_id, unread_count, created_at, modified_at)
+            SELECT user_id, SUM(is_read = false), NOW(), NOW()
+            FROM notification
+            WHERE user_id IN (:userIds)
+            GROUP BY user_id
+            ON DUPLICATE KEY UPDATE
+                unread_count = VALUES(unread_count),
+                modified_at = VALUES(modified_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 알림 기록 일괄 insert - 읽지 않은 알림 수도 함께 늘리고 생성된 ID 반환 (입력 순서)
+    public List<Long> insertAll(List<Notification> notifications) {
+        Map<Long, Integer> unreadDeltas = new HashMap<>();
+        for (Notification notification : notifications) {
+            if (!notification.isRead()) {
+                unreadDeltas.merge(notification.getUser().getId(), 1, Integer::sum);
+            }
+        }
+        addUnreadCounts(unreadDeltas);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insertChunks(INSERT_NOTIFICATION_SQL, NOTIFICATION_ROW, notifications.size(), (ps, index, row) -> {
+            Notification notification = notifications.get(row);
+            ps.setLong(index, notification.getUser().getId());
+            ps.setString(index + 1, notification.getContent());
+            ps.setBoolean(index + 2, notification.isRead());
+            ps.setTimestamp(index + 3, now);
+            ps.setTimestamp(index + 4, now);
+        });
+    }
+
+    /**
+     * 알림 묶음 일괄 insert - 생성된 ID 반환 (입력 순서)
+     * notificationIds 는 digests 와 같은 순서의 알림 기록 ID (없으면 null)
+     */
+    public List<Long> insertDigests(List<NotificationDigest> digests, List<Long> notificationIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insertChunks(INSERT_DIGEST_SQL, DIGEST_ROW, digests.size(), (ps, index, row) -> {
+            NotificationDigest digest = digests.get(row);
+            ps.setLong(index, digest.getRecipient().getId());
+            ps.setString(index + 1, digest.getRole().name());
+            ps.setLong(index + 2, digest.getStudentId());
+            ps.setString(index + 3, digest.getStudentName());
+            ps.setString(index + 4, digest.getSubjects());
+            ps.setString(index + 5, digest.getSummaryIds());
+            ps.setObject(index + 6, notificationIds.get(row), Types.BIGINT);
+            ps.setTimestamp(index + 7, Timestamp.valueOf(digest.getFlushAt()));
+            ps.setTimestamp(index + 8, now);
+            ps.setTimestamp(index + 9, now);
+        });
+    }
+
+    // 읽지 않은 알림 수 증감 반영 (key: 사용자 ID, 0 미만으로는 내려가지 않음)
+    public void addUnreadCounts(Map<Long, Integer> deltaByUserId) {
+        if (deltaByUserId.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(deltaByUserId.entrySet());
+        jdbcTemplate.batchUpdate(ADD_UNREAD_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setInt(2, entry.getValue());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setInt(5, entry.getValue());
+        });
+    }
+
+    public void addUnreadCount(Long userId, int delta) {
+        addUnreadCounts(Map.of(userId, delta));
+    }
+
+    // 집계 행을 ID 순으로 잠금 (트랜잭션 안에서 호출)
+    public void lockUnreadCounters(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        namedParameterJdbcTemplate.queryForList(LOCK_UNREAD_SQL, new MapSqlParameterSource("userIds", userIds), Long.class);
+    }
+
+    public void resetUnreadCount(Long userId) {
+        jdbcTemplate.update(RESET_UNREAD_SQL, Timestamp.valueOf(LocalDateTime.now()), userId);
+    }
+
+    // 읽지 않은 알림 수 (행이 없으면 알림을 받은 적 없는 사용자)
+    public int findUnreadCount(Long userId) {
+        List<Integer> counts = jdbcTemplate.queryForList(FIND_UNREAD_SQL, Integer.class, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    // 받는 사람 계정 행을 ID 순으로 잠금 (트랜잭션 안에서 호출)
+    public void lockRecipients(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        namedParameterJdbcTemplate.queryForList(LOCK_RECIPIENTS_SQL, new MapSqlParameterSource("userIds", userIds), Long.class);
+    }
+
+    // 알림을 받은 사용자 ID 를 afterId 다음부터 limit 명 (ID 순)
+    public List<Long> findRecipientIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList(FIND_RECIPIENT_IDS_SQL, Long.class, afterId, limit);
+    }
+
+    /**
+     * 알림 원본 기준 사용자들의 읽지 않은 알림 수 재구성 - 반영된 행 수 반환 (트랜잭션 안에서 호출)
+     * 증감 반영이 잡는 집계 행을 먼저 잠근 뒤 다시 세므로, 동시에 커밋된 증감분을 덮어쓰지 않는다.
+     */
+    public int rebuildUnreadCounters(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return 0;
+
+        lockUnreadCounters(userIds);
+        return namedParameterJdbcTemplate.update(REBUILD_UNREAD_SQL, new MapSqlParameterSource("userIds", userIds));
+    }
+
+    // rowCount 건을 CHUNK_SIZE 건씩 "INSERT ... VALUES (...), (...)" 한 문장으로 실행
+    private List<Long> insertChunks(String insertSql, String rowSql, int rowCount, RowBinder binder) {
+        if (rowCount == 0) return List.of();
+
+        int columns = (int) rowSql.chars().filter(c -> c == '?').count();
+        List<Long> ids = new ArrayList<>(rowCount);
+        for (int from = 0; from < rowCount; from += CHUNK_SIZE) {
+            int start = from;
+            int size = Math.min(CHUNK_SIZE, rowCount - from);
+            String sql = insertSql + String.join(", ", Collections.nCopies(size, rowSql));
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                for (int i = 0; i < size; i++) {
+                    binder.bind(ps, i * columns + 1, start + i);
+                }
+                return ps;
+            }, keyHolder);
+
+            for (Map<String, Object> key : keyHolder.getKeyList()) {
+                ids.add(((Number) key.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index, int row) throws SQLException;
+    }
+}
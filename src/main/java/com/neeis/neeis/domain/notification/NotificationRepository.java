@@ -1,24 +1,36 @@
 package com.neeis.neeis.domain.notification;
 
 import com.neeis.neeis.domain.user.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findAllByUserOrderByCreatedAtDesc(User user);
 
-    // 페이징 처리된 알림 조회 (username 기준)
-    Page<Notification> findByUser(User user, Pageable pageable);
+    // 알림함 첫 페이지 - (user_id, created_at, id) 인덱스를 역순으로 읽고 COUNT 는 하지 않는다
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatest(Long userId, Pageable pageable);
+
+    // 알림함 다음 페이지 - 커서(createdAt, id) 이후부터
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatestBefore(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
 
     // 알림 ID로 단건 조회
     Optional<Notification> findById(Long id);
 
+    // 읽지 않은 알림만 읽음 처리 - 실제로 바뀐 경우에만 1 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsReadIfUnread(Long id);
+
     // 모든 알림 읽음 처리
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.username = :username AND n.isRead = false")
@@ -0,0 +1,26 @@
+package com.neeis.neeis.domain.notification;
+
+import com.neeis.neeis.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 읽지 않은 알림 수
+ * 알림 저장 / 읽음 처리와 같은 트랜잭션에서 증감분만 반영해, 배지 조회를 PK 단건 조회로 처리한다.
+ * 행 생성 / 갱신은 NotificationJdbcRepository 에서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_unread_counter")
+public class NotificationUnreadCounter extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+}
@@ -0,0 +1,67 @@
+package com.neeis.neeis.domain.notification;
+
+import com.neeis.neeis.global.backfill.BackfillMarkerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * notification_unread_counter 초기 적재
+ * 도입 직후 한 번, 알림 원본으로 사용자별 읽지 않은 알림 수를 다시 만든다. 이후에는 알림 저장 / 읽음 처리 시 증감분으로만 갱신된다.
+ * 완료 여부는 집계 행 유무가 아니라 backfill_marker 로 판단하므로, 백필 전에 들어온 증감분이 있어도 건너뛰지 않는다.
+ * 사용자 CHUNK_SIZE 명 단위 트랜잭션으로 집계 행을 잠그고 다시 센다.
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounterBackfillJob {
+    static final String MARKER = "notification_unread_counter";
+    static final int CHUNK_SIZE = 500;
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final BackfillMarkerRepository backfillMarkerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationUnreadCounterBackfillJob(NotificationJdbcRepository notificationJdbcRepository,
+                                                BackfillMarkerRepository backfillMarkerRepository,
+                                                PlatformTransactionManager transactionManager) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.backfillMarkerRepository = backfillMarkerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 기동 완료 후 백그라운드에서 실행
+    @Async("SummaryExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            run();
+        } catch (DataAccessException e) {
+            log.warn("읽지 않은 알림 수 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public void run() {
+        if (backfillMarkerRepository.isCompleted(MARKER)) return;
+
+        // 중간에 실패하면 완료 표시 없이 끝나고, 다음 기동 때 처음부터 다시 재구성한다
+        int rows = 0;
+        long afterId = 0L;
+        List<Long> userIds;
+        while (!(userIds = notificationJdbcRepository.findRecipientIdsAfter(afterId, CHUNK_SIZE)).isEmpty()) {
+            List<Long> chunk = userIds;
+            Integer rebuilt = transactionTemplate.execute(status -> notificationJdbcRepository.rebuildUnreadCounters(chunk));
+            rows += rebuilt == null ? 0 : rebuilt;
+            afterId = chunk.get(chunk.size() - 1);
+        }
+
+        backfillMarkerRepository.markCompleted(MARKER);
+        log.info("읽지 않은 알림 수 초기 적재 완료 - {}건", rows);
+    }
+}
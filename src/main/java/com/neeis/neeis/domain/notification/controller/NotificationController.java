@@ -1,8 +1,10 @@
 package com.neeis.neeis.domain.notification.controller;
 
 import com.neeis.neeis.domain.notification.dto.res.NotificationPageResDto;
+import com.neeis.neeis.domain.notification.dto.res.NotificationUnreadCountResDto;
 import com.neeis.neeis.domain.notification.service.NotificationService;
 import com.neeis.neeis.global.common.CommonResponse;
+import com.neeis.neeis.global.jwt.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,14 +20,23 @@ import static com.neeis.neeis.global.common.StatusCode.SUCCESS_GET_NOTIFICATION;
 public class NotificationController {
     private final NotificationService notificationService;
 
-    @Operation(summary = "[학생 전용] 알림 목록 조회", description = "사용자의 알림 목록을 페이지 단위로 조회합니다.")
+    @Operation(summary = "[학생 전용] 알림 목록 조회", description = "사용자의 알림 목록을 최신순으로 조회합니다. " +
+            "첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. (size 최대 50)")
     @GetMapping
     public ResponseEntity<CommonResponse<NotificationPageResDto>> getNotifications(
-            @AuthenticationPrincipal UserDetails userDetails,
-            @RequestParam(defaultValue = "0") int page,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        NotificationPageResDto response = notificationService.getNotifications(userDetails.getUsername(), page, size);
+        NotificationPageResDto response = notificationService.getNotifications(userDetails.getUserId(), cursor, size);
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_GET_NOTIFICATION.getMessage(), response));
+    }
+
+    @Operation(summary = "[학생 전용] 읽지 않은 알림 수 조회", description = "알림 배지에 표시할 읽지 않은 알림 수를 조회합니다.")
+    @GetMapping("/unread-count")
+    public ResponseEntity<CommonResponse<NotificationUnreadCountResDto>> getUnreadCount(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        NotificationUnreadCountResDto response = notificationService.getUnreadCount(userDetails.getUserId());
         return ResponseEntity.ok(CommonResponse.from(SUCCESS_GET_NOTIFICATION.getMessage(), response));
     }
 
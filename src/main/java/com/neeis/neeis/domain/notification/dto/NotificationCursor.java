@@ -0,0 +1,45 @@
+package com.neeis.neeis.domain.notification.dto;
+
+import com.neeis.neeis.domain.notification.Notification;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 알림함 커서 - 마지막으로 받은 알림의 (createdAt, id)
+ * 클라이언트에는 "createdAt|id" 를 URL-safe Base64 로 감싼 문자열로 내려주고 그대로 돌려받는다.
+ */
+@Getter
+public class NotificationCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private NotificationCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static String encode(Notification notification) {
+        String raw = notification.getCreatedAt() + SEPARATOR + notification.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new NotificationCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
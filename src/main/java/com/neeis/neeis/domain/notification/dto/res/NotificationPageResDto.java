@@ -7,19 +7,23 @@ import java.util.List;
 
 @Getter
 public class NotificationPageResDto {
-    private final int totalPages;
     private final List<NotificationResDto> notifications;
+    private final boolean hasNext;
+    // 다음 페이지 요청 시 cursor 로 그대로 전달 (마지막 페이지면 null)
+    private final String nextCursor;
 
     @Builder
-    public NotificationPageResDto(int totalPages, List<NotificationResDto> notifications) {
-        this.totalPages = totalPages;
+    public NotificationPageResDto(List<NotificationResDto> notifications, boolean hasNext, String nextCursor) {
         this.notifications = notifications;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
     }
 
-    public static NotificationPageResDto of(int totalPages, List<NotificationResDto> list) {
+    public static NotificationPageResDto of(List<NotificationResDto> list, String nextCursor) {
         return NotificationPageResDto.builder()
-                .totalPages(totalPages)
                 .notifications(list)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
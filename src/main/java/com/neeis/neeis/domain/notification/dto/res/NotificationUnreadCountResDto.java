@@ -0,0 +1,20 @@
+package com.neeis.neeis.domain.notification.dto.res;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class NotificationUnreadCountResDto {
+    private final int unreadCount;
+
+    @Builder
+    public NotificationUnreadCountResDto(int unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public static NotificationUnreadCountResDto of(int unreadCount) {
+        return NotificationUnreadCountResDto.builder()
+                .unreadCount(unreadCount)
+                .build();
+    }
+}
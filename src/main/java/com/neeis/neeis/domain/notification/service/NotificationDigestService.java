@@ -0,0 +1,182 @@
+package com.neeis.neeis.domain.notification.service;
+
+import com.neeis.neeis.domain.notification.Notification;
+import com.neeis.neeis.domain.notification.NotificationDigest;
+import com.neeis.neeis.domain.notification.NotificationDigestRepository;
+import com.neeis.neeis.domain.notification.NotificationJdbcRepository;
+import com.neeis.neeis.domain.parent.Parent;
+import com.neeis.neeis.domain.parent.ParentService;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
+import com.neeis.neeis.domain.student.Student;
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.global.fcm.event.SendScoreDigestFcmEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 성적 알림 묶음 처리
+ * 받는 사람(+ 학생)별로 열린 묶음이 있으면 과목을 더하고, 없으면 역할별 병합 구간만큼 뒤에 발송할 묶음을 새로 만든다.
+ * - 학생: studentWindow (기본 1분 - 한 번에 여러 과목을 저장해도 푸시 한 번)
+ * - 학부모: parentWindow (기본 1시간)
+ * 새 묶음은 역할별로 모아 아웃박스에 한 행씩 기록하고, 발송은 flushAt 에 아웃박스 발송기가 맡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationDigestService {
+    // 발송 직전 묶음에는 더하지 않는다 (발송과 겹쳐 과목이 빠지는 것 방지)
+    private static final Duration APPEND_GRACE = Duration.ofSeconds(10);
+    private static final Duration RETENTION = Duration.ofDays(1);
+
+    private final NotificationDigestRepository notificationDigestRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final ParentService parentService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.digest.student-window:1m}")
+    private Duration studentWindow;
+
+    @Value("${notification.digest.parent-window:1h}")
+    private Duration parentWindow;
+
+    /**
+     * 성적 알림을 학생 / 학부모 묶음에 추가 (여러 과목을 한 번에)
+     * 받는 사람 수와 상관없이 조회 / 저장 문장 수가 일정하도록
+     * 학부모와 열린 묶음은 한 번에 조회하고, 새 알림 기록과 묶음은 다중 행 INSERT 로 저장한다.
+     * summaries 는 과목, 학생, 학생 계정이 함께 로딩된 상태여야 한다.
+     * 받는 사람 계정 행을 잠근 뒤 열린 묶음을 조회하므로, 같은 사람에 대한 동시 호출은 앞선 호출의 커밋된 묶음에 더한다.
+     * (잠금 이후 조회가 최신 커밋을 보도록 READ_COMMITTED - 호출 측 트랜잭션도 같아야 한다)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void addScores(List<ScoreSummary> summaries) {
+        if (summaries.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        notificationDigestRepository.deleteFlushedBefore(now.minus(RETENTION));
+
+        List<Student> students = summaries.stream()
+                .map(summary -> summary.getClassroomStudent().getStudent())
+                .distinct()
+                .toList();
+        Map<Long, List<Parent>> parentsByStudentId = parentService.getParents(students).stream()
+                .collect(Collectors.groupingBy(parent -> parent.getStudent().getId()));
+
+        // 받는 사람 목록 (학생 본인 + 학부모) x 과목
+        List<Recipient> recipients = new ArrayList<>();
+        for (ScoreSummary summary : summaries) {
+            Student student = summary.getClassroomStudent().getStudent();
+            recipients.add(new Recipient(student.getUser(), Role.STUDENT, student, summary));
+            for (Parent parent : parentsByStudentId.getOrDefault(student.getId(), List.of())) {
+                recipients.add(new Recipient(parent.getUser(), Role.PARENT, student, summary));
+            }
+        }
+
+        Set<Long> recipientIds = recipients.stream().map(r -> r.user.getId()).collect(Collectors.toSet());
+        notificationJdbcRepository.lockRecipients(recipientIds);
+        Map<String, NotificationDigest> digests = notificationDigestRepository
+                .findOpenByRecipientIds(recipientIds, now.plus(APPEND_GRACE)).stream()
+                .collect(Collectors.toMap(d -> key(d.getRecipient().getId(), d.getStudentId()), d -> d, (a, b) -> a));
+
+        Set<NotificationDigest> appended = new LinkedHashSet<>();
+        Set<NotificationDigest> createdDigests = new LinkedHashSet<>();
+        for (Recipient recipient : recipients) {
+            String key = key(recipient.user.getId(), recipient.student.getId());
+            String subjectName = recipient.summary.getSubject().getName();
+            NotificationDigest digest = digests.get(key);
+            if (digest != null) {
+                digest.append(subjectName, recipient.summary.getId());
+                if (!createdDigests.contains(digest)) appended.add(digest);
+                continue;
+            }
+
+            digest = NotificationDigest.builder()
+                    .recipient(recipient.user)
+                    .role(recipient.role)
+                    .studentId(recipient.student.getId())
+                    .studentName(recipient.student.getName())
+                    .subject(subjectName)
+                    .summaryId(recipient.summary.getId())
+                    .flushAt(now.plus(recipient.role == Role.PARENT ? parentWindow : studentWindow))
+                    .build();
+            digests.put(key, digest);
+            createdDigests.add(digest);
+        }
+        List<NotificationDigest> created = new ArrayList<>(createdDigests);
+
+        // 열린 묶음의 알림 기록은 변경 감지로 갱신 (JDBC 배치 update), 이미 읽은 기록은 다시 읽지 않음으로 센다
+        Map<Long, Integer> reopened = new HashMap<>();
+        for (NotificationDigest digest : appended) {
+            Notification notification = digest.getNotification();
+            if (notification == null) continue;
+            if (notification.isRead()) {
+                reopened.merge(digest.getRecipient().getId(), 1, Integer::sum);
+            }
+            notification.updateContent(digest.content());
+        }
+        notificationJdbcRepository.addUnreadCounts(reopened);
+
+        insertCreated(created, now);
+
+        log.debug("성적 알림 묶음 - 요약: {}건, 받는 사람: {}건, 새 묶음: {}건, 추가: {}건",
+                summaries.size(), recipients.size(), created.size(), appended.size());
+    }
+
+    // 새 묶음 저장 (알림 기록 / 묶음 각각 다중 행 INSERT) 후 역할별로 한 번씩 발송 예약
+    private void insertCreated(List<NotificationDigest> created, LocalDateTime now) {
+        if (created.isEmpty()) return;
+
+        // 알림 기록은 학생 본인에게만 남긴다
+        List<Notification> notifications = new ArrayList<>();
+        for (NotificationDigest digest : created) {
+            if (digest.getRole() == Role.STUDENT) {
+                notifications.add(Notification.builder()
+                        .user(digest.getRecipient())
+                        .content(digest.content())
+                        .isRead(false)
+                        .build());
+            }
+        }
+        Iterator<Long> insertedNotificationIds = notificationJdbcRepository.insertAll(notifications).iterator();
+        List<Long> notificationIds = new ArrayList<>(created.size());
+        for (NotificationDigest digest : created) {
+            notificationIds.add(digest.getRole() == Role.STUDENT ? insertedNotificationIds.next() : null);
+        }
+        List<Long> digestIds = notificationJdbcRepository.insertDigests(created, notificationIds);
+
+        Map<Role, List<Long>> createdIdsByRole = new EnumMap<>(Role.class);
+        for (int i = 0; i < created.size(); i++) {
+            createdIdsByRole.computeIfAbsent(created.get(i).getRole(), role -> new ArrayList<>()).add(digestIds.get(i));
+        }
+        createdIdsByRole.forEach((role, ids) -> eventPublisher.publishEvent(new SendScoreDigestFcmEvent(
+                ids, now.plus(role == Role.PARENT ? parentWindow : studentWindow))));
+    }
+
+    private static String key(Long recipientId, Long studentId) {
+        return recipientId + ":" + studentId;
+    }
+
+    private static class Recipient {
+        private final User user;
+        private final Role role;
+        private final Student student;
+        private final ScoreSummary summary;
+
+        private Recipient(User user, Role role, Student student, ScoreSummary summary) {
+            this.user = user;
+            this.role = role;
+            this.student = student;
+            this.summary = summary;
+        }
+    }
+}
@@ -1,27 +1,33 @@
 package com.neeis.neeis.domain.notification.service;
 
 import com.neeis.neeis.domain.notification.Notification;
+import com.neeis.neeis.domain.notification.NotificationJdbcRepository;
 import com.neeis.neeis.domain.notification.NotificationRepository;
+import com.neeis.neeis.domain.notification.dto.NotificationCursor;
 import com.neeis.neeis.domain.notification.dto.res.NotificationPageResDto;
 import com.neeis.neeis.domain.notification.dto.res.NotificationResDto;
+import com.neeis.neeis.domain.notification.dto.res.NotificationUnreadCountResDto;
 import com.neeis.neeis.domain.user.User;
 import com.neeis.neeis.domain.user.service.UserService;
 import com.neeis.neeis.global.exception.CustomException;
 import com.neeis.neeis.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
+    private static final int MAX_PAGE_SIZE = 50;
 
     private final NotificationRepository notificationRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
     private final UserService userService;
 
     @Transactional
@@ -32,34 +38,57 @@ public class NotificationService {
                 .isRead(false)
                 .build();
         notificationRepository.save(notification);
+        notificationJdbcRepository.addUnreadCount(user.getId(), 1);
     }
 
+    /**
+     * 알림 목록 커서 조회 (최신순)
+     * cursor 가 없으면 첫 페이지, 있으면 그 알림 이후부터 size 건(최대 MAX_PAGE_SIZE)을 읽는다.
+     * size + 1 건을 읽어 다음 페이지 여부를 판단하므로 COUNT 쿼리는 하지 않는다.
+     */
+    public NotificationPageResDto getNotifications(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Notification> notifications;
+        if (cursor == null || cursor.isBlank()) {
+            notifications = notificationRepository.findLatest(userId, limit);
+        } else {
+            NotificationCursor after = NotificationCursor.decode(cursor);
+            notifications = notificationRepository.findLatestBefore(userId, after.getCreatedAt(), after.getId(), limit);
+        }
 
-    public NotificationPageResDto getNotifications(String username, int page, int size) {
-        User user = userService.getUser(username);
-        Page<Notification> notifications = notificationRepository.findByUser(
-                user,
-                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"))
-        );
+        boolean hasNext = notifications.size() > pageSize;
+        List<Notification> page = hasNext ? notifications.subList(0, pageSize) : notifications;
 
         return NotificationPageResDto.of(
-                notifications.getTotalPages(),
-                notifications.getContent().stream()
+                page.stream()
                         .map(NotificationResDto::toDto)
-                        .toList()
+                        .toList(),
+                hasNext ? NotificationCursor.encode(page.get(page.size() - 1)) : null
         );
     }
 
-    // 읽음 처리
+    // 읽지 않은 알림 수 (배지) - 집계 테이블 단건 조회
+    public NotificationUnreadCountResDto getUnreadCount(Long userId) {
+        return NotificationUnreadCountResDto.of(notificationJdbcRepository.findUnreadCount(userId));
+    }
+
+    // 읽음 처리 (이미 읽은 알림이면 집계는 그대로)
     @Transactional
     public void markAsRead(Long id) {
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND));
-        notification.markAsRead();
+        if (notificationRepository.markAsReadIfUnread(id) > 0) {
+            notificationJdbcRepository.addUnreadCount(notification.getUser().getId(), -1);
+        }
     }
 
+    // 집계 행을 먼저 잠가, 일괄 읽음 처리와 0 초기화 사이에 커밋된 증가분을 지우지 않는다
     @Transactional
     public void markAllAsRead(String username) {
+        User user = userService.getUser(username);
+        notificationJdbcRepository.lockUnreadCounters(List.of(user.getId()));
         notificationRepository.markAllAsReadByUsername(username);
+        notificationJdbcRepository.resetUnreadCount(user.getId());
     }
-}
\ No newline at end of file
+}
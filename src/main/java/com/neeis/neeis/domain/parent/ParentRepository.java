@@ -3,7 +3,9 @@ package com.neeis.neeis.domain.parent;
 import com.neeis.neeis.domain.student.Student;
 import com.neeis.neeis.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +13,8 @@ public interface ParentRepository extends JpaRepository<Parent, Long> {
     List<Parent> findByStudent(Student student);
     Optional<Parent> findByUser(User user);
     Optional<Parent> findByPhone(String phone);
+
+    // 여러 학생의 학부모를 사용자와 함께 한 번에 조회
+    @Query("SELECT p FROM Parent p JOIN FETCH p.user WHERE p.student IN :students")
+    List<Parent> findByStudentInWithUser(Collection<Student> students);
 }
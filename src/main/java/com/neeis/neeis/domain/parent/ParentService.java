@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.neeis.neeis.global.exception.ErrorCode.USER_NOT_FOUND;
@@ -25,4 +26,9 @@ public class ParentService {
     public List<Parent> getParents(Student student) {
         return parentRepository.findByStudent(student);
     }
+
+    public List<Parent> getParents(Collection<Student> students) {
+        if (students.isEmpty()) return List.of();
+        return parentRepository.findByStudentInWithUser(students);
+    }
 }
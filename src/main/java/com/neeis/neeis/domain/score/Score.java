@@ -12,10 +12,15 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_score_student_term_subject", columnList = "student_id, term_key, subject_id"))
 public class Score extends BaseEntity {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 는 insert 마다 즉시 실행되어 배치가 불가능하므로 pooled 시퀀스 사용 (MySQL 에서는 score_seq 테이블로 동작)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_seq")
+    @SequenceGenerator(name = "score_seq", sequenceName = "score_seq", allocationSize = Score.ID_ALLOCATION_SIZE)
     private Long id;
 
     private Double rawScore; // 받은 점수
@@ -29,12 +34,23 @@ public class Score extends BaseEntity {
     @JoinColumn(name = "student_id", nullable = false)
     private ClassroomStudent student;
 
+    // 평가 방식에서 비정규화 (학생별 학기 성적 조회 시 evaluation_method 조인 없이 인덱스 범위 조회)
+    @Column(name = "term_key")
+    private Integer termKey;
+
+    @Column(name = "subject_id")
+    private Long subjectId;
+
     @Builder
     private Score(Double rawScore, Double weightedScore, EvaluationMethod evaluationMethod, ClassroomStudent student) {
         this.rawScore = rawScore;
         this.weightedScore = weightedScore;
         this.evaluationMethod = evaluationMethod;
         this.student = student;
+        if (evaluationMethod != null) {
+            this.termKey = evaluationMethod.getTermKey();
+            this.subjectId = (evaluationMethod.getSubject() != null) ? evaluationMethod.getSubject().getId() : null;
+        }
     }
 
     public void update(Double rawScore, Double weightedScore) {
@@ -1,9 +1,15 @@
 package com.neeis.neeis.domain.score;
 
+import com.neeis.neeis.domain.classroom.Classroom;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
 import com.neeis.neeis.domain.evaluationMethod.EvaluationMethod;
+import com.neeis.neeis.domain.score.dto.ScoreRowDto;
+import com.neeis.neeis.domain.subject.Subject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +20,36 @@ public interface ScoreRepository extends JpaRepository<Score, Long> {
 
     Optional<Score> findByEvaluationMethodAndStudent(EvaluationMethod evaluationMethod, ClassroomStudent student);
 
-    List<Score> findAllByStudentAndEvaluationMethod_YearAndEvaluationMethod_Semester(
-            ClassroomStudent student, int year, int semester);
+    // 성적 일괄 저장용 - 요청에 포함된 평가 방식 x 학생의 기존 점수 일괄 조회
+    List<Score> findAllByEvaluationMethodInAndStudentIn(
+            Collection<EvaluationMethod> evaluationMethods, Collection<ClassroomStudent> students);
+
+    /**
+     * 학생의 한 학기 점수 조회 - (student_id, term_key) 인덱스 범위 조회, 평가 방식 / 과목 함께 로딩
+     */
+    @Query("SELECT s FROM Score s JOIN FETCH s.evaluationMethod e JOIN FETCH e.subject " +
+            "WHERE s.student = :student AND s.termKey = :termKey")
+    List<Score> findAllWithEvaluationByStudentAndTermKey(@Param("student") ClassroomStudent student,
+                                                         @Param("termKey") int termKey);
+
+    /**
+     * 성적 요약 재계산용 - 반 + 과목 + 학기 단위 점수를 한 번에 조회
+     */
+    @Query("SELECT new com.neeis.neeis.domain.score.dto.ScoreRowDto(cs.id, s.rawScore, s.weightedScore, e.fullScore, e.weight) " +
+            "FROM Score s JOIN s.evaluationMethod e JOIN s.student cs " +
+            "WHERE e.subject = :subject AND e.year = :year AND e.semester = :semester AND e.grade = :grade " +
+            "AND cs.classroom = :classroom")
+    List<ScoreRowDto> findRowsForSummary(@Param("subject") Subject subject, @Param("year") int year,
+                                         @Param("semester") int semester, @Param("grade") int grade,
+                                         @Param("classroom") Classroom classroom);
+
+    /**
+     * 학년 전체 석차 산정용 - 학년 + 과목 + 학기 단위 점수를 반 구분 없이 한 번에 조회
+     */
+    @Query("SELECT new com.neeis.neeis.domain.score.dto.ScoreRowDto(cs.id, c.id, s.rawScore, s.weightedScore, e.fullScore, e.weight) " +
+            "FROM Score s JOIN s.evaluationMethod e JOIN s.student cs JOIN cs.classroom c " +
+            "WHERE e.subject = :subject AND e.year = :year AND e.semester = :semester AND e.grade = :grade " +
+            "AND c.year = :year AND c.grade = :grade")
+    List<ScoreRowDto> findCohortRowsForSummary(@Param("subject") Subject subject, @Param("year") int year,
+                                               @Param("semester") int semester, @Param("grade") int grade);
 }
@@ -0,0 +1,177 @@
+package com.neeis.neeis.domain.score;
+
+import com.neeis.neeis.domain.evaluationMethod.TermKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * score.term_key / subject_id, score_summary.term_key 백필
+ * 컬럼 추가 이전에 저장된 행을 PK 구간(CHUNK_SIZE) 단위의 짧은 UPDATE 로 나누어 채운다.
+ * 구간마다 자동 커밋되므로 테이블 전체를 오래 잠그지 않고, 이미 채워진 행은 건너뛰어 몇 번을 실행해도 안전하다.
+ * score_summary.term_key 는 NOT NULL 이라 컬럼 추가 이전 행은 0 으로 들어오며, 0 인 행을 백필 대상으로 본다.
+ * 웹 서버 시작 전에 동기로 실행한다 - 백필 전에 재계산이 돌면 학기 키가 비어 있는 행 옆에 새 행을 만들어 피드백이 떨어져 나간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TermKeyBackfillJob implements SmartInitializingSingleton {
+    static final int CHUNK_SIZE = 1000;
+
+    // 요약 합계와 점수 합계 비교 허용 오차 (합산 순서 차이)
+    private static final double SUM_TOLERANCE = 1e-6;
+
+    private static final String SCORE_RANGE_SQL =
+            "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM score WHERE term_key IS NULL";
+
+    private static final String SCORE_BACKFILL_SQL =
+            "UPDATE score s JOIN evaluation_method e ON s.evaluation_method_id = e.id " +
+            "SET s.term_key = " + TermKey.SQL_EXPRESSION + ", s.subject_id = e.subject_id " +
+            "WHERE s.term_key IS NULL AND s.id BETWEEN ? AND ?";
+
+    // 컬럼 추가 이전 요약 행의 학기 키 (NOT NULL 컬럼 추가 시 채워지는 기본값)
+    private static final int LEGACY_TERM_KEY = 0;
+
+    private static final String SUMMARY_RANGE_SQL =
+            "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM score_summary WHERE term_key = " + LEGACY_TERM_KEY;
+
+    private static final String SUMMARY_CHUNK_SQL =
+            "SELECT id, classroom_student_id, subject_id, sum_score FROM score_summary " +
+            "WHERE term_key = " + LEGACY_TERM_KEY + " AND id BETWEEN ? AND ?";
+
+    // 요약 행 학생들의 (학생, 과목, 학기) 별 반영 점수 합계 - 요약의 sum_score 와 같은 값이다
+    private static final String SCORE_TOTALS_SQL = """
+            SELECT student_id, subject_id, term_key, SUM(weighted_score) AS total
+            FROM score
+            WHERE student_id IN (:studentIds) AND term_key IS NOT NULL
+            GROUP BY student_id, subject_id, term_key
+            """;
+
+    private static final String SUMMARY_BACKFILL_SQL =
+            "UPDATE score_summary SET term_key = ? WHERE id = ? AND term_key = " + LEGACY_TERM_KEY;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 웹 서버 시작 전 - 요청이 들어와 재계산이 돌기 전에 백필을 마친다 (실패하면 기동 중단)
+    @Override
+    public void afterSingletonsInstantiated() {
+        run();
+    }
+
+    public void run() {
+        // 점수 먼저 채워야 요약의 학기 키를 계산할 수 있다
+        int scores = backfillScores();
+        int summaries = backfillSummaries();
+        if (scores + summaries > 0) {
+            log.info("학기 키 백필 완료 - score {}건, score_summary {}건", scores, summaries);
+        }
+    }
+
+    private int backfillScores() {
+        long[] range = findRange(SCORE_RANGE_SQL);
+        if (range == null) return 0;
+
+        int updated = 0;
+        for (long from = range[0]; from <= range[1]; from += CHUNK_SIZE) {
+            updated += jdbcTemplate.update(SCORE_BACKFILL_SQL, from, Math.min(from + CHUNK_SIZE - 1, range[1]));
+        }
+        log.debug("score 학기 키 백필 - id {} ~ {}, {}건", range[0], range[1], updated);
+        return updated;
+    }
+
+    /**
+     * 요약 행은 학기 정보가 없으므로 같은 학생 / 과목의 점수에서 학기를 찾는다.
+     * 점수가 한 학기에만 있으면 그 학기, 여러 학기에 걸쳐 있으면 반영 점수 합계가 요약의 sum_score 와 같은 학기로 정한다.
+     * 어느 쪽으로도 정할 수 없는 행은 0 으로 남으며, 학기 범위 조회에서는 보이지 않는다.
+     */
+    private int backfillSummaries() {
+        long[] range = findRange(SUMMARY_RANGE_SQL);
+        if (range == null) return 0;
+
+        int updated = 0;
+        int unresolved = 0;
+        for (long from = range[0]; from <= range[1]; from += CHUNK_SIZE) {
+            List<SummaryRow> rows = jdbcTemplate.query(SUMMARY_CHUNK_SQL, (rs, i) -> new SummaryRow(
+                    rs.getLong("id"), rs.getLong("classroom_student_id"), rs.getLong("subject_id"), rs.getDouble("sum_score")),
+                    from, Math.min(from + CHUNK_SIZE - 1, range[1]));
+            if (rows.isEmpty()) continue;
+
+            Map<String, Map<Integer, Double>> totals = findScoreTotals(rows);
+            List<Object[]> args = new ArrayList<>(rows.size());
+            for (SummaryRow row : rows) {
+                Integer termKey = resolveTermKey(row, totals.getOrDefault(row.key(), Map.of()));
+                if (termKey == null) {
+                    unresolved++;
+                } else {
+                    args.add(new Object[]{termKey, row.id});
+                }
+            }
+            if (!args.isEmpty()) {
+                updated += Arrays.stream(jdbcTemplate.batchUpdate(SUMMARY_BACKFILL_SQL, args)).sum();
+            }
+        }
+
+        log.debug("score_summary 학기 키 백필 - id {} ~ {}, {}건", range[0], range[1], updated);
+        if (unresolved > 0) {
+            log.warn("score_summary 학기 키를 정할 수 없는 행 {}건 - 해당 학기 재계산 시 새로 생성된다", unresolved);
+        }
+        return updated;
+    }
+
+    private Map<String, Map<Integer, Double>> findScoreTotals(List<SummaryRow> rows) {
+        Set<Long> studentIds = new HashSet<>();
+        rows.forEach(row -> studentIds.add(row.studentId));
+
+        Map<String, Map<Integer, Double>> totals = new HashMap<>();
+        namedParameterJdbcTemplate.query(SCORE_TOTALS_SQL, new MapSqlParameterSource("studentIds", studentIds), rs -> {
+            totals.computeIfAbsent(rs.getLong("student_id") + "_" + rs.getLong("subject_id"), k -> new HashMap<>())
+                    .put(rs.getInt("term_key"), rs.getDouble("total"));
+        });
+        return totals;
+    }
+
+    private Integer resolveTermKey(SummaryRow row, Map<Integer, Double> totalByTerm) {
+        if (totalByTerm.size() == 1) {
+            return totalByTerm.keySet().iterator().next();
+        }
+
+        Integer matched = null;
+        for (Map.Entry<Integer, Double> entry : totalByTerm.entrySet()) {
+            if (Math.abs(entry.getValue() - row.sumScore) > SUM_TOLERANCE) continue;
+            if (matched != null) return null; // 합계가 같은 학기가 둘 이상
+            matched = entry.getKey();
+        }
+        return matched;
+    }
+
+    private long[] findRange(String rangeSql) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(rangeSql);
+        if (range.get("min_id") == null) return null;
+        return new long[]{((Number) range.get("min_id")).longValue(), ((Number) range.get("max_id")).longValue()};
+    }
+
+    private static class SummaryRow {
+        private final long id;
+        private final long studentId;
+        private final long subjectId;
+        private final double sumScore;
+
+        private SummaryRow(long id, long studentId, long subjectId, double sumScore) {
+            this.id = id;
+            this.studentId = studentId;
+            this.subjectId = subjectId;
+            this.sumScore = sumScore;
+        }
+
+        private String key() {
+            return studentId + "_" + subjectId;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.neeis.neeis.domain.score.controller;
 import com.neeis.neeis.domain.score.dto.req.ScoreRequestDto;
 import com.neeis.neeis.domain.score.dto.res.ScoreSummaryBySubjectDto;
 import com.neeis.neeis.domain.score.service.ScoreService;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import com.neeis.neeis.domain.scoreSummary.dto.res.RecomputeTicketDto;
+import com.neeis.neeis.domain.scoreSummary.service.ScoreSummaryRecomputeQueue;
 import com.neeis.neeis.global.common.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -13,6 +16,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 import static com.neeis.neeis.global.common.StatusCode.SUCCESS_GET_SCORE;
 import static com.neeis.neeis.global.common.StatusCode.SUCCESS_POST_SCORE;
@@ -22,6 +26,7 @@ import static com.neeis.neeis.global.common.StatusCode.SUCCESS_POST_SCORE;
 @RequestMapping("/scores")
 public class ScoreController {
     private final ScoreService scoreService;
+    private final ScoreSummaryRecomputeQueue scoreSummaryRecomputeQueue;
 
     @PostMapping
     @Operation(
@@ -30,6 +35,10 @@ public class ScoreController {
             반 전체 학생의 특정 평가 점수를 한 번에 저장하거나 수정합니다. <br><br>
             - 이미 점수가 입력되어 있으면 → 수정 <br>
             - 없으면 → 새로 저장 <br><br>
+            석차/통계(성적 요약)와 성적 입력 알림은 저장 이후 비동기로 재계산됩니다. <br>
+            응답의 재계산 티켓(과목별 version)을 <code>/score-summary/recompute-status</code> 의
+            <code>completedVersion</code> 과 비교하면 반영 여부를 알 수 있습니다. <br>
+            짧은 시간 안에 같은 반/과목을 여러 번 저장하면 재계산과 알림은 한 번으로 합쳐집니다. <br><br>
             <b>요청 예시:</b><br>
             [
               {
@@ -42,13 +51,15 @@ public class ScoreController {
               }
             ]
             """
-    )public ResponseEntity<CommonResponse<Object>> registerScores(
+    )public ResponseEntity<CommonResponse<List<RecomputeTicketDto>>> registerScores(
             @AuthenticationPrincipal UserDetails userDetails,
             @Valid @RequestBody List<ScoreRequestDto> dtoList) {
 
-        scoreService.saveOrUpdateScores(userDetails.getUsername(), dtoList);
+        // 저장 트랜잭션이 커밋된 뒤 (재계산 큐 등록 이후) 티켓 발급
+        Set<SummaryRecomputeKey> keys = scoreService.saveOrUpdateScores(userDetails.getUsername(), dtoList);
+        List<RecomputeTicketDto> tickets = scoreSummaryRecomputeQueue.ticketsFor(keys);
 
-        return ResponseEntity.ok(CommonResponse.from(SUCCESS_POST_SCORE.getMessage()));
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_POST_SCORE.getMessage(), tickets));
     }
 
     @GetMapping("/summary")
@@ -58,7 +69,8 @@ public class ScoreController {
         입력한 연도/학기/학년/반 정보에 따라, 각 과목의 평가 방식과 학생들의 점수를 반환합니다. <br><br>
         <b>선택적 필터링:</b><br>
         <code>subject</code> 파라미터를 입력하면, 해당 과목만 조회됩니다. <br>
-        입력하지 않으면 해당 반에서 평가 방식이 등록된 모든 과목이 조회됩니다.
+        입력하지 않으면 해당 반에서 평가 방식이 등록된 모든 과목이 조회됩니다. <br><br>
+        성적 저장 직후 재계산이 끝나지 않은 학생은 <code>summaryPending = true</code> 로 점수만 내려가고 요약 항목은 비어 있습니다.
         """)
     public ResponseEntity<CommonResponse<List<ScoreSummaryBySubjectDto>>> getScoreSummaryBySubject(
             @AuthenticationPrincipal UserDetails userDetails,
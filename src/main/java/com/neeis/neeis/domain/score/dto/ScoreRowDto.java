@@ -0,0 +1,32 @@
+package com.neeis.neeis.domain.score.dto;
+
+import lombok.Getter;
+
+/**
+ * 성적 요약 재계산용 점수 프로젝션
+ * Score / EvaluationMethod / ClassroomStudent 조인 결과 중 계산에 필요한 값만 담는다.
+ */
+@Getter
+public class ScoreRowDto {
+    private final Long classroomStudentId;
+    private final Long classroomId;
+    private final double rawScore;
+    private final double weightedScore;
+    private final double fullScore;
+    private final double weight;
+
+    public ScoreRowDto(Long classroomStudentId, Double rawScore, Double weightedScore, double fullScore, double weight) {
+        this(classroomStudentId, null, rawScore, weightedScore, fullScore, weight);
+    }
+
+    // 학년 단위 조회 시 반 구분용 classroomId 포함
+    public ScoreRowDto(Long classroomStudentId, Long classroomId, Double rawScore, Double weightedScore,
+                       double fullScore, double weight) {
+        this.classroomStudentId = classroomStudentId;
+        this.classroomId = classroomId;
+        this.rawScore = rawScore != null ? rawScore : 0.0;
+        this.weightedScore = weightedScore != null ? weightedScore : 0.0;
+        this.fullScore = fullScore;
+        this.weight = weight;
+    }
+}
@@ -53,31 +53,35 @@ public class ScoreSummaryBySubjectDto {
         @Schema(description = "항목별 점수")
         private final List<ScoreItemDto> scores;
 
-        @Schema(description = "총 점수", example = "96.0")
-        private final double rawTotal;
+        @Schema(description = "총 점수 (요약 재계산 전이면 null)", example = "96.0")
+        private final Double rawTotal;
 
         @Schema(description = "총 환산점수", example = "78.2")
-        private final double weightedTotal;
+        private final Double weightedTotal;
 
         @Schema(description = "전체 평균 점수", example = "79.4")
-        private final double average;
+        private final Double average;
 
         @Schema(description = "표준편차", example = "5.3")
-        private final double stdDev;
+        private final Double stdDev;
 
         @Schema(description = "석차", example = "3")
-        private final int rank;
+        private final Integer rank;
 
         @Schema(description = "석차등급", example = "2")
-        private final int grade;
+        private final Integer grade;
 
         @Schema(description = "성취도", example = "B")
         private final String achievementLevel;
 
+        @Schema(description = "성적 요약 재계산 대기 여부 (true 이면 요약 항목이 비어 있다)", example = "false")
+        private final boolean summaryPending;
+
 
         @Builder
         private StudentScoreDto(String studentName, int number, List<ScoreItemDto> scores,
-                               double rawTotal, double weightedTotal, double average, double stdDev, int rank, int grade, String achievementLevel) {
+                               Double rawTotal, Double weightedTotal, Double average, Double stdDev, Integer rank, Integer grade,
+                               String achievementLevel, boolean summaryPending) {
             this.studentName = studentName;
             this.number = number;
             this.scores = scores;
@@ -88,6 +92,7 @@ public class ScoreSummaryBySubjectDto {
             this.rank = rank;
             this.grade = grade;
             this.achievementLevel = achievementLevel;
+            this.summaryPending = summaryPending;
         }
     }
 
@@ -5,19 +5,23 @@ import com.neeis.neeis.domain.classroom.ClassroomService;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudentService;
 import com.neeis.neeis.domain.evaluationMethod.EvaluationMethod;
+import com.neeis.neeis.domain.evaluationMethod.TermKey;
 import com.neeis.neeis.domain.evaluationMethod.service.EvaluationMethodService;
-import com.neeis.neeis.domain.notification.service.NotificationService;
 import com.neeis.neeis.domain.score.Score;
 import com.neeis.neeis.domain.score.ScoreRepository;
 import com.neeis.neeis.domain.score.dto.req.ScoreRequestDto;
 import com.neeis.neeis.domain.score.dto.res.ScoreSummaryBySubjectDto;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import com.neeis.neeis.domain.scoreSummary.event.ScoreSummaryRecomputeEvent;
 import com.neeis.neeis.domain.scoreSummary.service.ScoreSummaryService;
 import com.neeis.neeis.domain.subject.Subject;
 import com.neeis.neeis.domain.subject.service.SubjectService;
 import com.neeis.neeis.domain.teacher.Teacher;
 import com.neeis.neeis.domain.teacher.service.TeacherService;
 import com.neeis.neeis.domain.teacherSubject.service.TeacherSubjectService;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -39,10 +43,14 @@ public class ScoreService {
     private final ClassroomService classroomService;
     private final SubjectService subjectService;
     private final ScoreSummaryService scoreSummaryService;
-    private final ScoreNotificationService scoreNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
-    // 교사 전용 -> 과목에 대한 해당 반 학생들의 점수 조회
+    /**
+     * 교사 전용 -> 과목에 대한 해당 반 학생들의 점수 조회
+     * 학생(학생 정보 fetch join) / 평가 방식 / 점수 / 성적 요약을 각각 한 번의 쿼리로 불러온 뒤
+     * 메모리에서 (학생 x 평가) 성적표를 조립한다. 쿼리 수는 학생 수, 평가 수, 과목 수와 무관하다.
+     */
     public List<ScoreSummaryBySubjectDto> getScoreSummaryBySubject(String username, int year, int semester, int grade, int classNum, String subjectName) {
         // 교사 인증
         teacherService.authenticate(username);
@@ -50,23 +58,47 @@ public class ScoreService {
         // 반 조회
         Classroom classroom = classroomService.findClassroom(year, grade, classNum);
 
-        // 해당 반의 학생들
-        List<ClassroomStudent> students = classroomStudentService.findByClassroom(classroom);
+        // 해당 반의 학생들 (출석번호 순)
+        List<ClassroomStudent> students = classroomStudentService.findByClassroomWithStudent(classroom);
 
-        // 과목 리스트 조회
-        List<Subject> subjects = (subjectName != null && !subjectName.isBlank())
-                ? List.of(subjectService.getSubject(subjectName))
-                : evaluationMethodService.findSubject(year, semester, grade);
+        // 과목별 평가 방식 (평가 방식이 없는 과목은 제외)
+        List<EvaluationMethod> evaluations = (subjectName != null && !subjectName.isBlank())
+                ? evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(
+                        subjectService.getSubject(subjectName), year, semester, grade)
+                : evaluationMethodService.findAllWithSubjectByYearAndSemesterAndGrade(year, semester, grade);
 
-        List<ScoreSummaryBySubjectDto> result = new ArrayList<>();
+        if (evaluations.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Subject> subjects = new LinkedHashMap<>();
+        Map<Long, List<EvaluationMethod>> evaluationsBySubject = new HashMap<>();
+        for (EvaluationMethod eval : evaluations) {
+            Subject subject = eval.getSubject();
+            subjects.putIfAbsent(subject.getId(), subject);
+            evaluationsBySubject.computeIfAbsent(subject.getId(), k -> new ArrayList<>()).add(eval);
+        }
+
+        // 점수 / 성적 요약 일괄 조회
+        Map<String, Score> scoreMap = new HashMap<>();
+        if (!students.isEmpty()) {
+            for (Score score : scoreRepository.findAllByEvaluationMethodInAndStudentIn(evaluations, students)) {
+                scoreMap.put(scoreKey(score.getEvaluationMethod().getId(), score.getStudent().getId()), score);
+            }
+        }
 
-        for (Subject subject : subjects) {
-            List<EvaluationMethod> evaluations = evaluationMethodService
-                    .findAllBySubjectAndYearAndSemesterAndGrade(subject, year, semester, grade);
+        Map<String, ScoreSummary> summaryMap = new HashMap<>();
+        int termKey = TermKey.of(year, semester, grade);
+        for (ScoreSummary summary : scoreSummaryService.findAllBySubjectsAndStudents(subjects.values(), students, termKey)) {
+            summaryMap.put(summaryKey(summary.getSubject().getId(), summary.getClassroomStudent().getId()), summary);
+        }
+
+        List<ScoreSummaryBySubjectDto> result = new ArrayList<>();
 
-            if (evaluations.isEmpty()) continue;
+        for (Subject subject : subjects.values()) {
+            List<EvaluationMethod> subjectEvaluations = evaluationsBySubject.get(subject.getId());
 
-            List<ScoreSummaryBySubjectDto.EvaluationDto> evaluationDtos = evaluations.stream()
+            List<ScoreSummaryBySubjectDto.EvaluationDto> evaluationDtos = subjectEvaluations.stream()
                     .map(eval -> ScoreSummaryBySubjectDto.EvaluationDto.builder()
                             .evaluationId(eval.getId())
                             .title(eval.getTitle())
@@ -78,24 +110,35 @@ public class ScoreService {
             for (ClassroomStudent cs : students) {
                 List<ScoreSummaryBySubjectDto.ScoreItemDto> scoreItems = new ArrayList<>();
 
-                for (EvaluationMethod eval : evaluations) {
-                    scoreRepository.findByEvaluationMethodAndStudent(eval, cs).ifPresent(score -> {
+                for (EvaluationMethod eval : subjectEvaluations) {
+                    Score score = scoreMap.get(scoreKey(eval.getId(), cs.getId()));
+                    if (score != null) {
                         scoreItems.add(ScoreSummaryBySubjectDto.ScoreItemDto.builder()
                                 .evaluationId(eval.getId())
                                 .rawScore(score.getRawScore())
                                 .weightedScore(score.getWeightedScore())
                                 .build());
-                    });
+                    }
                 }
 
-                ScoreSummary summary = scoreSummaryService.findByStudentAndSubject(cs.getId(), subject.getId());
+                // 저장 직후 재계산이 끝나기 전이면 요약 없이 점수만 내려준다 (summaryPending)
+                ScoreSummary summary = summaryMap.get(summaryKey(subject.getId(), cs.getId()));
+                if (summary == null) {
+                    studentDtos.add(ScoreSummaryBySubjectDto.StudentScoreDto.builder()
+                            .studentName(cs.getStudent().getName())
+                            .number(cs.getNumber())
+                            .scores(scoreItems)
+                            .summaryPending(true)
+                            .build());
+                    continue;
+                }
 
                 studentDtos.add(ScoreSummaryBySubjectDto.StudentScoreDto.builder()
                         .studentName(cs.getStudent().getName())
                         .number(cs.getNumber())
                         .scores(scoreItems)
                         .rawTotal(summary.getSumScore())
-                        .weightedTotal(summary.getOriginalScore())
+                        .weightedTotal(summary.getOriginalScore().doubleValue())
                         .average(summary.getAverage())
                         .stdDev(summary.getStdDeviation())
                         .rank(summary.getRank())
@@ -114,87 +157,105 @@ public class ScoreService {
         return result;
     }
 
+    /**
+     * 성적 저장 - 성적 요약 재계산과 알림은 커밋 이후 재계산 큐에서 비동기로 처리된다.
+     * 재계산 대상 키를 반환하므로, 호출 측은 커밋 이후 재계산 티켓을 발급할 수 있다.
+     * 평가 방식 / 반 / 학생 / 기존 점수를 IN 쿼리로 한 번에 불러온 뒤 메모리에서 매칭하고,
+     * 신규 점수는 saveAll 로 모아 JDBC 배치 insert, 기존 점수는 변경 감지로 배치 update 된다.
+     */
     @Transactional
-    public void saveOrUpdateScores(String username, List<ScoreRequestDto> requestList) {
+    public Set<SummaryRecomputeKey> saveOrUpdateScores(String username, List<ScoreRequestDto> requestList) {
         // 교사 권한 체크
         Teacher teacher = teacherService.authenticate(username);
 
-        Map<String, Set<Long>> affectedSubjectsByClass = new HashMap<>();
-        Map<String, List<Score>> scoreBuffer = new HashMap<>();
+        // 평가 방식 일괄 조회 + 과목별 권한 검증 (과목당 1회)
+        Map<Long, EvaluationMethod> evalMap = evaluationMethodService.findAllByIds(
+                requestList.stream().map(ScoreRequestDto::getEvaluationId).toList());
 
+        Map<Long, Subject> subjects = new LinkedHashMap<>();
+        for (ScoreRequestDto requestDto : requestList) {
+            Subject subject = evalMap.get(requestDto.getEvaluationId()).getSubject();
+            subjects.putIfAbsent(subject.getId(), subject);
+        }
+        subjects.values().forEach(subject -> teacherSubjectService.findByTeacherAndSubject(teacher, subject));
 
+        // 반 조회 (반당 1회) + 반 학생 일괄 조회
+        Map<String, Classroom> classroomMap = new HashMap<>();
         for (ScoreRequestDto requestDto : requestList) {
-            EvaluationMethod eval = evaluationMethodService.findById(requestDto.getEvaluationId());
-            Subject subject = eval.getSubject();
-            teacherSubjectService.findByTeacherAndSubject(teacher, subject); // 권한 검증
+            EvaluationMethod eval = evalMap.get(requestDto.getEvaluationId());
+            classroomMap.computeIfAbsent(classKey(eval.getYear(), eval.getGrade(), requestDto.getClassNum()),
+                    k -> classroomService.findClassroom(eval.getYear(), eval.getGrade(), requestDto.getClassNum()));
+        }
 
-            Classroom classroom = classroomService.findClassroom(eval.getYear(), eval.getGrade(), requestDto.getClassNum());
+        Map<String, ClassroomStudent> studentMap = new HashMap<>();
+        for (ClassroomStudent cs : classroomStudentService.findByClassroomIn(classroomMap.values())) {
+            studentMap.put(cs.getClassroom().getId() + "_" + cs.getNumber(), cs);
+        }
+
+        // 기존 점수 일괄 조회 (평가 방식 ID, 학생 ID) -> Score
+        Map<String, Score> scoreMap = new HashMap<>();
+        for (Score score : scoreRepository.findAllByEvaluationMethodInAndStudentIn(evalMap.values(), studentMap.values())) {
+            scoreMap.put(scoreKey(score.getEvaluationMethod().getId(), score.getStudent().getId()), score);
+        }
+
+        // 영향받는 (연도, 학기, 학년, 반, 과목) 추적
+        Set<SummaryRecomputeKey> affectedKeys = new HashSet<>();
+        List<Score> newScores = new ArrayList<>();
 
-            // 클래스별 영향받는 과목 추적
-            String classKey = eval.getYear() + "_" + eval.getSemester() + "_" + eval.getGrade() + "_" + requestDto.getClassNum();
-            affectedSubjectsByClass.computeIfAbsent(classKey, k -> new HashSet<>()).add(subject.getId());
+        for (ScoreRequestDto requestDto : requestList) {
+            EvaluationMethod eval = evalMap.get(requestDto.getEvaluationId());
+            Classroom classroom = classroomMap.get(classKey(eval.getYear(), eval.getGrade(), requestDto.getClassNum()));
+
+            affectedKeys.add(SummaryRecomputeKey.of(
+                    eval.getYear(), eval.getSemester(), eval.getGrade(), requestDto.getClassNum(), eval.getSubject().getId()));
 
             for (ScoreRequestDto.StudentScoreDto studentDto : requestDto.getStudents()) {
-                ClassroomStudent student = classroomStudentService.findByClassroomAndNumber(classroom, studentDto.getNumber());
+                ClassroomStudent student = studentMap.get(classroom.getId() + "_" + studentDto.getNumber());
+                if (student == null) {
+                    throw new CustomException(ErrorCode.CLASSROOM_NOT_FOUND);
+                }
 
                 double raw = studentDto.getRawScore();
                 ScoreValidator.validateRawScore(raw, eval);
                 double weighted = (raw / eval.getFullScore()) * eval.getWeight();
 
-                // 점수 저장
-                Score score = scoreRepository.findByEvaluationMethodAndStudent(eval, student)
-                        .map(s -> {
-                            s.update(raw, weighted);
-                            return s;
-                        })
-                        .orElseGet(() -> scoreRepository.save(
-                                Score.builder()
-                                        .student(student)
-                                        .evaluationMethod(eval)
-                                        .rawScore(raw)
-                                        .weightedScore(weighted)
-                                        .build()
-                        ));
-
-                scoreBuffer.computeIfAbsent(classKey, k -> new ArrayList<>()).add(score);
+                // 점수 저장 (같은 요청 안의 중복 셀은 마지막 값으로 반영)
+                String key = scoreKey(eval.getId(), student.getId());
+                Score score = scoreMap.get(key);
+                if (score != null) {
+                    score.update(raw, weighted);
+                } else {
+                    Score created = Score.builder()
+                            .student(student)
+                            .evaluationMethod(eval)
+                            .rawScore(raw)
+                            .weightedScore(weighted)
+                            .build();
+                    newScores.add(created);
+                    scoreMap.put(key, created);
+                }
             }
         }
 
-        scoreRepository.flush();
+        scoreRepository.saveAll(newScores);
 
-        for (Map.Entry<String, Set<Long>> entry : affectedSubjectsByClass.entrySet()) {
-            String classKey = entry.getKey();
-            Set<Long> affectedSubjectIds = entry.getValue();
+        log.debug("성적 저장 - 신규 {}건, 재계산 예약 대상: {}", newScores.size(), affectedKeys);
 
-            String[] parts = classKey.split("_");
-            int year = Integer.parseInt(parts[0]);
-            int semester = Integer.parseInt(parts[1]);
-            int grade = Integer.parseInt(parts[2]);
-            int classNum = Integer.parseInt(parts[3]);
-
-            log.info("성적 업데이트 - 영향받는 과목 수: {} ({}년 {}학기 {}학년 {}반)",
-                    affectedSubjectIds.size(), year, semester, grade, classNum);
-
-            // 영향받는 과목들만 업데이트
-            for (Long subjectId : affectedSubjectIds) {
-                scoreSummaryService.updateSummaryForSpecificSubject(subjectId, year, semester, grade, classNum);
-            }
-        }
+        // 커밋 이후 재계산 큐에 등록 (같은 키의 반복 요청은 큐에서 병합)
+        eventPublisher.publishEvent(new ScoreSummaryRecomputeEvent(affectedKeys));
+        return affectedKeys;
+    }
 
-        // 영향받는 과목들에만 알림 발송
-        for (Map.Entry<String, Set<Long>> entry : affectedSubjectsByClass.entrySet()) {
-            String classKey = entry.getKey();
-            Set<Long> affectedSubjectIds = entry.getValue();
+    private String classKey(int year, int grade, int classNum) {
+        return year + "_" + grade + "_" + classNum;
+    }
 
-            String[] parts = classKey.split("_");
-            int year = Integer.parseInt(parts[0]);
-            int semester = Integer.parseInt(parts[1]);
-            int grade = Integer.parseInt(parts[2]);
-            int classNum = Integer.parseInt(parts[3]);
+    private String scoreKey(Long evaluationId, Long studentId) {
+        return evaluationId + "_" + studentId;
+    }
 
-            // 영향받는 과목들에만 알림 발송
-            scoreNotificationService.sendNotificationsForAffectedSubjects(year, semester, grade, classNum, affectedSubjectIds);
-        }
+    private String summaryKey(Long subjectId, Long studentId) {
+        return subjectId + "_" + studentId;
     }
 
 }
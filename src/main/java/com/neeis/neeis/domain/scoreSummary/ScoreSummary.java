@@ -12,6 +12,15 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "score_summary",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_score_summary_student_subject_term",
+                columnNames = {"classroom_student_id", "subject_id", "term_key"}
+        ),
+        indexes = @Index(name = "idx_score_summary_student_term_subject",
+                columnList = "classroom_student_id, term_key, subject_id")
+)
 public class ScoreSummary extends BaseEntity {
 
     @Id
@@ -42,9 +51,21 @@ public class ScoreSummary extends BaseEntity {
     @Column(nullable = false)
     private String achievementLevel; // 성취도 A,B,C..
 
+    @Column(name = "cohort_ranking")
+    private Integer cohortRank; // 학년 전체 석차
+
+    @Column
+    private Integer cohortGrade; // 학년 전체 석차등급 (1~9)
+
+    @Column
+    private Integer cohortStudentCount; // 학년 전체 수강자수
+
     @Column(nullable = true)
     private String feedback;
 
+    @Column(name = "term_key", nullable = false)
+    private Integer termKey; // 학기 키 (TermKey) - 재계산 시 함께 저장
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subject_id", nullable = false)
     private Subject subject;  //과목
@@ -55,7 +76,8 @@ public class ScoreSummary extends BaseEntity {
 
     @Builder
     private ScoreSummary( Double sumScore, Integer originalScore, Double stdDeviation, Integer totalStudentCount,
-            Integer rank, Integer grade, Double average, String achievementLevel, ClassroomStudent classroomStudent, Subject subject, String feedback) {
+            Integer rank, Integer grade, Double average, String achievementLevel, ClassroomStudent classroomStudent, Subject subject, String feedback,
+            Integer termKey) {
         this.sumScore = sumScore;
         this.originalScore = originalScore;
         this.stdDeviation = stdDeviation;
@@ -67,6 +89,7 @@ public class ScoreSummary extends BaseEntity {
         this.feedback = feedback;
         this.classroomStudent = classroomStudent;
         this.subject = subject;
+        this.termKey = termKey;
     }
 
     public void update(String feedback){
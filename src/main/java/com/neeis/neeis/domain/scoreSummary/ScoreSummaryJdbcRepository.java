@@ -0,0 +1,191 @@
+package com.neeis.neeis.domain.scoreSummary;
+
+import com.neeis.neeis.domain.scoreSummary.dto.CohortRankRowDto;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 성적 요약 일괄 저장용 JDBC 리포지토리
+ * (classroom_student_id, subject_id, term_key) 유니크 키 기준으로 배치 upsert 한다.
+ * 같은 반 학생이라도 학기마다 요약 행이 따로 있으므로, 모든 쓰기는 학기 키로 범위를 한정한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScoreSummaryJdbcRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO score_summary
+                (classroom_student_id, subject_id, sum_score, original_score, std_deviation,
+                 total_student_count, ranking, grade, average, achievement_level,
+                 cohort_ranking, cohort_grade, cohort_student_count, term_key, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                sum_score = VALUES(sum_score),
+                original_score = VALUES(original_score),
+                std_deviation = VALUES(std_deviation),
+                total_student_count = VALUES(total_student_count),
+                ranking = VALUES(ranking),
+                grade = VALUES(grade),
+                average = VALUES(average),
+                achievement_level = VALUES(achievement_level),
+                cohort_ranking = COALESCE(VALUES(cohort_ranking), cohort_ranking),
+                cohort_grade = COALESCE(VALUES(cohort_grade), cohort_grade),
+                cohort_student_count = COALESCE(VALUES(cohort_student_count), cohort_student_count),
+                modified_at = VALUES(modified_at)
+            """;
+
+    private static final String UPDATE_COHORT_SQL = """
+            UPDATE score_summary
+            SET cohort_ranking = ?, cohort_grade = ?, cohort_student_count = ?, modified_at = ?
+            WHERE classroom_student_id = ? AND subject_id = ? AND term_key = ?
+            """;
+
+    private static final String CURRENT_ROWS_SQL = """
+            SELECT classroom_student_id, sum_score, original_score, std_deviation, total_student_count,
+                   ranking, grade, average, achievement_level
+            FROM score_summary
+            WHERE subject_id = :subjectId
+              AND term_key = :termKey
+              AND classroom_student_id IN (:studentIds)
+            """;
+
+    private static final String INIT_LOCK_SQL = """
+            INSERT INTO score_summary_lock (classroom_id, subject_id, created_at, modified_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE classroom_id = classroom_id
+            """;
+
+    // (classroom_id, subject_id) 유니크 인덱스 순서대로 잠가 여러 반을 잠그는 학년 재계산과 교착되지 않도록 한다
+    private static final String LOCK_SQL = """
+            SELECT classroom_id FROM score_summary_lock
+            WHERE classroom_id IN (:classroomIds) AND subject_id = :subjectId
+            ORDER BY classroom_id
+            FOR UPDATE
+            """;
+
+    private static final String DELETE_STALE_SQL = """
+            DELETE FROM score_summary
+            WHERE subject_id = :subjectId
+              AND term_key = :termKey
+              AND classroom_student_id IN (:studentIds)
+              AND classroom_student_id NOT IN (:keepIds)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 과목 단위 성적 요약 배치 upsert (피드백 컬럼은 건드리지 않고, 학년 석차는 값이 있을 때만 갱신)
+    public void upsertAll(Long subjectId, int termKey, List<ScoreSummaryRowDto> rows) {
+        if (rows.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getClassroomStudentId());
+            ps.setLong(2, subjectId);
+            ps.setDouble(3, row.getSumScore());
+            ps.setInt(4, row.getOriginalScore());
+            ps.setDouble(5, row.getStdDeviation());
+            ps.setInt(6, row.getTotalStudentCount());
+            ps.setInt(7, row.getRank());
+            ps.setInt(8, row.getGrade());
+            ps.setDouble(9, row.getAverage());
+            ps.setString(10, row.getAchievementLevel());
+            ps.setObject(11, row.getCohortRank(), Types.INTEGER);
+            ps.setObject(12, row.getCohortGrade(), Types.INTEGER);
+            ps.setObject(13, row.getCohortStudentCount(), Types.INTEGER);
+            ps.setInt(14, termKey);
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+    }
+
+    // 현재 저장된 반 단위 요약 값 (학기 키가 다른 행은 제외 -> 변경으로 간주되어 다시 쓰인다)
+    public Map<Long, ScoreSummaryRowDto> findCurrentRows(Long subjectId, int termKey, Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) return Map.of();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("subjectId", subjectId)
+                .addValue("termKey", termKey)
+                .addValue("studentIds", studentIds);
+
+        Map<Long, ScoreSummaryRowDto> rows = new HashMap<>();
+        namedParameterJdbcTemplate.query(CURRENT_ROWS_SQL, params, rs -> {
+            Long studentId = rs.getLong("classroom_student_id");
+            rows.put(studentId, ScoreSummaryRowDto.builder()
+                    .classroomStudentId(studentId)
+                    .sumScore(rs.getDouble("sum_score"))
+                    .originalScore(rs.getInt("original_score"))
+                    .stdDeviation(rs.getDouble("std_deviation"))
+                    .totalStudentCount(rs.getInt("total_student_count"))
+                    .rank(rs.getInt("ranking"))
+                    .grade(rs.getInt("grade"))
+                    .average(rs.getDouble("average"))
+                    .achievementLevel(rs.getString("achievement_level"))
+                    .build());
+        });
+        return rows;
+    }
+
+    /**
+     * (반, 과목) 잠금 행 잠금 - 없으면 만들고 반 ID 순서대로 FOR UPDATE 로 잠근다.
+     * 트랜잭션이 끝날 때까지 같은 반/과목의 다른 재계산은 대기한다.
+     */
+    public void lock(Long subjectId, Collection<Long> classroomIds) {
+        if (classroomIds.isEmpty()) return;
+
+        List<Long> sorted = classroomIds.stream().distinct().sorted().toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INIT_LOCK_SQL, sorted, sorted.size(), (ps, classroomId) -> {
+            ps.setLong(1, classroomId);
+            ps.setLong(2, subjectId);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("classroomIds", sorted)
+                .addValue("subjectId", subjectId);
+        namedParameterJdbcTemplate.queryForList(LOCK_SQL, params, Long.class);
+    }
+
+    // 학년 석차 부분 갱신 (석차가 바뀐 학생만 배치 update)
+    public void updateCohortRanks(Long subjectId, int termKey, List<CohortRankRowDto> rows) {
+        if (rows.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_COHORT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.getCohortRank());
+            ps.setInt(2, row.getCohortGrade());
+            ps.setInt(3, row.getCohortStudentCount());
+            ps.setTimestamp(4, now);
+            ps.setLong(5, row.getClassroomStudentId());
+            ps.setLong(6, subjectId);
+            ps.setInt(7, termKey);
+        });
+    }
+
+    // 점수가 모두 사라진 학생의 해당 학기 요약 삭제 (단일 DELETE 문)
+    public int deleteStale(Long subjectId, int termKey, Collection<Long> studentIds, Collection<Long> keepIds) {
+        if (studentIds.isEmpty()) return 0;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("subjectId", subjectId)
+                .addValue("termKey", termKey)
+                .addValue("studentIds", studentIds)
+                // NOT IN () 은 문법 오류이므로 존재할 수 없는 ID로 대체
+                .addValue("keepIds", keepIds.isEmpty() ? List.of(-1L) : keepIds);
+        return namedParameterJdbcTemplate.update(DELETE_STALE_SQL, params);
+    }
+}
@@ -0,0 +1,36 @@
+package com.neeis.neeis.domain.scoreSummary;
+
+import com.neeis.neeis.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (반, 과목) 별 성적 요약 재계산 잠금 행
+ * 반 단위 / 학년 전체 재계산 모두 점수를 읽기 전에 이 행을 FOR UPDATE 로 잠가 같은 반/과목 재계산을 직렬화한다.
+ * 재계산 트랜잭션은 READ COMMITTED 로 실행되므로, 잠금을 얻은 뒤의 조회는 앞선 재계산이 커밋한 값을 본다.
+ * 행 생성 / 잠금은 ScoreSummaryJdbcRepository 에서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "score_summary_lock",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_score_summary_lock_class_subject",
+                columnNames = {"classroom_id", "subject_id"}
+        )
+)
+public class ScoreSummaryLock extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "classroom_id", nullable = false)
+    private Long classroomId;
+
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId;
+}
@@ -1,19 +1,52 @@
 package com.neeis.neeis.domain.scoreSummary;
 
+import com.neeis.neeis.domain.classroom.Classroom;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
+import com.neeis.neeis.domain.student.dto.report.SubjectFeedbackDto;
 import com.neeis.neeis.domain.subject.Subject;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ScoreSummaryRepository extends JpaRepository<ScoreSummary, Long> {
  List<ScoreSummary> findAllByClassroomStudent(ClassroomStudent students);
  void deleteBySubjectAndClassroomStudentIn(Subject subject, List<ClassroomStudent> students);
- @Query(value = "SELECT * FROM score_summary s WHERE s.classroom_student_id = :studentId AND s.subject_id = :subjectId", nativeQuery = true)
+ List<ScoreSummary> findAllBySubjectInAndClassroomStudentInAndTermKey(Collection<Subject> subjects, Collection<ClassroomStudent> students,
+                                                                     Integer termKey);
+ // 학기마다 행이 있으므로 가장 최근 학기의 요약
+ @Query(value = "SELECT * FROM score_summary s WHERE s.classroom_student_id = :studentId AND s.subject_id = :subjectId " +
+         "ORDER BY s.term_key DESC LIMIT 1", nativeQuery = true)
  Optional<ScoreSummary> findByStudentAndSubject(@Param("studentId") Long studentId,
                                                        @Param("subjectId") Long subjectId);
-}
 
+ // 학생의 한 학기 성적 요약 - (classroom_student_id, term_key) 인덱스 범위 조회, 과목 함께 로딩
+ @Query("SELECT ss FROM ScoreSummary ss JOIN FETCH ss.subject " +
+         "WHERE ss.classroomStudent = :student AND ss.termKey = :termKey")
+ List<ScoreSummary> findAllWithSubjectByClassroomStudentAndTermKey(@Param("student") ClassroomStudent student,
+                                                                   @Param("termKey") int termKey);
+
+ // 학생의 한 학기 과목별 피드백 (과목명, 피드백만 조회)
+ @Query("SELECT new com.neeis.neeis.domain.student.dto.report.SubjectFeedbackDto(sub.name, ss.feedback) " +
+         "FROM ScoreSummary ss JOIN ss.subject sub " +
+         "WHERE ss.classroomStudent = :student AND ss.termKey = :termKey ORDER BY sub.id")
+ List<SubjectFeedbackDto> findFeedbacksByClassroomStudentAndTermKey(@Param("student") ClassroomStudent student,
+                                                                    @Param("termKey") int termKey);
+
+ // 알림 발송용 - 과목, 학생, 학생 계정을 함께 로딩
+ @Query("SELECT ss FROM ScoreSummary ss JOIN FETCH ss.subject " +
+         "JOIN FETCH ss.classroomStudent cs JOIN FETCH cs.student st JOIN FETCH st.user " +
+         "WHERE ss.id IN :ids")
+ List<ScoreSummary> findAllWithStudentUserByIdIn(@Param("ids") Collection<Long> ids);
+
+ // 알림 발송용 - 한 학기 반 전체의 여러 과목 요약을 과목, 학생, 학생 계정과 함께 한 번에 조회
+ @Query("SELECT ss FROM ScoreSummary ss JOIN FETCH ss.subject sub " +
+         "JOIN FETCH ss.classroomStudent cs JOIN FETCH cs.student st JOIN FETCH st.user " +
+         "WHERE cs.classroom = :classroom AND ss.termKey = :termKey AND sub.id IN :subjectIds ORDER BY sub.id, cs.number")
+ List<ScoreSummary> findAllWithStudentUserByClassroomAndTermKeyAndSubjectIdIn(@Param("classroom") Classroom classroom,
+                                                                              @Param("termKey") int termKey,
+                                                                              @Param("subjectIds") Collection<Long> subjectIds);
+}
@@ -1,9 +1,14 @@
 package com.neeis.neeis.domain.scoreSummary.controller;
 
 import com.neeis.neeis.domain.scoreSummary.dto.req.ScoreFeedbackUpdateDto;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import com.neeis.neeis.domain.scoreSummary.dto.res.CohortRankingResultDto;
+import com.neeis.neeis.domain.scoreSummary.dto.res.RecomputeStatusDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.ScoreFeedbackDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.StudentScoreSummaryDto;
 import com.neeis.neeis.domain.scoreSummary.dto.req.ScoreFeedbackRequestDto;
+import com.neeis.neeis.domain.scoreSummary.service.ScoreCohortRankingService;
+import com.neeis.neeis.domain.scoreSummary.service.ScoreSummaryRecomputeQueue;
 import com.neeis.neeis.domain.scoreSummary.service.ScoreSummaryService;
 import com.neeis.neeis.global.common.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +27,8 @@ import static com.neeis.neeis.global.common.StatusCode.*;
 @RequestMapping("/score-summary")
 public class ScoreSummaryController {
     private final ScoreSummaryService scoreSummaryService;
+    private final ScoreCohortRankingService scoreCohortRankingService;
+    private final ScoreSummaryRecomputeQueue scoreSummaryRecomputeQueue;
 
     @Operation(summary = "[교사 및 학생 전용] 학생 성적 학적 조회",
             description = """
@@ -44,6 +51,44 @@ public class ScoreSummaryController {
         return ResponseEntity.ok(CommonResponse.from(SUCCESS_GET_SCORE.getMessage(), dto));
     }
 
+    @Operation(summary = "[교사 전용] 학년 전체 석차 재계산",
+            description = """
+            해당 학년의 모든 반을 하나의 집단으로 보고 과목별 석차와 석차등급(1~9)을 재계산합니다.
+            
+            - 과목별로 병렬 처리되며, 반 단위 통계(평균, 표준편차, 반 석차)도 함께 갱신됩니다.
+            - 일부 과목이 실패해도 나머지 과목은 저장되며, 실패한 과목명이 응답에 포함됩니다.
+            """)
+    @PostMapping("/cohort")
+    public ResponseEntity<CommonResponse<CohortRankingResultDto>> recomputeCohortRanking(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "연도", example = "2025") @RequestParam int year,
+            @Parameter(description = "학기 (1 또는 2)", example = "1") @RequestParam int semester,
+            @Parameter(description = "학년", example = "1") @RequestParam int grade
+    ) {
+        CohortRankingResultDto dto = scoreCohortRankingService.recomputeGrade(userDetails.getUsername(), year, semester, grade);
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_UPDATE_SCORE_SUMMARY.getMessage(), dto));
+    }
+
+    @Operation(summary = "성적 요약 재계산 상태 조회",
+            description = """
+            성적 저장 이후 비동기로 진행되는 석차/통계 재계산 상태를 조회합니다.
+            
+            - `completedVersion`이 `requestedVersion`과 같고 상태가 DONE 이면 최신 석차가 반영된 상태입니다.
+            - 재계산 요청 이력이 없으면 IDLE 을 반환합니다.
+            """)
+    @GetMapping("/recompute-status")
+    public ResponseEntity<CommonResponse<RecomputeStatusDto>> getRecomputeStatus(
+            @Parameter(description = "연도", example = "2025") @RequestParam int year,
+            @Parameter(description = "학기 (1 또는 2)", example = "1") @RequestParam int semester,
+            @Parameter(description = "학년", example = "1") @RequestParam int grade,
+            @Parameter(description = "반", example = "1") @RequestParam int classNum,
+            @Parameter(description = "과목 ID", example = "1") @RequestParam Long subjectId
+    ) {
+        RecomputeStatusDto dto = scoreSummaryRecomputeQueue.getStatus(
+                SummaryRecomputeKey.of(year, semester, grade, classNum, subjectId));
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_GET_SCORE.getMessage(), dto));
+    }
+
     @PostMapping("/feedback")
     @Operation(summary = "[교사 전용] 성적 피드백 등록", description =
             """
@@ -0,0 +1,23 @@
+package com.neeis.neeis.domain.scoreSummary.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 학년 석차만 부분 갱신할 때의 입력값 (석차가 바뀐 학생만)
+ */
+@Getter
+public class CohortRankRowDto {
+    private final Long classroomStudentId;
+    private final int cohortRank;
+    private final int cohortGrade;
+    private final int cohortStudentCount;
+
+    @Builder
+    private CohortRankRowDto(Long classroomStudentId, int cohortRank, int cohortGrade, int cohortStudentCount) {
+        this.classroomStudentId = classroomStudentId;
+        this.cohortRank = cohortRank;
+        this.cohortGrade = cohortGrade;
+        this.cohortStudentCount = cohortStudentCount;
+    }
+}
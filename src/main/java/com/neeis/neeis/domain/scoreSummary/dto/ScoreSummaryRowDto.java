@@ -0,0 +1,63 @@
+package com.neeis.neeis.domain.scoreSummary.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * 메모리에서 계산된 학생별 성적 요약 (JDBC 배치 upsert 입력값)
+ */
+@Getter
+public class ScoreSummaryRowDto {
+    private final Long classroomStudentId;
+    private final double sumScore;
+    private final int originalScore;
+    private final double stdDeviation;
+    private final int totalStudentCount;
+    private final int rank;
+    private final int grade;
+    private final double average;
+    private final String achievementLevel;
+
+    // 학년 전체 석차 (반 단위 계산에서는 null -> 기존 값 유지)
+    private final Integer cohortRank;
+    private final Integer cohortGrade;
+    private final Integer cohortStudentCount;
+
+    @Builder
+    private ScoreSummaryRowDto(Long classroomStudentId, double sumScore, int originalScore, double stdDeviation,
+                               int totalStudentCount, int rank, int grade, double average, String achievementLevel,
+                               Integer cohortRank, Integer cohortGrade, Integer cohortStudentCount) {
+        this.classroomStudentId = classroomStudentId;
+        this.sumScore = sumScore;
+        this.originalScore = originalScore;
+        this.stdDeviation = stdDeviation;
+        this.totalStudentCount = totalStudentCount;
+        this.rank = rank;
+        this.grade = grade;
+        this.average = average;
+        this.achievementLevel = achievementLevel;
+        this.cohortRank = cohortRank;
+        this.cohortGrade = cohortGrade;
+        this.cohortStudentCount = cohortStudentCount;
+    }
+
+    // 반 단위 계산 값이 모두 같은지 (학년 석차 제외) - 같으면 다시 쓸 필요 없음
+    public boolean hasSameValues(ScoreSummaryRowDto other) {
+        if (other == null) return false;
+        return Double.compare(sumScore, other.sumScore) == 0
+                && originalScore == other.originalScore
+                && Double.compare(stdDeviation, other.stdDeviation) == 0
+                && totalStudentCount == other.totalStudentCount
+                && rank == other.rank
+                && grade == other.grade
+                && Double.compare(average, other.average) == 0
+                && Objects.equals(achievementLevel, other.achievementLevel);
+    }
+
+    public ScoreSummaryRowDto withCohort(int cohortRank, int cohortGrade, int cohortStudentCount) {
+        return new ScoreSummaryRowDto(classroomStudentId, sumScore, originalScore, stdDeviation, totalStudentCount,
+                rank, grade, average, achievementLevel, cohortRank, cohortGrade, cohortStudentCount);
+    }
+}
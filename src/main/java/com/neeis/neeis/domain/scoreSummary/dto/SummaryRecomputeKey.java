@@ -0,0 +1,32 @@
+package com.neeis.neeis.domain.scoreSummary.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 성적 요약 재계산 단위 (연도, 학기, 학년, 반, 과목)
+ * 같은 키로 들어온 재계산 요청은 하나로 합쳐진다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class SummaryRecomputeKey {
+    private final int year;
+    private final int semester;
+    private final int grade;
+    private final int classNum;
+    private final Long subjectId;
+
+    private SummaryRecomputeKey(int year, int semester, int grade, int classNum, Long subjectId) {
+        this.year = year;
+        this.semester = semester;
+        this.grade = grade;
+        this.classNum = classNum;
+        this.subjectId = subjectId;
+    }
+
+    public static SummaryRecomputeKey of(int year, int semester, int grade, int classNum, Long subjectId) {
+        return new SummaryRecomputeKey(year, semester, grade, classNum, subjectId);
+    }
+}
@@ -0,0 +1,9 @@
+package com.neeis.neeis.domain.scoreSummary.dto;
+
+public enum SummaryRecomputeStatus {
+    IDLE,       // 재계산 요청 이력 없음
+    PENDING,    // 대기 중 (요청 병합 구간)
+    RUNNING,    // 재계산 중
+    DONE,       // 최신 요청까지 반영 완료
+    FAILED      // 마지막 재계산 실패
+}
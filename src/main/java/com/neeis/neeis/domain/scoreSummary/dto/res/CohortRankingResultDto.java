@@ -0,0 +1,44 @@
+package com.neeis.neeis.domain.scoreSummary.dto.res;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CohortRankingResultDto {
+
+    @Schema(description = "연도", example = "2025")
+    private final int year;
+
+    @Schema(description = "학기", example = "1")
+    private final int semester;
+
+    @Schema(description = "학년", example = "2")
+    private final int grade;
+
+    @Schema(description = "학년 전체 학생 수", example = "312")
+    private final int cohortStudentCount;
+
+    @Schema(description = "재계산된 과목 수", example = "10")
+    private final int subjectCount;
+
+    @Schema(description = "재계산에 실패한 과목명 목록")
+    private final List<String> failedSubjects;
+
+    @Schema(description = "소요 시간 (ms)", example = "1840")
+    private final long elapsedMillis;
+
+    @Builder
+    private CohortRankingResultDto(int year, int semester, int grade, int cohortStudentCount, int subjectCount,
+                                   List<String> failedSubjects, long elapsedMillis) {
+        this.year = year;
+        this.semester = semester;
+        this.grade = grade;
+        this.cohortStudentCount = cohortStudentCount;
+        this.subjectCount = subjectCount;
+        this.failedSubjects = failedSubjects;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,32 @@
+package com.neeis.neeis.domain.scoreSummary.dto.res;
+
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class RecomputeStatusDto {
+
+    @Schema(description = "재계산 상태", example = "DONE")
+    private final SummaryRecomputeStatus status;
+
+    @Schema(description = "요청된 버전 (성적 저장 커밋마다 1씩 증가)", example = "3")
+    private final long requestedVersion;
+
+    @Schema(description = "반영 완료된 버전 (requestedVersion 과 같으면 최신)", example = "3")
+    private final long completedVersion;
+
+    @Schema(description = "마지막 상태 변경 시각")
+    private final LocalDateTime updatedAt;
+
+    @Builder
+    private RecomputeStatusDto(SummaryRecomputeStatus status, long requestedVersion, long completedVersion, LocalDateTime updatedAt) {
+        this.status = status;
+        this.requestedVersion = requestedVersion;
+        this.completedVersion = completedVersion;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,53 @@
+package com.neeis.neeis.domain.scoreSummary.dto.res;
+
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 성적 저장 응답으로 내려주는 재계산 티켓
+ * 재계산 상태 조회에서 completedVersion 이 version 이상이면 이번 저장이 석차/통계에 반영된 것이다.
+ */
+@Getter
+public class RecomputeTicketDto {
+
+    @Schema(description = "연도", example = "2025")
+    private final int year;
+
+    @Schema(description = "학기", example = "1")
+    private final int semester;
+
+    @Schema(description = "학년", example = "1")
+    private final int grade;
+
+    @Schema(description = "반", example = "1")
+    private final int classNum;
+
+    @Schema(description = "과목 ID", example = "1")
+    private final Long subjectId;
+
+    @Schema(description = "이번 저장이 반영되는 재계산 버전", example = "3")
+    private final long version;
+
+    @Builder
+    private RecomputeTicketDto(int year, int semester, int grade, int classNum, Long subjectId, long version) {
+        this.year = year;
+        this.semester = semester;
+        this.grade = grade;
+        this.classNum = classNum;
+        this.subjectId = subjectId;
+        this.version = version;
+    }
+
+    public static RecomputeTicketDto of(SummaryRecomputeKey key, long version) {
+        return RecomputeTicketDto.builder()
+                .year(key.getYear())
+                .semester(key.getSemester())
+                .grade(key.getGrade())
+                .classNum(key.getClassNum())
+                .subjectId(key.getSubjectId())
+                .version(version)
+                .build();
+    }
+}
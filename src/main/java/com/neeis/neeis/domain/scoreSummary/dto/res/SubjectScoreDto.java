@@ -47,9 +47,19 @@ public class SubjectScoreDto {
     @Schema(description = "해당 과목 수강자 수", example = "28")
     private final int totalStudentCount;
 
+    @Schema(description = "학년 전체 석차 (학년 단위 산출 전에는 null)", example = "42")
+    private final Integer cohortRank;
+
+    @Schema(description = "학년 전체 석차등급 (1~9)", example = "2")
+    private final Integer cohortGrade;
+
+    @Schema(description = "학년 전체 수강자 수", example = "312")
+    private final Integer cohortStudentCount;
+
     @Builder
     private SubjectScoreDto(Long scoreSummaryId, String subjectName, String feedback, List<EvaluationMethodScoreDto> evaluationMethods, double rawTotal,
-                            double weightedTotal, int rank, int grade, String achievementLevel, double average, double stdDev, int totalStudentCount) {
+                            double weightedTotal, int rank, int grade, String achievementLevel, double average, double stdDev, int totalStudentCount,
+                            Integer cohortRank, Integer cohortGrade, Integer cohortStudentCount) {
         this.scoreSummaryId = scoreSummaryId;
         this.subjectName = subjectName;
         this.feedback = feedback;
@@ -62,6 +72,9 @@ public class SubjectScoreDto {
         this.average = average;
         this.stdDev = stdDev;
         this.totalStudentCount = totalStudentCount;
+        this.cohortRank = cohortRank;
+        this.cohortGrade = cohortGrade;
+        this.cohortStudentCount = cohortStudentCount;
     }
 
     public static SubjectScoreDto toDto(ScoreSummary summary, List<Score> scores) {
@@ -77,6 +90,9 @@ public class SubjectScoreDto {
                 .average(summary.getAverage())
                 .stdDev(summary.getStdDeviation())
                 .totalStudentCount(summary.getTotalStudentCount())
+                .cohortRank(summary.getCohortRank())
+                .cohortGrade(summary.getCohortGrade())
+                .cohortStudentCount(summary.getCohortStudentCount())
                 .evaluationMethods(
                         scores.stream().map(score -> {
                             var method = score.getEvaluationMethod();
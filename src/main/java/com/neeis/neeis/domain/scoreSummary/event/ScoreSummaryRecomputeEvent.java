@@ -0,0 +1,15 @@
+package com.neeis.neeis.domain.scoreSummary.event;
+
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+public class ScoreSummaryRecomputeEvent {
+    private final Set<SummaryRecomputeKey> keys;
+
+    public ScoreSummaryRecomputeEvent(Set<SummaryRecomputeKey> keys) {
+        this.keys = keys;
+    }
+}
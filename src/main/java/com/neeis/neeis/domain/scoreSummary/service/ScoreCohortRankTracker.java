@@ -0,0 +1,192 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import com.neeis.neeis.domain.evaluationMethod.TermKey;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummaryJdbcRepository;
+import com.neeis.neeis.domain.scoreSummary.dto.CohortRankRowDto;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (연도, 학기, 학년, 과목) 별 학년 석차 인덱스
+ * 학년 전체 재계산 시 인덱스를 새로 만들고, 이후 반 단위 재계산 결과가 들어오면
+ * 합계 점수가 바뀐 학생만 인덱스에 반영해 석차가 실제로 바뀐 학생의 학년 석차 / 석차등급만 갱신한다.
+ * 학년 전체 재계산 전(서버 기동 직후 등)에는 인덱스가 없으므로 아무것도 하지 않는다.
+ * 인덱스는 커밋된 점수만 담는다 - 변경은 트랜잭션 커밋 이후에 반영하고, 롤백되면 버린다.
+ * 호출 측은 학년 전체 반의 성적 요약 잠금(score_summary_lock)을 잡은 상태여야 한다. (다른 반 학생의 행도 쓰므로)
+ * 잠금은 커밋 시 풀리고 인덱스 반영은 그 직후이므로, 커밋 중인 변경이 있으면 반영될 때까지 기다린 뒤 석차를 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScoreCohortRankTracker {
+    private final ScoreSummaryJdbcRepository scoreSummaryJdbcRepository;
+
+    private final Map<String, Cohort> cohorts = new ConcurrentHashMap<>();
+    private final Map<String, CommitGate> gates = new ConcurrentHashMap<>();
+
+    // 학년 전체 재계산 결과로 인덱스 재구성 (커밋 이후)
+    public void reset(int year, int semester, int grade, Long subjectId,
+                      List<ScoreSummaryRowDto> ranked, int cohortStudentCount) {
+        Map<Long, Double> totalMap = new HashMap<>();
+        for (ScoreSummaryRowDto row : ranked) {
+            totalMap.put(row.getClassroomStudentId(), row.getSumScore());
+        }
+        String key = cohortKey(year, semester, grade, subjectId);
+        gate(key).afterCommit(() -> cohorts.put(key, new Cohort(ScoreRankIndex.of(totalMap), cohortStudentCount)));
+    }
+
+    /**
+     * 반 단위 재계산 결과 반영
+     * 학년 잠금으로 같은 과목의 다른 반 재계산과 직렬화되므로, 앞선 재계산의 커밋된 변경이 인덱스에 반영된 뒤에 계산한다.
+     * 인덱스 잠금 안에서는 메모리 계산만 하고, DB 반영은 잠금 밖에서 한다. (행 잠금 대기와 인덱스 잠금이 엮이지 않도록)
+     * @param classStudentIds 반 전체 학생 ID (요약이 없는 학생은 인덱스에서 제외)
+     * @return 학년 석차를 갱신한 학생 수
+     */
+    public int applyClassResult(int year, int semester, int grade, Long subjectId,
+                                Collection<Long> classStudentIds, List<ScoreSummaryRowDto> summaries) {
+        String key = cohortKey(year, semester, grade, subjectId);
+        CommitGate gate = gate(key);
+        gate.awaitCommitted();
+
+        Cohort cohort = cohorts.get(key);
+        if (cohort == null) return 0;
+
+        // 학생 ID -> 새 합계 점수 (null 이면 인덱스에서 제외)
+        Map<Long, Double> changes = new HashMap<>();
+        for (Long studentId : classStudentIds) {
+            changes.put(studentId, null);
+        }
+        for (ScoreSummaryRowDto row : summaries) {
+            changes.put(row.getClassroomStudentId(), row.getSumScore());
+        }
+
+        List<CohortRankRowDto> rows;
+        synchronized (cohort) {
+            rows = cohort.preview(changes);
+        }
+
+        scoreSummaryJdbcRepository.updateCohortRanks(subjectId, TermKey.of(year, semester, grade), rows);
+        gate.afterCommit(() -> {
+            synchronized (cohort) {
+                cohort.apply(changes);
+            }
+        });
+        log.debug("과목 {} - 학년 석차 변동 {}명 갱신", subjectId, rows.size());
+        return rows.size();
+    }
+
+    private String cohortKey(int year, int semester, int grade, Long subjectId) {
+        return year + "_" + semester + "_" + grade + "_" + subjectId;
+    }
+
+    private CommitGate gate(String key) {
+        return gates.computeIfAbsent(key, k -> new CommitGate());
+    }
+
+    /**
+     * 커밋 이후 인덱스 반영 대기열
+     * 커밋 직전(beforeCommit)에 대기 수를 올리고 커밋 후 반영을 마치면 내린다.
+     * 학년 잠금을 새로 얻은 재계산은 대기 수가 0 이 될 때까지 기다려, 앞선 커밋의 반영 전 인덱스를 보지 않는다.
+     */
+    private static class CommitGate {
+        private int pending;
+
+        // 트랜잭션 안이면 커밋 이후에, 아니면 바로 실행
+        private void afterCommit(Runnable action) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                action.run();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean entered;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    enter();
+                    entered = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (!entered) return;
+                    try {
+                        if (status == STATUS_COMMITTED) {
+                            action.run();
+                        }
+                    } finally {
+                        exit();
+                    }
+                }
+            });
+        }
+
+        private synchronized void enter() {
+            pending++;
+        }
+
+        private synchronized void exit() {
+            pending--;
+            notifyAll();
+        }
+
+        private synchronized void awaitCommitted() {
+            while (pending > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class Cohort {
+        private final ScoreRankIndex index;
+        private final int studentCount;
+
+        private Cohort(ScoreRankIndex index, int studentCount) {
+            this.index = index;
+            this.studentCount = studentCount;
+        }
+
+        // 변경을 적용했을 때 석차가 바뀌는 학생의 학년 석차 (인덱스는 원래대로 되돌린다)
+        private List<CohortRankRowDto> preview(Map<Long, Double> changes) {
+            Map<Long, Double> previous = new HashMap<>();
+            for (Long studentId : changes.keySet()) {
+                previous.put(studentId, index.scoreOf(studentId));
+            }
+
+            Set<Long> moved = apply(changes);
+            List<CohortRankRowDto> rows = new ArrayList<>(moved.size());
+            for (Long studentId : moved) {
+                if (!index.contains(studentId)) continue;
+
+                int cohortRank = index.rank(studentId);
+                rows.add(CohortRankRowDto.builder()
+                        .classroomStudentId(studentId)
+                        .cohortRank(cohortRank)
+                        .cohortGrade(ScoreLevelUtil.getCohortGrade(cohortRank, studentCount))
+                        .cohortStudentCount(studentCount)
+                        .build());
+            }
+
+            apply(previous);
+            return rows;
+        }
+
+        private Set<Long> apply(Map<Long, Double> changes) {
+            Set<Long> moved = new HashSet<>();
+            changes.forEach((studentId, score) ->
+                    moved.addAll(score == null ? index.remove(studentId) : index.update(studentId, score)));
+            return moved;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
+import com.neeis.neeis.domain.evaluationMethod.TermKey;
+import com.neeis.neeis.domain.evaluationMethod.service.EvaluationMethodService;
+import com.neeis.neeis.domain.score.ScoreRepository;
+import com.neeis.neeis.domain.score.dto.ScoreRowDto;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummaryJdbcRepository;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
+import com.neeis.neeis.domain.scoreSummary.dto.res.CohortRankingResultDto;
+import com.neeis.neeis.domain.subject.Subject;
+import com.neeis.neeis.domain.teacher.service.TeacherService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * 학년 전체(반 구분 없음) 성적 요약 / 석차등급 재계산
+ * 과목마다 학년 전체 점수를 한 번에 조회하여 반별 통계와 학년 석차를 함께 산출하고,
+ * 과목 단위 작업은 SummaryExecutor 에서 병렬로 처리한다. (과목별 별도 트랜잭션)
+ */
+@Service
+@Slf4j
+public class ScoreCohortRankingService {
+    private final ClassroomStudentRepository classroomStudentRepository;
+    private final EvaluationMethodService evaluationMethodService;
+    private final ScoreRepository scoreRepository;
+    private final ScoreSummaryJdbcRepository scoreSummaryJdbcRepository;
+    private final TeacherService teacherService;
+    private final ScoreCohortRankTracker scoreCohortRankTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor summaryExecutor;
+
+    public ScoreCohortRankingService(ClassroomStudentRepository classroomStudentRepository,
+                                     EvaluationMethodService evaluationMethodService,
+                                     ScoreRepository scoreRepository,
+                                     ScoreSummaryJdbcRepository scoreSummaryJdbcRepository,
+                                     TeacherService teacherService,
+                                     ScoreCohortRankTracker scoreCohortRankTracker,
+                                     PlatformTransactionManager transactionManager,
+                                     @Qualifier("SummaryExecutor") Executor summaryExecutor) {
+        this.classroomStudentRepository = classroomStudentRepository;
+        this.evaluationMethodService = evaluationMethodService;
+        this.scoreRepository = scoreRepository;
+        this.scoreSummaryJdbcRepository = scoreSummaryJdbcRepository;
+        this.teacherService = teacherService;
+        this.scoreCohortRankTracker = scoreCohortRankTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 잠금 이후 조회가 최신 커밋 값을 보도록 (반 단위 재계산과 동일)
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.summaryExecutor = summaryExecutor;
+    }
+
+    // 교사 전용 - 학년 전체 석차 재계산
+    public CohortRankingResultDto recomputeGrade(String username, int year, int semester, int grade) {
+        teacherService.authenticate(username);
+        return recomputeGrade(year, semester, grade);
+    }
+
+    public CohortRankingResultDto recomputeGrade(int year, int semester, int grade) {
+        long start = System.currentTimeMillis();
+
+        // 학년 전체 학생 (classroomStudentId -> classroomId), 반별 인원
+        List<ClassroomStudent> cohort = classroomStudentRepository.findByClassroomYearAndGrade(year, grade);
+        Map<Long, Long> classroomByStudent = new HashMap<>();
+        Map<Long, Integer> classSize = new HashMap<>();
+        for (ClassroomStudent cs : cohort) {
+            Long classroomId = cs.getClassroom().getId();
+            classroomByStudent.put(cs.getId(), classroomId);
+            classSize.merge(classroomId, 1, Integer::sum);
+        }
+
+        List<Subject> subjects = evaluationMethodService.findSubject(year, semester, grade);
+        log.debug("학년 전체 성적 요약 재계산 시작: {}년 {}학기 {}학년 - 학생 {}명, 과목 {}개",
+                year, semester, grade, cohort.size(), subjects.size());
+
+        Map<Subject, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (Subject subject : subjects) {
+            futures.put(subject, CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status ->
+                    updateCohortForSubject(subject, year, semester, grade, classroomByStudent, classSize)), summaryExecutor));
+        }
+
+        // 한 과목 실패해도 다른 과목은 계속 처리
+        List<String> failedSubjects = new ArrayList<>();
+        futures.forEach((subject, future) -> {
+            try {
+                future.join();
+            } catch (Exception e) {
+                log.error("학년 전체 성적 요약 업데이트 실패: 과목={}, 오류={}", subject.getName(), e.getMessage(), e);
+                failedSubjects.add(subject.getName());
+            }
+        });
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("학년 전체 성적 요약 재계산 완료: {}년 {}학기 {}학년 - 과목 {}개, 실패 {}개, {}ms",
+                year, semester, grade, subjects.size(), failedSubjects.size(), elapsed);
+
+        return CohortRankingResultDto.builder()
+                .year(year)
+                .semester(semester)
+                .grade(grade)
+                .cohortStudentCount(cohort.size())
+                .subjectCount(subjects.size())
+                .failedSubjects(failedSubjects)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    /**
+     * 특정 과목의 학년 전체 요약 업데이트
+     * 반 통계(평균, 표준편차, 반 석차)는 기존 반 단위 계산과 동일하게 산출하고, 학년 석차를 덧붙여 upsert 한다.
+     * 같은 행을 쓰는 반 단위 재계산과 겹치지 않도록 학년 모든 반의 잠금 행을 먼저 잡는다.
+     */
+    void updateCohortForSubject(Subject subject, int year, int semester, int grade,
+                                Map<Long, Long> classroomByStudent, Map<Long, Integer> classSize) {
+        scoreSummaryJdbcRepository.lock(subject.getId(), classSize.keySet());
+
+        List<ScoreRowDto> rows = scoreRepository.findCohortRowsForSummary(subject, year, semester, grade);
+
+        if (rows.isEmpty()) {
+            log.debug("과목 {} - 점수 데이터가 없어 학년 요약 생성 생략", subject.getName());
+            return;
+        }
+
+        Map<Long, List<ScoreRowDto>> rowsByClassroom = rows.stream()
+                .collect(Collectors.groupingBy(ScoreRowDto::getClassroomId));
+
+        List<ScoreSummaryRowDto> summaries = new ArrayList<>(rows.size());
+        rowsByClassroom.forEach((classroomId, classRows) ->
+                summaries.addAll(ScoreSummaryCalculator.calculate(classRows, classSize.getOrDefault(classroomId, 0))));
+
+        List<ScoreSummaryRowDto> ranked = ScoreSummaryCalculator.applyCohortRanks(summaries, classroomByStudent.size());
+
+        Set<Long> keepIds = ranked.stream()
+                .map(ScoreSummaryRowDto::getClassroomStudentId)
+                .collect(Collectors.toSet());
+
+        int termKey = TermKey.of(year, semester, grade);
+        scoreSummaryJdbcRepository.deleteStale(subject.getId(), termKey, classroomByStudent.keySet(), keepIds);
+        scoreSummaryJdbcRepository.upsertAll(subject.getId(), termKey, ranked);
+
+        // 이후 반 단위 재계산에서 석차 변동분만 반영할 수 있도록 인덱스 재구성
+        scoreCohortRankTracker.reset(year, semester, grade, subject.getId(), ranked, classroomByStudent.size());
+        log.debug("과목 {} - 학년 전체 {} 명의 성적 요약 저장 완료", subject.getName(), ranked.size());
+    }
+}
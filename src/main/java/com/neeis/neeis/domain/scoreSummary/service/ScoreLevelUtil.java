@@ -48,6 +48,21 @@ public class ScoreLevelUtil {
         return 5;                  // E
     }
 
+    // 석차등급 누적 비율 상한 (1등급 4%, 2등급 11%, ... 8등급 96%, 나머지 9등급)
+    private static final double[] COHORT_GRADE_CUTS = {0.04, 0.11, 0.23, 0.40, 0.60, 0.77, 0.89, 0.96};
+
+    // 학년 전체 석차등급 산정 (석차 / 수강자수 누적 비율 기준 1~9등급)
+    public static int getCohortGrade(int rank, int total) {
+        if (total == 0) return 0;
+
+        double ratio = (double) rank / total;
+
+        for (int i = 0; i < COHORT_GRADE_CUTS.length; i++) {
+            if (ratio <= COHORT_GRADE_CUTS[i]) return i + 1;
+        }
+        return 9;
+    }
+
     // 성취도(A~E) 문자열 변환
     public static String toAchievementLevel(int grade) {
         return switch (grade) {
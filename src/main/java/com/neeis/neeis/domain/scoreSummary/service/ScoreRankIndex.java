@@ -0,0 +1,271 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import java.util.*;
+
+/**
+ * 점수 순위 인덱스 (order-statistics treap)
+ * 학생별 점수를 점수 오름차순 BST 로 유지하고, 노드마다 서브트리 학생 수를 두어
+ * 점수 수정 / 석차 / 상위 비율 조회를 O(log n) 에 처리한다.
+ * 석차는 ScoreLevelUtil.calculateRanks 와 동일하게 "나보다 높은 점수의 학생 수 + 1" (동점은 같은 석차, 다음 석차는 건너뜀) 이다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+ */
+public class ScoreRankIndex {
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom(31L);
+    private Node root;
+
+    public static ScoreRankIndex of(Map<Long, Double> studentScoreMap) {
+        ScoreRankIndex index = new ScoreRankIndex();
+        studentScoreMap.forEach(index::update);
+        return index;
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    public boolean contains(Long studentId) {
+        return scores.containsKey(studentId);
+    }
+
+    // 학생 점수 (인덱스에 없으면 null)
+    public Double scoreOf(Long studentId) {
+        return scores.get(studentId);
+    }
+
+    // 학생 석차 (인덱스에 없으면 0)
+    public int rank(Long studentId) {
+        Double score = scores.get(studentId);
+        return (score == null) ? 0 : rankOf(score);
+    }
+
+    // 해당 점수를 받았을 때의 석차
+    public int rankOf(double score) {
+        return countGreater(normalize(score)) + 1;
+    }
+
+    // 상위 비율 (석차 / 인원) - 등급 산정 기준과 동일
+    public double percentile(Long studentId) {
+        int rank = rank(studentId);
+        return (rank == 0) ? 0.0 : (double) rank / scores.size();
+    }
+
+    // rank 번째로 높은 점수 (동점자도 각각 한 명으로 센다)
+    public double scoreAt(int rank) {
+        if (rank < 1 || rank > scores.size()) {
+            throw new IllegalArgumentException("rank out of range: " + rank);
+        }
+
+        Node node = root;
+        int k = rank;
+        while (true) {
+            int higher = size(node.right);
+            if (k <= higher) {
+                node = node.right;
+            } else if (k <= higher + node.ids.size()) {
+                return node.score;
+            } else {
+                k -= higher + node.ids.size();
+                node = node.left;
+            }
+        }
+    }
+
+    /**
+     * 학생 점수 등록 / 수정
+     * @return 이번 변경으로 석차가 바뀐 학생 ID (본인 포함)
+     */
+    public Set<Long> update(Long studentId, double score) {
+        double newScore = normalize(score);
+        Double oldScore = scores.get(studentId);
+        if (oldScore != null && Double.compare(oldScore, newScore) == 0) {
+            return Set.of();
+        }
+
+        int oldRank = rank(studentId);
+        if (oldScore != null) {
+            root = remove(root, oldScore, studentId);
+        }
+        root = insert(root, newScore, studentId);
+        scores.put(studentId, newScore);
+
+        // 신규: 새 점수보다 낮은 학생 모두 한 칸 밀림
+        // 수정: [낮은 점수, 높은 점수) 구간의 학생만 한 칸 이동
+        Set<Long> moved = new HashSet<>();
+        if (oldScore == null) {
+            collect(root, Double.NEGATIVE_INFINITY, newScore, moved);
+        } else {
+            collect(root, Math.min(oldScore, newScore), Math.max(oldScore, newScore), moved);
+        }
+        moved.remove(studentId);
+        if (rankOf(newScore) != oldRank) {
+            moved.add(studentId);
+        }
+        return moved;
+    }
+
+    /**
+     * 학생 제거
+     * @return 석차가 한 칸 올라간 학생 ID
+     */
+    public Set<Long> remove(Long studentId) {
+        Double oldScore = scores.remove(studentId);
+        if (oldScore == null) {
+            return Set.of();
+        }
+
+        root = remove(root, oldScore, studentId);
+        Set<Long> moved = new HashSet<>();
+        collect(root, Double.NEGATIVE_INFINITY, oldScore, moved);
+        return moved;
+    }
+
+    // 전체 석차 (점수 내림차순 순회, O(n))
+    public Map<Long, Integer> ranks() {
+        Map<Long, Integer> rankMap = new HashMap<>();
+        fillRanks(root, new int[1], rankMap);
+        return rankMap;
+    }
+
+    private int countGreater(double score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = Double.compare(score, node.score);
+            if (cmp < 0) {
+                count += node.ids.size() + size(node.right);
+                node = node.left;
+            } else if (cmp > 0) {
+                node = node.right;
+            } else {
+                count += size(node.right);
+                break;
+            }
+        }
+        return count;
+    }
+
+    // [lo, hi) 구간 점수의 학생 수집
+    private void collect(Node node, double lo, double hi, Set<Long> out) {
+        if (node == null) return;
+
+        boolean aboveLo = Double.compare(node.score, lo) >= 0;
+        boolean belowHi = Double.compare(node.score, hi) < 0;
+
+        if (Double.compare(node.score, lo) > 0) collect(node.left, lo, hi, out);
+        if (aboveLo && belowHi) out.addAll(node.ids);
+        if (belowHi) collect(node.right, lo, hi, out);
+    }
+
+    private void fillRanks(Node node, int[] higherCount, Map<Long, Integer> rankMap) {
+        if (node == null) return;
+
+        fillRanks(node.right, higherCount, rankMap);
+        int rank = higherCount[0] + 1;
+        for (Long id : node.ids) {
+            rankMap.put(id, rank);
+        }
+        higherCount[0] += node.ids.size();
+        fillRanks(node.left, higherCount, rankMap);
+    }
+
+    private Node insert(Node node, double score, Long studentId) {
+        if (node == null) {
+            return new Node(score, studentId, random.nextInt());
+        }
+
+        int cmp = Double.compare(score, node.score);
+        if (cmp == 0) {
+            node.ids.add(studentId);
+        } else if (cmp < 0) {
+            node.left = insert(node.left, score, studentId);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = insert(node.right, score, studentId);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        node.recalc();
+        return node;
+    }
+
+    private Node remove(Node node, double score, Long studentId) {
+        if (node == null) return null;
+
+        int cmp = Double.compare(score, node.score);
+        if (cmp < 0) {
+            node.left = remove(node.left, score, studentId);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, score, studentId);
+        } else {
+            node.ids.remove(studentId);
+            if (node.ids.isEmpty()) {
+                return merge(node.left, node.right);
+            }
+        }
+        node.recalc();
+        return node;
+    }
+
+    // left 의 모든 점수 < right 의 모든 점수
+    private Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.recalc();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.recalc();
+        return right;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        node.recalc();
+        pivot.right = node;
+        pivot.recalc();
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        node.recalc();
+        pivot.left = node;
+        pivot.recalc();
+        return pivot;
+    }
+
+    private static int size(Node node) {
+        return (node == null) ? 0 : node.size;
+    }
+
+    // -0.0 과 0.0 을 같은 점수로 취급 (기존 == 비교와 동일)
+    private static double normalize(double score) {
+        return score + 0.0;
+    }
+
+    private static class Node {
+        private final double score;
+        private final int priority;
+        private final Set<Long> ids = new HashSet<>();
+        private Node left;
+        private Node right;
+        private int size;
+
+        private Node(double score, Long studentId, int priority) {
+            this.score = score;
+            this.priority = priority;
+            this.ids.add(studentId);
+            this.size = 1;
+        }
+
+        private void recalc() {
+            size = ids.size() + ScoreRankIndex.size(left) + ScoreRankIndex.size(right);
+        }
+    }
+}
@@ -1,31 +1,137 @@
 package com.neeis.neeis.domain.scoreSummary.service;
 
+import lombok.Getter;
+
 import java.util.Collection;
-import java.util.List;
 
 public class ScoreStatUtil {
 
     // 평균 계산
     public static double average(Collection<Double> values) {
         if (values == null || values.isEmpty()) return 0.0;
+        return average(toArray(values));
+    }
+
+    // 표준편차 계산
+    public static double standardDeviation(Collection<Double> values) {
+        if (values == null || values.size() < 2) return 0.0;
+        return standardDeviation(toArray(values));
+    }
+
+    /**
+     * 평균 계산 (double[] 입력, 박싱 없음)
+     * 순서대로 단순 합산 후 소수 둘째 자리 반올림 - Collection 버전과 같은 입력 순서면 결과가 비트 단위로 같다.
+     */
+    public static double average(double[] values) {
+        if (values == null || values.length == 0) return 0.0;
 
         double sum = 0.0;
         for (double v : values) {
             sum += v;
         }
-        return round(sum / values.size(), 2);
+        return round(sum / values.length, 2);
     }
 
-    // 표준편차 계산
-    public static double standardDeviation(Collection<Double> values) {
-        if (values == null || values.size() < 2) return 0.0;
+    /**
+     * 표준편차 계산 (double[] 입력, 박싱 없음, 모집단 기준)
+     * 기존 구현(DoubleStream.average / sum)과 같은 보정 합산(Kahan)을 사용해 반올림 전 값까지 비트 단위로 일치시킨다.
+     * 소수 첫째 자리 반올림
+     */
+    public static double standardDeviation(double[] values) {
+        if (values == null || values.length < 2) return 0.0;
+
+        double mean = compensatedSum(values, 0.0, false) / values.length;
+        double sumSquared = compensatedSum(values, mean, true);
+
+        return Math.round(Math.sqrt(sumSquared / values.length) * 10.0) / 10.0;
+    }
+
+    /**
+     * 단일 패스 평균 / 분산 (Welford, 반올림 없음)
+     * 분석용 통계에 사용한다. 저장되는 성적 요약의 평균 / 표준편차는 average, standardDeviation 을 사용한다.
+     */
+    public static Moments moments(double[] values) {
+        long count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+
+        for (double v : values) {
+            count++;
+            double delta = v - mean;
+            mean += delta / count;
+            m2 += delta * (v - mean);
+        }
+        return new Moments(count, mean, m2);
+    }
+
+    // 중앙값 (정렬된 배열 입력)
+    public static double median(double[] sortedValues) {
+        return percentile(sortedValues, 0.5);
+    }
+
+    /**
+     * 백분위수 (정렬된 배열 입력, 0.0 ~ 1.0)
+     * 인접한 두 값 사이를 선형 보간한다. 빈 배열이면 0.0
+     */
+    public static double percentile(double[] sortedValues, double p) {
+        if (sortedValues == null || sortedValues.length == 0) return 0.0;
+        if (p < 0.0 || p > 1.0) {
+            throw new IllegalArgumentException("percentile out of range: " + p);
+        }
+
+        double position = p * (sortedValues.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = (int) Math.ceil(position);
+        double fraction = position - lower;
 
-        double mean = values.stream().mapToDouble(d -> d).average().orElse(0.0);
-        double sumSquared = values.stream()
-                .mapToDouble(d -> Math.pow(d - mean, 2))
-                .sum();
+        return sortedValues[lower] + (sortedValues[upper] - sortedValues[lower]) * fraction;
+    }
+
+    /**
+     * 구간별 인원 (min ~ max 를 bucketCount 개 구간으로 균등 분할)
+     * 범위를 벗어난 값은 양 끝 구간에 포함하고, max 값은 마지막 구간에 포함한다.
+     */
+    public static int[] histogram(double[] values, double min, double max, int bucketCount) {
+        if (bucketCount < 1 || !(max > min)) {
+            throw new IllegalArgumentException("invalid histogram range");
+        }
+
+        int[] buckets = new int[bucketCount];
+        double width = (max - min) / bucketCount;
+        for (double v : values) {
+            int bucket = (int) ((v - min) / width);
+            buckets[Math.max(0, Math.min(bucketCount - 1, bucket))]++;
+        }
+        return buckets;
+    }
+
+    // DoubleStream.sum() 과 같은 보정 합산 (squared = true 이면 (v - mean)^2 의 합)
+    private static double compensatedSum(double[] values, double mean, boolean squared) {
+        double sum = 0.0;
+        double compensation = 0.0;
+        double simpleSum = 0.0;
+
+        for (double v : values) {
+            double value = squared ? (v - mean) * (v - mean) : v;
+            double tmp = value - compensation;
+            double velvel = sum + tmp;
+            compensation = (velvel - sum) - tmp;
+            sum = velvel;
+            simpleSum += value;
+        }
 
-        return Math.round(Math.sqrt(sumSquared / values.size()) * 10.0) / 10.0; // 소수 첫째 자리 반올림
+        double total = sum - compensation;
+        // 무한대 누적으로 보정 합이 NaN 이 된 경우 단순 합 사용
+        return (Double.isNaN(total) && Double.isInfinite(simpleSum)) ? simpleSum : total;
+    }
+
+    private static double[] toArray(Collection<Double> values) {
+        double[] array = new double[values.size()];
+        int i = 0;
+        for (double v : values) {
+            array[i++] = v;
+        }
+        return array;
     }
 
     // 소수점 반올림
@@ -33,4 +139,26 @@ public class ScoreStatUtil {
         double factor = Math.pow(10, digit);
         return Math.round(value * factor) / factor;
     }
-}
\ No newline at end of file
+
+    @Getter
+    public static class Moments {
+        private final long count;
+        private final double mean;
+        private final double m2;
+
+        private Moments(long count, double mean, double m2) {
+            this.count = count;
+            this.mean = mean;
+            this.m2 = m2;
+        }
+
+        // 모집단 분산
+        public double getVariance() {
+            return (count == 0) ? 0.0 : m2 / count;
+        }
+
+        public double getStdDeviation() {
+            return Math.sqrt(getVariance());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import com.neeis.neeis.domain.score.dto.ScoreRowDto;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
+
+import java.util.*;
+
+public class ScoreSummaryCalculator {
+
+    // 학생별 점수 행 -> 합계, 석차, 등급, 평균, 표준편차 계산 (DB 접근 없이 메모리에서 처리)
+    public static List<ScoreSummaryRowDto> calculate(List<ScoreRowDto> rows, int totalStudentCount) {
+        if (rows == null || rows.isEmpty()) return List.of();
+
+        // 학생별 반영 점수 합계 / 원점수 환산 합계
+        Map<Long, double[]> sumMap = new LinkedHashMap<>();
+        for (ScoreRowDto row : rows) {
+            double[] sums = sumMap.computeIfAbsent(row.getClassroomStudentId(), k -> new double[2]);
+            sums[0] += row.getWeightedScore();
+            sums[1] += (row.getRawScore() / row.getFullScore()) * row.getWeight();
+        }
+
+        Map<Long, Double> totalMap = new HashMap<>();
+        for (Map.Entry<Long, double[]> entry : sumMap.entrySet()) {
+            totalMap.put(entry.getKey(), entry.getValue()[0]);
+        }
+
+        // 통계는 박싱 없이 double[] 로 계산 (기존과 같은 합산 순서 유지)
+        double[] totals = new double[totalMap.size()];
+        int i = 0;
+        for (double total : totalMap.values()) {
+            totals[i++] = total;
+        }
+
+        Map<Long, Integer> rankMap = ScoreLevelUtil.calculateRanks(totalMap);
+        double avg = ScoreStatUtil.average(totals);
+        double stdDev = ScoreStatUtil.standardDeviation(totals);
+
+        List<ScoreSummaryRowDto> result = new ArrayList<>(sumMap.size());
+        for (Map.Entry<Long, double[]> entry : sumMap.entrySet()) {
+            int rank = rankMap.get(entry.getKey());
+            int gradeValue = ScoreLevelUtil.getGrade(rank, totalStudentCount);
+
+            result.add(ScoreSummaryRowDto.builder()
+                    .classroomStudentId(entry.getKey())
+                    .sumScore(entry.getValue()[0])
+                    .originalScore((int) Math.round(entry.getValue()[1]))
+                    .average(avg)
+                    .stdDeviation(stdDev)
+                    .rank(rank)
+                    .grade(gradeValue)
+                    .achievementLevel(ScoreLevelUtil.toAchievementLevel(gradeValue))
+                    .totalStudentCount(totalStudentCount)
+                    .build());
+        }
+        return result;
+    }
+
+    // 반별로 계산된 요약 전체를 모아 학년 전체 석차 / 석차등급(1~9) 부여
+    public static List<ScoreSummaryRowDto> applyCohortRanks(List<ScoreSummaryRowDto> rows, int cohortStudentCount) {
+        if (rows == null || rows.isEmpty()) return List.of();
+
+        Map<Long, Double> totalMap = new HashMap<>();
+        for (ScoreSummaryRowDto row : rows) {
+            totalMap.put(row.getClassroomStudentId(), row.getSumScore());
+        }
+
+        Map<Long, Integer> rankMap = ScoreLevelUtil.calculateRanks(totalMap);
+
+        List<ScoreSummaryRowDto> result = new ArrayList<>(rows.size());
+        for (ScoreSummaryRowDto row : rows) {
+            int cohortRank = rankMap.get(row.getClassroomStudentId());
+            int cohortGrade = ScoreLevelUtil.getCohortGrade(cohortRank, cohortStudentCount);
+            result.add(row.withCohort(cohortRank, cohortGrade, cohortStudentCount));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,252 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import com.neeis.neeis.domain.score.service.ScoreNotificationService;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeStatus;
+import com.neeis.neeis.domain.scoreSummary.dto.res.RecomputeStatusDto;
+import com.neeis.neeis.domain.scoreSummary.dto.res.RecomputeTicketDto;
+import com.neeis.neeis.domain.scoreSummary.event.ScoreSummaryRecomputeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * 성적 요약 재계산 큐
+ * 성적 저장 트랜잭션이 커밋된 뒤 (연도, 학기, 학년, 반, 과목) 단위로 재계산을 예약하고,
+ * 병합 구간(COALESCE_WINDOW) 안에 들어온 같은 키의 요청은 한 번의 재계산으로 합친다.
+ * 키마다 요청/완료 버전을 두어 클라이언트가 최신 석차 반영 여부를 조회할 수 있다.
+ * 성적 요약은 결과적 일관성을 가진다 - 저장 응답의 티켓 버전이 완료되기 전까지는 이전 요약(또는 미생성)이 조회된다.
+ * 성적 입력 알림도 저장 단위가 아니라 재계산 실행 단위로 한 번 발송된다. (병합된 저장은 알림 하나로 합쳐진다)
+ * 재계산이 실패하면(잠금 대기 초과 / 교착 등) 지수 백오프로 MAX_ATTEMPTS 번까지 다시 시도한 뒤 FAILED 로 남긴다.
+ */
+@Service
+@Slf4j
+public class ScoreSummaryRecomputeQueue {
+    private static final Duration COALESCE_WINDOW = Duration.ofMillis(300);
+    private static final Duration STATE_RETENTION = Duration.ofHours(1);
+    private static final Duration EVICT_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+    static final int MAX_ATTEMPTS = 4;
+
+    private final ScoreSummaryService scoreSummaryService;
+    private final ScoreNotificationService scoreNotificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler worker;
+    private final Duration coalesceWindow;
+    private final Duration retryBackoff;
+
+    private final Map<SummaryRecomputeKey, KeyState> states = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastEvictedAt = LocalDateTime.now();
+
+    @Autowired
+    public ScoreSummaryRecomputeQueue(ScoreSummaryService scoreSummaryService,
+                                      ScoreNotificationService scoreNotificationService,
+                                      PlatformTransactionManager transactionManager) {
+        this(scoreSummaryService, scoreNotificationService, transactionManager, createWorker(), COALESCE_WINDOW, RETRY_BACKOFF);
+    }
+
+    ScoreSummaryRecomputeQueue(ScoreSummaryService scoreSummaryService,
+                               ScoreNotificationService scoreNotificationService,
+                               PlatformTransactionManager transactionManager,
+                               TaskScheduler worker, Duration coalesceWindow, Duration retryBackoff) {
+        this.scoreSummaryService = scoreSummaryService;
+        this.scoreNotificationService = scoreNotificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 알림 묶음 추가는 받는 사람 잠금 이후 최신 커밋을 읽어야 한다 (NotificationDigestService.addScores)
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.worker = worker;
+        this.coalesceWindow = coalesceWindow;
+        this.retryBackoff = retryBackoff;
+    }
+
+    private static ThreadPoolTaskScheduler createWorker() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("SUMMARY-RECOMPUTE-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker instanceof ThreadPoolTaskScheduler scheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    // 성적 저장 커밋 이후 재계산 예약
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onScoresSaved(ScoreSummaryRecomputeEvent event) {
+        event.getKeys().forEach(this::enqueue);
+    }
+
+    /**
+     * 재계산 요청 등록 - 요청 버전을 올리고, 대기/실행 중이 아니면 병합 구간 뒤에 실행되도록 예약
+     * @return 이번 요청의 버전
+     */
+    public long enqueue(SummaryRecomputeKey key) {
+        evictExpired();
+
+        long[] version = new long[1];
+        states.compute(key, (k, state) -> {
+            KeyState s = (state != null) ? state : new KeyState();
+            synchronized (s) {
+                version[0] = ++s.requestedVersion;
+                s.updatedAt = LocalDateTime.now();
+                if (!s.scheduled && !s.running) {
+                    s.scheduled = true;
+                    schedule(k, s);
+                }
+            }
+            return s;
+        });
+        return version[0];
+    }
+
+    public RecomputeStatusDto getStatus(SummaryRecomputeKey key) {
+        KeyState state = states.get(key);
+        if (state == null) {
+            return RecomputeStatusDto.builder()
+                    .status(SummaryRecomputeStatus.IDLE)
+                    .build();
+        }
+
+        synchronized (state) {
+            return RecomputeStatusDto.builder()
+                    .status(state.status())
+                    .requestedVersion(state.requestedVersion)
+                    .completedVersion(state.completedVersion)
+                    .updatedAt(state.updatedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * 저장 요청에 대한 재계산 티켓 - 저장 트랜잭션 커밋(AFTER_COMMIT 등록) 이후 호출한다.
+     * 그 사이 다른 저장이 합쳐졌다면 버전이 더 클 수 있지만, 그 버전이 완료되면 이번 저장도 반영된 것이다.
+     */
+    public List<RecomputeTicketDto> ticketsFor(Collection<SummaryRecomputeKey> keys) {
+        return keys.stream()
+                .map(key -> {
+                    KeyState state = states.get(key);
+                    if (state == null) {
+                        return RecomputeTicketDto.of(key, 0);
+                    }
+                    synchronized (state) {
+                        return RecomputeTicketDto.of(key, state.requestedVersion);
+                    }
+                })
+                .toList();
+    }
+
+    private void schedule(SummaryRecomputeKey key, KeyState state) {
+        schedule(key, state, coalesceWindow);
+    }
+
+    private void schedule(SummaryRecomputeKey key, KeyState state, Duration delay) {
+        worker.schedule(() -> run(key, state), Instant.now().plus(delay));
+    }
+
+    private void run(SummaryRecomputeKey key, KeyState state) {
+        long targetVersion;
+        synchronized (state) {
+            state.scheduled = false;
+            state.running = true;
+            targetVersion = state.requestedVersion;
+        }
+
+        boolean success = false;
+        try {
+            scoreSummaryService.updateSummaryForSpecificSubject(
+                    key.getSubjectId(), key.getYear(), key.getSemester(), key.getGrade(), key.getClassNum());
+
+            // 재계산된 요약 기준으로 알림 발송 (FCM 이벤트가 커밋 이후 발행되도록 트랜잭션 안에서 실행)
+            transactionTemplate.executeWithoutResult(status -> scoreNotificationService.sendNotificationsForAffectedSubjects(
+                    key.getYear(), key.getSemester(), key.getGrade(), key.getClassNum(), Set.of(key.getSubjectId())));
+            success = true;
+        } catch (Exception e) {
+            log.error("성적 요약 재계산 실패: key={}, 오류={}", key, e.getMessage(), e);
+        }
+
+        synchronized (state) {
+            state.running = false;
+            state.updatedAt = LocalDateTime.now();
+            if (success) {
+                state.completedVersion = targetVersion;
+                state.failed = false;
+                state.attempts = 0;
+            } else if (++state.attempts < MAX_ATTEMPTS) {
+                // 일시 오류 - 백오프 후 재시도 (그 사이 들어온 요청도 함께 반영된다)
+                Duration delay = retryBackoff.multipliedBy(1L << (state.attempts - 1));
+                log.warn("성적 요약 재계산 재시도 예약: key={}, 시도={}회, {}ms 후", key, state.attempts, delay.toMillis());
+                state.scheduled = true;
+                schedule(key, state, delay);
+                return;
+            } else {
+                log.error("성적 요약 재계산 포기: key={}, 시도={}회", key, state.attempts);
+                state.failed = true;
+                state.attempts = 0;
+            }
+
+            // 실행 중 새 요청이 들어왔으면 한 번 더 (그 사이 요청은 모두 합쳐진다)
+            if (state.requestedVersion > targetVersion) {
+                state.scheduled = true;
+                schedule(key, state);
+            }
+        }
+    }
+
+    // 오래된 완료 상태 정리 (대기/실행 중인 키는 유지)
+    private void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastEvictedAt.plus(EVICT_INTERVAL).isAfter(now)) return;
+        lastEvictedAt = now;
+
+        LocalDateTime threshold = now.minus(STATE_RETENTION);
+        for (SummaryRecomputeKey key : states.keySet()) {
+            states.computeIfPresent(key, (k, s) -> {
+                synchronized (s) {
+                    boolean idle = !s.scheduled && !s.running;
+                    return (idle && s.updatedAt.isBefore(threshold)) ? null : s;
+                }
+            });
+        }
+    }
+
+    private static class KeyState {
+        private long requestedVersion;
+        private long completedVersion;
+        private boolean scheduled;
+        private boolean running;
+        private boolean failed;
+        private int attempts; // 연속 실패 횟수
+        private LocalDateTime updatedAt = LocalDateTime.now();
+
+        private SummaryRecomputeStatus status() {
+            if (running) return SummaryRecomputeStatus.RUNNING;
+            if (scheduled) return SummaryRecomputeStatus.PENDING;
+            if (failed) return SummaryRecomputeStatus.FAILED;
+            return SummaryRecomputeStatus.DONE;
+        }
+    }
+}
@@ -3,15 +3,18 @@ package com.neeis.neeis.domain.scoreSummary.service;
 import com.neeis.neeis.domain.classroom.Classroom;
 import com.neeis.neeis.domain.classroom.ClassroomService;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
-import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudentService;
-import com.neeis.neeis.domain.evaluationMethod.EvaluationMethod;
+import com.neeis.neeis.domain.classroomStudent.StudentAccessResolver;
+import com.neeis.neeis.domain.evaluationMethod.TermKey;
 import com.neeis.neeis.domain.evaluationMethod.service.EvaluationMethodService;
 import com.neeis.neeis.domain.notification.service.NotificationService;
 import com.neeis.neeis.domain.score.Score;
 import com.neeis.neeis.domain.score.ScoreRepository;
+import com.neeis.neeis.domain.score.dto.ScoreRowDto;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummaryJdbcRepository;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummaryRepository;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.ScoreFeedbackDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.StudentScoreSummaryDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.SubjectScoreDto;
@@ -20,7 +23,6 @@ import com.neeis.neeis.domain.scoreSummary.dto.req.ScoreFeedbackUpdateDto;
 import com.neeis.neeis.domain.student.dto.report.SubjectFeedbackDto;
 import com.neeis.neeis.domain.subject.Subject;
 import com.neeis.neeis.domain.subject.service.SubjectService;
-import com.neeis.neeis.domain.teacher.Teacher;
 import com.neeis.neeis.domain.teacher.service.TeacherService;
 import com.neeis.neeis.domain.user.User;
 import com.neeis.neeis.domain.user.service.UserService;
@@ -31,15 +33,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.neeis.neeis.domain.classroomStudent.StudentAccessResolver.STUDENT_TEACHER;
 import static com.neeis.neeis.domain.user.Role.STUDENT;
 import static com.neeis.neeis.domain.user.Role.TEACHER;
-import static com.neeis.neeis.global.exception.ErrorCode.HANDLE_ACCESS_DENIED;
 
 @Service
 @RequiredArgsConstructor
@@ -47,51 +50,43 @@ import static com.neeis.neeis.global.exception.ErrorCode.HANDLE_ACCESS_DENIED;
 @Slf4j
 public class ScoreSummaryService {
     private final ScoreSummaryRepository scoreSummaryRepository;
+    private final ScoreSummaryJdbcRepository scoreSummaryJdbcRepository;
     private final ClassroomService classroomService;
     private final UserService userService;
     private final ClassroomStudentService classroomStudentService;
     private final SubjectService subjectService;
-    private final ClassroomStudentRepository classroomStudentRepository;
 
     private final EvaluationMethodService evaluationMethodService;
     private final ScoreRepository scoreRepository;
     private final TeacherService teacherService;
     private final ApplicationEventPublisher eventPublisher;
     private final NotificationService notificationService;
+    private final ScoreCohortRankTracker scoreCohortRankTracker;
+    private final StudentAccessResolver studentAccessResolver;
     
     // 교사 및 학생
     // 성적 조회 (전체 과목)
     public StudentScoreSummaryDto getStudentSummary(String username, int year, int semester, int grade, int classNum, int number) {
 
-        ClassroomStudent student = checkValidate(username, year, grade, classNum, number);
+        ClassroomStudent student = studentAccessResolver.resolve(username, year, grade, classNum, number, STUDENT_TEACHER);
 
+        int termKey = TermKey.of(year, semester, grade);
 
-        // 해당 학기의 점수 불러오기
-        List<Score> scores = scoreRepository
-                .findAllByStudentAndEvaluationMethod_YearAndEvaluationMethod_Semester(student, year, semester);
+        // 해당 학기의 점수 불러오기 (학기 키 인덱스 범위 조회, 평가 방식 / 과목 함께 로딩)
+        List<Score> scores = scoreRepository.findAllWithEvaluationByStudentAndTermKey(student, termKey);
 
-        // 과목 이름별로 점수 분류
-        Map<String, List<Score>> scoreBySubject = scores.stream()
-                .collect(Collectors.groupingBy(s -> s.getEvaluationMethod().getSubject().getName()));
+        // 과목별로 점수 분류
+        Map<Long, List<Score>> scoreBySubject = scores.stream()
+                .collect(Collectors.groupingBy(s -> s.getEvaluationMethod().getSubject().getId()));
 
-        // 해당 학기 과목 리스트
-        Set<String> subjectNamesInThisSemester = scores.stream()
-                .map(s -> s.getEvaluationMethod().getSubject().getName())
-                .collect(Collectors.toSet());
-
-        // 모든 ScoreSummary 중에서 해당 학기의 과목에 속한 것만 필터링
-        List<ScoreSummary> allSummaries = scoreSummaryRepository.findAllByClassroomStudent(student);
-        List<ScoreSummary> filteredSummaries = allSummaries.stream()
-                .filter(summary -> subjectNamesInThisSemester.contains(summary.getSubject().getName()))
-                .toList();
+        // 해당 학기 성적 요약만 조회 (과목 함께 로딩)
+        List<ScoreSummary> summaries = scoreSummaryRepository
+                .findAllWithSubjectByClassroomStudentAndTermKey(student, termKey);
 
         // DTO 변환
-        List<SubjectScoreDto> subjectScoreList = filteredSummaries.stream()
-                .map(summary -> {
-                    String subjectName = summary.getSubject().getName();
-                    List<Score> subjectScores = scoreBySubject.getOrDefault(subjectName, Collections.emptyList());
-                    return SubjectScoreDto.toDto(summary, subjectScores);
-                })
+        List<SubjectScoreDto> subjectScoreList = summaries.stream()
+                .map(summary -> SubjectScoreDto.toDto(summary,
+                        scoreBySubject.getOrDefault(summary.getSubject().getId(), Collections.emptyList())))
                 .toList();
 
         return StudentScoreSummaryDto.builder()
@@ -104,19 +99,24 @@ public class ScoreSummaryService {
     /**
      * 반 전체의 성적 요약 업데이트
      * 별도 트랜잭션으로 처리하여 안정성 확보
+     * READ COMMITTED - 잠금을 얻은 뒤의 조회가 트랜잭션 첫 조회 시점의 스냅샷이 아니라 최신 커밋 값을 보도록 한다
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
     public void updateSummaryForClass(int year, int semester, int grade, int classNum) {
         try {
             Classroom classroom = classroomService.findClassroom(year, grade, classNum);
             List<ClassroomStudent> students = classroomStudentService.findByClassroom(classroom);
-            List<Subject> subjects = evaluationMethodService.findSubject(year, semester, grade);
+            // 과목 ID 순으로 처리 - 다른 반 재계산과 학년 잠금을 같은 순서로 잡는다
+            List<Subject> subjects = evaluationMethodService.findSubject(year, semester, grade).stream()
+                    .sorted(Comparator.comparing(Subject::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .toList();
+            List<Long> lockClassroomIds = lockClassroomIds(classroom, year, grade);
 
             log.debug("성적 요약 업데이트 시작: {}년 {}학기 {}학년 {}반", year, semester, grade, classNum);
 
             for (Subject subject : subjects) {
                 try {
-                    updateSummaryForSubject(subject, year, semester, grade, students);
+                    updateSummaryForSubject(subject, year, semester, grade, classroom, students, lockClassroomIds);
                 } catch (Exception e) {
                     log.error("과목별 성적 요약 업데이트 실패: 과목={}, 오류={}", subject.getName(), e.getMessage(), e);
                     // 한 과목 실패해도 다른 과목은 계속 처리
@@ -133,72 +133,49 @@ public class ScoreSummaryService {
 
     /**
      * 특정 과목의 성적 요약 업데이트
+     * 같은 학년/과목 재계산을 잠금 행으로 직렬화한 뒤 반 전체 점수를 한 번의 프로젝션 쿼리로 조회하고,
+     * 계산은 메모리에서 수행한 뒤 저장된 값과 달라진 학생만 JDBC 배치로 upsert 한다. (행을 지우고 다시 넣지 않으므로 피드백이 유지된다)
      */
-    private void updateSummaryForSubject(Subject subject, int year, int semester, int grade, List<ClassroomStudent> students) {
-        List<EvaluationMethod> methods = evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(subject, year, semester, grade);
+    private void updateSummaryForSubject(Subject subject, int year, int semester, int grade,
+                                         Classroom classroom, List<ClassroomStudent> students, List<Long> lockClassroomIds) {
+        // 같은 학년/과목 재계산 직렬화 - 점수를 읽기 전에 잠가야 앞선 재계산의 결과를 덮어쓰지 않는다
+        // 학년 석차 갱신은 다른 반 학생의 행도 쓰므로 자기 반이 아니라 학년 전체 반을 잠근다 (학년 재계산과 같은 ID 순서)
+        scoreSummaryJdbcRepository.lock(subject.getId(), lockClassroomIds);
 
-        // 전체 학생 중 점수가 있는 학생만 필터링
-        Map<ClassroomStudent, List<Score>> scoreMap = students.stream()
-                .map(student -> Map.entry(student, scoreRepository.findAllByStudentAndEvaluationMethodIn(student, methods)))
-                .filter(entry -> !entry.getValue().isEmpty()) // 점수가 아예 없는 경우 제외
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        List<ScoreRowDto> rows = scoreRepository.findRowsForSummary(subject, year, semester, grade, classroom);
 
-        if (scoreMap.isEmpty()) {
+        if (rows.isEmpty()) {
             log.debug("과목 {} - 점수 데이터가 없어 요약 생성 생략", subject.getName());
             return; // 이 과목에 대한 점수가 아무도 없으면 summary 건너뜀
         }
 
-        Map<Long, Double> totalMap = scoreMap.entrySet().stream()
-                .collect(Collectors.toMap(
-                        e -> e.getKey().getId(),
-                        e -> e.getValue().stream().mapToDouble(Score::getWeightedScore).sum()
-                ));
-
-        Map<Long, Integer> rankMap = ScoreLevelUtil.calculateRanks(totalMap);
-        double avg = ScoreStatUtil.average(totalMap.values().stream().toList());
-        double stdDev = ScoreStatUtil.standardDeviation(totalMap.values());
-
-        // 기존 요약 삭제 (과목별로만 삭제)
-        scoreSummaryRepository.deleteBySubjectAndClassroomStudentIn(subject, students);
-
-        // 새로운 요약 생성
-        List<ScoreSummary> summariesToSave = new ArrayList<>();
-        for (Map.Entry<ClassroomStudent, List<Score>> entry : scoreMap.entrySet()) {
-            ClassroomStudent student = entry.getKey();
-            List<Score> scores = entry.getValue();
-
-            double weightedSum = scores.stream().mapToDouble(Score::getWeightedScore).sum();
-            double rawScaledSum = scores.stream()
-                    .mapToDouble(s -> (s.getRawScore() / s.getEvaluationMethod().getFullScore()) * s.getEvaluationMethod().getWeight())
-                    .sum();
-
-            int originalScore = (int) Math.round(rawScaledSum);
-            int rank = rankMap.get(student.getId());
-            int gradeValue = ScoreLevelUtil.getGrade(rank, students.size());
-            String achievement = ScoreLevelUtil.toAchievementLevel(gradeValue);
-
-            summariesToSave.add(ScoreSummary.builder()
-                    .classroomStudent(student)
-                    .subject(subject)
-                    .originalScore(originalScore)
-                    .sumScore(weightedSum)
-                    .average(avg)
-                    .stdDeviation(stdDev)
-                    .rank(rank)
-                    .grade(gradeValue)
-                    .achievementLevel(achievement)
-                    .totalStudentCount(students.size())
-                    .build());
-        }
+        List<ScoreSummaryRowDto> summaries = ScoreSummaryCalculator.calculate(rows, students.size());
+        int termKey = TermKey.of(year, semester, grade);
+
+        Set<Long> keepIds = summaries.stream()
+                .map(ScoreSummaryRowDto::getClassroomStudentId)
+                .collect(Collectors.toSet());
+        List<Long> studentIds = students.stream().map(ClassroomStudent::getId).toList();
+
+        // 값이 바뀐 학생만 upsert (피드백 등 나머지 컬럼은 그대로 유지)
+        Map<Long, ScoreSummaryRowDto> current = scoreSummaryJdbcRepository.findCurrentRows(subject.getId(), termKey, studentIds);
+        List<ScoreSummaryRowDto> changed = summaries.stream()
+                .filter(row -> !row.hasSameValues(current.get(row.getClassroomStudentId())))
+                .toList();
 
-        scoreSummaryRepository.saveAll(summariesToSave);
-        log.debug("과목 {} - {} 명의 성적 요약 저장 완료", subject.getName(), summariesToSave.size());
+        // 점수가 모두 삭제된 학생의 기존 요약 정리
+        int deleted = scoreSummaryJdbcRepository.deleteStale(subject.getId(), termKey, studentIds, keepIds);
+        scoreSummaryJdbcRepository.upsertAll(subject.getId(), termKey, changed);
+
+        // 학년 석차는 석차가 바뀐 학생만 부분 갱신
+        scoreCohortRankTracker.applyClassResult(year, semester, grade, subject.getId(), studentIds, summaries);
+        log.debug("과목 {} - 변경 {}/{} 명, 삭제 {} 명", subject.getName(), changed.size(), summaries.size(), deleted);
     }
 
     /**
      * 특정 과목만 업데이트하는 새로운 메서드
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
     public void updateSummaryForSpecificSubject(Long subjectId, int year, int semester, int grade, int classNum) {
         try {
             Classroom classroom = classroomService.findClassroom(year, grade, classNum);
@@ -210,7 +187,7 @@ public class ScoreSummaryService {
             log.debug("특정 과목 성적 요약 업데이트 시작: {}년 {}학기 {}학년 {}반 - 과목: {}",
                     year, semester, grade, classNum, subject.getName());
 
-            updateSummaryForSubject(subject, year, semester, grade, students);
+            updateSummaryForSubject(subject, year, semester, grade, classroom, students, lockClassroomIds(classroom, year, grade));
 
             log.debug("특정 과목 성적 요약 업데이트 완료: {}년 {}학기 {}학년 {}반 - 과목: {}",
                     year, semester, grade, classNum, subject.getName());
@@ -222,6 +199,13 @@ public class ScoreSummaryService {
         }
     }
 
+    // 학년 전체 반 ID (자기 반 포함, ID 순)
+    private List<Long> lockClassroomIds(Classroom classroom, int year, int grade) {
+        Set<Long> ids = new TreeSet<>(classroomService.findClassroomIds(year, grade));
+        ids.add(classroom.getId());
+        return List.copyOf(ids);
+    }
+
     @Transactional
     public void saveFeedback(String username, ScoreFeedbackRequestDto requestDto) {
         // 교사 권환 확인
@@ -283,34 +267,11 @@ public class ScoreSummaryService {
             int number
     ) {
 
-        ClassroomStudent classroomStudent = checkValidate(username, year, grade, classNum, number);
-
-        // 2. 해당 학기(연도, 학기, 학년)에 속한 “과목 목록” 조회
-        List<Subject> subjectsInThisTerm = evaluationMethodService
-                .findSubject(year, semester, grade);
+        ClassroomStudent classroomStudent = studentAccessResolver.resolve(username, year, grade, classNum, number, STUDENT_TEACHER);
 
-        // 과목 이름만 모아서 필터링용 Set으로 준비
-        Set<String> subjectNamesInThisTerm = subjectsInThisTerm.stream()
-                .map(Subject::getName)
-                .collect(Collectors.toSet());
-
-        // 3. DB에서 이 학생의 모든 ScoreSummary(과목별 요약)를 조회
-        List<ScoreSummary> allSummaries = scoreSummaryRepository
-                .findAllByClassroomStudent(classroomStudent);
-
-        // 4. “이 학기에 속한 과목(subjectNamesInThisTerm)에 해당하는” ScoreSummary만 필터링
-        return allSummaries.stream()
-                .filter(summary -> subjectNamesInThisTerm.contains(
-                        summary.getSubject().getName()
-                ))
-                .map(summary -> {
-                    // 5. SubjectFeedbackDto로 변환: (과목명, 피드백 내용)
-                    return SubjectFeedbackDto.builder()
-                            .subjectName(summary.getSubject().getName())
-                            .feedback(summary.getFeedback())
-                            .build();
-                })
-                .toList();
+        // 해당 학기 성적 요약의 (과목명, 피드백)만 조회
+        return scoreSummaryRepository.findFeedbacksByClassroomStudentAndTermKey(
+                classroomStudent, TermKey.of(year, semester, grade));
     }
   
 
@@ -322,6 +283,26 @@ public class ScoreSummaryService {
                 .orElseThrow(() -> new CustomException(ErrorCode.SCORE_SUMMARY_NOT_FOUND));
     }
 
+    /**
+     * 한 학기의 여러 과목 x 여러 학생의 성적 요약 일괄 조회
+     */
+    public List<ScoreSummary> findAllBySubjectsAndStudents(Collection<Subject> subjects, Collection<ClassroomStudent> students, int termKey) {
+        if (subjects.isEmpty() || students.isEmpty()) {
+            return List.of();
+        }
+        return scoreSummaryRepository.findAllBySubjectInAndClassroomStudentInAndTermKey(subjects, students, termKey);
+    }
+
+    /**
+     * 알림 발송용 - 한 학기 반 전체 x 여러 과목의 성적 요약을 학생 계정까지 한 번에 조회
+     */
+    public List<ScoreSummary> findAllForNotification(Classroom classroom, int termKey, Collection<Long> subjectIds) {
+        if (subjectIds.isEmpty()) {
+            return List.of();
+        }
+        return scoreSummaryRepository.findAllWithStudentUserByClassroomAndTermKeyAndSubjectIdIn(classroom, termKey, subjectIds);
+    }
+
     /**
      * Optional을 반환하는 안전한 메서드 (새로 추가)
      */
@@ -329,35 +310,7 @@ public class ScoreSummaryService {
         return scoreSummaryRepository.findByStudentAndSubject(studentId, subjectId);
     }
 
-    private ClassroomStudent checkValidate(String username, int year, int grade, int classNum, int number) {
-        User user = userService.getUser(username);
-
-        switch (user.getRole()) {
-            case STUDENT -> {
-                // 본인이 요청한 게 맞는지 확인
-                ClassroomStudent cs = classroomStudentRepository.findByStudentUser(user).orElseThrow(
-                        () -> new CustomException(ErrorCode.CLASSROOM_NOT_FOUND)
-                );
-                if (cs.getNumber() != number) {
-                    throw new CustomException(HANDLE_ACCESS_DENIED);
-                }
-                return cs;
-            }
-
-            case TEACHER -> {
-                Teacher teacher = teacherService.authenticate(username);
 
-                Classroom classroom = classroomService.findClassroom(year, grade, classNum);
-
-                log.info("teacher " + teacher);
-                log.info("classroom : " + classroom.getClassNum());
-                return classroomStudentRepository.findByClassroomAndNumber(classroom, number)
-                        .orElseThrow(() -> new CustomException(HANDLE_ACCESS_DENIED));
-            }
-
-            default -> throw new CustomException(HANDLE_ACCESS_DENIED);
-        }
-    }
 
     private void getUserAndValidateAccess(String username, Long scoreSummaryId) {
         User user = userService.getUser(username);
@@ -375,6 +328,4 @@ public class ScoreSummaryService {
             teacherService.authenticate(username); // 추가 보안
         }
     }
-
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,7 @@
+package com.neeis.neeis.domain.semester;
+
+public enum CalendarEventType {
+    HOLIDAY,      // 휴업일 (공휴일, 재량휴업일 등) - 평일이어도 수업일에서 제외
+    SCHOOL_EVENT, // 학교 행사 - 수업일수에 영향 없음
+    MAKEUP_DAY    // 보강일 - 주말이어도 수업일에 포함
+}
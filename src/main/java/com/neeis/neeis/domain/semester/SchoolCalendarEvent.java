@@ -0,0 +1,42 @@
+package com.neeis.neeis.domain.semester;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_school_calendar_event_semester_date", columnList = "semester_id, date"))
+public class SchoolCalendarEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JoinColumn(name = "semester_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Semester semester;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private CalendarEventType type;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Builder
+    private SchoolCalendarEvent(Semester semester, LocalDate date, CalendarEventType type, String name) {
+        this.semester = semester;
+        this.date = date;
+        this.type = type;
+        this.name = name;
+    }
+}
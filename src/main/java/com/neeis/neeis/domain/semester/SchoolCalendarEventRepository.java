@@ -0,0 +1,9 @@
+package com.neeis.neeis.domain.semester;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SchoolCalendarEventRepository extends JpaRepository<SchoolCalendarEvent, Long> {
+    List<SchoolCalendarEvent> findAllBySemesterOrderByDateAsc(Semester semester);
+}
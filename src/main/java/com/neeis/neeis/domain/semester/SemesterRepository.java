@@ -2,9 +2,12 @@ package com.neeis.neeis.domain.semester;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SemesterRepository extends JpaRepository<Semester, Long> {
     Optional<Semester> findByYearAndSemester(int year, int semester);
 
+    List<Semester> findAllByYear(int year);
+
 }
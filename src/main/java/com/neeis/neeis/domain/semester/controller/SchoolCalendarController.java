@@ -0,0 +1,58 @@
+package com.neeis.neeis.domain.semester.controller;
+
+import com.neeis.neeis.domain.semester.dto.req.CalendarEventRequestDto;
+import com.neeis.neeis.domain.semester.dto.res.CalendarEventResponseDto;
+import com.neeis.neeis.domain.semester.service.SchoolCalendarService;
+import com.neeis.neeis.domain.teacher.service.TeacherService;
+import com.neeis.neeis.global.common.CommonResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+import static com.neeis.neeis.global.common.StatusCode.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/calendar")
+public class SchoolCalendarController {
+
+    private final SchoolCalendarService schoolCalendarService;
+    private final TeacherService teacherService;
+
+    @GetMapping("/events")
+    @Operation(summary = "[전체 접근] 학기 학사 일정 조회", description = "입력한 연도, 학기의 휴업일 / 학교 행사 / 보강일을 날짜순으로 조회합니다.")
+    public ResponseEntity<CommonResponse<List<CalendarEventResponseDto>>> getEvents(@RequestParam("year") @Parameter(description = "연도") int year,
+                                                                                    @RequestParam("semester") @Parameter(description = "학기") int semester) {
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_GET_CALENDAR.getMessage(),
+                schoolCalendarService.getEvents(year, semester)));
+    }
+
+    @PostMapping("/events")
+    @Operation(summary = "[교사 전용] 학사 일정 등록", description = "학기 학사 일정을 등록합니다. <br>" +
+            "type : HOLIDAY(휴업일, 수업일에서 제외), SCHOOL_EVENT(학교 행사), MAKEUP_DAY(보강일, 주말이어도 수업일에 포함) <br>" +
+            "날짜는 학기 기간 안이어야 하며, 등록 즉시 출결 통계의 수업일수에 반영됩니다.")
+    public ResponseEntity<CommonResponse<CalendarEventResponseDto>> addEvent(@AuthenticationPrincipal UserDetails userDetails,
+                                                                             @RequestParam("year") @Parameter(description = "연도") int year,
+                                                                             @RequestParam("semester") @Parameter(description = "학기") int semester,
+                                                                             @Valid @RequestBody CalendarEventRequestDto requestDto) {
+        teacherService.authenticate(userDetails.getUsername());
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_POST_CALENDAR.getMessage(),
+                schoolCalendarService.addEvent(year, semester, requestDto)));
+    }
+
+    @DeleteMapping("/events/{eventId}")
+    @Operation(summary = "[교사 전용] 학사 일정 삭제", description = "등록된 학사 일정을 삭제합니다.")
+    public ResponseEntity<CommonResponse<Object>> deleteEvent(@AuthenticationPrincipal UserDetails userDetails,
+                                                              @PathVariable("eventId") Long eventId) {
+        teacherService.authenticate(userDetails.getUsername());
+        schoolCalendarService.deleteEvent(eventId);
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_DELETE_CALENDAR.getMessage()));
+    }
+}
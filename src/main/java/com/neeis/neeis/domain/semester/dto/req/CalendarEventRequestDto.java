@@ -0,0 +1,46 @@
+package com.neeis.neeis.domain.semester.dto.req;
+
+import com.neeis.neeis.domain.semester.CalendarEventType;
+import com.neeis.neeis.domain.semester.SchoolCalendarEvent;
+import com.neeis.neeis.domain.semester.Semester;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+public class CalendarEventRequestDto {
+
+    @NotNull(message = "날짜는 필수 입력값입니다.")
+    @Schema(description = "날짜", example = "2025-05-05")
+    private LocalDate date;
+
+    @NotNull(message = "일정 종류는 필수 입력값입니다.")
+    @Schema(description = "일정 종류 (HOLIDAY: 휴업일, SCHOOL_EVENT: 학교 행사, MAKEUP_DAY: 보강일)", example = "HOLIDAY")
+    private CalendarEventType type;
+
+    @NotBlank(message = "일정명은 필수 입력값입니다.")
+    @Schema(description = "일정명", example = "어린이날")
+    private String name;
+
+    @Builder
+    private CalendarEventRequestDto(LocalDate date, CalendarEventType type, String name) {
+        this.date = date;
+        this.type = type;
+        this.name = name;
+    }
+
+    public static SchoolCalendarEvent of(CalendarEventRequestDto dto, Semester semester) {
+        return SchoolCalendarEvent.builder()
+                .semester(semester)
+                .date(dto.getDate())
+                .type(dto.getType())
+                .name(dto.getName())
+                .build();
+    }
+}
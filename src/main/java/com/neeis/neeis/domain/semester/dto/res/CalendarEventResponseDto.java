@@ -0,0 +1,33 @@
+package com.neeis.neeis.domain.semester.dto.res;
+
+import com.neeis.neeis.domain.semester.CalendarEventType;
+import com.neeis.neeis.domain.semester.SchoolCalendarEvent;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class CalendarEventResponseDto {
+    private final Long eventId;
+    private final LocalDate date;
+    private final CalendarEventType type;
+    private final String name;
+
+    @Builder
+    private CalendarEventResponseDto(Long eventId, LocalDate date, CalendarEventType type, String name) {
+        this.eventId = eventId;
+        this.date = date;
+        this.type = type;
+        this.name = name;
+    }
+
+    public static CalendarEventResponseDto toDto(SchoolCalendarEvent event) {
+        return CalendarEventResponseDto.builder()
+                .eventId(event.getId())
+                .date(event.getDate())
+                .type(event.getType())
+                .name(event.getName())
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.neeis.neeis.domain.semester.event;
+
+import lombok.Getter;
+
+@Getter
+public class SchoolCalendarChangedEvent {
+    private final Long semesterId;
+
+    public SchoolCalendarChangedEvent(Long semesterId) {
+        this.semesterId = semesterId;
+    }
+}
@@ -0,0 +1,90 @@
+package com.neeis.neeis.domain.semester.service;
+
+import com.neeis.neeis.domain.semester.CalendarEventType;
+import com.neeis.neeis.domain.semester.SchoolCalendarEvent;
+import com.neeis.neeis.domain.semester.Semester;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 학기 수업일 달력 (불변)
+ * 학기 시작일부터의 일 수를 인덱스로 하는 BitSet 에 수업일을 표시하고, 누적합 배열로 기간 수업일수를 O(1) 에 계산한다.
+ * 수업일 = 평일(월~금) 중 휴업일이 아닌 날 + 보강일
+ */
+public class SchoolCalendar {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final BitSet schoolDays;
+    // prefix[i] = [startDate, startDate + i) 구간의 수업일수
+    private final int[] prefix;
+
+    private SchoolCalendar(LocalDate startDate, LocalDate endDate, BitSet schoolDays) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.schoolDays = schoolDays;
+
+        int length = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        this.prefix = new int[length + 1];
+        for (int i = 0; i < length; i++) {
+            prefix[i + 1] = prefix[i] + (schoolDays.get(i) ? 1 : 0);
+        }
+    }
+
+    public static SchoolCalendar of(Semester semester, List<SchoolCalendarEvent> events) {
+        LocalDate start = semester.getStartDate();
+        LocalDate end = semester.getEndDate();
+        int length = (int) ChronoUnit.DAYS.between(start, end) + 1;
+
+        BitSet schoolDays = new BitSet(length);
+        for (int i = 0; i < length; i++) {
+            if (start.plusDays(i).getDayOfWeek().getValue() <= 5) { // 1~5 : 월~금
+                schoolDays.set(i);
+            }
+        }
+
+        // 휴업일을 먼저 빼고 보강일을 더한다 (같은 날이면 보강일 우선)
+        for (SchoolCalendarEvent event : events) {
+            if (event.getType() == CalendarEventType.HOLIDAY) {
+                setIfInRange(schoolDays, start, end, event.getDate(), false);
+            }
+        }
+        for (SchoolCalendarEvent event : events) {
+            if (event.getType() == CalendarEventType.MAKEUP_DAY) {
+                setIfInRange(schoolDays, start, end, event.getDate(), true);
+            }
+        }
+
+        return new SchoolCalendar(start, end, schoolDays);
+    }
+
+    public boolean isSchoolDay(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate) && schoolDays.get(index(date));
+    }
+
+    // from ~ to (양 끝 포함) 수업일수 - 학기 밖 구간은 제외
+    public int countSchoolDays(LocalDate from, LocalDate to) {
+        LocalDate clampedFrom = from.isBefore(startDate) ? startDate : from;
+        LocalDate clampedTo = to.isAfter(endDate) ? endDate : to;
+        if (clampedFrom.isAfter(clampedTo)) return 0;
+
+        return prefix[index(clampedTo) + 1] - prefix[index(clampedFrom)];
+    }
+
+    // 학기 전체 수업일수
+    public int getTotalSchoolDays() {
+        return prefix[prefix.length - 1];
+    }
+
+    private int index(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(startDate, date);
+    }
+
+    private static void setIfInRange(BitSet bits, LocalDate start, LocalDate end, LocalDate date, boolean value) {
+        if (date.isBefore(start) || date.isAfter(end)) return;
+        bits.set((int) ChronoUnit.DAYS.between(start, date), value);
+    }
+}
@@ -0,0 +1,97 @@
+package com.neeis.neeis.domain.semester.service;
+
+import com.neeis.neeis.domain.semester.SchoolCalendarEvent;
+import com.neeis.neeis.domain.semester.SchoolCalendarEventRepository;
+import com.neeis.neeis.domain.semester.Semester;
+import com.neeis.neeis.domain.semester.SemesterRepository;
+import com.neeis.neeis.domain.semester.dto.req.CalendarEventRequestDto;
+import com.neeis.neeis.domain.semester.dto.res.CalendarEventResponseDto;
+import com.neeis.neeis.domain.semester.event.SchoolCalendarChangedEvent;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * 학사 일정 / 수업일 달력
+ * 학기별 SchoolCalendar 를 처음 조회할 때 만들어 메모리에 두고, 일정이 바뀌면 커밋 이후 해당 학기만 다시 만들도록 비운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SchoolCalendarService {
+
+    private final SemesterRepository semesterRepository;
+    private final SchoolCalendarEventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, SchoolCalendar> calendars = new ConcurrentHashMap<>();
+
+    public SchoolCalendar getCalendar(Semester semester) {
+        return calendars.computeIfAbsent(semester.getId(),
+                id -> SchoolCalendar.of(semester, eventRepository.findAllBySemesterOrderByDateAsc(semester)));
+    }
+
+    // from ~ to (양 끝 포함) 수업일수
+    public int countSchoolDays(Semester semester, LocalDate from, LocalDate to) {
+        return getCalendar(semester).countSchoolDays(from, to);
+    }
+
+    // 학사 일정 조회
+    public List<CalendarEventResponseDto> getEvents(int year, int semester) {
+        Semester semesterEntity = findSemester(year, semester);
+
+        return eventRepository.findAllBySemesterOrderByDateAsc(semesterEntity).stream()
+                .map(CalendarEventResponseDto::toDto)
+                .toList();
+    }
+
+    // 학사 일정 등록 (휴업일 / 행사 / 보강일)
+    @Transactional
+    public CalendarEventResponseDto addEvent(int year, int semester, CalendarEventRequestDto requestDto) {
+        Semester semesterEntity = findSemester(year, semester);
+
+        if (requestDto.getDate().isBefore(semesterEntity.getStartDate()) || requestDto.getDate().isAfter(semesterEntity.getEndDate())) {
+            throw new CustomException(ErrorCode.CALENDAR_DATE_OUT_OF_SEMESTER);
+        }
+
+        SchoolCalendarEvent event = eventRepository.save(CalendarEventRequestDto.of(requestDto, semesterEntity));
+        eventPublisher.publishEvent(new SchoolCalendarChangedEvent(semesterEntity.getId()));
+
+        return CalendarEventResponseDto.toDto(event);
+    }
+
+    // 학사 일정 삭제
+    @Transactional
+    public void deleteEvent(Long eventId) {
+        SchoolCalendarEvent event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new CustomException(ErrorCode.DATA_NOT_FOUND));
+
+        eventRepository.delete(event);
+        eventPublisher.publishEvent(new SchoolCalendarChangedEvent(event.getSemester().getId()));
+    }
+
+    // 일정 변경 커밋 이후 해당 학기 달력 무효화
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onCalendarChanged(SchoolCalendarChangedEvent event) {
+        calendars.remove(event.getSemesterId());
+        log.debug("학기 {} 수업일 달력 무효화", event.getSemesterId());
+    }
+
+    private Semester findSemester(int year, int semester) {
+        return semesterRepository.findByYearAndSemester(year, semester)
+                .orElseThrow(() -> new CustomException(ErrorCode.DATA_NOT_FOUND));
+    }
+}
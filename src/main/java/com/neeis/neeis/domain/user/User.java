@@ -4,6 +4,9 @@ import com.neeis.neeis.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -30,6 +33,9 @@ public class User extends BaseEntity {
     @Column(name = "fcm_token",nullable = true)
     private String fcmToken;
 
+    @Column(name = "tokens_valid_after")
+    private LocalDateTime tokensValidAfter; // 이 시각 이전에 발급된 토큰은 인정하지 않음 (비밀번호 변경 시 갱신)
+
     @Builder
     public User(String school, String username, String password, Role role) {
         this.school = school;
@@ -46,6 +52,11 @@ public class User extends BaseEntity {
         this.password = password;
     }
 
+    // 지금까지 발급된 액세스 / 리프레시 토큰 무효화 - 토큰 발급 시각(iat)이 초 단위이므로 초 단위로 맞춘다
+    public void invalidateTokens() {
+        this.tokensValidAfter = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
     public void updateFcmToken(String fcmToken) {
         this.fcmToken = fcmToken;
     }
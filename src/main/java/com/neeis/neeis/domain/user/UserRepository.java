@@ -1,10 +1,21 @@
 package com.neeis.neeis.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
    Optional<User> findByUsername(String username);
    Optional<User> findByFcmToken(String token);
+
+   // 만료된 FCM 토큰 일괄 제거 (알림 발송 스레드의 읽기 전용 트랜잭션과 분리해서 실행)
+   @Transactional(propagation = Propagation.REQUIRES_NEW)
+   @Modifying(clearAutomatically = true)
+   @Query("UPDATE User u SET u.fcmToken = null WHERE u.fcmToken IN :tokens")
+   int clearFcmTokens(Collection<String> tokens);
 }
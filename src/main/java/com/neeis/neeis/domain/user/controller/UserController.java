@@ -3,9 +3,12 @@ package com.neeis.neeis.domain.user.controller;
 import com.neeis.neeis.domain.user.dto.TokenResponseDto;
 import com.neeis.neeis.domain.user.dto.FcmTokenRequestDto;
 import com.neeis.neeis.domain.user.dto.LoginRequestDto;
+import com.neeis.neeis.domain.user.dto.TokenRefreshRequestDto;
+import com.neeis.neeis.domain.user.dto.TokenRefreshResponseDto;
 import com.neeis.neeis.domain.user.dto.UpdatePasswordRequestDto;
 import com.neeis.neeis.domain.user.service.UserService;
 import com.neeis.neeis.global.common.CommonResponse;
+import com.neeis.neeis.global.jwt.JwtClaims;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +39,27 @@ public class UserController {
         return ResponseEntity.ok(CommonResponse.from(SUCCESS_LOGIN.getMessage(),userService.login(loginRequestDto)));
     }
 
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 재발급", description = """
+            로그인 시 받은 리프레시 토큰으로 액세스 토큰과 리프레시 토큰을 새로 발급합니다. <br>
+            사용한 리프레시 토큰은 바로 폐기되므로 응답으로 받은 새 리프레시 토큰을 저장해야 합니다. <br>
+            이미 사용한 리프레시 토큰을 다시 보내면 해당 로그인 세션의 토큰이 모두 폐기되어 다시 로그인해야 합니다.
+            """)
+    public ResponseEntity<CommonResponse<TokenRefreshResponseDto>> refresh(@Valid @RequestBody TokenRefreshRequestDto requestDto) {
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_REFRESH_TOKEN.getMessage(), userService.reissue(requestDto.getRefreshToken())));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = """
+            현재 액세스 토큰과 리프레시 토큰을 폐기합니다. <br>
+            폐기된 토큰은 만료 전이라도 더 이상 사용할 수 없습니다.
+            """)
+    public ResponseEntity<CommonResponse<Object>> logout(@RequestAttribute(JwtClaims.REQUEST_ATTRIBUTE) JwtClaims claims,
+                                                         @RequestBody(required = false) TokenRefreshRequestDto requestDto) {
+        userService.logout(claims, requestDto == null ? null : requestDto.getRefreshToken());
+        return ResponseEntity.ok(CommonResponse.from(SUCCESS_LOGOUT.getMessage()));
+    }
+
     @PutMapping("/password")
     @Operation(summary = "비밀번호 변경", description = """
         사용자의 기존 비밀번호를 확인한 후 새 비밀번호로 변경합니다.
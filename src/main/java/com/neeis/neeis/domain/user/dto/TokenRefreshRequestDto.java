@@ -0,0 +1,22 @@
+package com.neeis.neeis.domain.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@Schema(description = "토큰 재발급 / 로그아웃 요청 DTO")
+public class TokenRefreshRequestDto {
+
+    @Schema(description = "로그인 시 받은 리프레시 토큰")
+    @NotBlank(message = "리프레시 토큰은 필수 입력 값입니다.")
+    private String refreshToken;
+
+    @Builder
+    private TokenRefreshRequestDto(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,16 @@
+package com.neeis.neeis.domain.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class TokenRefreshResponseDto {
+    private final String accessToken;
+    private final String refreshToken;
+
+    @Builder
+    private TokenRefreshResponseDto(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 @Getter
 public class TokenResponseDto {
     private final String accessToken;
+    private final String refreshToken;
     private final String name;
     private final String role;
     private final String subject;
@@ -20,9 +21,10 @@ public class TokenResponseDto {
     private final String studentName;
 
     @Builder
-    public TokenResponseDto(String accessToken,String name,String role, String subject,
+    public TokenResponseDto(String accessToken, String refreshToken, String name,String role, String subject,
                             Integer year, Integer grade, Integer classNum,Integer number, Long studentId, String studentName) {
         this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
         this.name = name;
         this.role = role;
         this.subject = subject;
@@ -34,10 +36,11 @@ public class TokenResponseDto {
         this.studentName = studentName;
     }
 
-    public static TokenResponseDto ofStudent(String accessToken, String name, String role,
+    public static TokenResponseDto ofStudent(String accessToken, String refreshToken, String name, String role,
                                              int year, int grade, int classNum, int number, Long studentId) {
         return TokenResponseDto.builder()
                 .accessToken(accessToken)
+                .refreshToken(refreshToken)
                 .name(name)
                 .role(role)
                 .year(year)
@@ -48,10 +51,11 @@ public class TokenResponseDto {
                 .build();
     }
 
-    public static TokenResponseDto ofTeacher(String accessToken, String name, String role, String subject,
+    public static TokenResponseDto ofTeacher(String accessToken, String refreshToken, String name, String role, String subject,
                                              int year, int grade, int classNum) {
         return TokenResponseDto.builder()
                 .accessToken(accessToken)
+                .refreshToken(refreshToken)
                 .name(name)
                 .role(role)
                 .subject(subject)
@@ -61,10 +65,11 @@ public class TokenResponseDto {
                 .build();
     }
 
-    public static TokenResponseDto ofParent(String accessToken, String name, String role,
+    public static TokenResponseDto ofParent(String accessToken, String refreshToken, String name, String role,
                                              int year, int grade, int classNum, int number, Long studentId, String studentName) {
         return TokenResponseDto.builder()
                 .accessToken(accessToken)
+                .refreshToken(refreshToken)
                 .name(name)
                 .role(role)
                 .year(year)
@@ -0,0 +1,15 @@
+package com.neeis.neeis.domain.user.event;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 / 역할 변경 알림 - 인증 주체 캐시 무효화용
+ */
+@Getter
+public class UserCredentialsChangedEvent {
+    private final String username;
+
+    public UserCredentialsChangedEvent(String username) {
+        this.username = username;
+    }
+}
@@ -18,11 +18,17 @@ import com.neeis.neeis.domain.user.User;
 import com.neeis.neeis.domain.user.UserRepository;
 import com.neeis.neeis.domain.user.dto.FcmTokenRequestDto;
 import com.neeis.neeis.domain.user.dto.LoginRequestDto;
+import com.neeis.neeis.domain.user.dto.TokenRefreshResponseDto;
 import com.neeis.neeis.domain.user.dto.UpdatePasswordRequestDto;
+import com.neeis.neeis.domain.user.event.UserCredentialsChangedEvent;
 import com.neeis.neeis.global.exception.CustomException;
 import com.neeis.neeis.global.exception.ErrorCode;
+import com.neeis.neeis.global.jwt.CustomUserDetails;
+import com.neeis.neeis.global.jwt.JwtClaims;
 import com.neeis.neeis.global.jwt.JwtProvider;
+import com.neeis.neeis.global.jwt.PrincipalCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,6 +51,8 @@ public class UserService {
     private final TeacherRepository teacherRepository;
     private final ClassroomStudentRepository classroomStudentRepository;
     private final TeacherSubjectRepository teacherSubjectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PrincipalCache principalCache;
 
     @Transactional
     public TokenResponseDto login(LoginRequestDto loginRequestDto) {
@@ -68,7 +76,8 @@ public class UserService {
             userRepository.save(user);
         }
 
-        String accessToken = jwtProvider.createAccessToken(user.getUsername(), user.getRole().name());
+        String accessToken = jwtProvider.createAccessToken(user.getId(), user.getUsername(), user.getRole().name());
+        String refreshToken = jwtProvider.createRefreshToken(user.getId(), user.getUsername());
 
         switch (user.getRole()) {
             case STUDENT -> {
@@ -79,7 +88,7 @@ public class UserService {
                         () -> new CustomException(CLASSROOM_NOT_FOUND));
                 Classroom classroom = classroomStudent.getClassroom();
 
-                return TokenResponseDto.ofStudent(accessToken,
+                return TokenResponseDto.ofStudent(accessToken, refreshToken,
                         student.getName(),
                         user.getRole().name(),
                         classroom.getYear(),
@@ -99,7 +108,7 @@ public class UserService {
                        ()-> new CustomException(CLASSROOM_NOT_FOUND)
                );
 
-               return TokenResponseDto.ofTeacher(accessToken, teacher.getName(), user.getRole().name(), subject.getSubject().getName(),
+               return TokenResponseDto.ofTeacher(accessToken, refreshToken, teacher.getName(), user.getRole().name(), subject.getSubject().getName(),
                        classroom.getYear(), classroom.getGrade(), classroom.getClassNum());
             }
             case PARENT -> {
@@ -115,7 +124,7 @@ public class UserService {
                         () -> new CustomException(CLASSROOM_NOT_FOUND));
                 Classroom classroom = classroomStudent.getClassroom();
 
-                return TokenResponseDto.ofParent(accessToken,
+                return TokenResponseDto.ofParent(accessToken, refreshToken,
                         parent.getName(),
                         user.getRole().name(),
                         classroom.getYear(),
@@ -130,6 +139,48 @@ public class UserService {
         }
     }
 
+    /**
+     * 리프레시 토큰으로 토큰 재발급 (비밀번호 검증 없이 서명 확인만)
+     * 사용한 리프레시 토큰은 폐기하고 같은 계열의 새 리프레시 토큰을 발급한다.
+     * 이미 교체된 리프레시 토큰이 다시 쓰이면 탈취로 보고 계열 전체를 폐기한다.
+     */
+    public TokenRefreshResponseDto reissue(String refreshToken) {
+        JwtClaims claims = jwtProvider.verify(refreshToken);
+        if (claims == null || !claims.isRefreshToken() || jwtProvider.isRevoked(claims)) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (!jwtProvider.revoke(claims)) {
+            jwtProvider.revokeFamily(claims);
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        // 역할은 토큰이 아닌 현재 값 기준 (인증 주체 캐시 사용)
+        CustomUserDetails principal = principalCache.get(claims.getUsername());
+        if (claims.getUserId() != null && !claims.getUserId().equals(principal.getUserId())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        // 비밀번호 변경 이전에 발급된 계열은 재발급 불가
+        if (principal.isIssuedBeforeInvalidation(claims.getIssuedAt())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        return TokenRefreshResponseDto.builder()
+                .accessToken(jwtProvider.createAccessToken(principal.getUserId(), principal.getUsername(), principal.getRole().name()))
+                .refreshToken(jwtProvider.createRefreshToken(principal.getUserId(), principal.getUsername(), claims.getFamilyId()))
+                .build();
+    }
+
+    // 로그아웃 - 현재 액세스 토큰과 리프레시 토큰 계열 폐기
+    public void logout(JwtClaims accessClaims, String refreshToken) {
+        jwtProvider.revoke(accessClaims);
+
+        JwtClaims refreshClaims = refreshToken == null ? null : jwtProvider.verify(refreshToken);
+        if (refreshClaims != null && refreshClaims.isRefreshToken()
+                && refreshClaims.getUsername().equals(accessClaims.getUsername())) {
+            jwtProvider.revokeFamily(refreshClaims);
+        }
+    }
+
     @Transactional
     public void updatePassword(UpdatePasswordRequestDto requestDto) {
         User user = userRepository.findByUsername(requestDto.getLoginId()).orElseThrow(
@@ -144,6 +195,9 @@ public class UserService {
         }
 
         user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
+        // 이전에 발급된 토큰 무효화 - 주체 캐시가 비워지면 다음 요청부터 적용된다
+        user.invalidateTokens();
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(user.getUsername()));
     }
 
     @Transactional
@@ -0,0 +1,27 @@
+package com.neeis.neeis.global.backfill;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일회성 백필 완료 표시
+ * 집계 테이블에 행이 있는지로 완료 여부를 판단하면, 백필 전에 들어온 증감분 한 건만으로도 백필이 영영 건너뛰어진다.
+ * 백필이 끝까지 돌았을 때만 이름별로 한 행을 남긴다. 행 생성 / 조회는 BackfillMarkerRepository 에서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "backfill_marker")
+public class BackfillMarker {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,30 @@
+package com.neeis.neeis.global.backfill;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class BackfillMarkerRepository {
+
+    private static final String EXISTS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM backfill_marker WHERE name = ?)";
+
+    // 이미 완료 표시가 있으면 처음 완료 시각 유지
+    private static final String MARK_SQL =
+            "INSERT IGNORE INTO backfill_marker (name, completed_at) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isCompleted(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, name));
+    }
+
+    public void markCompleted(String name) {
+        jdbcTemplate.update(MARK_SQL, name, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
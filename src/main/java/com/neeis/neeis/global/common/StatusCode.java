@@ -11,6 +11,8 @@ public enum StatusCode {
     SUCCESS_LOGIN(HttpStatus.OK, "Common-Login", "로그인에 성공하였습니다."),
     SUCCESS_GET_USERNAME(HttpStatus.OK, "Common-Login", "아이디 찾기에 성공하였습니다."),
     SUCCESS_GET_PASSWORD(HttpStatus.OK, "Common-Login", "비밀번호 찾기에 성공하였습니다."),
+    SUCCESS_REFRESH_TOKEN(HttpStatus.OK, "Common-Login", "토큰 재발급에 성공하였습니다."),
+    SUCCESS_LOGOUT(HttpStatus.OK, "Common-Login", "로그아웃에 성공하였습니다."),
 
     SUCCESS_SAVE_FCM_TOKEN(HttpStatus.OK, "Commone", "FCM 토큰 저장에 성공하였습니다."),
 
@@ -29,6 +31,11 @@ public enum StatusCode {
 
     SUCCESS_POST_ATTENDANCE(HttpStatus.OK, "Common-Attendance", "출결 저장에 성공하였습니다."),
     SUCCESS_GET_ATTENDANCE(HttpStatus.OK, "Common-Attendance", "출결 조회에 성공하였습니다."),
+    SUCCESS_CLOSE_ROLL_CALL(HttpStatus.OK, "Common-Attendance", "출석 부르기를 종료하고 저장하였습니다."),
+
+    SUCCESS_GET_CALENDAR(HttpStatus.OK, "Common-Calendar", "학사 일정 조회에 성공하였습니다."),
+    SUCCESS_POST_CALENDAR(HttpStatus.OK, "Common-Calendar", "학사 일정 저장에 성공하였습니다."),
+    SUCCESS_DELETE_CALENDAR(HttpStatus.OK, "Common-Calendar", "학사 일정 삭제에 성공하였습니다."),
 
     SUCCESS_POST_FEEDBACK(HttpStatus.OK, "Common-Feedback", "피드백 저장에 성공하였습니다."),
     SUCCESS_GET_FEEDBACK(HttpStatus.OK, "Common-Feedback", "피드백 조회에 성공하였습니다."),
@@ -47,6 +54,7 @@ public enum StatusCode {
 
     SUCCESS_POST_SCORE(HttpStatus.OK, "Score", "성적 저장에 성공하였습니다."),
     SUCCESS_GET_SCORE(HttpStatus.OK, "Score", "성적 조회에 성공하였습니다."),
+    SUCCESS_UPDATE_SCORE_SUMMARY(HttpStatus.OK, "Score", "성적 통계 재계산에 성공하였습니다."),
 
     SUCCESS_GET_NOTIFICATION(HttpStatus.OK, "Notice", "알림 조회에 성공하였습니다."),
 
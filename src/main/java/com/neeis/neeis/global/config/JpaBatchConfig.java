@@ -0,0 +1,47 @@
+package com.neeis.neeis.global.config;
+
+import com.neeis.neeis.domain.score.Score;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class JpaBatchConfig {
+
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    // 성적 일괄 저장 등 대량 insert/update 를 JDBC 배치로 묶어 전송
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    /**
+     * score ID 를 IDENTITY -> 시퀀스(score_seq 테이블)로 전환하면서
+     * 기존 데이터의 최대 ID 이후부터 발급되도록 시퀀스 값을 맞춘다.
+     * 모든 싱글톤 생성 직후(웹 서버 시작 전)에 실행되므로, 요청이 들어와 ID 를 발급하기 전에 정렬이 끝난다.
+     * 정렬에 실패하면 새 성적 insert 가 기존 PK 와 충돌하므로 기동을 중단한다.
+     */
+    @Bean
+    public SmartInitializingSingleton scoreSequenceAligner(JdbcTemplate jdbcTemplate) {
+        return () -> {
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS score_seq (next_val BIGINT)");
+                jdbcTemplate.update("INSERT INTO score_seq (next_val) " +
+                        "SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM score_seq)");
+                jdbcTemplate.update("UPDATE score_seq SET next_val = " +
+                        "GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + ? FROM score))", Score.ID_ALLOCATION_SIZE + 1);
+            } catch (DataAccessException e) {
+                throw new IllegalStateException("score_seq 시퀀스 정렬 실패 - 기동을 중단합니다", e);
+            }
+        };
+    }
+}
@@ -49,12 +49,13 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests((auth) -> auth
                         .requestMatchers("/swagger-ui/**","/swagger-ui/index.html#/","/v3/api-docs/**", "/swagger-resources/**").permitAll()
-                        .requestMatchers("/users/login","/users/password", "/students/id", "/students/password", "/images/**").permitAll()
+                        .requestMatchers("/users/login","/users/refresh","/users/password", "/students/id", "/students/password", "/images/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/teacherSubjects", "/subjects", "/users/fcm/register").permitAll()
                         // 학적
                         .requestMatchers(HttpMethod.GET, "/teachers/students/**").hasAnyAuthority( "ROLE_STUDENT", "ROLE_PARENT", "ROLE_TEACHER")
                         // 출결
                         .requestMatchers(HttpMethod.GET, "/attendances/student", "/attendances/summary", "/attendances/feedback").hasAnyAuthority("ROLE_STUDENT", "ROLE_PARENT", "ROLE_TEACHER")
+                        .requestMatchers(HttpMethod.GET, "/attendances/analytics").hasAnyAuthority("ROLE_TEACHER", "ROLE_ADMIN")
                         // 행동
                         .requestMatchers(HttpMethod.GET, "/behavior").hasAnyAuthority("ROLE_STUDENT","ROLE_PARENT", "ROLE_TEACHER")
                         // 상담
@@ -62,11 +63,15 @@ public class SecurityConfig {
                         // 성적
                         .requestMatchers(HttpMethod.GET, "/evaluation-methods").hasAnyAuthority("ROLE_STUDENT", "ROLE_PARENT", "ROLE_TEACHER")
                         .requestMatchers(HttpMethod.GET, "/score-summary", "/score-summary/feedback/**").hasAnyAuthority("ROLE_STUDENT", "ROLE_PARENT", "ROLE_TEACHER")
+                        // 학사 일정
+                        .requestMatchers(HttpMethod.GET, "/calendar/**").hasAnyAuthority("ROLE_STUDENT", "ROLE_PARENT", "ROLE_TEACHER")
                         // 보고서
                         .requestMatchers("/reports/**").hasAnyAuthority("ROLE_STUDENT", "ROLE_PARENT", "ROLE_TEACHER")
                         // 교사 권한
                         .requestMatchers("/teachers/**", "/attendances/**", "/behavior/**" , "/counsel/**", "/evaluation-methods/**","/scores","/scores/**", "/score-summary/**").hasAnyAuthority("ROLE_TEACHER")
-                        .requestMatchers("/students/register","/students/**","/subjects/**","/teacherSubjects/**").hasAnyAuthority("ROLE_TEACHER","ROLE_ADMIN")
+                        .requestMatchers("/students/register","/students/**","/subjects/**","/teacherSubjects/**","/calendar/**").hasAnyAuthority("ROLE_TEACHER","ROLE_ADMIN")
+                        // 운영 (인증 추적 샘플링 변경)
+                        .requestMatchers("/actuator/authtrace").hasAnyAuthority("ROLE_ADMIN")
                         .anyRequest().authenticated())
                 .addFilterBefore(new JwtAuthenticationFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(unAuthorizedEntryPoint()))
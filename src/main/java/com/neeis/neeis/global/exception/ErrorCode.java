@@ -15,6 +15,7 @@ public enum ErrorCode {
     INVALID_JSON(HttpStatus.BAD_REQUEST, "COMMON-004", "요청 JSON이 유효하지 않습니다."),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "Common-005", "접근이 제한됩니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "Common-006", "Token Expired"),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Common-008", "Invalid Token"),
     DATA_NOT_FOUND(HttpStatus.NOT_FOUND, "DB-002", "데이터가 존재하지 않습니다."),
 
 
@@ -32,6 +33,8 @@ public enum ErrorCode {
     BEHAVIOR_NOT_FOUND(HttpStatus.NOT_FOUND, "Behavior-001", "행동 특성 데이터가 존재하지 않습니다."),
 
     INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "Attendance-001","조회 날짜가 학기 시작일 이전입니다."),
+    INVALID_ROLL_CALL_DATE(HttpStatus.BAD_REQUEST, "Attendance-002", "미래 날짜의 출결은 입력할 수 없습니다."),
+    CALENDAR_DATE_OUT_OF_SEMESTER(HttpStatus.BAD_REQUEST, "Calendar-001", "학사 일정 날짜가 학기 기간을 벗어났습니다."),
 
     IMAGE_SAVE_ERROR(HttpStatus.BAD_REQUEST, "Common-007", "이미지 저장에 실패했습니다."),
 
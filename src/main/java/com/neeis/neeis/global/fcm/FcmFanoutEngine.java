@@ -0,0 +1,171 @@
+package com.neeis.neeis.global.fcm;
+
+import com.google.firebase.messaging.*;
+import com.neeis.neeis.domain.user.UserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * FCM 일괄 발송
+ * 받는 사람 토큰을 최대 500개(FCM 한 번 요청 한도)씩 묶어 한 번의 호출로 보낸다.
+ * - 같은 내용: sendEachForMulticast
+ * - 받는 사람마다 내용이 다름: sendEach
+ * 토큰별 결과를 다시 토큰에 대응시켜 UNREGISTERED 토큰은 발송이 끝난 뒤 한 번에 지우고,
+ * 일시 오류(INTERNAL / UNAVAILABLE)가 난 토큰만 골라 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmFanoutEngine {
+    static final int MAX_BATCH_SIZE = 500;
+    static final int MAX_ATTEMPTS = 3;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final UserRepository userRepository;
+
+    @Value("${fcm.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+
+    // 같은 알림을 여러 토큰에 발송
+    public FanoutResult multicast(Collection<String> tokens, String title, String body, Map<String, String> data) {
+        List<FcmMessageRequest> requests = new ArrayList<>();
+        for (String token : new LinkedHashSet<>(tokens)) {
+            requests.add(FcmMessageRequest.of(token, title, body, data));
+        }
+        return dispatch(requests, true);
+    }
+
+    // 받는 사람마다 다른 알림을 발송
+    public FanoutResult sendEach(List<FcmMessageRequest> requests) {
+        return dispatch(requests, false);
+    }
+
+    private FanoutResult dispatch(List<FcmMessageRequest> requests, boolean sameContent) {
+        List<FcmMessageRequest> pending = requests.stream()
+                .filter(request -> request.getToken() != null && !request.getToken().isBlank())
+                .toList();
+
+        FanoutResult result = new FanoutResult();
+        long backoff = retryBackoffMillis;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                log.info("[FCM] 일시 오류 토큰 재시도 {}회차 - {}건", attempt - 1, pending.size());
+                if (!sleep(backoff)) break;
+                backoff *= 2;
+            }
+
+            List<FcmMessageRequest> retry = new ArrayList<>();
+            for (int from = 0; from < pending.size(); from += MAX_BATCH_SIZE) {
+                List<FcmMessageRequest> batch = pending.subList(from, Math.min(from + MAX_BATCH_SIZE, pending.size()));
+                sendBatch(batch, sameContent, result, retry);
+            }
+            pending = retry;
+        }
+        result.failedCount += pending.size();
+        result.retryableCount = pending.size();
+
+        if (!result.unregisteredTokens.isEmpty()) {
+            int cleared = userRepository.clearFcmTokens(result.unregisteredTokens);
+            log.warn("[FCM] 유효하지 않은 토큰 {}건 제거 (사용자 {}명)", result.unregisteredTokens.size(), cleared);
+        }
+        if (result.failedCount > 0) {
+            log.warn("[FCM] 일괄 발송 실패 {}건 / 성공 {}건", result.failedCount, result.sentCount);
+        }
+        return result;
+    }
+
+    private void sendBatch(List<FcmMessageRequest> batch, boolean sameContent,
+                           FanoutResult result, List<FcmMessageRequest> retry) {
+        BatchResponse response;
+        try {
+            response = sameContent
+                    ? firebaseMessaging.sendEachForMulticast(toMulticast(batch))
+                    : firebaseMessaging.sendEach(batch.stream().map(FcmFanoutEngine::toMessage).toList());
+        } catch (FirebaseMessagingException e) {
+            // 요청 자체가 실패하면 묶음 전체를 오류 코드 기준으로 처리
+            log.warn("[FCM] 일괄 발송 요청 실패 ({}건): {}", batch.size(), e.getMessage());
+            if (isRetryable(e.getMessagingErrorCode())) {
+                retry.addAll(batch);
+            } else {
+                result.failedCount += batch.size();
+            }
+            return;
+        }
+
+        // 응답 순서는 요청한 토큰 순서와 같다
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful()) {
+                result.sentCount++;
+                continue;
+            }
+            MessagingErrorCode errorCode = sendResponse.getException() == null
+                    ? null : sendResponse.getException().getMessagingErrorCode();
+            if (errorCode == MessagingErrorCode.UNREGISTERED) {
+                result.unregisteredTokens.add(batch.get(i).getToken());
+            } else if (isRetryable(errorCode)) {
+                retry.add(batch.get(i));
+            } else {
+                result.failedCount++;
+                log.debug("[FCM] 전송 실패 - 오류 코드: {}", errorCode);
+            }
+        }
+    }
+
+    private static boolean isRetryable(MessagingErrorCode errorCode) {
+        return errorCode == MessagingErrorCode.INTERNAL || errorCode == MessagingErrorCode.UNAVAILABLE;
+    }
+
+    private static MulticastMessage toMulticast(List<FcmMessageRequest> batch) {
+        FcmMessageRequest first = batch.get(0);
+        return MulticastMessage.builder()
+                .addAllTokens(batch.stream().map(FcmMessageRequest::getToken).toList())
+                .setNotification(toNotification(first))
+                .putAllData(first.getData() == null ? Map.of() : first.getData())
+                .build();
+    }
+
+    private static Message toMessage(FcmMessageRequest request) {
+        return Message.builder()
+                .setToken(request.getToken())
+                .setNotification(toNotification(request))
+                .putAllData(request.getData() == null ? Map.of() : request.getData())
+                .build();
+    }
+
+    private static Notification toNotification(FcmMessageRequest request) {
+        return Notification.builder()
+                .setTitle(request.getTitle())
+                .setBody(request.getBody())
+                .build();
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Getter
+    public static class FanoutResult {
+        private int sentCount;
+        private int failedCount;
+        private int retryableCount;   // 재시도 후에도 일시 오류로 남은 건수
+        private final Set<String> unregisteredTokens = new LinkedHashSet<>();
+
+        // 한 건도 보내지 못하고 일시 오류만 남은 경우 (FCM 장애 등) - 나중에 통째로 다시 보내도 중복이 없다
+        public boolean isTransientOutage() {
+            return sentCount == 0 && retryableCount > 0;
+        }
+    }
+}
@@ -2,32 +2,32 @@ package com.neeis.neeis.global.fcm;
 
 import com.google.firebase.messaging.*;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
+import com.neeis.neeis.domain.counsel.Counsel;
+import com.neeis.neeis.domain.counsel.CounselRepository;
+import com.neeis.neeis.domain.notification.NotificationDigest;
+import com.neeis.neeis.domain.notification.NotificationDigestRepository;
 import com.neeis.neeis.domain.parent.Parent;
 import com.neeis.neeis.domain.parent.ParentService;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummaryRepository;
 import com.neeis.neeis.domain.student.Student;
 import com.neeis.neeis.domain.user.User;
 import com.neeis.neeis.domain.user.UserRepository;
-import com.neeis.neeis.global.fcm.event.SendCounselFcmEvent;
-import com.neeis.neeis.global.fcm.event.SendFeedbackFcmEvent;
-import com.neeis.neeis.global.fcm.event.SendScoreFcmEvent;
-import lombok.RequiredArgsConstructor;
+import com.neeis.neeis.global.fcm.outbox.FcmOutboxType;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.retry.annotation.Recover;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-
-import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class FcmService {
@@ -35,6 +35,30 @@ public class FcmService {
     private final FirebaseMessaging firebaseMessaging;
     private final UserRepository userRepository;
     private final ParentService parentService;
+    private final FcmFanoutEngine fcmFanoutEngine;
+    private final ScoreSummaryRepository scoreSummaryRepository;
+    private final CounselRepository counselRepository;
+    private final NotificationDigestRepository notificationDigestRepository;
+    private final TransactionTemplate readTransaction;
+
+    public FcmService(FirebaseMessaging firebaseMessaging,
+                      UserRepository userRepository,
+                      ParentService parentService,
+                      FcmFanoutEngine fcmFanoutEngine,
+                      ScoreSummaryRepository scoreSummaryRepository,
+                      CounselRepository counselRepository,
+                      NotificationDigestRepository notificationDigestRepository,
+                      PlatformTransactionManager transactionManager) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.userRepository = userRepository;
+        this.parentService = parentService;
+        this.fcmFanoutEngine = fcmFanoutEngine;
+        this.scoreSummaryRepository = scoreSummaryRepository;
+        this.counselRepository = counselRepository;
+        this.notificationDigestRepository = notificationDigestRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
 
     public void sendNotification(FcmMessageRequest fcmMessageRequest) throws FirebaseMessagingException {
         if (fcmMessageRequest.getToken() == null || fcmMessageRequest.getToken().isBlank()) return;
@@ -68,16 +92,32 @@ public class FcmService {
         }
     }
 
-    @Async("FcmExecutor")
-    @TransactionalEventListener(phase = AFTER_COMMIT)
-    @Retryable(
-            recover = "recoverSendFeedbackFcm",
-            retryFor = FirebaseMessagingException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    public void sendFeedbackFcm(SendFeedbackFcmEvent event) throws FirebaseMessagingException {
-        ScoreSummary summary = event.getScoreSummary();
+    /**
+     * 아웃박스 행 발송 (FcmOutboxDispatcher 에서 호출)
+     * 대상은 발송 시점에 다시 조회하며, 그 사이 삭제된 대상은 건너뛴다.
+     * 대상 조회 / 메시지 구성은 짧은 읽기 트랜잭션에서 끝내고, 발송(HTTPS 호출, 재시도 대기)은 트랜잭션 밖에서 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FcmFanoutEngine.FanoutResult dispatch(FcmOutboxType type, List<Long> targetIds) {
+        Supplier<FcmFanoutEngine.FanoutResult> send = readTransaction.execute(status -> prepare(type, targetIds));
+        return send == null ? new FcmFanoutEngine.FanoutResult() : send.get();
+    }
+
+    private Supplier<FcmFanoutEngine.FanoutResult> prepare(FcmOutboxType type, List<Long> targetIds) {
+        return switch (type) {
+            case SCORE_DIGEST -> prepareScoreDigestFcm(notificationDigestRepository.findAllWithRecipientByIdIn(targetIds));
+            case SCORE -> prepareScoreFcm(scoreSummaryRepository.findAllWithStudentUserByIdIn(targetIds));
+            case FEEDBACK -> scoreSummaryRepository.findAllWithStudentUserByIdIn(targetIds).stream()
+                    .findFirst()
+                    .map(this::prepareFeedbackFcm)
+                    .orElse(FcmFanoutEngine.FanoutResult::new);
+            case COUNSEL -> counselRepository.findById(targetIds.get(0))
+                    .map(this::prepareCounselFcm)
+                    .orElse(FcmFanoutEngine.FanoutResult::new);
+        };
+    }
+
+    private Supplier<FcmFanoutEngine.FanoutResult> prepareFeedbackFcm(ScoreSummary summary) {
         ClassroomStudent classroomStudent = summary.getClassroomStudent();
         Student student = classroomStudent.getStudent();
 
@@ -91,92 +131,107 @@ public class FcmService {
                 "subject", summary.getSubject().getName()
         );
 
-        sendNotification(FcmMessageRequest.of(student.getUser().getFcmToken(), title, body, data));
-
-        // 부모에게도 발송
-        List<Parent> parents = parentService.getParents(student);
-        for (Parent parent : parents) {
-            User parentUser = parent.getUser();
-            sendNotification(FcmMessageRequest.of(parentUser.getFcmToken(), title, body, data));
-        };
+        // 학생 + 부모에게 한 번에 발송
+        List<String> tokens = recipientTokens(student, parentService.getParents(student));
+        return () -> fcmFanoutEngine.multicast(tokens, title, body, data);
     }
 
-    @Async("FcmExecutor")
-    @TransactionalEventListener(phase = AFTER_COMMIT)
-    @Retryable(
-            recover = "recoverSendCounselFcm",
-            retryFor = FirebaseMessagingException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    public void sendCounselFcm(SendCounselFcmEvent event) throws FirebaseMessagingException {
-        Student student = event.getCounsel().getStudent();
+    private Supplier<FcmFanoutEngine.FanoutResult> prepareCounselFcm(Counsel counsel) {
+        Student student = counsel.getStudent();
 
         String title = "새 상담 내역이 등록되었어요";
         String body = String.format("%s 학생에 대한 상담이 등록되었습니다.", student.getName());
 
         Map<String, String> data = Map.of(
                 "type", "COUNSEL",
-                "counselId", event.getCounsel().getId().toString()
+                "counselId", counsel.getId().toString()
         );
 
-        sendNotification(FcmMessageRequest.of(student.getUser().getFcmToken(), title, body, data));
-
-        List<Parent> parents = parentService.getParents(student);
-        for (Parent parent : parents) {
-            User parentUser = parent.getUser();
-            sendNotification(FcmMessageRequest.of(parentUser.getFcmToken(), title, body, data));
-        }
+        List<String> tokens = recipientTokens(student, parentService.getParents(student));
+        return () -> fcmFanoutEngine.multicast(tokens, title, body, data);
     }
 
-    @Async("FcmExecutor")
-    @TransactionalEventListener(phase = AFTER_COMMIT)
-    @Retryable(
-            recover = "recoverSendScoreFcm",
-            retryFor = FirebaseMessagingException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    public void sendScoreFcm(SendScoreFcmEvent event) throws FirebaseMessagingException {
-        ScoreSummary summary = event.getScoreSummary();
-        ClassroomStudent cs = summary.getClassroomStudent();
-        Student student = cs.getStudent();
-
-        String subject = summary.getSubject().getName();
-
-        String title = "성적이 입력되었어요";
-        String body = String.format("%s 과목의 성적이 입력 및 분석되었습니다.", subject);
-
-        Map<String, String> data = Map.of(
-                "type", "SCORE",
-                "summaryId", summary.getId().toString(),
-                "subject", subject
-        );
+    /**
+     * 한 과목의 성적 알림 일괄 발송 (묶음 도입 전에 기록된 아웃박스 행 처리용)
+     * 학생마다 요약 ID 가 다르므로 메시지를 따로 만들고, 최대 500건씩 묶어 보낸다.
+     * 학부모는 대상 학생 전체를 한 번에 조회한다.
+     */
+    private Supplier<FcmFanoutEngine.FanoutResult> prepareScoreFcm(List<ScoreSummary> summaries) {
+        if (summaries.isEmpty()) return FcmFanoutEngine.FanoutResult::new;
 
-        sendNotification(FcmMessageRequest.of(student.getUser().getFcmToken(), title, body, data));
+        List<Student> students = summaries.stream()
+                .map(summary -> summary.getClassroomStudent().getStudent())
+                .toList();
+        Map<Long, List<Parent>> parentsByStudentId = parentService.getParents(students).stream()
+                .collect(Collectors.groupingBy(parent -> parent.getStudent().getId()));
 
-        List<Parent> parents = parentService.getParents(student);
-        for (Parent parent : parents) {
-            User parentUser = parent.getUser();
-            sendNotification(FcmMessageRequest.of(parentUser.getFcmToken(), title, body, data));
+        String title = "성적이 입력되었어요";
+        List<FcmMessageRequest> requests = new ArrayList<>();
+        for (ScoreSummary summary : summaries) {
+            Student student = summary.getClassroomStudent().getStudent();
+            String subject = summary.getSubject().getName();
+            String body = String.format("%s 과목의 성적이 입력 및 분석되었습니다.", subject);
+
+            Map<String, String> data = Map.of(
+                    "type", "SCORE",
+                    "summaryId", summary.getId().toString(),
+                    "subject", subject
+            );
+
+            List<Parent> parents = parentsByStudentId.getOrDefault(student.getId(), List.of());
+            for (String token : recipientTokens(student, parents)) {
+                requests.add(FcmMessageRequest.of(token, title, body, data));
+            }
         }
-    }
 
-    @Recover
-    public void recoverSendFeedbackFcm(FirebaseMessagingException e, SendFeedbackFcmEvent event) {
-        log.error("[FCM] 피드백 알림 재시도 실패 - summaryId: {}", event.getScoreSummary().getId(), e);
+        int summaryCount = summaries.size();
+        return () -> {
+            FcmFanoutEngine.FanoutResult result = fcmFanoutEngine.sendEach(requests);
+            log.info("[FCM] 성적 알림 발송 - 요약 {}건, 성공 {}건, 실패 {}건",
+                    summaryCount, result.getSentCount(), result.getFailedCount());
+            return result;
+        };
     }
 
-    @Recover
-    public void recoverSendCounselFcm(FirebaseMessagingException e, SendCounselFcmEvent event) {
-        log.error("[FCM] 상담 알림 재시도 실패 - counselId: {}", event.getCounsel().getId(), e);
-    }
+    /**
+     * 성적 알림 묶음 발송 - 받는 사람마다 묶인 과목 목록으로 한 번씩, 최대 500건씩 묶어 보낸다.
+     */
+    private Supplier<FcmFanoutEngine.FanoutResult> prepareScoreDigestFcm(List<NotificationDigest> digests) {
+        String title = "성적이 입력되었어요";
+        List<FcmMessageRequest> requests = new ArrayList<>();
+        for (NotificationDigest digest : digests) {
+            List<String> subjects = digest.getSubjectList();
+            List<Long> summaryIds = digest.getSummaryIdList();
+
+            // 기존 단건 알림 키(summaryId, subject)는 마지막 과목 기준으로 유지
+            Map<String, String> data = Map.of(
+                    "type", "SCORE",
+                    "summaryId", summaryIds.get(summaryIds.size() - 1).toString(),
+                    "subject", subjects.get(subjects.size() - 1),
+                    "summaryIds", summaryIds.stream().map(String::valueOf).collect(Collectors.joining(",")),
+                    "subjects", String.join(",", subjects)
+            );
+            requests.add(FcmMessageRequest.of(digest.getRecipient().getFcmToken(), title, digest.content(), data));
+        }
 
-    @Recover
-    public void recoverSendScoreFcm(FirebaseMessagingException e, SendScoreFcmEvent event) {
-        log.error("[FCM] 성적 알림 재시도 실패 - summaryId: {}", event.getScoreSummary().getId(), e);
+        int digestCount = digests.size();
+        return () -> {
+            FcmFanoutEngine.FanoutResult result = fcmFanoutEngine.sendEach(requests);
+            log.info("[FCM] 성적 알림 묶음 발송 - 묶음 {}건, 성공 {}건, 실패 {}건",
+                    digestCount, result.getSentCount(), result.getFailedCount());
+            return result;
+        };
     }
 
-
-
+    // 학생 본인 + 학부모 토큰 (토큰이 없는 사용자는 제외)
+    private List<String> recipientTokens(Student student, List<Parent> parents) {
+        List<String> tokens = new ArrayList<>();
+        tokens.add(student.getUser().getFcmToken());
+        for (Parent parent : parents) {
+            User parentUser = parent.getUser();
+            tokens.add(parentUser.getFcmToken());
+        }
+        tokens.removeIf(token -> token == null || token.isBlank());
+        return tokens;
+    }
 }
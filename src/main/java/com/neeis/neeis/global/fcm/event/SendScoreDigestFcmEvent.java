@@ -0,0 +1,18 @@
+package com.neeis.neeis.global.fcm.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 새로 만든 성적 알림 묶음 - flushAt 에 한 번에 발송한다.
+@Getter
+public class SendScoreDigestFcmEvent {
+    private final List<Long> digestIds;
+    private final LocalDateTime flushAt;
+
+    public SendScoreDigestFcmEvent(List<Long> digestIds, LocalDateTime flushAt) {
+        this.digestIds = List.copyOf(digestIds);
+        this.flushAt = flushAt;
+    }
+}
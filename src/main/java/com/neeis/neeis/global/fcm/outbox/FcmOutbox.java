@@ -0,0 +1,75 @@
+package com.neeis.neeis.global.fcm.outbox;
+
+import com.neeis.neeis.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 푸시 알림 아웃박스
+ * 업무 데이터와 같은 트랜잭션에서 저장하고, FcmOutboxDispatcher 가 커밋된 행을 묶어서 발송한다.
+ * 발송에 성공한 행은 지우고, 실패한 행은 지수 백오프로 다시 시도하다 최대 횟수를 넘기면 DEAD 로 남긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "fcm_outbox",
+        indexes = @Index(name = "idx_fcm_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+)
+public class FcmOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FcmOutboxType type;
+
+    // 대상 ID 목록 (쉼표 구분)
+    @Column(name = "target_ids", nullable = false, columnDefinition = "TEXT")
+    private String targetIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FcmOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 임대한 발송기 (발송 한 회차마다 새로 발급)
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    private FcmOutbox(FcmOutboxType type, Collection<Long> targetIds, LocalDateTime nextAttemptAt) {
+        this.type = type;
+        this.targetIds = targetIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.status = FcmOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt == null ? LocalDateTime.now() : nextAttemptAt;
+    }
+
+    public List<Long> getTargetIdList() {
+        if (targetIds.isBlank()) return List.of();
+        return Arrays.stream(targetIds.split(",")).map(Long::valueOf).toList();
+    }
+}
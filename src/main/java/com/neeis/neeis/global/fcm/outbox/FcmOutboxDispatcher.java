@@ -0,0 +1,177 @@
+package com.neeis.neeis.global.fcm.outbox;
+
+import com.neeis.neeis.global.fcm.FcmFanoutEngine;
+import com.neeis.neeis.global.fcm.FcmService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 푸시 알림 아웃박스 발송기
+ * 커밋된 아웃박스 행을 batchSize 건씩 임대(lease)해 발송한다.
+ * - 임대는 조건부 UPDATE 로 잡으므로 여러 인스턴스가 같은 행을 동시에 보내지 않고,
+ *   발송 중 서버가 내려가도 임대 시간이 지나면 다른 발송기가 다시 가져간다.
+ * - 실패한 행은 backoff * 2^(시도 횟수 - 1) (최대 MAX_BACKOFF) 뒤에 다시 시도하고,
+ *   maxAttempts 를 넘기면 DEAD 로 남겨 둔다.
+ * 주기 조회(pollInterval)와 커밋 직후 깨우기(wakeUp)로 동작하며, 한 인스턴스에서는 한 번에 하나의 회차만 돈다.
+ */
+@Slf4j
+@Component
+public class FcmOutboxDispatcher {
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final FcmOutboxRepository fcmOutboxRepository;
+    private final FcmService fcmService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler worker;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration leaseDuration;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+
+    @Autowired
+    public FcmOutboxDispatcher(FcmOutboxRepository fcmOutboxRepository,
+                               FcmService fcmService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${fcm.outbox.batch-size:100}") int batchSize,
+                               @Value("${fcm.outbox.poll-interval-ms:2000}") long pollIntervalMillis,
+                               @Value("${fcm.outbox.lease-ms:300000}") long leaseMillis,
+                               @Value("${fcm.outbox.max-attempts:8}") int maxAttempts,
+                               @Value("${fcm.outbox.backoff-ms:5000}") long backoffMillis) {
+        this(fcmOutboxRepository, fcmService, transactionManager, createWorker(), batchSize,
+                Duration.ofMillis(pollIntervalMillis), Duration.ofMillis(leaseMillis), maxAttempts, Duration.ofMillis(backoffMillis));
+    }
+
+    FcmOutboxDispatcher(FcmOutboxRepository fcmOutboxRepository,
+                        FcmService fcmService,
+                        PlatformTransactionManager transactionManager,
+                        TaskScheduler worker, int batchSize, Duration pollInterval,
+                        Duration leaseDuration, int maxAttempts, Duration backoff) {
+        this.fcmOutboxRepository = fcmOutboxRepository;
+        this.fcmService = fcmService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.worker = worker;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.leaseDuration = leaseDuration;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    private static ThreadPoolTaskScheduler createWorker() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("FCM-OUTBOX-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.scheduleWithFixedDelay(this::drain, Instant.now().plus(pollInterval), pollInterval);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker instanceof ThreadPoolTaskScheduler scheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    // 새 행이 커밋되면 주기를 기다리지 않고 바로 한 회차 실행
+    public void wakeUp() {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            worker.schedule(() -> {
+                wakeUpScheduled.set(false);
+                drain();
+            }, Instant.now());
+        }
+    }
+
+    // 발송할 행이 없을 때까지 batchSize 건씩 발송
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) return; // 이미 도는 회차가 처리한다
+        try {
+            int leased;
+            do {
+                leased = dispatchBatch();
+            } while (leased == batchSize);
+        } catch (Exception e) {
+            log.error("[FCM] 아웃박스 조회 실패: {}", e.getMessage(), e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        String leaseToken = UUID.randomUUID().toString();
+        List<FcmOutbox> leased = transactionTemplate.execute(status -> {
+            List<Long> ids = fcmOutboxRepository.findDispatchableIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) return List.of();
+            fcmOutboxRepository.lease(ids, leaseToken, now.plus(leaseDuration), now);
+            return fcmOutboxRepository.findByLeaseTokenOrderByIdAsc(leaseToken);
+        });
+        if (leased == null || leased.isEmpty()) return 0;
+
+        for (FcmOutbox outbox : leased) {
+            dispatch(outbox, leaseToken);
+        }
+        return leased.size();
+    }
+
+    private void dispatch(FcmOutbox outbox, String leaseToken) {
+        String error;
+        try {
+            FcmFanoutEngine.FanoutResult result = fcmService.dispatch(outbox.getType(), outbox.getTargetIdList());
+            if (!result.isTransientOutage()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        fcmOutboxRepository.deleteLeased(outbox.getId(), leaseToken));
+                return;
+            }
+            error = "FCM 일시 오류 " + result.getRetryableCount() + "건";
+        } catch (Exception e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+
+        int attempts = outbox.getAttempts() + 1;
+        boolean dead = attempts >= maxAttempts;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoffFor(attempts));
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        transactionTemplate.executeWithoutResult(status -> fcmOutboxRepository.releaseFailed(outbox.getId(), leaseToken,
+                dead ? FcmOutboxStatus.DEAD : FcmOutboxStatus.PENDING, nextAttemptAt, lastError));
+
+        if (dead) {
+            log.error("[FCM] 아웃박스 발송 포기 - id: {}, type: {}, 시도: {}회, 오류: {}", outbox.getId(), outbox.getType(), attempts, lastError);
+        } else {
+            log.warn("[FCM] 아웃박스 발송 실패 - id: {}, type: {}, 시도: {}회, 다음 시도: {}", outbox.getId(), outbox.getType(), attempts, nextAttemptAt);
+        }
+    }
+
+    Duration backoffFor(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
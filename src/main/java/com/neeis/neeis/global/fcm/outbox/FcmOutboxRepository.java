@@ -0,0 +1,42 @@
+package com.neeis.neeis.global.fcm.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface FcmOutboxRepository extends JpaRepository<FcmOutbox, Long> {
+
+    // 발송할 차례가 된 행 (대기 중이거나 임대가 만료된 행)
+    @Query("SELECT o.id FROM FcmOutbox o " +
+            "WHERE (o.status = com.neeis.neeis.global.fcm.outbox.FcmOutboxStatus.PENDING AND o.nextAttemptAt <= :now) " +
+            "   OR (o.status = com.neeis.neeis.global.fcm.outbox.FcmOutboxStatus.PROCESSING AND o.leaseUntil < :now) " +
+            "ORDER BY o.id")
+    List<Long> findDispatchableIds(LocalDateTime now, Pageable pageable);
+
+    // 임대 - 조회 이후 다른 발송기가 먼저 가져간 행은 조건에서 빠진다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FcmOutbox o SET o.status = com.neeis.neeis.global.fcm.outbox.FcmOutboxStatus.PROCESSING, o.leaseToken = :leaseToken, o.leaseUntil = :leaseUntil " +
+            "WHERE o.id IN :ids " +
+            "  AND ((o.status = com.neeis.neeis.global.fcm.outbox.FcmOutboxStatus.PENDING AND o.nextAttemptAt <= :now) " +
+            "    OR (o.status = com.neeis.neeis.global.fcm.outbox.FcmOutboxStatus.PROCESSING AND o.leaseUntil < :now))")
+    int lease(Collection<Long> ids, String leaseToken, LocalDateTime leaseUntil, LocalDateTime now);
+
+    List<FcmOutbox> findByLeaseTokenOrderByIdAsc(String leaseToken);
+
+    // 발송 완료 - 임대가 아직 내 것일 때만 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM FcmOutbox o WHERE o.id = :id AND o.leaseToken = :leaseToken")
+    int deleteLeased(Long id, String leaseToken);
+
+    // 발송 실패 - 다음 시도 예약 또는 DEAD 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FcmOutbox o SET o.status = :status, o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.lastError = :lastError, o.leaseToken = null, o.leaseUntil = null " +
+            "WHERE o.id = :id AND o.leaseToken = :leaseToken")
+    int releaseFailed(Long id, String leaseToken, FcmOutboxStatus status, LocalDateTime nextAttemptAt, String lastError);
+}
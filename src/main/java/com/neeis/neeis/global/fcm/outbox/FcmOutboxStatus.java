@@ -0,0 +1,7 @@
+package com.neeis.neeis.global.fcm.outbox;
+
+public enum FcmOutboxStatus {
+    PENDING,     // 발송 대기 (nextAttemptAt 이후 발송)
+    PROCESSING,  // 발송기가 임대 중 (leaseUntil 이 지나면 다시 대기로 간주)
+    DEAD         // 최대 시도 횟수 초과 - 수동 확인 필요
+}
@@ -0,0 +1,9 @@
+package com.neeis.neeis.global.fcm.outbox;
+
+// 발송할 알림 종류 (targetIds 가 가리키는 대상)
+public enum FcmOutboxType {
+    SCORE,         // 성적 요약 ID 목록 (이전 버전에서 기록된 행)
+    SCORE_DIGEST,  // 성적 알림 묶음 ID 목록
+    FEEDBACK,      // 성적 요약 ID
+    COUNSEL        // 상담 ID
+}
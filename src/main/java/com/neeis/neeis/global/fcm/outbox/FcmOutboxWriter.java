@@ -0,0 +1,64 @@
+package com.neeis.neeis.global.fcm.outbox;
+
+import com.neeis.neeis.global.fcm.event.SendCounselFcmEvent;
+import com.neeis.neeis.global.fcm.event.SendFeedbackFcmEvent;
+import com.neeis.neeis.global.fcm.event.SendScoreDigestFcmEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 이벤트를 아웃박스에 기록
+ * 이벤트를 발행한 트랜잭션 안에서 바로 저장하므로 업무 데이터와 함께 커밋 / 롤백된다.
+ * 즉시 발송할 행은 커밋 직후 발송기를 깨워 바로 보내고, 놓치더라도 발송기의 주기 조회에서 처리된다.
+ * 발송 시각이 정해진 행(성적 알림 묶음)은 그 시각 이후 주기 조회에서 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FcmOutboxWriter {
+    private final FcmOutboxRepository fcmOutboxRepository;
+    private final FcmOutboxDispatcher fcmOutboxDispatcher;
+
+    // 묶음은 병합 구간이 끝나는 시각(flushAt)에 발송
+    @EventListener
+    @Transactional
+    public void onScoreDigest(SendScoreDigestFcmEvent event) {
+        save(FcmOutboxType.SCORE_DIGEST, event.getDigestIds(), event.getFlushAt());
+    }
+
+    @EventListener
+    @Transactional
+    public void onFeedback(SendFeedbackFcmEvent event) {
+        save(FcmOutboxType.FEEDBACK, List.of(event.getScoreSummary().getId()), null);
+    }
+
+    @EventListener
+    @Transactional
+    public void onCounsel(SendCounselFcmEvent event) {
+        save(FcmOutboxType.COUNSEL, List.of(event.getCounsel().getId()), null);
+    }
+
+    private void save(FcmOutboxType type, List<Long> targetIds, LocalDateTime sendAt) {
+        if (targetIds.isEmpty()) return;
+        fcmOutboxRepository.save(FcmOutbox.builder()
+                .type(type)
+                .targetIds(targetIds)
+                .nextAttemptAt(sendAt)
+                .build());
+
+        if (sendAt == null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fcmOutboxDispatcher.wakeUp();
+                }
+            });
+        }
+    }
+}
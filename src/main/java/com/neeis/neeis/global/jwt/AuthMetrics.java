@@ -0,0 +1,79 @@
+package com.neeis.neeis.global.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인증 경로 계측
+ * - auth.token.parse (result = valid / expired / invalid): 토큰 서명 검증 시간
+ * - auth.principal.load: 캐시 미스 시 사용자 조회 시간
+ * - auth.principal.cache (result = hit / miss): 인증 주체 캐시 적중 수 (적중률은 hit / (hit + miss))
+ * 요청 단위 로그 대신 traceSampleRate 비율로만 추적 로그를 남기며, 비율은 actuator(authtrace)로 실행 중에 바꾼다.
+ */
+@Component
+public class AuthMetrics {
+    public static final String RESULT_VALID = "valid";
+    public static final String RESULT_EXPIRED = "expired";
+    public static final String RESULT_INVALID = "invalid";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer principalLoadTimer;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    private volatile double traceSampleRate = 0.0;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.principalLoadTimer = Timer.builder("auth.principal.load")
+                .description("인증 주체 DB 조회 시간")
+                .register(meterRegistry);
+        this.cacheHitCounter = Counter.builder("auth.principal.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("auth.principal.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Timer.Sample startSample() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordTokenParse(Timer.Sample sample, String result) {
+        sample.stop(Timer.builder("auth.token.parse")
+                .description("토큰 서명 검증 시간")
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    public void recordPrincipalLoad(Timer.Sample sample) {
+        sample.stop(principalLoadTimer);
+    }
+
+    public void principalCacheHit() {
+        cacheHitCounter.increment();
+    }
+
+    public void principalCacheMiss() {
+        cacheMissCounter.increment();
+    }
+
+    // 이번 요청을 추적 로그 대상으로 뽑을지 (비율 0 이면 항상 false)
+    public boolean sampleTrace() {
+        double rate = traceSampleRate;
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    public double getTraceSampleRate() {
+        return traceSampleRate;
+    }
+
+    public void setTraceSampleRate(double traceSampleRate) {
+        this.traceSampleRate = Math.max(0.0, Math.min(1.0, traceSampleRate));
+    }
+}
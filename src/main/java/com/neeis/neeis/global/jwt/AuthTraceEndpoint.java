@@ -0,0 +1,32 @@
+package com.neeis.neeis.global.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 인증 추적 로그 샘플링 비율 조회 / 변경 (GET, POST /actuator/authtrace)
+ * 예) POST {"sampleRate": 0.01} - 인증 요청 100건 중 1건만 추적 로그를 남긴다.
+ */
+@Component
+@Endpoint(id = "authtrace")
+@RequiredArgsConstructor
+public class AuthTraceEndpoint {
+
+    private final AuthMetrics authMetrics;
+
+    @ReadOperation
+    public Map<String, Double> sampleRate() {
+        return Map.of("sampleRate", authMetrics.getTraceSampleRate());
+    }
+
+    @WriteOperation
+    public Map<String, Double> updateSampleRate(double sampleRate) {
+        authMetrics.setTraceSampleRate(sampleRate);
+        return sampleRate();
+    }
+}
@@ -1,30 +1,44 @@
 package com.neeis.neeis.global.jwt;
 
+import com.neeis.neeis.domain.user.Role;
 import com.neeis.neeis.domain.user.User;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Collection;
 import java.util.List;
 
-@RequiredArgsConstructor
+/**
+ * 인증 주체 - 엔티티 대신 필요한 값만 복사해 두어 요청 간 캐시해도 안전하다.
+ */
+@Getter
 public class CustomUserDetails implements UserDetails {
-    private final User user;
+    private final Long userId;
+    private final String username;
+    private final String password;
+    private final Role role;
+    private final Instant tokensValidAfter; // 비밀번호 변경 시각 (없으면 null)
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_"+user.getRole().name()));
+    public CustomUserDetails(User user) {
+        this.userId = user.getId();
+        this.username = user.getUsername();
+        this.password = user.getPassword();
+        this.role = user.getRole();
+        this.tokensValidAfter = user.getTokensValidAfter() == null
+                ? null : user.getTokensValidAfter().atZone(ZoneId.systemDefault()).toInstant();
     }
 
-    @Override
-    public String getPassword() {
-        return user.getPassword();
+    // 비밀번호 변경 이전에 발급된 토큰인지
+    public boolean isIssuedBeforeInvalidation(Instant issuedAt) {
+        return tokensValidAfter != null && (issuedAt == null || issuedAt.isBefore(tokensValidAfter));
     }
 
     @Override
-    public String getUsername() {
-        return user.getUsername();
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_"+role.name()));
     }
 }
@@ -22,7 +22,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username).orElseThrow( () -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        log.info("UserDetailsService: {}", user.getUsername());
+        log.debug("UserDetailsService: {}", user.getUsername());
         return new CustomUserDetails(user);
     }
 }
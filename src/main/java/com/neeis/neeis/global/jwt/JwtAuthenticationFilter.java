@@ -28,8 +28,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String accessToken = jwtProvider.resolveToken(request);
         try {
-            if (accessToken != null) {
-                Authentication authentication = jwtProvider.getAuthentication(accessToken);
+            // 토큰은 요청당 한 번만 검증하고, 검증된 클레임은 이후 처리에서 재사용
+            // 리프레시 토큰으로는 API 를 호출할 수 없고, 폐기된 토큰은 인증하지 않는다
+            JwtClaims claims = accessToken == null ? null : jwtProvider.verify(accessToken);
+            if (claims != null && claims.isAccessToken() && !jwtProvider.isRevoked(claims)) {
+                request.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, claims);
+                Authentication authentication = jwtProvider.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }catch(ExpiredJwtException e) {
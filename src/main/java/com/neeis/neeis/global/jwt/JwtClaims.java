@@ -0,0 +1,65 @@
+package com.neeis.neeis.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰 클레임 - 요청당 한 번만 만들어 request attribute 로 공유한다.
+ * 이전에 발급된 토큰에는 uid / jti / typ 가 없으므로 userId, tokenId, type 은 null 일 수 있다. (type 이 없으면 액세스 토큰)
+ * issuedAt 은 iat 가 없는 토큰이면 null 이다.
+ */
+@Getter
+public class JwtClaims {
+    public static final String REQUEST_ATTRIBUTE = "com.neeis.neeis.global.jwt.JwtClaims";
+
+    static final String USER_ID = "uid";
+    static final String ROLE = "role";
+    static final String TYPE = "typ";
+    static final String FAMILY_ID = "fid";
+
+    static final String TYPE_ACCESS = "access";
+    static final String TYPE_REFRESH = "refresh";
+
+    private final Long userId;
+    private final String username;
+    private final String role;
+    private final String tokenId;
+    private final String type;
+    private final String familyId;   // 리프레시 토큰 계열 ID (교체되어도 유지)
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    private JwtClaims(Long userId, String username, String role, String tokenId, String type,
+                      String familyId, Instant issuedAt, Instant expiresAt) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.tokenId = tokenId;
+        this.type = type;
+        this.familyId = familyId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    static JwtClaims from(Claims claims) {
+        Number userId = claims.get(USER_ID, Number.class);
+        return new JwtClaims(userId == null ? null : userId.longValue(),
+                claims.getSubject(),
+                claims.get(ROLE, String.class),
+                claims.getId(),
+                claims.get(TYPE, String.class),
+                claims.get(FAMILY_ID, String.class),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant());
+    }
+
+    public boolean isAccessToken() {
+        return type == null || TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(type);
+    }
+}
@@ -1,10 +1,13 @@
 package com.neeis.neeis.global.jwt;
 
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -12,19 +15,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
 
-    private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
+    private final AuthMetrics authMetrics;
+    private final TokenDenylist tokenDenylist;
 
     @Value("${spring.jwt.secret}")
     private String key;
@@ -34,34 +40,91 @@ public class JwtProvider {
     @Value("${spring.jwt.access-token-valid-time}")
     private Long accessTokenValidTime;
 
+    @Value("${spring.jwt.refresh-token-valid-time:1209600000}")
+    private Long refreshTokenValidTime;
+
     @PostConstruct
     protected void init() {this.secretKey = Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8));}
 
-    public String createAccessToken(String username, String role){
+    public String createAccessToken(Long userId, String username, String role){
         Claims claims = (Claims) Jwts.claims().setSubject(username);
-        claims.put("role", role);
-        Date now = new Date();
+        claims.put(JwtClaims.USER_ID, userId);
+        claims.put(JwtClaims.ROLE, role);
+        claims.put(JwtClaims.TYPE, JwtClaims.TYPE_ACCESS);
 
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime()+ accessTokenValidTime))
-                .signWith(secretKey)
-                .compact();
+        return sign(claims, accessTokenValidTime);
+    }
+
+    // 새 로그인 세션의 리프레시 토큰 발급 (새 계열)
+    public String createRefreshToken(Long userId, String username) {
+        return createRefreshToken(userId, username, UUID.randomUUID().toString());
+    }
+
+    // 리프레시 토큰 교체 발급 - 계열 ID 는 유지
+    public String createRefreshToken(Long userId, String username, String familyId) {
+        Claims claims = (Claims) Jwts.claims().setSubject(username);
+        claims.put(JwtClaims.USER_ID, userId);
+        claims.put(JwtClaims.TYPE, JwtClaims.TYPE_REFRESH);
+        claims.put(JwtClaims.FAMILY_ID, familyId);
+
+        return sign(claims, refreshTokenValidTime);
+    }
+
+    // 폐기된 토큰인지 (토큰 ID 또는 리프레시 계열 ID)
+    public boolean isRevoked(JwtClaims claims) {
+        return tokenDenylist.isRevoked(claims.getTokenId()) || tokenDenylist.isRevoked(claims.getFamilyId());
+    }
+
+    /**
+     * 토큰 폐기 - 토큰 만료 시각까지 폐기 목록에 둔다.
+     * @return 이번 호출로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revoke(JwtClaims claims) {
+        return tokenDenylist.revoke(claims.getTokenId(), claims.getExpiresAt());
+    }
+
+    // 리프레시 토큰 계열 전체 폐기 - 계열의 마지막 토큰이 만료될 수 있는 시각까지 유지
+    public void revokeFamily(JwtClaims claims) {
+        tokenDenylist.revoke(claims.getFamilyId(), Instant.now().plusMillis(refreshTokenValidTime));
+    }
+
+    // 서명 / 만료 검증 후 클레임 반환 (유효하지 않으면 null)
+    public JwtClaims verify(String token) {
+        Claims claims = parseClaims(token);
+        return claims == null ? null : JwtClaims.from(claims);
     }
 
     //SecuriyContextHolder 저장 객체(Authentication) 생성
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(this.getUsername(token));
-        log.info("JwtTokenProvider.getAuthentication - {} ", userDetails.getUsername());
+        return getAuthentication(verify(token));
+    }
+
+    // 검증된 클레임으로 Authentication 생성 - 주체는 캐시에서 가져오므로 캐시가 살아 있으면 DB 조회가 없다
+    public Authentication getAuthentication(JwtClaims claims) {
+        CustomUserDetails userDetails = principalCache.get(claims.getUsername());
+        if (!matches(claims, userDetails)) {
+            // 토큰 발급 이후 역할이 바뀌었을 수 있으므로 캐시를 버리고 다시 확인
+            principalCache.evict(claims.getUsername());
+            userDetails = principalCache.get(claims.getUsername());
+        }
+        if (claims.getUserId() != null && !claims.getUserId().equals(userDetails.getUserId())) {
+            // 같은 아이디로 다시 만들어진 계정 - 이전 계정의 토큰은 인정하지 않음
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (userDetails.isIssuedBeforeInvalidation(claims.getIssuedAt())) {
+            // 비밀번호 변경 이전에 발급된 토큰
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        if (authMetrics.sampleTrace()) {
+            log.info("JwtTokenProvider.getAuthentication [trace] - username: {}, uid: {}, role: {}",
+                    userDetails.getUsername(), userDetails.getUserId(), userDetails.getRole());
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
     // username - subject에 들어감
     public String getUsername(String token) {
-        String username = parseClaims(token).getSubject();
-        log.info("JwtTokenProvider.getUsername - {}", username);
-        return username;
+        return parseClaims(token).getSubject();
     }
     public String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
@@ -72,18 +135,38 @@ public class JwtProvider {
     }
 
     private Claims parseClaims(String token){
+        Timer.Sample sample = authMetrics.startSample();
         try{
             Claims claims = Jwts.parserBuilder().setSigningKey(this.secretKey)
                     .build()
                     .parseClaimsJws(token)
                     .getBody();
-            log.info("JwtTokenProvider.parseClaims - {}", claims);
+            authMetrics.recordTokenParse(sample, AuthMetrics.RESULT_VALID);
             return claims;
         }catch (ExpiredJwtException e){
-            log.error("JwtTokenProvider.parseClaims - 토큰 만료");
+            authMetrics.recordTokenParse(sample, AuthMetrics.RESULT_EXPIRED);
+            log.debug("JwtTokenProvider.parseClaims - 토큰 만료");
         }catch (JwtException e){
-            log.error("JwtTokenProvider.parseClaims - {}", e.getMessage());
+            authMetrics.recordTokenParse(sample, AuthMetrics.RESULT_INVALID);
+            log.debug("JwtTokenProvider.parseClaims - {}", e.getMessage());
         }
         return null;
     }
+
+    private String sign(Claims claims, long validTime) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + validTime))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    private boolean matches(JwtClaims claims, CustomUserDetails userDetails) {
+        return claims.getRole() == null || userDetails.getRole() == null
+                || claims.getRole().equals(userDetails.getRole().name());
+    }
 }
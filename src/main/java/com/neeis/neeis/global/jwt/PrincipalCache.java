@@ -0,0 +1,79 @@
+package com.neeis.neeis.global.jwt;
+
+import com.neeis.neeis.domain.user.event.UserCredentialsChangedEvent;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * 인증 주체 캐시
+ * 인증된 요청마다 사용자 테이블을 조회하지 않도록 username 별 주체를 TTL 동안 보관한다.
+ * 비밀번호 / 역할이 바뀌면 UserCredentialsChangedEvent 로 바로 비우고, 그 외 변경은 TTL 안에 반영된다.
+ * 항목 수는 MAX_ENTRIES 로 제한한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+    static final Duration TTL = Duration.ofMinutes(5);
+    static final int MAX_ENTRIES = 10_000;
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final AuthMetrics authMetrics;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public CustomUserDetails get(String username) {
+        Entry cached = entries.get(username);
+        Instant now = Instant.now();
+        if (cached != null && cached.expiresAt.isAfter(now)) {
+            authMetrics.principalCacheHit();
+            return cached.principal;
+        }
+
+        authMetrics.principalCacheMiss();
+        Timer.Sample sample = authMetrics.startSample();
+        CustomUserDetails principal = (CustomUserDetails) customUserDetailsService.loadUserByUsername(username);
+        authMetrics.recordPrincipalLoad(sample);
+        if (entries.size() >= MAX_ENTRIES) {
+            evictExpired(now);
+        }
+        if (entries.size() < MAX_ENTRIES) {
+            entries.put(username, new Entry(principal, now.plus(TTL)));
+        }
+        return principal;
+    }
+
+    public void evict(String username) {
+        entries.remove(username);
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void onCredentialsChanged(UserCredentialsChangedEvent event) {
+        evict(event.getUsername());
+        log.debug("인증 주체 캐시 무효화: {}", event.getUsername());
+    }
+
+    private void evictExpired(Instant now) {
+        entries.values().removeIf(entry -> !entry.expiresAt.isAfter(now));
+    }
+
+    private static class Entry {
+        private final CustomUserDetails principal;
+        private final Instant expiresAt;
+
+        private Entry(CustomUserDetails principal, Instant expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
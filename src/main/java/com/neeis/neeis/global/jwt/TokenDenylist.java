@@ -0,0 +1,143 @@
+package com.neeis.neeis.global.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 ID(jti / 리프레시 계열 ID) 목록
+ * 인증 요청마다 확인하므로 블룸 필터로 "폐기된 적 없음"을 먼저 걸러내고, 걸린 경우에만 정확한 목록을 본다.
+ * 항목은 토큰 만료 시각까지만 보관하며, 전용 스케줄러로 purgeInterval 마다 만료 항목을 지우고 블룸 필터를 다시 만든다.
+ * (@EnableScheduling 은 백업 설정이 켜져 있을 때만 활성화되므로 @Scheduled 에 기대지 않는다)
+ * 서버 메모리에만 있으므로 재기동 시 비워지고 인스턴스 간 공유되지 않는다.
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+    static final int BLOOM_BITS = 1 << 20; // 128KB
+    static final int BLOOM_HASHES = 4;
+
+    private final TaskScheduler worker;
+    private final Duration purgeInterval;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray bloom = new AtomicLongArray(BLOOM_BITS / 64);
+
+    @Autowired
+    public TokenDenylist(@Value("${spring.jwt.denylist-purge-interval:600000}") long purgeIntervalMillis) {
+        this(createWorker(), Duration.ofMillis(purgeIntervalMillis));
+    }
+
+    TokenDenylist(TaskScheduler worker, Duration purgeInterval) {
+        this.worker = worker;
+        this.purgeInterval = purgeInterval;
+    }
+
+    private static ThreadPoolTaskScheduler createWorker() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("TOKEN-DENYLIST-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.scheduleWithFixedDelay(this::purgeExpired, Instant.now().plus(purgeInterval), purgeInterval);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker instanceof ThreadPoolTaskScheduler scheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    public boolean isRevoked(String id) {
+        if (id == null || !mightContain(bloom, id)) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(id);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    /**
+     * 토큰 ID 폐기
+     * @return 이번 호출로 새로 폐기되었으면 true (이미 폐기된 ID 면 false)
+     */
+    public synchronized boolean revoke(String id, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (id == null || !expiresAt.isAfter(now)) {
+            return false;
+        }
+        Instant previous = revoked.get(id);
+        if (previous != null && previous.isAfter(now)) {
+            return false;
+        }
+        revoked.put(id, expiresAt);
+        add(bloom, id);
+        return true;
+    }
+
+    // 만료 항목 정리 후 남은 항목으로 블룸 필터 재구성 (블룸 필터는 삭제를 지원하지 않음)
+    public synchronized void purgeExpired() {
+        Instant now = Instant.now();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        AtomicLongArray rebuilt = new AtomicLongArray(BLOOM_BITS / 64);
+        revoked.keySet().forEach(id -> add(rebuilt, id));
+        bloom = rebuilt;
+
+        if (before != revoked.size()) {
+            log.debug("토큰 폐기 목록 정리 - {}건 → {}건", before, revoked.size());
+        }
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    private static void add(AtomicLongArray bits, String id) {
+        int h1 = id.hashCode();
+        int h2 = mix(h1);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, BLOOM_BITS);
+            long mask = 1L << (bit & 63);
+            bits.getAndAccumulate(bit >>> 6, mask, (current, m) -> current | m);
+        }
+    }
+
+    private static boolean mightContain(AtomicLongArray bits, String id) {
+        int h1 = id.hashCode();
+        int h2 = mix(h1);
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = Math.floorMod(h1 + i * h2, BLOOM_BITS);
+            if ((bits.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 두 번째 해시 (murmur3 finalizer) - 항상 홀수로 만들어 모든 비트를 돌게 한다
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h | 1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.neeis.neeis.domain.attendance;
+
+import com.neeis.neeis.global.backfill.BackfillMarkerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceCounterBackfillJobTest {
+
+    @Mock private AttendanceJdbcRepository attendanceJdbcRepository;
+    @Mock private BackfillMarkerRepository backfillMarkerRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private AttendanceCounterBackfillJob attendanceCounterBackfillJob;
+
+    @BeforeEach
+    void setUp() {
+        attendanceCounterBackfillJob = new AttendanceCounterBackfillJob(
+                attendanceJdbcRepository, backfillMarkerRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("완료 표시가 없으면 학생 묶음마다 잠금 후 재구성하고 완료 표시를 남긴다")
+    void run_rebuildsPerStudentChunk() {
+        // given
+        given(backfillMarkerRepository.isCompleted(AttendanceCounterBackfillJob.MARKER)).willReturn(false);
+        given(attendanceJdbcRepository.findStudentIdsAfter(0L, AttendanceCounterBackfillJob.CHUNK_SIZE))
+                .willReturn(List.of(1L, 2L));
+        given(attendanceJdbcRepository.findStudentIdsAfter(2L, AttendanceCounterBackfillJob.CHUNK_SIZE))
+                .willReturn(List.of(5L));
+        given(attendanceJdbcRepository.findStudentIdsAfter(5L, AttendanceCounterBackfillJob.CHUNK_SIZE))
+                .willReturn(List.of());
+
+        // when
+        attendanceCounterBackfillJob.run();
+
+        // then - 출결 저장과 같은 학생 잠금을 잡은 뒤 재구성
+        InOrder inOrder = inOrder(attendanceJdbcRepository, backfillMarkerRepository);
+        inOrder.verify(attendanceJdbcRepository).lockStudents(List.of(1L, 2L));
+        inOrder.verify(attendanceJdbcRepository).rebuildCounters(List.of(1L, 2L));
+        inOrder.verify(attendanceJdbcRepository).lockStudents(List.of(5L));
+        inOrder.verify(attendanceJdbcRepository).rebuildCounters(List.of(5L));
+        inOrder.verify(backfillMarkerRepository).markCompleted(AttendanceCounterBackfillJob.MARKER);
+    }
+
+    @Test
+    @DisplayName("집계 행이 이미 있어도 완료 표시가 없으면 재구성한다")
+    void run_ignoresExistingCounters() {
+        // given
+        given(backfillMarkerRepository.isCompleted(AttendanceCounterBackfillJob.MARKER)).willReturn(false);
+        given(attendanceJdbcRepository.findStudentIdsAfter(anyLong(), anyInt())).willReturn(List.of());
+
+        // when
+        attendanceCounterBackfillJob.run();
+
+        // then
+        then(backfillMarkerRepository).should().markCompleted(AttendanceCounterBackfillJob.MARKER);
+    }
+
+    @Test
+    @DisplayName("완료 표시가 있으면 아무것도 하지 않는다")
+    void run_skipsWhenCompleted() {
+        // given
+        given(backfillMarkerRepository.isCompleted(AttendanceCounterBackfillJob.MARKER)).willReturn(true);
+
+        // when
+        attendanceCounterBackfillJob.run();
+
+        // then
+        then(attendanceJdbcRepository).shouldHaveNoInteractions();
+        then(backfillMarkerRepository).should(never()).markCompleted(anyString());
+    }
+}
@@ -6,6 +6,8 @@ import com.neeis.neeis.domain.attendance.dto.req.AttendanceFeedbackReqDto;
 import com.neeis.neeis.domain.attendance.dto.req.DailyAttendanceDto;
 import com.neeis.neeis.domain.attendance.dto.req.StudentAttendanceDto;
 import com.neeis.neeis.domain.attendance.dto.res.AttendanceFeedbackResDto;
+import com.neeis.neeis.domain.attendance.dto.res.AttendanceMatrixResDto;
+import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceMatrixDto;
 import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceResDto;
 import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceSummaryDto;
 import com.neeis.neeis.domain.attendance.service.AttendanceService;
@@ -108,6 +110,36 @@ class AttendanceControllerTest {
                 .getAttendances("teacher1", 2025,2,1,4);
     }
 
+    @Test
+    @DisplayName("GET /attendances/matrix → 학급 출결 매트릭스 조회")
+    @WithMockUser(username = "teacher1", roles = "TEACHER")
+    void getAttendanceMatrix() throws Exception {
+        var sample = AttendanceMatrixResDto.builder()
+                .year(2025).month(4).lengthOfMonth(30)
+                .students(List.of(StudentAttendanceMatrixDto.builder()
+                        .studentId(123L)
+                        .studentName("철수")
+                        .number(1)
+                        .days("0000000000000001")
+                        .build()))
+                .build();
+        given(attendanceService.getAttendanceMatrix("teacher1", 2025,2,1,4))
+                .willReturn(sample);
+
+        mockMvc.perform(get("/attendances/matrix")
+                        .param("year","2025")
+                        .param("grade","2")
+                        .param("classNum","1")
+                        .param("month","4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SUCCESS_GET_ATTENDANCE.getMessage()))
+                .andExpect(jsonPath("$.response.lengthOfMonth").value(30))
+                .andExpect(jsonPath("$.response.students[0].days").value("0000000000000001"));
+
+        then(attendanceService).should()
+                .getAttendanceMatrix("teacher1", 2025,2,1,4);
+    }
+
     @Test
     @DisplayName("GET /attendances/student → 개별 학생 출결 조회")
     @WithMockUser(username = "teacher1", roles = "TEACHER")
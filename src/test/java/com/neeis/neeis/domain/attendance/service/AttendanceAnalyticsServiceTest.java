@@ -0,0 +1,216 @@
+package com.neeis.neeis.domain.attendance.service;
+
+import com.neeis.neeis.domain.attendance.AttendanceJdbcRepository;
+import com.neeis.neeis.domain.attendance.dto.SchoolYearRangeDto;
+import com.neeis.neeis.domain.attendance.dto.res.AttendanceAnalyticsRowDto;
+import com.neeis.neeis.domain.attendance.event.AttendanceChangedEvent;
+import com.neeis.neeis.domain.semester.Semester;
+import com.neeis.neeis.domain.semester.SemesterRepository;
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.domain.user.service.UserService;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceAnalyticsServiceTest {
+
+    @Mock private UserService userService;
+    @Mock private SemesterRepository semesterRepository;
+    @Mock private AttendanceJdbcRepository attendanceJdbcRepository;
+
+    @InjectMocks
+    private AttendanceAnalyticsService attendanceAnalyticsService;
+
+    // 이미 끝난 학년도 (모든 달이 마감)
+    private final SchoolYearRangeDto closedYear =
+            new SchoolYearRangeDto(2024, LocalDate.of(2024, 3, 1), LocalDate.of(2025, 2, 28));
+
+    @Test
+    @DisplayName("학년도 기간은 학기 시작일 최소 ~ 종료일 최대")
+    void prepare_schoolYearRange() {
+        // given
+        given(userService.getUser("teacher")).willReturn(user("teacher", Role.TEACHER));
+        given(semesterRepository.findAllByYear(2024)).willReturn(List.of(
+                semester(2, LocalDate.of(2024, 8, 19), LocalDate.of(2025, 2, 28)),
+                semester(1, LocalDate.of(2024, 3, 4), LocalDate.of(2024, 7, 19))));
+
+        // when
+        SchoolYearRangeDto range = attendanceAnalyticsService.prepare("teacher", 2024);
+
+        // then
+        assertThat(range.getStartDate()).isEqualTo(LocalDate.of(2024, 3, 4));
+        assertThat(range.getEndDate()).isEqualTo(LocalDate.of(2025, 2, 28));
+    }
+
+    @Test
+    @DisplayName("학생은 출결 분석 조회 불가")
+    void prepare_studentDenied() {
+        // given
+        given(userService.getUser("student")).willReturn(user("student", Role.STUDENT));
+
+        // when & then
+        assertThatThrownBy(() -> attendanceAnalyticsService.prepare("student", 2024))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+        verify(semesterRepository, never()).findAllByYear(anyInt());
+    }
+
+    @Test
+    @DisplayName("학기가 없는 학년도는 DATA_NOT_FOUND")
+    void prepare_noSemester() {
+        // given
+        given(userService.getUser("admin")).willReturn(user("admin", Role.ADMIN));
+        given(semesterRepository.findAllByYear(2030)).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> attendanceAnalyticsService.prepare("admin", 2030))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.DATA_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("마감된 달은 보관해 두고 다음 조회에서는 쿼리하지 않음")
+    void streamAnalytics_reusesClosedMonths() {
+        // given
+        stubRows(row(1, 2024, 3), row(2, 2024, 4));
+
+        // when
+        List<AttendanceAnalyticsRowDto> first = collect(null);
+        List<AttendanceAnalyticsRowDto> second = collect(null);
+
+        // then
+        assertThat(first).hasSize(2);
+        assertThat(second).extracting(AttendanceAnalyticsRowDto::getMonth).containsExactly(3, 4);
+        verify(attendanceJdbcRepository, times(1)).streamAnalytics(anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("학년 지정 시 해당 학년만 전달 (보관분 포함)")
+    void streamAnalytics_filtersGrade() {
+        // given
+        stubRows(row(1, 2024, 3), row(2, 2024, 3), row(1, 2024, 4));
+
+        // when
+        List<AttendanceAnalyticsRowDto> first = collect(1);
+        List<AttendanceAnalyticsRowDto> cached = collect(2);
+
+        // then
+        assertThat(first).extracting(AttendanceAnalyticsRowDto::getGrade).containsOnly(1).hasSize(2);
+        assertThat(cached).extracting(AttendanceAnalyticsRowDto::getGrade).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("마감된 달의 출결이 수정되면 보관분을 버리고 다시 집계")
+    void onAttendanceChanged_evictsYear() {
+        // given
+        stubRows(row(1, 2024, 3));
+        collect(null);
+
+        // when
+        attendanceAnalyticsService.onAttendanceChanged(new AttendanceChangedEvent(2024, 202403));
+        collect(null);
+
+        // then
+        verify(attendanceJdbcRepository, times(2)).streamAnalytics(eq(2024), eq(closedYear.getStartDate()), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 학년도 출결 수정은 보관분에 영향 없음")
+    void onAttendanceChanged_otherYear() {
+        // given
+        stubRows(row(1, 2024, 3));
+        collect(null);
+
+        // when
+        attendanceAnalyticsService.onAttendanceChanged(new AttendanceChangedEvent(2025, 202503));
+        collect(null);
+
+        // then
+        verify(attendanceJdbcRepository, times(1)).streamAnalytics(anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보관분 없이 시작한 집계 도중 마감된 달이 수정되면 그 결과는 보관하지 않음")
+    void onAttendanceChanged_duringUncachedStream() {
+        // given: 첫 집계가 행을 읽는 도중 2024년 3월 출결이 수정됨
+        willAnswer(invocation -> {
+            Consumer<AttendanceAnalyticsRowDto> consumer = invocation.getArgument(3);
+            consumer.accept(row(1, 2024, 3));
+            attendanceAnalyticsService.onAttendanceChanged(new AttendanceChangedEvent(2024, 202403));
+            return null;
+        }).willAnswer(invocation -> null)
+                .given(attendanceJdbcRepository).streamAnalytics(anyInt(), any(), any(), any());
+
+        // when
+        collect(null);
+        collect(null);
+
+        // then: 수정 전 행을 보관하지 않았으므로 다시 집계
+        verify(attendanceJdbcRepository, times(2)).streamAnalytics(eq(2024), eq(closedYear.getStartDate()), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRows(AttendanceAnalyticsRowDto... rows) {
+        willAnswer(invocation -> {
+            Consumer<AttendanceAnalyticsRowDto> consumer = invocation.getArgument(3);
+            for (AttendanceAnalyticsRowDto row : rows) consumer.accept(row);
+            return null;
+        }).given(attendanceJdbcRepository).streamAnalytics(anyInt(), any(), any(), any());
+    }
+
+    private List<AttendanceAnalyticsRowDto> collect(Integer grade) {
+        List<AttendanceAnalyticsRowDto> rows = new ArrayList<>();
+        attendanceAnalyticsService.streamAnalytics(closedYear, grade, rows::add);
+        return rows;
+    }
+
+    private AttendanceAnalyticsRowDto row(int grade, int year, int month) {
+        return AttendanceAnalyticsRowDto.builder()
+                .grade(grade)
+                .classNum(1)
+                .year(year)
+                .month(month)
+                .dayOfWeek(DayOfWeek.MONDAY)
+                .absentCount(1)
+                .lateCount(0)
+                .earlyCount(0)
+                .build();
+    }
+
+    private User user(String username, Role role) {
+        return User.builder()
+                .school("테스트중학교")
+                .username(username)
+                .password("password")
+                .role(role)
+                .build();
+    }
+
+    private Semester semester(int semester, LocalDate startDate, LocalDate endDate) {
+        return Semester.builder()
+                .year(2024)
+                .semester(semester)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
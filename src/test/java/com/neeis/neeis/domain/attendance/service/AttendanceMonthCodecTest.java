@@ -0,0 +1,58 @@
+package com.neeis.neeis.domain.attendance.service;
+
+import com.neeis.neeis.domain.attendance.AttendanceStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AttendanceMonthCodecTest {
+
+    @Test
+    @DisplayName("기록한 날의 상태만 바뀌고 나머지 날은 출석으로 남는다")
+    void should_KeepOtherDays_When_SettingStatus() {
+        long packed = 0L;
+        packed = AttendanceMonthCodec.set(packed, 1, AttendanceStatus.ABSENT);
+        packed = AttendanceMonthCodec.set(packed, 15, AttendanceStatus.LATE);
+        packed = AttendanceMonthCodec.set(packed, 31, AttendanceStatus.EARLY);
+
+        assertThat(AttendanceMonthCodec.get(packed, 1)).isEqualTo(AttendanceStatus.ABSENT);
+        assertThat(AttendanceMonthCodec.get(packed, 15)).isEqualTo(AttendanceStatus.LATE);
+        assertThat(AttendanceMonthCodec.get(packed, 31)).isEqualTo(AttendanceStatus.EARLY);
+        assertThat(AttendanceMonthCodec.get(packed, 2)).isEqualTo(AttendanceStatus.PRESENT);
+        assertThat(AttendanceMonthCodec.get(packed, 30)).isEqualTo(AttendanceStatus.PRESENT);
+    }
+
+    @Test
+    @DisplayName("같은 날을 다시 기록하면 이전 상태를 덮어쓴다")
+    void should_OverwriteStatus_When_SettingSameDay() {
+        long packed = AttendanceMonthCodec.set(0L, 10, AttendanceStatus.EARLY);
+        packed = AttendanceMonthCodec.set(packed, 10, AttendanceStatus.ABSENT);
+
+        assertThat(AttendanceMonthCodec.get(packed, 10)).isEqualTo(AttendanceStatus.ABSENT);
+
+        packed = AttendanceMonthCodec.set(packed, 10, AttendanceStatus.PRESENT);
+        assertThat(packed).isZero();
+    }
+
+    @Test
+    @DisplayName("16진수 문자열로 변환해도 값이 그대로 복원된다")
+    void should_RoundTrip_When_ConvertingToHex() {
+        long packed = AttendanceMonthCodec.set(0L, 31, AttendanceStatus.EARLY);
+        packed = AttendanceMonthCodec.set(packed, 1, AttendanceStatus.ABSENT);
+
+        String hex = AttendanceMonthCodec.toHex(packed);
+
+        assertThat(hex).hasSize(16).isEqualTo("3000000000000001");
+        assertThat(AttendanceMonthCodec.fromHex(hex)).isEqualTo(packed);
+    }
+
+    @Test
+    @DisplayName("1 ~ 31 범위를 벗어난 날짜는 예외가 발생한다")
+    void should_ThrowException_When_DayOutOfRange() {
+        assertThatThrownBy(() -> AttendanceMonthCodec.set(0L, 0, AttendanceStatus.ABSENT))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AttendanceMonthCodec.get(0L, 32))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,28 +1,32 @@
 package com.neeis.neeis.domain.attendance.service;
 
 import com.neeis.neeis.domain.attendance.*;
+import com.neeis.neeis.domain.attendance.dto.AttendanceCountDto;
+import com.neeis.neeis.domain.attendance.dto.AttendanceMatrixRowDto;
 import com.neeis.neeis.domain.attendance.dto.req.AttendanceBulkRequestDto;
 import com.neeis.neeis.domain.attendance.dto.req.AttendanceFeedbackReqDto;
 import com.neeis.neeis.domain.attendance.dto.req.DailyAttendanceDto;
 import com.neeis.neeis.domain.attendance.dto.req.StudentAttendanceDto;
 import com.neeis.neeis.domain.attendance.dto.res.AttendanceFeedbackResDto;
+import com.neeis.neeis.domain.attendance.dto.res.AttendanceMatrixResDto;
 import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceResDto;
 import com.neeis.neeis.domain.attendance.dto.res.StudentAttendanceSummaryDto;
+import com.neeis.neeis.domain.attendance.event.AttendanceChangedEvent;
 import com.neeis.neeis.domain.classroom.Classroom;
 import com.neeis.neeis.domain.classroom.ClassroomService;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
+import com.neeis.neeis.domain.classroomStudent.StudentAccessResolver;
 import com.neeis.neeis.domain.notification.service.NotificationService;
 import com.neeis.neeis.domain.parent.Parent;
-import com.neeis.neeis.domain.parent.ParentService;
 import com.neeis.neeis.domain.semester.Semester;
 import com.neeis.neeis.domain.semester.SemesterRepository;
+import com.neeis.neeis.domain.semester.service.SchoolCalendarService;
 import com.neeis.neeis.domain.student.Student;
 import com.neeis.neeis.domain.teacher.Teacher;
 import com.neeis.neeis.domain.teacher.service.TeacherService;
 import com.neeis.neeis.domain.user.Role;
 import com.neeis.neeis.domain.user.User;
-import com.neeis.neeis.domain.user.service.UserService;
 import com.neeis.neeis.global.exception.CustomException;
 import com.neeis.neeis.global.exception.ErrorCode;
 import com.neeis.neeis.global.fcm.event.SendAttendanceFeedbackFcmEvent;
@@ -40,6 +44,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -54,7 +59,8 @@ import static org.mockito.BDDMockito.*;
 class AttendanceServiceUpdatedTest {
 
     @Mock private AttendanceRepository attendanceRepository;
-    @Mock private UserService userService;
+    @Mock private AttendanceJdbcRepository attendanceJdbcRepository;
+    @Mock private AttendanceCounterRepository attendanceCounterRepository;
     @Mock private TeacherService teacherService;
     @Mock private ClassroomService classroomService;
     @Mock private ClassroomStudentRepository classroomStudentRepository;
@@ -62,7 +68,8 @@ class AttendanceServiceUpdatedTest {
     @Mock private AttendanceFeedbackRepository feedbackRepository;
     @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private NotificationService notificationService;
-    @Mock private ParentService parentService;
+    @Mock private SchoolCalendarService schoolCalendarService;
+    @Mock private StudentAccessResolver studentAccessResolver;
 
     @InjectMocks
     private AttendanceService attendanceService;
@@ -116,16 +123,22 @@ class AttendanceServiceUpdatedTest {
 
             given(teacherService.authenticate(username)).willReturn(teacher);
             given(classroomService.findClassroom(2025, 2, 1, teacher.getId())).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroom(classroom)).willReturn(List.of(classroomStudent));
-            given(attendanceRepository.findByStudentAndDate(any(Student.class), any(LocalDate.class)))
-                    .willReturn(Optional.empty());
+            given(classroomStudentRepository.findByClassroomWithStudent(classroom)).willReturn(List.of(classroomStudent));
+            given(attendanceRepository.findAllByStudentIdInAndDateBetween(
+                    List.of(1L), LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30)))
+                    .willReturn(List.of());
 
             // When: 출결을 저장하면
             assertThatCode(() -> attendanceService.saveOrUpdateAttendance(username, requestDto))
                     .doesNotThrowAnyException();
 
-            // Then: 출결 데이터가 저장된다
-            then(attendanceRepository).should(atLeastOnce()).save(any(Attendance.class));
+            // Then: 특이사항만 한 번에 insert 된다
+            then(attendanceJdbcRepository).should().insertAll(argThat(rows ->
+                    rows.size() == 1
+                            && rows.get(0).getDate().equals(LocalDate.of(2025, 4, 1))
+                            && rows.get(0).getStatus() == AttendanceStatus.ABSENT));
+            then(attendanceJdbcRepository).should().updateStatuses(Map.of());
+            then(attendanceJdbcRepository).should().deleteAllByIds(List.of());
         }
 
         @Test
@@ -153,26 +166,102 @@ class AttendanceServiceUpdatedTest {
         @DisplayName("기존 출결 데이터가 있으면 업데이트한다")
         void should_UpdateAttendance_When_ExistingAttendanceExists() {
             // Given: 기존 출결 데이터가 있을 때
-            Attendance existingAttendance = Attendance.builder()
-                    .student(student)
-                    .date(LocalDate.of(2025, 4, 1))
-                    .status(AttendanceStatus.LATE)
-                    .build();
+            Attendance existingAttendance = createAttendance(student, LocalDate.of(2025, 4, 1), AttendanceStatus.LATE);
+            ReflectionTestUtils.setField(existingAttendance, "id", 10L);
 
             AttendanceBulkRequestDto requestDto = createAttendanceBulkRequest();
 
             given(teacherService.authenticate("teacher1")).willReturn(teacher);
             given(classroomService.findClassroom(2025, 2, 1, teacher.getId())).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroom(classroom)).willReturn(List.of(classroomStudent));
-            given(attendanceRepository.findByStudentAndDate(student, LocalDate.of(2025, 4, 1)))
-                    .willReturn(Optional.of(existingAttendance));
+            given(classroomStudentRepository.findByClassroomWithStudent(classroom)).willReturn(List.of(classroomStudent));
+            given(attendanceRepository.findAllByStudentIdInAndDateBetween(anyList(), any(LocalDate.class), any(LocalDate.class)))
+                    .willReturn(List.of(existingAttendance));
 
             // When: 새로운 출결 상태로 업데이트하면
             attendanceService.saveOrUpdateAttendance("teacher1", requestDto);
 
-            // Then: 기존 데이터가 업데이트된다
-            then(attendanceRepository).should().save(existingAttendance);
-            assertThat(existingAttendance.getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+            // Then: 기존 데이터의 상태만 업데이트되고, 월 집계는 지각 -1 / 결석 +1 반영된다
+            then(attendanceJdbcRepository).should().updateStatuses(Map.of(10L, AttendanceStatus.ABSENT));
+            then(attendanceJdbcRepository).should().insertAll(List.of());
+            then(attendanceJdbcRepository).should().deleteAllByIds(List.of());
+            then(attendanceJdbcRepository).should().addCounters(argThat(deltas ->
+                    deltas.size() == 1
+                            && deltas.get(0).getMonthKey() == 202504
+                            && deltas.get(0).getAbsentDelta() == 1
+                            && deltas.get(0).getLateDelta() == -1
+                            && deltas.get(0).getEarlyDelta() == 0));
+        }
+
+        @Test
+        @DisplayName("기존 결석일을 출석으로 제출하면 기존 기록을 삭제한다")
+        void should_DeleteAttendance_When_ExistingDayBecomesPresent() {
+            // Given: 4월 2일 결석 기록이 있고, 이번 제출에는 4월 1일 결석만 있을 때
+            Attendance existingAttendance = createAttendance(student, LocalDate.of(2025, 4, 2), AttendanceStatus.ABSENT);
+            ReflectionTestUtils.setField(existingAttendance, "id", 20L);
+
+            AttendanceBulkRequestDto requestDto = createAttendanceBulkRequest();
+
+            given(teacherService.authenticate("teacher1")).willReturn(teacher);
+            given(classroomService.findClassroom(2025, 2, 1, teacher.getId())).willReturn(classroom);
+            given(classroomStudentRepository.findByClassroomWithStudent(classroom)).willReturn(List.of(classroomStudent));
+            given(attendanceRepository.findAllByStudentIdInAndDateBetween(anyList(), any(LocalDate.class), any(LocalDate.class)))
+                    .willReturn(List.of(existingAttendance));
+
+            // When: 출결을 저장하면
+            attendanceService.saveOrUpdateAttendance("teacher1", requestDto);
+
+            // Then: 출석으로 바뀐 날은 삭제되고, 새 결석일은 추가된다
+            then(attendanceJdbcRepository).should().deleteAllByIds(List.of(20L));
+            then(attendanceJdbcRepository).should().insertAll(argThat(rows ->
+                    rows.size() == 1 && rows.get(0).getDate().equals(LocalDate.of(2025, 4, 1))));
+            // 결석 하루가 삭제되고 하루가 추가되어 집계 증감이 없으므로 반영하지 않는다
+            then(attendanceJdbcRepository).should().addCounters(List.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("출석 부르기 하루 출결 저장 테스트")
+    class SaveDailyAttendanceTest {
+
+        private final LocalDate date = LocalDate.of(2025, 4, 7);
+
+        @Test
+        @DisplayName("모아 둔 변경분을 한 번에 insert / update / delete 한다")
+        void should_ApplyBatch_When_SavingDailyAttendance() {
+            // Given: 학생 1은 지각 기록이 있고, 학생 2는 기록이 없을 때
+            Student student2 = createStudent(createUser("student2", Role.STUDENT), "김철수");
+            ReflectionTestUtils.setField(student2, "id", 2L);
+
+            Attendance existingAttendance = createAttendance(student, date, AttendanceStatus.LATE);
+            ReflectionTestUtils.setField(existingAttendance, "id", 30L);
+
+            given(attendanceRepository.findAllByStudentIdInAndDateBetween(any(), eq(date), eq(date)))
+                    .willReturn(List.of(existingAttendance));
+
+            // When: 학생 1 출석, 학생 2 결석으로 저장하면
+            attendanceService.saveDailyAttendance(2025, date,
+                    Map.of(1L, student, 2L, student2),
+                    Map.of(1L, AttendanceStatus.PRESENT, 2L, AttendanceStatus.ABSENT));
+
+            // Then: 학생 행을 먼저 잠그고, 지각 기록은 삭제, 결석은 추가되고 집계와 변경 이벤트가 반영된다
+            then(attendanceJdbcRepository).should().lockStudents(argThat(ids -> ids.size() == 2));
+            then(attendanceJdbcRepository).should().deleteAllByIds(List.of(30L));
+            then(attendanceJdbcRepository).should().insertAll(argThat(rows ->
+                    rows.size() == 1 && rows.get(0).getStudent() == student2
+                            && rows.get(0).getStatus() == AttendanceStatus.ABSENT));
+            then(attendanceJdbcRepository).should().addCounters(argThat(deltas -> deltas.size() == 2));
+            then(eventPublisher).should().publishEvent(any(AttendanceChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("변경분이 없으면 아무것도 저장하지 않는다")
+        void should_DoNothing_When_NoChanges() {
+            // When
+            attendanceService.saveDailyAttendance(2025, date, Map.of(1L, student), Map.of());
+
+            // Then
+            then(attendanceRepository).shouldHaveNoInteractions();
+            then(attendanceJdbcRepository).shouldHaveNoInteractions();
         }
     }
 
@@ -183,33 +272,53 @@ class AttendanceServiceUpdatedTest {
         @Test
         @DisplayName("교사가 학급 전체 학생의 월별 출결을 조회할 수 있다")
         void should_ReturnClassAttendances_When_TeacherRequestsValidClass() {
-            // Given: 교사가 담당 학급의 출결을 조회할 때
-            List<Attendance> attendances = List.of(
-                    createAttendance(student, LocalDate.of(2025, 4, 1), AttendanceStatus.ABSENT),
-                    createAttendance(student, LocalDate.of(2025, 4, 2), AttendanceStatus.LATE)
-            );
-
+            // Given: 교사가 담당 학급의 출결을 조회할 때 (출결이 없는 2번 학생 포함)
             given(teacherService.authenticate("teacher1")).willReturn(teacher);
             given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroom(classroom)).willReturn(List.of(classroomStudent));
-            given(attendanceRepository.findByStudentAndDateBetween(eq(student), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(attendances);
+            given(attendanceRepository.findMonthlyRowsByClassroom(classroom, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30)))
+                    .willReturn(List.of(
+                            new AttendanceMatrixRowDto(1L, "홍길동", 1, LocalDate.of(2025, 4, 1), AttendanceStatus.ABSENT),
+                            new AttendanceMatrixRowDto(1L, "홍길동", 1, LocalDate.of(2025, 4, 2), AttendanceStatus.LATE),
+                            new AttendanceMatrixRowDto(2L, "김철수", 2, null, null)));
 
             // When: 학급 출결을 조회하면
             List<StudentAttendanceResDto> result = attendanceService.getAttendances("teacher1", 2025, 2, 1, 4);
 
-            // Then: 학급 전체 학생의 출결 정보가 반환된다
-            assertThat(result).hasSize(1);
+            // Then: 학급 전체 학생의 출결 정보가 출석번호 순으로 반환된다
+            assertThat(result).hasSize(2);
             assertThat(result.get(0).getStudentId()).isEqualTo(student.getId());
             assertThat(result.get(0).getAttendances()).hasSize(2);
+            assertThat(result.get(1).getNumber()).isEqualTo(2);
+            assertThat(result.get(1).getAttendances()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("교사가 학급 월별 출결을 압축된 매트릭스로 조회할 수 있다")
+        void should_ReturnPackedMatrix_When_TeacherRequestsMatrix() {
+            // Given: 1번 학생이 4월 1일 결석, 4월 3일 조퇴일 때
+            given(teacherService.authenticate("teacher1")).willReturn(teacher);
+            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
+            given(attendanceRepository.findMonthlyRowsByClassroom(classroom, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30)))
+                    .willReturn(List.of(
+                            new AttendanceMatrixRowDto(1L, "홍길동", 1, LocalDate.of(2025, 4, 1), AttendanceStatus.ABSENT),
+                            new AttendanceMatrixRowDto(1L, "홍길동", 1, LocalDate.of(2025, 4, 3), AttendanceStatus.EARLY),
+                            new AttendanceMatrixRowDto(2L, "김철수", 2, null, null)));
+
+            // When: 매트릭스를 조회하면
+            AttendanceMatrixResDto result = attendanceService.getAttendanceMatrix("teacher1", 2025, 2, 1, 4);
+
+            // Then: 학생별 한 달 출결이 2비트 단위로 압축되어 반환된다 (1일 = 01, 3일 = 11)
+            assertThat(result.getLengthOfMonth()).isEqualTo(30);
+            assertThat(result.getStudents()).hasSize(2);
+            assertThat(result.getStudents().get(0).getDays()).isEqualTo("0000000000000031");
+            assertThat(result.getStudents().get(1).getDays()).isEqualTo("0000000000000000");
         }
 
         @Test
         @DisplayName("학생이 자신의 월별 출결을 조회할 수 있다")
         void should_ReturnOwnAttendance_When_StudentRequestsOwnData() {
             // Given: 학생이 자신의 출결을 조회할 때
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(attendanceRepository.findByStudentAndDateBetween(eq(student), any(LocalDate.class), any(LocalDate.class)))
                     .willReturn(List.of());
 
@@ -225,8 +334,8 @@ class AttendanceServiceUpdatedTest {
         @DisplayName("학생이 다른 학생의 출결을 조회하면 예외가 발생한다")
         void should_ThrowException_When_StudentAccessesOthersData() {
             // Given: 학생이 다른 학생의 출결을 조회할 때
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 2))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 다른 학생 번호로 조회하면 예외가 발생한다
             assertThatThrownBy(() -> attendanceService.getStudentMonthlyAttendance("student1", 2025, 2, 1, 2, 4))
@@ -239,10 +348,7 @@ class AttendanceServiceUpdatedTest {
         @DisplayName("학부모가 자녀의 출결을 조회할 수 있다")
         void should_ReturnChildAttendance_When_ParentRequestsChildData() {
             // Given: 학부모가 자녀의 출결을 조회할 때
-            given(userService.getUser("parent1")).willReturn(parentUser);
-            given(parentService.getParentByUser(parentUser)).willReturn(parent);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("parent1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(attendanceRepository.findByStudentAndDateBetween(eq(student), any(LocalDate.class), any(LocalDate.class)))
                     .willReturn(List.of());
 
@@ -257,16 +363,8 @@ class AttendanceServiceUpdatedTest {
         @DisplayName("학부모가 다른 학생의 출결을 조회하면 예외가 발생한다")
         void should_ThrowException_When_ParentAccessesOthersChildData() {
             // Given: 학부모가 다른 학생의 출결을 조회할 때
-            Student anotherStudent = createStudent(createUser("student2", Role.STUDENT), "김철수");
-            ReflectionTestUtils.setField(anotherStudent, "id", 2L);
-
-            ClassroomStudent anotherClassroomStudent = createClassroomStudent(2, anotherStudent, classroom);
-            ReflectionTestUtils.setField(anotherClassroomStudent, "id", 2L);
-
-            given(userService.getUser("parent1")).willReturn(parentUser);
-            given(parentService.getParentByUser(parentUser)).willReturn(parent);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 2)).willReturn(Optional.of(anotherClassroomStudent));
+            given(studentAccessResolver.resolve("parent1", 2025, 2, 1, 2))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 다른 학생의 출결을 조회하면 예외가 발생한다
             assertThatThrownBy(() -> attendanceService.getStudentMonthlyAttendance("parent1", 2025, 2, 1, 2, 4))
@@ -285,28 +383,44 @@ class AttendanceServiceUpdatedTest {
         void should_CalculateCorrectSummary_When_RequestingAttendanceSummary() {
             // Given: 학기 정보와 출결 데이터가 주어질 때
             Semester semester = createSemester(2025, 1, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 7, 31));
-            List<Attendance> attendances = List.of(
-                    createAttendance(student, LocalDate.of(2025, 3, 3), AttendanceStatus.ABSENT),
-                    createAttendance(student, LocalDate.of(2025, 3, 4), AttendanceStatus.LATE),
-                    createAttendance(student, LocalDate.of(2025, 3, 5), AttendanceStatus.EARLY)
-            );
 
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(semesterRepository.findByYearAndSemester(2025, 1)).willReturn(Optional.of(semester));
-            given(attendanceRepository.findByStudentAndDateBetween(eq(student), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(attendances);
+            given(attendanceCounterRepository.sumByStudentAndMonthKeyBetween(1L, 202503, 202507))
+                    .willReturn(new AttendanceCountDto(1L, 1L, 1L));
+            given(schoolCalendarService.countSchoolDays(semester, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 7, 31)))
+                    .willReturn(109);
 
             // When: 출결 통계를 조회하면
             StudentAttendanceSummaryDto summary = attendanceService.getStudentAttendanceSummary("teacher1", 2025, 1, 2, 1, 1);
 
-            // Then: 정확한 통계가 계산된다
+            // Then: 학기 달력의 수업일수와 월 집계 합계로 통계가 계산된다
             assertThat(summary.getAbsentDays()).isEqualTo(1);
             assertThat(summary.getLateDays()).isEqualTo(1);
             assertThat(summary.getLeaveEarlyDays()).isEqualTo(1);
-            assertThat(summary.getPresentDays()).isGreaterThan(0);
+            assertThat(summary.getTotalSchoolDays()).isEqualTo(109);
+            assertThat(summary.getPresentDays()).isEqualTo(106);
+            then(attendanceRepository).should(never()).findByStudentAndDateBetween(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("학기가 월 중간에 시작하면 첫 달의 학기 이전 출결은 통계에서 제외한다")
+        void should_ExcludeOutsideDays_When_SemesterStartsMidMonth() {
+            // Given: 3월 4일 시작 학기이고, 3월 집계에 학기 전(3월 3일) 결석 1건이 포함되어 있을 때
+            Semester semester = createSemester(2025, 1, LocalDate.of(2025, 3, 4), LocalDate.of(2025, 7, 31));
+
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1)).willReturn(classroomStudent);
+            given(semesterRepository.findByYearAndSemester(2025, 1)).willReturn(Optional.of(semester));
+            given(attendanceCounterRepository.sumByStudentAndMonthKeyBetween(1L, 202503, 202507))
+                    .willReturn(new AttendanceCountDto(2L, 0L, 0L));
+            given(attendanceRepository.findByStudentAndDateBetween(student, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 3)))
+                    .willReturn(List.of(createAttendance(student, LocalDate.of(2025, 3, 3), AttendanceStatus.ABSENT)));
+
+            // When: 출결 통계를 조회하면
+            StudentAttendanceSummaryDto summary = attendanceService.getStudentAttendanceSummary("teacher1", 2025, 1, 2, 1, 1);
+
+            // Then: 학기 이전 결석은 제외된다
+            assertThat(summary.getAbsentDays()).isEqualTo(1);
         }
 
         @Test
@@ -315,10 +429,7 @@ class AttendanceServiceUpdatedTest {
             // Given: 학기 시작일 이전의 날짜로 조회할 때 (미래 학기)
             Semester futureSemester = createSemester(2025, 2, LocalDate.of(2025, 9, 1), LocalDate.of(2026, 2, 28));
 
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(semesterRepository.findByYearAndSemester(2025, 2)).willReturn(Optional.of(futureSemester));
 
             // When & Then: 유효하지 않은 날짜 범위라는 예외가 발생한다
@@ -347,10 +458,7 @@ class AttendanceServiceUpdatedTest {
                     .build();
             ReflectionTestUtils.setField(savedFeedback, "id", 1L);
 
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(feedbackRepository.save(any(AttendanceFeedback.class))).willReturn(savedFeedback);
 
             // When: 피드백을 저장하면
@@ -380,9 +488,7 @@ class AttendanceServiceUpdatedTest {
                     .build();
 
             given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(feedbackRepository.findByClassroomStudent(classroomStudent)).willReturn(Optional.of(existingFeedback));
 
             // When: 피드백을 수정하면
@@ -410,9 +516,7 @@ class AttendanceServiceUpdatedTest {
                     .build();
 
             given(teacherService.authenticate("teacher2")).willReturn(anotherTeacher);
-            given(userService.getUser("teacher2")).willReturn(createUser("teacher2", Role.TEACHER));
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("teacher2", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(feedbackRepository.findByClassroomStudent(classroomStudent)).willReturn(Optional.of(existingFeedback));
 
             // When & Then: 접근 권한이 없다는 예외가 발생한다
@@ -433,8 +537,7 @@ class AttendanceServiceUpdatedTest {
                     .build();
             ReflectionTestUtils.setField(feedback, "id", 1L);
 
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(feedbackRepository.findByClassroomStudent(classroomStudent)).willReturn(Optional.of(feedback));
 
             // When: 피드백을 조회하면
@@ -455,10 +558,7 @@ class AttendanceServiceUpdatedTest {
                     .build();
             ReflectionTestUtils.setField(feedback, "id", 1L);
 
-            given(userService.getUser("parent1")).willReturn(parentUser);
-            given(parentService.getParentByUser(parentUser)).willReturn(parent);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("parent1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(feedbackRepository.findByClassroomStudent(classroomStudent)).willReturn(Optional.of(feedback));
 
             // When: 자녀 피드백을 조회하면
@@ -473,8 +573,7 @@ class AttendanceServiceUpdatedTest {
         @DisplayName("존재하지 않는 피드백을 조회하면 예외가 발생한다")
         void should_ThrowException_When_FeedbackNotExists() {
             // Given: 피드백이 존재하지 않을 때
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(feedbackRepository.findByClassroomStudent(classroomStudent)).willReturn(Optional.empty());
 
             // When & Then: 데이터를 찾을 수 없다는 예외가 발생한다
@@ -486,18 +585,15 @@ class AttendanceServiceUpdatedTest {
     }
 
     @Nested
-    @DisplayName("checkValidate 메서드 권한 검사 테스트")
-    class CheckValidateTest {
+    @DisplayName("조회 권한 검사 테스트")
+    class AccessValidationTest {
 
         @Test
         @DisplayName("학생이 본인이 아닌 다른 번호로 접근하면 예외가 발생한다")
         void should_ThrowException_When_StudentAccessesWrongNumber() {
             // Given: 학생이 본인 번호가 아닌 다른 번호로 접근할 때
-            ClassroomStudent studentCs = createClassroomStudent(5, student, classroom); // 번호 5번
-            ReflectionTestUtils.setField(studentCs, "id", 1L);
-
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(studentCs));
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 1번으로 접근하면 예외가 발생한다 (본인은 5번)
             assertThatThrownBy(() -> attendanceService.getStudentMonthlyAttendance("student1", 2025, 2, 1, 1, 4))
@@ -510,10 +606,8 @@ class AttendanceServiceUpdatedTest {
         @DisplayName("교사가 존재하지 않는 학생 번호로 접근하면 예외가 발생한다")
         void should_ThrowException_When_TeacherAccessesNonExistentStudent() {
             // Given: 교사가 존재하지 않는 학생 번호로 접근할 때
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 99)).willReturn(Optional.empty());
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 99))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 존재하지 않는 번호로 접근하면 예외가 발생한다
             assertThatThrownBy(() -> attendanceService.getStudentMonthlyAttendance("teacher1", 2025, 2, 1, 99, 4))
@@ -526,9 +620,8 @@ class AttendanceServiceUpdatedTest {
         @DisplayName("학부모가 존재하지 않는 학급 정보로 접근하면 예외가 발생한다")
         void should_ThrowException_When_ParentAccessesNonExistentClassroom() {
             // Given: 학부모가 존재하지 않는 학급으로 접근할 때
-            given(userService.getUser("parent1")).willReturn(parentUser);
-            given(parentService.getParentByUser(parentUser)).willReturn(parent);
-            given(classroomService.findClassroom(2025, 3, 5)).willThrow(new CustomException(ErrorCode.CLASSROOM_NOT_FOUND));
+            given(studentAccessResolver.resolve("parent1", 2025, 3, 5, 1))
+                    .willThrow(new CustomException(ErrorCode.CLASSROOM_NOT_FOUND));
 
             // When & Then: 존재하지 않는 학급으로 접근하면 예외가 발생한다
             assertThatThrownBy(() -> attendanceService.getStudentMonthlyAttendance("parent1", 2025, 3, 5, 1, 4))
@@ -538,55 +631,39 @@ class AttendanceServiceUpdatedTest {
         }
 
         @Test
-        @DisplayName("역할이 null인 사용자가 접근하면 NullPointerException이 발생한다")
-        void should_ThrowNPE_When_UserRoleIsNull() {
+        @DisplayName("역할이 null인 사용자가 접근하면 예외가 발생한다")
+        void should_ThrowException_When_UserRoleIsNull() {
             // Given: 역할이 null인 사용자가 접근할 때
-            User nullRoleUser = User.builder()
-                    .school("테스트중학교")
-                    .username("nullrole1")
-                    .password("password")
-                    .role(null) // 역할이 null
-                    .build();
-
-            given(userService.getUser("nullrole1")).willReturn(nullRoleUser);
+            given(studentAccessResolver.resolve("nullrole1", 2025, 2, 1, 1))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
-            // When & Then: NullPointerException이 발생한다
-            // 실제 Service에서 user.getRole()이 null일 때 switch문에서 NPE 발생
+            // When & Then: 접근 권한이 없다는 예외가 발생한다
             assertThatThrownBy(() -> attendanceService.getStudentMonthlyAttendance("nullrole1", 2025, 2, 1, 1, 4))
-                    .isInstanceOf(NullPointerException.class)
-                    .hasMessageContaining("Cannot invoke \"com.neeis.neeis.domain.user.Role.ordinal()\"");
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
         }
 
         @Test
-        @DisplayName("관리자 역할 사용자의 접근 처리 테스트")
-        void should_HandleAdminRoleAccess() {
-            // Given: 관리자 역할의 사용자가 접근할 때 (ADMIN이 Role enum에 있다면)
-            // 실제 Role enum에 ADMIN이 없다면 다른 역할로 테스트
-            User adminUser = User.builder()
-                    .school("테스트중학교")
-                    .username("admin1")
-                    .password("password")
-                    .role(Role.STUDENT) // 실제로는 ADMIN이 있다면 Role.ADMIN 사용
-                    .build();
-
-            given(userService.getUser("admin1")).willReturn(adminUser);
-            given(classroomStudentRepository.findByStudentUser(adminUser)).willReturn(Optional.of(classroomStudent));
-            given(attendanceRepository.findByStudentAndDateBetween(eq(student), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(List.of());
-
-            // When: 관리자가 접근하면
-            StudentAttendanceResDto result = attendanceService.getStudentMonthlyAttendance("admin1", 2025, 2, 1, 1, 4);
+        @DisplayName("관리자 역할 사용자는 학생 출결을 조회할 수 없다")
+        void should_ThrowException_When_AdminAccesses() {
+            // Given: 관리자 역할의 사용자가 접근할 때
+            given(studentAccessResolver.resolve("admin1", 2025, 2, 1, 1))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
-            // Then: 정상적으로 처리된다 (또는 Role enum에 따라 예외 발생)
-            assertThat(result).isNotNull();
+            // When & Then: 접근 권한이 없다는 예외가 발생한다
+            assertThatThrownBy(() -> attendanceService.getStudentMonthlyAttendance("admin1", 2025, 2, 1, 1, 4))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
         }
 
         @Test
         @DisplayName("학생이 학급에 속하지 않은 경우 예외가 발생한다")
         void should_ThrowException_When_StudentNotInAnyClassroom() {
             // Given: 학생이 어떤 학급에도 속하지 않은 경우
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.empty());
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1))
+                    .willThrow(new CustomException(ErrorCode.CLASSROOM_NOT_FOUND));
 
             // When & Then: 학급을 찾을 수 없다는 예외가 발생한다
             assertThatThrownBy(() -> attendanceService.getStudentMonthlyAttendance("student1", 2025, 2, 1, 1, 4))
@@ -619,16 +696,16 @@ class AttendanceServiceUpdatedTest {
 
             given(teacherService.authenticate("teacher1")).willReturn(teacher);
             given(classroomService.findClassroom(2025, 2, 1, teacher.getId())).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroom(classroom)).willReturn(List.of(classroomStudent));
-            given(attendanceRepository.findByStudentAndDate(any(Student.class), any(LocalDate.class)))
-                    .willReturn(Optional.empty());
+            given(classroomStudentRepository.findByClassroomWithStudent(classroom)).willReturn(List.of(classroomStudent));
 
             // When: 2월 출결을 저장하면
             attendanceService.saveOrUpdateAttendance("teacher1", februaryRequest);
 
             // Then: 2월 28일까지의 모든 날짜가 처리된다
-            // PRESENT가 아닌 날짜만 저장되므로 1번 저장됨 (2월 28일 결석)
-            then(attendanceRepository).should().save(any(Attendance.class));
+            // PRESENT가 아닌 날짜만 저장되므로 1건 저장됨 (2월 28일 결석)
+            then(attendanceRepository).should().findAllByStudentIdInAndDateBetween(
+                    List.of(1L), LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28));
+            then(attendanceJdbcRepository).should().insertAll(argThat(rows -> rows.size() == 1));
         }
 
         @Test
@@ -650,15 +727,14 @@ class AttendanceServiceUpdatedTest {
 
             given(teacherService.authenticate("teacher1")).willReturn(teacher);
             given(classroomService.findClassroom(2024, 2, 1, teacher.getId())).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroom(classroom)).willReturn(List.of(classroomStudent));
-            given(attendanceRepository.findByStudentAndDate(any(Student.class), any(LocalDate.class)))
-                    .willReturn(Optional.empty());
+            given(classroomStudentRepository.findByClassroomWithStudent(classroom)).willReturn(List.of(classroomStudent));
 
             // When: 윤년 2월 출결을 저장하면
             attendanceService.saveOrUpdateAttendance("teacher1", leapYearRequest);
 
             // Then: 2월 29일까지 정확히 처리된다
-            then(attendanceRepository).should().save(any(Attendance.class));
+            then(attendanceJdbcRepository).should().insertAll(argThat(rows ->
+                    rows.size() == 1 && rows.get(0).getDate().equals(LocalDate.of(2024, 2, 29))));
         }
     }
 
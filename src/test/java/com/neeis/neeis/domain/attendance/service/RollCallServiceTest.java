@@ -0,0 +1,237 @@
+package com.neeis.neeis.domain.attendance.service;
+
+import com.neeis.neeis.domain.attendance.Attendance;
+import com.neeis.neeis.domain.attendance.AttendanceRepository;
+import com.neeis.neeis.domain.attendance.AttendanceStatus;
+import com.neeis.neeis.domain.attendance.dto.req.RollCallMarkReqDto;
+import com.neeis.neeis.domain.attendance.dto.res.RollCallResDto;
+import com.neeis.neeis.domain.attendance.dto.res.RollCallStudentDto;
+import com.neeis.neeis.domain.classroom.Classroom;
+import com.neeis.neeis.domain.classroom.ClassroomService;
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
+import com.neeis.neeis.domain.student.Student;
+import com.neeis.neeis.domain.teacher.Teacher;
+import com.neeis.neeis.domain.teacher.service.TeacherService;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RollCallServiceTest {
+
+    @Mock private AttendanceService attendanceService;
+    @Mock private AttendanceRepository attendanceRepository;
+    @Mock private TeacherService teacherService;
+    @Mock private ClassroomService classroomService;
+    @Mock private ClassroomStudentRepository classroomStudentRepository;
+    @Mock private TaskScheduler worker;
+
+    private RollCallService rollCallService;
+
+    private final LocalDate today = LocalDate.now();
+    private Teacher teacher;
+    private Student student1, student2;
+
+    @BeforeEach
+    void setUp() {
+        rollCallService = new RollCallService(attendanceService, attendanceRepository, teacherService,
+                classroomService, classroomStudentRepository, worker, Duration.ofSeconds(3));
+
+        teacher = Teacher.builder().name("김교사").build();
+        ReflectionTestUtils.setField(teacher, "id", 1L);
+        student1 = student(1L, "홍길동");
+        student2 = student(2L, "김철수");
+
+        Classroom classroom = Classroom.builder().year(2025).grade(2).classNum(1).teacher(teacher).build();
+        given(teacherService.authenticate("teacher1")).willReturn(teacher);
+        // 날짜 검증에서 끝나는 테스트는 학급을 조회하지 않는다
+        lenient().when(classroomService.findClassroom(2025, 2, 1, 1L)).thenReturn(classroom);
+        lenient().when(classroomStudentRepository.findByClassroomWithStudent(classroom)).thenReturn(List.of(
+                ClassroomStudent.builder().number(1).student(student1).classroom(classroom).build(),
+                ClassroomStudent.builder().number(2).student(student2).classroom(classroom).build()));
+    }
+
+    @Test
+    @DisplayName("여러 학생 표시는 한 번의 저장으로 합쳐진다")
+    void mark_batchesIntoOneFlush() {
+        // when: 두 학생 표시 (같은 학생 재표시 포함)
+        rollCallService.mark("teacher1", mark(1L, AttendanceStatus.LATE));
+        rollCallService.mark("teacher1", mark(2L, AttendanceStatus.ABSENT));
+        rollCallService.mark("teacher1", mark(1L, AttendanceStatus.EARLY));
+
+        // then: 예약은 한 번, 실행하면 마지막 상태로 한 번 저장
+        List<Runnable> scheduled = captureScheduled(1);
+        then(attendanceService).shouldHaveNoInteractions();
+
+        scheduled.get(0).run();
+
+        then(attendanceService).should(times(1)).saveDailyAttendance(eq(2025), eq(today), anyMap(),
+                eq(Map.of(1L, AttendanceStatus.EARLY, 2L, AttendanceStatus.ABSENT)));
+    }
+
+    @Test
+    @DisplayName("조회 시 저장 전 변경분을 DB 출결 위에 덮어쓴다")
+    void getRollCall_mergesPending() {
+        // given: DB 에는 학생 1 결석, 학생 2 지각
+        given(attendanceRepository.findAllByStudentIdInAndDateBetween(any(), eq(today), eq(today)))
+                .willReturn(List.of(attendance(student1, AttendanceStatus.ABSENT), attendance(student2, AttendanceStatus.LATE)));
+        rollCallService.mark("teacher1", mark(1L, AttendanceStatus.PRESENT));
+
+        // when
+        RollCallResDto result = rollCallService.getRollCall("teacher1", 2025, 2, 1, null);
+
+        // then
+        assertThat(result.getPendingCount()).isEqualTo(1);
+        assertThat(result.getStudents()).extracting(RollCallStudentDto::getStatus)
+                .containsExactly(AttendanceStatus.PRESENT, AttendanceStatus.LATE);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 변경분을 바로 저장하고 세션을 정리한다")
+    void close_flushesImmediately() {
+        // given
+        rollCallService.mark("teacher1", mark(2L, AttendanceStatus.ABSENT));
+
+        // when
+        RollCallResDto result = rollCallService.close("teacher1", 2025, 2, 1, today);
+
+        // then
+        then(attendanceService).should().saveDailyAttendance(eq(2025), eq(today), anyMap(),
+                eq(Map.of(2L, AttendanceStatus.ABSENT)));
+        assertThat(result.getPendingCount()).isZero();
+
+        // 세션이 정리되어 다시 열면 명단을 새로 조회
+        rollCallService.open("teacher1", 2025, 2, 1, today);
+        then(classroomStudentRepository).should(times(2)).findByClassroomWithStudent(any());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 변경분을 되돌리고 다시 예약한다")
+    void flush_failure_restoresPending() {
+        // given
+        rollCallService.mark("teacher1", mark(1L, AttendanceStatus.LATE));
+        willThrow(new RuntimeException("Database error"))
+                .given(attendanceService).saveDailyAttendance(anyInt(), any(), anyMap(), anyMap());
+
+        // when
+        captureScheduled(1).get(0).run();
+
+        // then
+        captureScheduled(2);
+        RollCallResDto result = rollCallService.getRollCall("teacher1", 2025, 2, 1, today);
+        assertThat(result.getPendingCount()).isEqualTo(1);
+        assertThat(result.getStudents().get(0).getStatus()).isEqualTo(AttendanceStatus.LATE);
+    }
+
+    @Test
+    @DisplayName("같은 변경분이 최대 횟수만큼 실패하면 재시도를 멈추고 저장 실패로 표시한다")
+    void flush_failure_givesUpAfterMaxAttempts() {
+        // given
+        rollCallService.mark("teacher1", mark(1L, AttendanceStatus.LATE));
+        willThrow(new RuntimeException("Database error"))
+                .given(attendanceService).saveDailyAttendance(anyInt(), any(), anyMap(), anyMap());
+
+        // when: 예약된 재시도를 계속 실행
+        for (int attempt = 1; attempt <= RollCallService.MAX_FLUSH_ATTEMPTS; attempt++) {
+            List<Runnable> scheduled = captureScheduled(attempt);
+            scheduled.get(attempt - 1).run();
+        }
+
+        // then: 더 이상 예약하지 않고, 학생은 DB 출결(출석)과 함께 저장 실패로 표시
+        captureScheduled(RollCallService.MAX_FLUSH_ATTEMPTS);
+        then(attendanceService).should(times(RollCallService.MAX_FLUSH_ATTEMPTS))
+                .saveDailyAttendance(anyInt(), any(), anyMap(), anyMap());
+        RollCallResDto result = rollCallService.getRollCall("teacher1", 2025, 2, 1, today);
+        assertThat(result.getPendingCount()).isZero();
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getStudents().get(0).isSaveFailed()).isTrue();
+        assertThat(result.getStudents().get(0).getStatus()).isEqualTo(AttendanceStatus.PRESENT);
+
+        // 다시 표시하면 새로 예약
+        rollCallService.mark("teacher1", mark(1L, AttendanceStatus.LATE));
+        captureScheduled(RollCallService.MAX_FLUSH_ATTEMPTS + 1);
+        assertThat(rollCallService.getRollCall("teacher1", 2025, 2, 1, today).getFailedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("서버 종료 시 남은 변경분을 저장한다")
+    void shutdown_flushesPending() {
+        // given
+        rollCallService.mark("teacher1", mark(1L, AttendanceStatus.ABSENT));
+
+        // when
+        rollCallService.shutdown();
+
+        // then
+        then(attendanceService).should().saveDailyAttendance(eq(2025), eq(today), anyMap(),
+                eq(Map.of(1L, AttendanceStatus.ABSENT)));
+    }
+
+    @Test
+    @DisplayName("학급에 없는 학생은 표시할 수 없다")
+    void mark_unknownStudent() {
+        assertThatThrownBy(() -> rollCallService.mark("teacher1", mark(99L, AttendanceStatus.ABSENT)))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+        then(worker).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("미래 날짜는 출석 부르기를 할 수 없다")
+    void open_futureDate() {
+        assertThatThrownBy(() -> rollCallService.open("teacher1", 2025, 2, 1, today.plusDays(1)))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_ROLL_CALL_DATE);
+    }
+
+    private RollCallMarkReqDto mark(Long studentId, AttendanceStatus status) {
+        return RollCallMarkReqDto.builder()
+                .year(2025)
+                .grade(2)
+                .classNumber(1)
+                .studentId(studentId)
+                .status(status)
+                .build();
+    }
+
+    private Student student(Long id, String name) {
+        Student student = Student.builder().name(name).build();
+        ReflectionTestUtils.setField(student, "id", id);
+        return student;
+    }
+
+    private Attendance attendance(Student student, AttendanceStatus status) {
+        return Attendance.builder()
+                .student(student)
+                .date(today)
+                .status(status)
+                .build();
+    }
+
+    private List<Runnable> captureScheduled(int count) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        then(worker).should(times(count)).schedule(captor.capture(), any(Instant.class));
+        return captor.getAllValues();
+    }
+}
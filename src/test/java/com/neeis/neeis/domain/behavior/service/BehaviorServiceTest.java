@@ -6,19 +6,16 @@ import com.neeis.neeis.domain.behavior.dto.req.BehaviorRequestDto;
 import com.neeis.neeis.domain.behavior.dto.res.BehaviorDetailResponseDto;
 import com.neeis.neeis.domain.behavior.dto.res.BehaviorResponseDto;
 import com.neeis.neeis.domain.classroom.Classroom;
-import com.neeis.neeis.domain.classroom.ClassroomService;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
-import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudentService;
+import com.neeis.neeis.domain.classroomStudent.StudentAccessResolver;
 import com.neeis.neeis.domain.notification.service.NotificationService;
 import com.neeis.neeis.domain.parent.Parent;
-import com.neeis.neeis.domain.parent.ParentService;
 import com.neeis.neeis.domain.student.Student;
 import com.neeis.neeis.domain.teacher.Teacher;
 import com.neeis.neeis.domain.teacher.service.TeacherService;
 import com.neeis.neeis.domain.user.Role;
 import com.neeis.neeis.domain.user.User;
-import com.neeis.neeis.domain.user.service.UserService;
 import com.neeis.neeis.global.exception.CustomException;
 import com.neeis.neeis.global.exception.ErrorCode;
 import com.neeis.neeis.global.fcm.event.SendBehaviorFcmEvent;
@@ -51,12 +48,9 @@ class BehaviorServiceUpdatedTest {
     @Mock private BehaviorRepository behaviorRepository;
     @Mock private TeacherService teacherService;
     @Mock private ClassroomStudentService classroomStudentService;
-    @Mock private ClassroomService classroomService;
     @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private NotificationService notificationService;
-    @Mock private UserService userService;
-    @Mock private ClassroomStudentRepository classroomStudentRepository;
-    @Mock private ParentService parentService;
+    @Mock private StudentAccessResolver studentAccessResolver;
 
     @InjectMocks
     private BehaviorService behaviorService;
@@ -162,11 +156,7 @@ class BehaviorServiceUpdatedTest {
         @DisplayName("교사가 담당 학생의 행동을 조회할 수 있다")
         void should_ReturnBehavior_When_TeacherRequestsAssignedStudent() {
             // Given: 교사가 담당 학생의 행동을 조회할 때
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1))
-                    .willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(behaviorRepository.findByClassroomStudentId(classroomStudent.getId()))
                     .willReturn(Optional.of(behavior));
 
@@ -182,9 +172,7 @@ class BehaviorServiceUpdatedTest {
         @DisplayName("학생이 자신의 행동을 조회할 수 있다")
         void should_ReturnBehavior_When_StudentRequestsOwnData() {
             // Given: 학생이 자신의 행동을 조회할 때
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser))
-                    .willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(behaviorRepository.findByClassroomStudentId(classroomStudent.getId()))
                     .willReturn(Optional.of(behavior));
 
@@ -199,9 +187,8 @@ class BehaviorServiceUpdatedTest {
         @DisplayName("학생이 다른 학생의 행동을 조회하면 예외가 발생한다")
         void should_ThrowException_When_StudentRequestsOthersData() {
             // Given: 학생이 다른 학생의 행동을 조회할 때
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser))
-                    .willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 2))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 다른 학생 번호로 조회하면 예외가 발생한다
             assertThatThrownBy(() -> behaviorService.getBehavior("student1", 2025, 2, 1, 2))
@@ -214,11 +201,7 @@ class BehaviorServiceUpdatedTest {
         @DisplayName("학부모가 자녀의 행동을 조회할 수 있다")
         void should_ReturnBehavior_When_ParentRequestsChildData() {
             // Given: 학부모가 자녀의 행동을 조회할 때
-            given(userService.getUser("parent1")).willReturn(parentUser);
-            given(parentService.getParentByUser(parentUser)).willReturn(parent);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1))
-                    .willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("parent1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(behaviorRepository.findByClassroomStudentId(classroomStudent.getId()))
                     .willReturn(Optional.of(behavior));
 
@@ -233,17 +216,8 @@ class BehaviorServiceUpdatedTest {
         @DisplayName("학부모가 다른 학생의 행동을 조회하면 예외가 발생한다")
         void should_ThrowException_When_ParentRequestsOthersChildData() {
             // Given: 학부모가 다른 학생의 행동을 조회할 때
-            Student anotherStudent = createStudent(createUser("student2", Role.STUDENT), "김철수");
-            ReflectionTestUtils.setField(anotherStudent, "id", 2L);
-
-            ClassroomStudent anotherClassroomStudent = createClassroomStudent(2, anotherStudent, classroom);
-            ReflectionTestUtils.setField(anotherClassroomStudent, "id", 2L);
-
-            given(userService.getUser("parent1")).willReturn(parentUser);
-            given(parentService.getParentByUser(parentUser)).willReturn(parent);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 2))
-                    .willReturn(Optional.of(anotherClassroomStudent));
+            given(studentAccessResolver.resolve("parent1", 2025, 2, 1, 2))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 다른 학생의 행동을 조회하면 예외가 발생한다
             assertThatThrownBy(() -> behaviorService.getBehavior("parent1", 2025, 2, 1, 2))
@@ -256,11 +230,7 @@ class BehaviorServiceUpdatedTest {
         @DisplayName("존재하지 않는 행동을 조회하면 예외가 발생한다")
         void should_ThrowException_When_BehaviorNotExists() {
             // Given: 행동이 존재하지 않을 때
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1))
-                    .willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1)).willReturn(classroomStudent);
             given(behaviorRepository.findByClassroomStudentId(classroomStudent.getId()))
                     .willReturn(Optional.empty());
 
@@ -343,16 +313,15 @@ class BehaviorServiceUpdatedTest {
     }
 
     @Nested
-    @DisplayName("checkValidate 메서드 권한 검사 테스트")
+    @DisplayName("조회 권한 검사 테스트")
     class CheckValidateTest {
 
         @Test
         @DisplayName("학생이 학급에 속하지 않은 경우 예외가 발생한다")
         void should_ThrowException_When_StudentNotInAnyClassroom() {
             // Given: 학생이 어떤 학급에도 속하지 않은 경우
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser))
-                    .willReturn(Optional.empty());
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1))
+                    .willThrow(new CustomException(ErrorCode.CLASSROOM_NOT_FOUND));
 
             // When & Then: 학급을 찾을 수 없다는 예외가 발생한다
             assertThatThrownBy(() -> behaviorService.getBehavior("student1", 2025, 2, 1, 1))
@@ -365,11 +334,8 @@ class BehaviorServiceUpdatedTest {
         @DisplayName("교사가 존재하지 않는 학생 번호로 접근하면 예외가 발생한다")
         void should_ThrowException_When_TeacherAccessesNonExistentStudent() {
             // Given: 교사가 존재하지 않는 학생 번호로 접근할 때
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 99))
-                    .willReturn(Optional.empty());
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 99))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 접근 권한이 없다는 예외가 발생한다
             assertThatThrownBy(() -> behaviorService.getBehavior("teacher1", 2025, 2, 1, 99))
@@ -379,21 +345,17 @@ class BehaviorServiceUpdatedTest {
         }
 
         @Test
-        @DisplayName("역할이 null인 사용자가 접근하면 NullPointerException이 발생한다")
-        void should_ThrowNPE_When_UserRoleIsNull() {
+        @DisplayName("역할이 null인 사용자가 접근하면 예외가 발생한다")
+        void should_ThrowException_When_UserRoleIsNull() {
             // Given: 역할이 null인 사용자가 접근할 때
-            User nullRoleUser = User.builder()
-                    .school("테스트중학교")
-                    .username("nullrole1")
-                    .password("password")
-                    .role(null)
-                    .build();
-
-            given(userService.getUser("nullrole1")).willReturn(nullRoleUser);
+            given(studentAccessResolver.resolve("nullrole1", 2025, 2, 1, 1))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
-            // When & Then: NullPointerException이 발생한다
+            // When & Then: 접근 권한이 없다는 예외가 발생한다
             assertThatThrownBy(() -> behaviorService.getBehavior("nullrole1", 2025, 2, 1, 1))
-                    .isInstanceOf(NullPointerException.class);
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
         }
     }
 
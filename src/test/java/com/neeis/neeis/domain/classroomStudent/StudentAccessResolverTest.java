@@ -0,0 +1,378 @@
+package com.neeis.neeis.domain.classroomStudent;
+
+import com.neeis.neeis.domain.classroom.Classroom;
+import com.neeis.neeis.domain.parent.Parent;
+import com.neeis.neeis.domain.parent.ParentService;
+import com.neeis.neeis.domain.student.Student;
+import com.neeis.neeis.domain.teacher.Teacher;
+import com.neeis.neeis.domain.teacher.service.TeacherService;
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.domain.user.service.UserService;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.neeis.neeis.domain.classroomStudent.StudentAccessResolver.STUDENT_TEACHER;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentAccessResolverTest {
+
+    @Mock private UserService userService;
+    @Mock private TeacherService teacherService;
+    @Mock private ParentService parentService;
+    @Mock private ClassroomStudentRepository classroomStudentRepository;
+
+    @InjectMocks
+    private StudentAccessResolver studentAccessResolver;
+
+    private User teacherUser, studentUser, parentUser;
+    private Teacher teacher;
+    private Student student;
+    private Parent parent;
+    private ClassroomStudent classroomStudent;
+    private ClassroomStudent anotherClassroomStudent;
+
+    @BeforeEach
+    void setUp() {
+        teacherUser = createUser("teacher1", Role.TEACHER);
+        teacher = Teacher.builder().name("김교사").user(teacherUser).build();
+
+        studentUser = createUser("student1", Role.STUDENT);
+        student = createStudent(studentUser, "홍길동");
+        ReflectionTestUtils.setField(student, "id", 1L);
+
+        parentUser = createUser("parent1", Role.PARENT);
+        parent = Parent.builder().student(student).user(parentUser).build();
+
+        Classroom classroom = Classroom.builder().year(2025).grade(2).classNum(1).teacher(teacher).build();
+        ReflectionTestUtils.setField(classroom, "id", 1L);
+
+        classroomStudent = ClassroomStudent.builder().number(1).student(student).classroom(classroom).build();
+        ReflectionTestUtils.setField(classroomStudent, "id", 10L);
+
+        Student anotherStudent = createStudent(createUser("student2", Role.STUDENT), "김철수");
+        ReflectionTestUtils.setField(anotherStudent, "id", 2L);
+        anotherClassroomStudent = ClassroomStudent.builder().number(2).student(anotherStudent).classroom(classroom).build();
+        ReflectionTestUtils.setField(anotherClassroomStudent, "id", 20L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("학생 접근 테스트")
+    class StudentAccessTest {
+
+        @Test
+        @DisplayName("학생은 본인 번호로 자신의 학급 학생 정보를 얻는다")
+        void should_ReturnOwnClassroomStudent_When_StudentRequestsOwnNumber() {
+            // Given: 본인 학급 학생이 조회될 때
+            given(userService.getUser("student1")).willReturn(studentUser);
+            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(classroomStudent));
+            given(classroomStudentRepository.findByIdWithStudent(10L)).willReturn(Optional.of(classroomStudent));
+
+            // When: 본인 번호로 조회하면
+            ClassroomStudent result = studentAccessResolver.resolve("student1", 2025, 2, 1, 1);
+
+            // Then: 본인 학급 학생이 반환된다
+            assertThat(result).isSameAs(classroomStudent);
+        }
+
+        @Test
+        @DisplayName("학생이 다른 번호로 접근하면 대상 조회 없이 거부된다")
+        void should_ThrowException_When_StudentRequestsOthersNumber() {
+            // Given: 학생 본인은 1번
+            given(userService.getUser("student1")).willReturn(studentUser);
+            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(classroomStudent));
+
+            // When & Then: 2번으로 접근하면 예외가 발생한다
+            assertThatThrownBy(() -> studentAccessResolver.resolve("student1", 2025, 2, 1, 2))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+            then(classroomStudentRepository).should(never()).findByIdWithStudent(any());
+        }
+
+        @Test
+        @DisplayName("학생이 학급에 속하지 않은 경우 예외가 발생한다")
+        void should_ThrowException_When_StudentNotInAnyClassroom() {
+            // Given: 학생이 어떤 학급에도 속하지 않은 경우
+            given(userService.getUser("student1")).willReturn(studentUser);
+            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.empty());
+
+            // When & Then: 학급을 찾을 수 없다는 예외가 발생한다
+            assertThatThrownBy(() -> studentAccessResolver.resolve("student1", 2025, 2, 1, 1))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.CLASSROOM_NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("교사 접근 테스트")
+    class TeacherAccessTest {
+
+        @Test
+        @DisplayName("교사는 학급 정보와 번호로 한 번에 학급 학생을 조회한다")
+        void should_ReturnClassroomStudent_When_TeacherRequests() {
+            // Given
+            given(userService.getUser("teacher1")).willReturn(teacherUser);
+            given(teacherService.authenticate("teacher1")).willReturn(teacher);
+            given(classroomStudentRepository.findByClassInfoAndNumber(2025, 2, 1, 1))
+                    .willReturn(Optional.of(classroomStudent));
+
+            // When
+            ClassroomStudent result = studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1);
+
+            // Then
+            assertThat(result).isSameAs(classroomStudent);
+            then(classroomStudentRepository).should(never()).findByClassroomAndNumber(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("접근 범위는 캐시되어 연속 조회 시 사용자 / 교사 조회를 반복하지 않는다")
+        void should_ReuseScope_When_RequestedTwice() {
+            // Given
+            given(userService.getUser("teacher1")).willReturn(teacherUser);
+            given(teacherService.authenticate("teacher1")).willReturn(teacher);
+            given(classroomStudentRepository.findByClassInfoAndNumber(2025, 2, 1, 1))
+                    .willReturn(Optional.of(classroomStudent));
+            given(classroomStudentRepository.findByClassInfoAndNumber(2025, 2, 1, 2))
+                    .willReturn(Optional.of(anotherClassroomStudent));
+
+            // When: 서로 다른 학생을 두 번 조회하면
+            studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1);
+            studentAccessResolver.resolve("teacher1", 2025, 2, 1, 2);
+
+            // Then: 접근 범위는 한 번만 불러온다
+            then(userService).should(times(1)).getUser("teacher1");
+            then(teacherService).should(times(1)).authenticate("teacher1");
+        }
+
+        @Test
+        @DisplayName("교사가 존재하지 않는 학생 번호로 접근하면 예외가 발생한다")
+        void should_ThrowException_When_TeacherAccessesNonExistentStudent() {
+            // Given
+            given(userService.getUser("teacher1")).willReturn(teacherUser);
+            given(teacherService.authenticate("teacher1")).willReturn(teacher);
+            given(classroomStudentRepository.findByClassInfoAndNumber(2025, 2, 1, 99)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> studentAccessResolver.resolve("teacher1", 2025, 2, 1, 99))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+        }
+
+        @Test
+        @DisplayName("같은 요청 안에서 같은 학생을 다시 확인하면 조회하지 않는다")
+        void should_ReuseResult_When_SameRequest() {
+            // Given: 요청 컨텍스트가 있을 때
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            given(userService.getUser("teacher1")).willReturn(teacherUser);
+            given(teacherService.authenticate("teacher1")).willReturn(teacher);
+            given(classroomStudentRepository.findByClassInfoAndNumber(2025, 2, 1, 1))
+                    .willReturn(Optional.of(classroomStudent));
+
+            // When
+            ClassroomStudent first = studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1);
+            ClassroomStudent second = studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1);
+
+            // Then
+            assertThat(second).isSameAs(first);
+            then(classroomStudentRepository).should(times(1)).findByClassInfoAndNumber(2025, 2, 1, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("학부모 접근 테스트")
+    class ParentAccessTest {
+
+        @Test
+        @DisplayName("학부모는 자녀의 학급 학생 정보를 얻는다")
+        void should_ReturnChild_When_ParentRequestsChild() {
+            // Given
+            given(userService.getUser("parent1")).willReturn(parentUser);
+            given(parentService.getParentByUser(parentUser)).willReturn(parent);
+            given(classroomStudentRepository.findByClassInfoAndNumber(2025, 2, 1, 1))
+                    .willReturn(Optional.of(classroomStudent));
+
+            // When
+            ClassroomStudent result = studentAccessResolver.resolve("parent1", 2025, 2, 1, 1);
+
+            // Then
+            assertThat(result).isSameAs(classroomStudent);
+        }
+
+        @Test
+        @DisplayName("학부모가 다른 학생에 접근하면 예외가 발생한다")
+        void should_ThrowException_When_ParentRequestsOthersChild() {
+            // Given
+            given(userService.getUser("parent1")).willReturn(parentUser);
+            given(parentService.getParentByUser(parentUser)).willReturn(parent);
+            given(classroomStudentRepository.findByClassInfoAndNumber(2025, 2, 1, 2))
+                    .willReturn(Optional.of(anotherClassroomStudent));
+
+            // When & Then
+            assertThatThrownBy(() -> studentAccessResolver.resolve("parent1", 2025, 2, 1, 2))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+        }
+
+        @Test
+        @DisplayName("학부모가 존재하지 않는 학급 정보로 접근하면 예외가 발생한다")
+        void should_ThrowException_When_ParentAccessesNonExistentClassroom() {
+            // Given
+            given(userService.getUser("parent1")).willReturn(parentUser);
+            given(parentService.getParentByUser(parentUser)).willReturn(parent);
+            given(classroomStudentRepository.findByClassInfoAndNumber(2025, 3, 5, 1)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> studentAccessResolver.resolve("parent1", 2025, 3, 5, 1))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.CLASSROOM_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("학부모를 허용하지 않는 조회에서는 자녀라도 거부된다")
+        void should_ThrowException_When_ParentNotAllowed() {
+            // Given
+            given(userService.getUser("parent1")).willReturn(parentUser);
+            given(parentService.getParentByUser(parentUser)).willReturn(parent);
+
+            // When & Then
+            assertThatThrownBy(() -> studentAccessResolver.resolve("parent1", 2025, 2, 1, 1, STUDENT_TEACHER))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+            then(classroomStudentRepository).should(never()).findByClassInfoAndNumber(anyInt(), anyInt(), anyInt(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("기타 권한 / 캐시 테스트")
+    class ScopeTest {
+
+        @Test
+        @DisplayName("역할이 null인 사용자가 접근하면 예외가 발생한다")
+        void should_ThrowException_When_UserRoleIsNull() {
+            // Given
+            given(userService.getUser("nullrole1")).willReturn(createUser("nullrole1", null));
+
+            // When & Then
+            assertThatThrownBy(() -> studentAccessResolver.resolve("nullrole1", 2025, 2, 1, 1))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+        }
+
+        @Test
+        @DisplayName("관리자 역할 사용자는 학생 단위 조회가 거부된다")
+        void should_ThrowException_When_AdminAccesses() {
+            // Given
+            given(userService.getUser("admin1")).willReturn(createUser("admin1", Role.ADMIN));
+
+            // When & Then
+            assertThatThrownBy(() -> studentAccessResolver.resolve("admin1", 2025, 2, 1, 1))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+        }
+
+        @Test
+        @DisplayName("캐시 항목이 MAX_ENTRIES 에 이르면 만료된 항목을 먼저 정리한다")
+        void should_EvictExpired_When_CacheFull() {
+            // Given: 만료된 접근 범위로 캐시가 가득 찬 상태
+            given(userService.getUser("student1")).willReturn(studentUser);
+            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(classroomStudent));
+            given(classroomStudentRepository.findByIdWithStudent(10L)).willReturn(Optional.of(classroomStudent));
+            studentAccessResolver.resolve("student1", 2025, 2, 1, 1);
+
+            Map<String, Object> scopes = scopes();
+            Object expired = scopes.get("student1");
+            ReflectionTestUtils.setField(expired, "expiresAt", Instant.EPOCH);
+            for (int i = 1; i < StudentAccessResolver.MAX_ENTRIES; i++) {
+                scopes.put("user" + i, expired);
+            }
+
+            // When
+            studentAccessResolver.resolve("student1", 2025, 2, 1, 1);
+
+            // Then: 만료 항목이 정리되고 새로 불러온 범위만 남는다
+            assertThat(scopes).containsOnlyKeys("student1");
+            then(userService).should(times(2)).getUser("student1");
+        }
+
+        @Test
+        @DisplayName("살아 있는 항목으로 가득 차면 새 사용자는 캐시하지 않는다")
+        void should_NotCache_When_CacheFullOfLiveEntries() {
+            // Given
+            given(userService.getUser("student1")).willReturn(studentUser);
+            given(classroomStudentRepository.findByStudentUser(studentUser)).willReturn(Optional.of(classroomStudent));
+            given(classroomStudentRepository.findByIdWithStudent(10L)).willReturn(Optional.of(classroomStudent));
+            studentAccessResolver.resolve("student1", 2025, 2, 1, 1);
+
+            Map<String, Object> scopes = scopes();
+            Object live = scopes.remove("student1");
+            for (int i = 0; i < StudentAccessResolver.MAX_ENTRIES; i++) {
+                scopes.put("user" + i, live);
+            }
+
+            // When
+            studentAccessResolver.resolve("student1", 2025, 2, 1, 1);
+
+            // Then
+            assertThat(scopes).hasSize(StudentAccessResolver.MAX_ENTRIES).doesNotContainKey("student1");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> scopes() {
+        return (Map<String, Object>) ReflectionTestUtils.getField(studentAccessResolver, "scopes");
+    }
+
+    private User createUser(String username, Role role) {
+        return User.builder()
+                .school("테스트중학교")
+                .username(username)
+                .password("password")
+                .role(role)
+                .build();
+    }
+
+    private Student createStudent(User user, String name) {
+        return Student.builder()
+                .admissionDate(LocalDate.now())
+                .name(name)
+                .phone("010-9999-9999")
+                .ssn("030101-1234567")
+                .gender("M")
+                .address("서울특별시 강남구")
+                .user(user)
+                .build();
+    }
+}
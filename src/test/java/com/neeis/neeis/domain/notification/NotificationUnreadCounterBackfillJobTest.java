@@ -0,0 +1,65 @@
+package com.neeis.neeis.domain.notification;
+
+import com.neeis.neeis.global.backfill.BackfillMarkerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterBackfillJobTest {
+
+    @Mock private NotificationJdbcRepository notificationJdbcRepository;
+    @Mock private BackfillMarkerRepository backfillMarkerRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private NotificationUnreadCounterBackfillJob backfillJob;
+
+    @BeforeEach
+    void setUp() {
+        backfillJob = new NotificationUnreadCounterBackfillJob(
+                notificationJdbcRepository, backfillMarkerRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("완료 표시가 없으면 사용자 묶음마다 재구성하고 완료 표시를 남긴다")
+    void run_rebuildsPerUserChunk() {
+        // given - 집계 행이 이미 있더라도 완료 표시가 없으면 재구성한다
+        given(backfillMarkerRepository.isCompleted(NotificationUnreadCounterBackfillJob.MARKER)).willReturn(false);
+        given(notificationJdbcRepository.findRecipientIdsAfter(0L, NotificationUnreadCounterBackfillJob.CHUNK_SIZE))
+                .willReturn(List.of(1L, 3L));
+        given(notificationJdbcRepository.findRecipientIdsAfter(3L, NotificationUnreadCounterBackfillJob.CHUNK_SIZE))
+                .willReturn(List.of());
+
+        // when
+        backfillJob.run();
+
+        // then
+        InOrder inOrder = inOrder(notificationJdbcRepository, backfillMarkerRepository);
+        inOrder.verify(notificationJdbcRepository).rebuildUnreadCounters(List.of(1L, 3L));
+        inOrder.verify(backfillMarkerRepository).markCompleted(NotificationUnreadCounterBackfillJob.MARKER);
+    }
+
+    @Test
+    @DisplayName("완료 표시가 있으면 아무것도 하지 않는다")
+    void run_skipsWhenCompleted() {
+        // given
+        given(backfillMarkerRepository.isCompleted(NotificationUnreadCounterBackfillJob.MARKER)).willReturn(true);
+
+        // when
+        backfillJob.run();
+
+        // then
+        then(notificationJdbcRepository).shouldHaveNoInteractions();
+        then(backfillMarkerRepository).should(never()).markCompleted(anyString());
+    }
+}
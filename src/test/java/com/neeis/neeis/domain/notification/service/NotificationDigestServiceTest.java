@@ -0,0 +1,193 @@
+package com.neeis.neeis.domain.notification.service;
+
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
+import com.neeis.neeis.domain.notification.Notification;
+import com.neeis.neeis.domain.notification.NotificationDigest;
+import com.neeis.neeis.domain.notification.NotificationDigestRepository;
+import com.neeis.neeis.domain.notification.NotificationJdbcRepository;
+import com.neeis.neeis.domain.parent.Parent;
+import com.neeis.neeis.domain.parent.ParentService;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
+import com.neeis.neeis.domain.student.Student;
+import com.neeis.neeis.domain.subject.Subject;
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.global.fcm.event.SendScoreDigestFcmEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDigestService 테스트")
+class NotificationDigestServiceTest {
+
+    @InjectMocks
+    private NotificationDigestService notificationDigestService;
+
+    @Mock private NotificationDigestRepository notificationDigestRepository;
+    @Mock private NotificationJdbcRepository notificationJdbcRepository;
+    @Mock private ParentService parentService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private User studentUser, parentUser;
+    private Student student;
+    private Parent parent;
+    private Subject math, english;
+    private ScoreSummary mathSummary, englishSummary;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationDigestService, "studentWindow", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(notificationDigestService, "parentWindow", Duration.ofHours(1));
+
+        studentUser = User.builder().username("student1").role(Role.STUDENT).build();
+        ReflectionTestUtils.setField(studentUser, "id", 1L);
+        parentUser = User.builder().username("parent1").role(Role.PARENT).build();
+        ReflectionTestUtils.setField(parentUser, "id", 2L);
+
+        student = Student.builder().name("김학생").user(studentUser).build();
+        ReflectionTestUtils.setField(student, "id", 10L);
+        parent = Parent.builder().name("김부모").student(student).user(parentUser).build();
+
+        ClassroomStudent classroomStudent = ClassroomStudent.builder().student(student).number(1).build();
+
+        math = Subject.builder().name("수학").build();
+        english = Subject.builder().name("영어").build();
+
+        mathSummary = ScoreSummary.builder().classroomStudent(classroomStudent).subject(math).build();
+        ReflectionTestUtils.setField(mathSummary, "id", 100L);
+        englishSummary = ScoreSummary.builder().classroomStudent(classroomStudent).subject(english).build();
+        ReflectionTestUtils.setField(englishSummary, "id", 101L);
+    }
+
+    @Test
+    @DisplayName("열린 묶음이 없으면 학생 / 학부모 묶음을 한 번에 저장하고 역할별로 한 번씩 발송을 예약한다")
+    @SuppressWarnings("unchecked")
+    void addScores_createsDigestPerRecipient() {
+        // given
+        given(parentService.getParents(anyCollection())).willReturn(List.of(parent));
+        given(notificationDigestRepository.findOpenByRecipientIds(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(List.of());
+        given(notificationJdbcRepository.insertAll(anyList())).willReturn(List.of(50L));
+        given(notificationJdbcRepository.insertDigests(anyList(), anyList())).willReturn(List.of(1L, 2L));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        notificationDigestService.addScores(List.of(mathSummary, englishSummary));
+
+        // then - 두 과목이 받는 사람별 묶음 하나로 합쳐진다
+        ArgumentCaptor<List<Notification>> notificationCaptor = ArgumentCaptor.forClass(List.class);
+        then(notificationJdbcRepository).should(times(1)).insertAll(notificationCaptor.capture());
+        assertThat(notificationCaptor.getValue())
+                .extracting(Notification::getContent)
+                .containsExactly("수학, 영어 과목의 성적이 입력되었습니다.");
+
+        ArgumentCaptor<List<NotificationDigest>> digestCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Long>> notificationIdCaptor = ArgumentCaptor.forClass(List.class);
+        then(notificationJdbcRepository).should(times(1)).insertDigests(digestCaptor.capture(), notificationIdCaptor.capture());
+        NotificationDigest studentDigest = digestCaptor.getValue().get(0);
+        NotificationDigest parentDigest = digestCaptor.getValue().get(1);
+
+        // 알림 기록은 학생 본인에게만
+        assertThat(notificationIdCaptor.getValue()).containsExactly(50L, null);
+        assertThat(studentDigest.getSummaryIdList()).containsExactly(100L, 101L);
+        assertThat(parentDigest.content()).isEqualTo("김학생 학생의 수학, 영어 과목 성적이 입력되었습니다.");
+
+        // 역할별 병합 구간
+        assertThat(studentDigest.getFlushAt()).isBetween(before.plusMinutes(1), LocalDateTime.now().plusMinutes(1));
+        assertThat(parentDigest.getFlushAt()).isBetween(before.plusHours(1), LocalDateTime.now().plusHours(1));
+
+        ArgumentCaptor<SendScoreDigestFcmEvent> eventCaptor = ArgumentCaptor.forClass(SendScoreDigestFcmEvent.class);
+        then(eventPublisher).should(times(2)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getAllValues())
+                .extracting(SendScoreDigestFcmEvent::getDigestIds)
+                .containsExactlyInAnyOrder(List.of(1L), List.of(2L));
+    }
+
+    @Test
+    @DisplayName("열린 묶음이 있으면 과목만 더하고 알림 기록을 갱신하며 발송을 다시 예약하지 않는다")
+    void addScores_appendsToOpenDigest() {
+        // given
+        Notification notification = Notification.builder().user(studentUser).content("수학 과목의 성적이 입력되었습니다.").build();
+        notification.markAsRead();
+        NotificationDigest studentDigest = NotificationDigest.builder()
+                .recipient(studentUser).role(Role.STUDENT).studentId(10L).studentName("김학생")
+                .subject("수학").summaryId(100L).flushAt(LocalDateTime.now().plusSeconds(50))
+                .build();
+        studentDigest.attachNotification(notification);
+        NotificationDigest parentDigest = NotificationDigest.builder()
+                .recipient(parentUser).role(Role.PARENT).studentId(10L).studentName("김학생")
+                .subject("수학").summaryId(100L).flushAt(LocalDateTime.now().plusMinutes(50))
+                .build();
+
+        given(parentService.getParents(anyCollection())).willReturn(List.of(parent));
+        given(notificationDigestRepository.findOpenByRecipientIds(anyCollection(), any(LocalDateTime.class)))
+                .willReturn(List.of(studentDigest, parentDigest));
+
+        // when
+        notificationDigestService.addScores(List.of(englishSummary));
+
+        // then: 받는 사람 계정 행을 잠근 뒤 열린 묶음을 조회한다
+        InOrder inOrder = inOrder(notificationJdbcRepository, notificationDigestRepository);
+        inOrder.verify(notificationJdbcRepository).lockRecipients(
+                Set.of(studentUser.getId(), parentUser.getId()));
+        inOrder.verify(notificationDigestRepository).findOpenByRecipientIds(anyCollection(), any(LocalDateTime.class));
+
+        assertThat(studentDigest.getSubjectList()).containsExactly("수학", "영어");
+        assertThat(studentDigest.getSummaryIdList()).containsExactly(100L, 101L);
+        assertThat(notification.getContent()).isEqualTo("수학, 영어 과목의 성적이 입력되었습니다.");
+        assertThat(notification.isRead()).isFalse();
+        // 읽었던 알림 기록이 다시 읽지 않음이 되었으므로 집계 +1
+        then(notificationJdbcRepository).should().addUnreadCounts(Map.of(1L, 1));
+        assertThat(parentDigest.content()).isEqualTo("김학생 학생의 수학, 영어 과목 성적이 입력되었습니다.");
+
+        then(notificationJdbcRepository).should(never()).insertDigests(anyList(), anyList());
+        then(eventPublisher).should(never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("같은 과목이 다시 들어오면 최신 성적 요약으로 교체한다")
+    void append_sameSubject_replaces() {
+        NotificationDigest digest = NotificationDigest.builder()
+                .recipient(studentUser).role(Role.STUDENT).studentId(10L)
+                .subject("수학").summaryId(100L).flushAt(LocalDateTime.now())
+                .build();
+
+        digest.append("영어", 101L);
+        digest.append("수학", 102L);
+
+        assertThat(digest.getSubjectList()).containsExactly("영어", "수학");
+        assertThat(digest.getSummaryIdList()).containsExactly(101L, 102L);
+    }
+
+    @Test
+    @DisplayName("성적 요약이 없으면 아무것도 하지 않는다")
+    void addScores_empty() {
+        notificationDigestService.addScores(List.of());
+
+        then(notificationDigestRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,195 @@
+package com.neeis.neeis.domain.notification.service;
+
+import com.neeis.neeis.domain.notification.Notification;
+import com.neeis.neeis.domain.notification.NotificationJdbcRepository;
+import com.neeis.neeis.domain.notification.NotificationRepository;
+import com.neeis.neeis.domain.notification.dto.NotificationCursor;
+import com.neeis.neeis.domain.notification.dto.res.NotificationPageResDto;
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.domain.user.service.UserService;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationService 테스트")
+class NotificationServiceTest {
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private NotificationJdbcRepository notificationJdbcRepository;
+    @Mock private UserService userService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().username("student1").role(Role.STUDENT).build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+    }
+
+    @Nested
+    @DisplayName("알림 목록 커서 조회")
+    class GetNotificationsTest {
+
+        @Test
+        @DisplayName("size + 1 건을 읽어 다음 페이지가 있으면 마지막 알림을 커서로 내려준다")
+        void getNotifications_firstPage_hasNext() {
+            // given
+            LocalDateTime base = LocalDateTime.of(2025, 3, 10, 9, 0);
+            List<Notification> rows = IntStream.range(0, 3)
+                    .mapToObj(i -> notification(10L - i, base.minusMinutes(i), false))
+                    .toList();
+            given(notificationRepository.findLatest(eq(1L), any(Pageable.class))).willReturn(rows);
+
+            // when
+            NotificationPageResDto response = notificationService.getNotifications(1L, null, 2);
+
+            // then
+            assertThat(response.getNotifications()).hasSize(2);
+            assertThat(response.isHasNext()).isTrue();
+            NotificationCursor cursor = NotificationCursor.decode(response.getNextCursor());
+            assertThat(cursor.getId()).isEqualTo(9L);
+            assertThat(cursor.getCreatedAt()).isEqualTo(base.minusMinutes(1));
+            then(notificationRepository).should().findLatest(eq(1L), argThat(pageable -> pageable.getPageSize() == 3));
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 그 알림 이후부터 조회하고, 남은 건이 size 이하이면 마지막 페이지다")
+        void getNotifications_nextPage_last() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 3, 10, 9, 0, 0, 123_456_000);
+            String cursor = NotificationCursor.encode(notification(9L, createdAt, false));
+            given(notificationRepository.findLatestBefore(eq(1L), eq(createdAt), eq(9L), any(Pageable.class)))
+                    .willReturn(List.of(notification(8L, createdAt, true)));
+
+            // when
+            NotificationPageResDto response = notificationService.getNotifications(1L, cursor, 10);
+
+            // then
+            assertThat(response.getNotifications()).extracting("id").containsExactly(8L);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+            then(notificationRepository).should(never()).findLatest(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 INVALID_INPUT_VALUE")
+        void getNotifications_invalidCursor() {
+            assertThatThrownBy(() -> notificationService.getNotifications(1L, "not-a-cursor", 10))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("읽지 않은 알림 수")
+    class UnreadCountTest {
+
+        @Test
+        @DisplayName("알림 저장 시 읽지 않은 알림 수를 1 늘린다")
+        void sendNotification_incrementsUnread() {
+            notificationService.sendNotification(user, "출결 정보가 수정되었습니다.");
+
+            then(notificationRepository).should().save(any(Notification.class));
+            then(notificationJdbcRepository).should().addUnreadCount(1L, 1);
+        }
+
+        @Test
+        @DisplayName("읽지 않은 알림을 읽으면 1 줄인다")
+        void markAsRead_unread_decrements() {
+            // given
+            given(notificationRepository.findById(5L)).willReturn(Optional.of(notification(5L, LocalDateTime.now(), false)));
+            given(notificationRepository.markAsReadIfUnread(5L)).willReturn(1);
+
+            // when
+            notificationService.markAsRead(5L);
+
+            // then
+            then(notificationJdbcRepository).should().addUnreadCount(1L, -1);
+        }
+
+        @Test
+        @DisplayName("이미 읽은 알림이면 집계를 바꾸지 않는다")
+        void markAsRead_alreadyRead_keepsCount() {
+            // given
+            given(notificationRepository.findById(5L)).willReturn(Optional.of(notification(5L, LocalDateTime.now(), true)));
+            given(notificationRepository.markAsReadIfUnread(5L)).willReturn(0);
+
+            // when
+            notificationService.markAsRead(5L);
+
+            // then
+            then(notificationJdbcRepository).should(never()).addUnreadCount(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("없는 알림이면 NOTIFICATION_NOT_FOUND")
+        void markAsRead_notFound() {
+            given(notificationRepository.findById(5L)).willReturn(Optional.empty());
+
+            assertThatThrownBy(() -> notificationService.markAsRead(5L))
+                    .isInstanceOf(CustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOTIFICATION_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("전체 읽음 처리 시 집계 행을 먼저 잠그고 0 으로 맞춘다")
+        void markAllAsRead_resets() {
+            // given
+            given(userService.getUser("student1")).willReturn(user);
+
+            // when
+            notificationService.markAllAsRead("student1");
+
+            // then
+            InOrder inOrder = inOrder(notificationJdbcRepository, notificationRepository);
+            inOrder.verify(notificationJdbcRepository).lockUnreadCounters(List.of(1L));
+            inOrder.verify(notificationRepository).markAllAsReadByUsername("student1");
+            inOrder.verify(notificationJdbcRepository).resetUnreadCount(1L);
+        }
+
+        @Test
+        @DisplayName("배지 조회는 집계 테이블만 읽는다")
+        void getUnreadCount() {
+            given(notificationJdbcRepository.findUnreadCount(1L)).willReturn(7);
+
+            assertThat(notificationService.getUnreadCount(1L).getUnreadCount()).isEqualTo(7);
+            then(notificationRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    private Notification notification(Long id, LocalDateTime createdAt, boolean read) {
+        Notification notification = Notification.builder().user(user).content("알림 " + id).build();
+        ReflectionTestUtils.setField(notification, "id", id);
+        ReflectionTestUtils.setField(notification, "createdAt", createdAt);
+        if (read) notification.markAsRead();
+        return notification;
+    }
+}
@@ -0,0 +1,125 @@
+package com.neeis.neeis.domain.score;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TermKeyBackfillJobTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @InjectMocks private TermKeyBackfillJob termKeyBackfillJob;
+
+    @Test
+    @DisplayName("비어 있는 행의 PK 구간을 CHUNK_SIZE 단위로 나누어 갱신한다")
+    void run_updatesInChunks() {
+        // given: score 1 ~ 2500 미백필, score_summary 는 모두 채워짐
+        given(jdbcTemplate.queryForMap(contains("FROM score WHERE"))).willReturn(Map.of("min_id", 1L, "max_id", 2500L));
+        given(jdbcTemplate.queryForMap(contains("FROM score_summary WHERE"))).willReturn(emptyRange());
+        given(jdbcTemplate.update(startsWith("UPDATE score s"), anyLong(), anyLong())).willReturn(10);
+
+        // when
+        termKeyBackfillJob.run();
+
+        // then
+        then(jdbcTemplate).should().update(startsWith("UPDATE score s"), eq(1L), eq(1000L));
+        then(jdbcTemplate).should().update(startsWith("UPDATE score s"), eq(1001L), eq(2000L));
+        then(jdbcTemplate).should().update(startsWith("UPDATE score s"), eq(2001L), eq(2500L));
+        then(jdbcTemplate).should(never()).update(startsWith("UPDATE score_summary"), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("요약 행의 학기 키는 점수에서 찾는다 - 한 학기면 그 학기, 여러 학기면 합계가 같은 학기")
+    @SuppressWarnings("unchecked")
+    void run_resolvesSummaryTermFromScores() throws SQLException {
+        // given: 요약 10 (학생 1, 과목 7, 합계 80) / 11 (학생 2, 과목 7, 합계 50) / 12 (학생 3, 과목 7, 합계 99)
+        given(jdbcTemplate.queryForMap(contains("FROM score WHERE"))).willReturn(emptyRange());
+        given(jdbcTemplate.queryForMap(contains("FROM score_summary WHERE"))).willReturn(Map.of("min_id", 10L, "max_id", 12L));
+        willAnswer(inv -> {
+            RowMapper<Object> mapper = inv.getArgument(1);
+            return List.of(
+                    mapper.mapRow(summaryRow(10L, 1L, 7L, 80.0), 0),
+                    mapper.mapRow(summaryRow(11L, 2L, 7L, 50.0), 1),
+                    mapper.mapRow(summaryRow(12L, 3L, 7L, 99.0), 2));
+        }).given(jdbcTemplate).query(startsWith("SELECT id, classroom_student_id"), any(RowMapper.class), eq(10L), eq(12L));
+
+        // 학생 1: 1학기 80 / 2학기 60 -> 1학기, 학생 2: 2학기만 -> 2학기, 학생 3: 어느 학기와도 합계가 다름 -> 보류
+        willAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(2);
+            handler.processRow(totalRow(1L, 7L, 202512, 80.0));
+            handler.processRow(totalRow(1L, 7L, 202522, 60.0));
+            handler.processRow(totalRow(2L, 7L, 202522, 50.0));
+            handler.processRow(totalRow(3L, 7L, 202512, 40.0));
+            handler.processRow(totalRow(3L, 7L, 202522, 45.0));
+            return null;
+        }).given(namedParameterJdbcTemplate).query(contains("SUM(weighted_score)"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+        given(jdbcTemplate.batchUpdate(startsWith("UPDATE score_summary"), anyList())).willReturn(new int[]{1, 1});
+
+        // when
+        termKeyBackfillJob.run();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(startsWith("UPDATE score_summary"), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new Object[]{202512, 10L}, new Object[]{202522, 11L});
+    }
+
+    @Test
+    @DisplayName("웹 서버 시작 전에 동기로 백필한다 - 실패하면 기동을 중단한다")
+    void afterSingletonsInstantiated_runsBackfillSynchronously() {
+        given(jdbcTemplate.queryForMap(contains("FROM score WHERE"))).willReturn(emptyRange());
+        given(jdbcTemplate.queryForMap(contains("FROM score_summary WHERE")))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        assertThatThrownBy(() -> termKeyBackfillJob.afterSingletonsInstantiated())
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    private ResultSet summaryRow(long id, long studentId, long subjectId, double sumScore) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("id")).willReturn(id);
+        given(rs.getLong("classroom_student_id")).willReturn(studentId);
+        given(rs.getLong("subject_id")).willReturn(subjectId);
+        given(rs.getDouble("sum_score")).willReturn(sumScore);
+        return rs;
+    }
+
+    private ResultSet totalRow(long studentId, long subjectId, int termKey, double total) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("student_id")).willReturn(studentId);
+        given(rs.getLong("subject_id")).willReturn(subjectId);
+        given(rs.getInt("term_key")).willReturn(termKey);
+        given(rs.getDouble("total")).willReturn(total);
+        return rs;
+    }
+
+    private Map<String, Object> emptyRange() {
+        Map<String, Object> range = new HashMap<>();
+        range.put("min_id", null);
+        range.put("max_id", null);
+        return range;
+    }
+}
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neeis.neeis.domain.score.dto.req.ScoreRequestDto;
 import com.neeis.neeis.domain.score.dto.res.ScoreSummaryBySubjectDto;
 import com.neeis.neeis.domain.score.service.ScoreService;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import com.neeis.neeis.domain.scoreSummary.dto.res.RecomputeTicketDto;
+import com.neeis.neeis.domain.scoreSummary.service.ScoreSummaryRecomputeQueue;
 import com.neeis.neeis.global.config.SecurityConfig;
 import com.neeis.neeis.global.jwt.JwtAuthenticationFilter;
 import com.neeis.neeis.global.jwt.JwtProvider;
@@ -26,11 +29,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static com.neeis.neeis.global.common.StatusCode.SUCCESS_GET_SCORE;
 import static com.neeis.neeis.global.common.StatusCode.SUCCESS_POST_SCORE;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +57,9 @@ class ScoreControllerTest {
     @MockBean
     private ScoreService scoreService;
 
+    @MockBean
+    private ScoreSummaryRecomputeQueue scoreSummaryRecomputeQueue;
+
     @MockBean private JwtProvider jwtProvider;
     @TestConfiguration
     static class SecurityTestConfig {
@@ -90,10 +96,13 @@ class ScoreControllerTest {
 
         @Test
         @WithMockUser(username = "teacher", roles = {"TEACHER"})
-        @DisplayName("성적 등록 요청 성공 시 200 OK 응답")
+        @DisplayName("성적 등록 요청 성공 시 200 OK 와 재계산 티켓 응답")
         void registerScores_Success() throws Exception {
             // Given
-            doNothing().when(scoreService).saveOrUpdateScores(anyString(), any());
+            SummaryRecomputeKey key = SummaryRecomputeKey.of(2023, 1, 1, 2, 7L);
+            List<RecomputeTicketDto> tickets = List.of(RecomputeTicketDto.of(key, 3));
+            when(scoreService.saveOrUpdateScores(anyString(), any())).thenReturn(Set.of(key));
+            when(scoreSummaryRecomputeQueue.ticketsFor(Set.of(key))).thenReturn(tickets);
 
             // When
             ResultActions result = mockMvc.perform(post("/scores")
@@ -104,7 +113,9 @@ class ScoreControllerTest {
             // Then
             result.andDo(print())
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.message").value(SUCCESS_POST_SCORE.getMessage()));
+                    .andExpect(jsonPath("$.message").value(SUCCESS_POST_SCORE.getMessage()))
+                    .andExpect(jsonPath("$.response[0].subjectId").value(7))
+                    .andExpect(jsonPath("$.response[0].version").value(3));
 
             verify(scoreService, times(1)).saveOrUpdateScores(eq("teacher"), anyList());
         }
@@ -12,6 +12,8 @@ import com.neeis.neeis.domain.score.ScoreRepository;
 import com.neeis.neeis.domain.score.dto.req.ScoreRequestDto;
 import com.neeis.neeis.domain.score.dto.res.ScoreSummaryBySubjectDto;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import com.neeis.neeis.domain.scoreSummary.event.ScoreSummaryRecomputeEvent;
 import com.neeis.neeis.domain.scoreSummary.service.ScoreSummaryService;
 import com.neeis.neeis.domain.student.Student;
 import com.neeis.neeis.domain.subject.Subject;
@@ -25,9 +27,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -48,6 +52,7 @@ class ScoreServiceTest {
     @Mock private ClassroomService classroomService;
     @Mock private SubjectService subjectService;
     @Mock private ScoreSummaryService scoreSummaryService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private ScoreService scoreService;
 
@@ -123,23 +128,19 @@ class ScoreServiceTest {
         // given
         given(teacherService.authenticate("t1")).willReturn(teacher);
         given(classroomService.findClassroom(2025, 3, 1)).willReturn(classroom);
-        given(classroomStudentService.findByClassroom(classroom)).willReturn(List.of(cs1, cs2));
+        given(classroomStudentService.findByClassroomWithStudent(classroom)).willReturn(List.of(cs1, cs2));
         given(subjectService.getSubject("Math")).willReturn(subjectMath);
 
         given(evaluationMethodService
                 .findAllBySubjectAndYearAndSemesterAndGrade(
                         subjectMath, 2025, 1, 3))
                 .willReturn(List.of(eval1, eval2));
-        // scores for cs1
-        Score s1q = Score.builder().rawScore(40.0).weightedScore(24.0).build();
-        Score s1e = Score.builder().rawScore(80.0).weightedScore(56.0).build();
-        given(scoreRepository.findByEvaluationMethodAndStudent(eval1, cs1)).willReturn(Optional.of(s1q));
-        given(scoreRepository.findByEvaluationMethodAndStudent(eval2, cs1)).willReturn(Optional.of(s1e));
-        given(scoreSummaryService.findByStudentAndSubject(30L, 40L)).willReturn(summary1);
-        // scores for cs2: none
-        given(scoreRepository.findByEvaluationMethodAndStudent(eval1, cs2)).willReturn(Optional.empty());
-        given(scoreRepository.findByEvaluationMethodAndStudent(eval2, cs2)).willReturn(Optional.empty());
-        given(scoreSummaryService.findByStudentAndSubject(31L, 40L)).willReturn(summary2);
+        // scores for cs1, cs2: none
+        Score s1q = Score.builder().student(cs1).evaluationMethod(eval1).rawScore(40.0).weightedScore(24.0).build();
+        Score s1e = Score.builder().student(cs1).evaluationMethod(eval2).rawScore(80.0).weightedScore(56.0).build();
+        given(scoreRepository.findAllByEvaluationMethodInAndStudentIn(List.of(eval1, eval2), List.of(cs1, cs2)))
+                .willReturn(List.of(s1q, s1e));
+        givenSummaries(summary1, cs1, summary2, cs2);
 
         // when
         List<ScoreSummaryBySubjectDto> result = scoreService.getScoreSummaryBySubject(
@@ -149,23 +150,101 @@ class ScoreServiceTest {
         assertThat(result).hasSize(1);
         ScoreSummaryBySubjectDto dto = result.get(0);
         assertThat(dto.getSubjectName()).isEqualTo("Math");
+        assertThat(dto.getEvaluations()).extracting(ScoreSummaryBySubjectDto.EvaluationDto::getEvaluationId)
+                .containsExactly(50L, 51L);
         assertThat(dto.getStudents().stream().map(ScoreSummaryBySubjectDto.StudentScoreDto::getNumber)
                 .collect(Collectors.toList()))
                 .containsExactly(1, 2);
+
+        ScoreSummaryBySubjectDto.StudentScoreDto first = dto.getStudents().get(0);
+        assertThat(first.getScores()).extracting(ScoreSummaryBySubjectDto.ScoreItemDto::getRawScore)
+                .containsExactly(40.0, 80.0);
+        assertThat(first.getRank()).isEqualTo(1);
+        assertThat(dto.getStudents().get(1).getScores()).isEmpty();
+        assertThat(dto.getStudents().get(1).getRank()).isEqualTo(2);
+
+        // 셀 단위 조회 없음
+        then(scoreRepository).should(never()).findByEvaluationMethodAndStudent(any(), any());
+        then(scoreSummaryService).should(never()).findByStudentAndSubject(any(), any());
     }
 
     @Test
-    @DisplayName("getScoreSummaryBySubject: 과목 필터 null일 때 모든 과목 조회")
+    @DisplayName("getScoreSummaryBySubject: 과목 필터 null일 때 학기 전체 평가를 한 번에 조회해 과목별로 묶는다")
     void getScoreSummaryBySubject_noSubjectName() {
+        // given
+        Subject subjectKor = Subject.builder().name("Korean").build();
+        ReflectionTestUtils.setField(subjectKor, "id", 41L);
+        EvaluationMethod korEval = EvaluationMethod.builder().fullScore(100).weight(100.0).title("Final").build();
+        ReflectionTestUtils.setField(korEval, "id", 60L);
+        ReflectionTestUtils.setField(korEval, "subject", subjectKor);
+
+        given(teacherService.authenticate("t1")).willReturn(teacher);
+        given(classroomService.findClassroom(2025, 3, 1)).willReturn(classroom);
+        given(classroomStudentService.findByClassroomWithStudent(classroom)).willReturn(List.of(cs1));
+        given(evaluationMethodService.findAllWithSubjectByYearAndSemesterAndGrade(2025, 1, 3))
+                .willReturn(List.of(eval1, eval2, korEval));
+        given(scoreRepository.findAllByEvaluationMethodInAndStudentIn(any(), any())).willReturn(List.of());
+
+        ScoreSummary korSummary = ScoreSummary.builder().sumScore(90.0).originalScore(90)
+                .average(80.0).stdDeviation(3.0).rank(1).grade(1).achievementLevel("A").build();
+        ReflectionTestUtils.setField(korSummary, "subject", subjectKor);
+        ReflectionTestUtils.setField(korSummary, "classroomStudent", cs1);
+        ReflectionTestUtils.setField(summary1, "subject", subjectMath);
+        ReflectionTestUtils.setField(summary1, "classroomStudent", cs1);
+        given(scoreSummaryService.findAllBySubjectsAndStudents(any(), any(), eq(202513))).willReturn(List.of(summary1, korSummary));
+
+        // when
+        List<ScoreSummaryBySubjectDto> res = scoreService.getScoreSummaryBySubject(
+                "t1",2025,1,3,1, null);
+
+        // then
+        assertThat(res).extracting(ScoreSummaryBySubjectDto::getSubjectName).containsExactly("Math", "Korean");
+        assertThat(res.get(0).getEvaluations()).hasSize(2);
+        assertThat(res.get(1).getEvaluations()).hasSize(1);
+        assertThat(res.get(1).getStudents().get(0).getRawTotal()).isEqualTo(90.0);
+        then(evaluationMethodService).should(never()).findSubject(anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("getScoreSummaryBySubject: 평가 방식이 없으면 빈 리스트")
+    void getScoreSummaryBySubject_noEvaluations() {
         given(teacherService.authenticate("t1")).willReturn(teacher);
         given(classroomService.findClassroom(anyInt(),anyInt(),anyInt())).willReturn(classroom);
-        given(classroomStudentService.findByClassroom(any())).willReturn(List.of());
-        // no eval => empty list
-        given(evaluationMethodService.findSubject(anyInt(),anyInt(),anyInt())).willReturn(List.of());
+        given(classroomStudentService.findByClassroomWithStudent(any())).willReturn(List.of());
+        given(evaluationMethodService.findAllWithSubjectByYearAndSemesterAndGrade(anyInt(),anyInt(),anyInt()))
+                .willReturn(List.of());
 
         List<ScoreSummaryBySubjectDto> res = scoreService.getScoreSummaryBySubject(
                 "t1",2025,1,3,1, null);
         assertThat(res).isEmpty();
+        then(scoreRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("getScoreSummaryBySubject: 성적 요약이 아직 없는 학생은 재계산 대기로 내려준다")
+    void getScoreSummaryBySubject_missingSummary_pending() {
+        given(teacherService.authenticate("t1")).willReturn(teacher);
+        given(classroomService.findClassroom(2025, 3, 1)).willReturn(classroom);
+        given(classroomStudentService.findByClassroomWithStudent(classroom)).willReturn(List.of(cs1, cs2));
+        given(subjectService.getSubject("Math")).willReturn(subjectMath);
+        given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(subjectMath, 2025, 1, 3))
+                .willReturn(List.of(eval1));
+        Score s2 = Score.builder().student(cs2).evaluationMethod(eval1).rawScore(30.0).weightedScore(18.0).build();
+        given(scoreRepository.findAllByEvaluationMethodInAndStudentIn(any(), any())).willReturn(List.of(s2));
+        ReflectionTestUtils.setField(summary1, "subject", subjectMath);
+        ReflectionTestUtils.setField(summary1, "classroomStudent", cs1);
+        given(scoreSummaryService.findAllBySubjectsAndStudents(any(), any(), eq(202513))).willReturn(List.of(summary1));
+
+        List<ScoreSummaryBySubjectDto> result = scoreService.getScoreSummaryBySubject("t1", 2025, 1, 3, 1, "Math");
+
+        ScoreSummaryBySubjectDto.StudentScoreDto ready = result.get(0).getStudents().get(0);
+        ScoreSummaryBySubjectDto.StudentScoreDto pending = result.get(0).getStudents().get(1);
+        assertThat(ready.isSummaryPending()).isFalse();
+        assertThat(ready.getRank()).isEqualTo(1);
+        assertThat(pending.isSummaryPending()).isTrue();
+        assertThat(pending.getScores()).extracting(ScoreSummaryBySubjectDto.ScoreItemDto::getRawScore).containsExactly(30.0);
+        assertThat(pending.getRank()).isNull();
+        assertThat(pending.getRawTotal()).isNull();
     }
 
     @Test
@@ -179,25 +258,21 @@ class ScoreServiceTest {
                 .students(List.of(stuDto)).build();
 
         given(teacherService.authenticate("t1")).willReturn(teacher);
-        ReflectionTestUtils.setField(eval1, "id", 50L);
         ReflectionTestUtils.setField(eval1, "fullScore", 50.0);
         ReflectionTestUtils.setField(eval1, "weight", 30.0);
-        given(evaluationMethodService.findById(50L)).willReturn(eval1);
-        given(teacherSubjectService.findByTeacherAndSubject(teacher, subjectMath))
-                .willReturn(null);
-        given(classroomService.findClassroom(anyInt(),anyInt(),anyInt())).willReturn(classroom);
-        given(classroomStudentService.findByClassroomAndNumber(classroom, 1))
-                .willReturn(cs1);
-        given(scoreRepository.findByEvaluationMethodAndStudent(eval1, cs1))
-                .willReturn(Optional.empty());
-        given(scoreRepository.save(any(Score.class))).willAnswer(inv -> inv.getArgument(0));
+        givenBulkLookups(Map.of(50L, eval1), List.of());
 
         // when
-        scoreService.saveOrUpdateScores("t1", List.of(request));
-
-        // then: save and summary update
-        then(scoreRepository).should().save(any(Score.class));
-        then(scoreSummaryService).should().updateSummaryForClass(2025,1,3,1);
+        Set<SummaryRecomputeKey> keys = scoreService.saveOrUpdateScores("t1", List.of(request));
+
+        // then: batch insert and recompute event (summary update runs after commit)
+        List<Score> saved = captureSavedScores();
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getStudent()).isEqualTo(cs1);
+        assertThat(saved.get(0).getWeightedScore()).isEqualTo(24.0);
+        then(scoreSummaryService).shouldHaveNoInteractions();
+        assertThat(captureRecomputeKeys()).containsExactly(SummaryRecomputeKey.of(2025, 1, 3, 1, 40L));
+        assertThat(keys).containsExactly(SummaryRecomputeKey.of(2025, 1, 3, 1, 40L));
     }
 
     @Test
@@ -209,22 +284,60 @@ class ScoreServiceTest {
                 .evaluationId(50L).classNum(1)
                 .students(List.of(stuDto)).build();
 
-        Score existing = Score.builder().rawScore(40.0).weightedScore(24.0).build();
+        Score existing = Score.builder().rawScore(40.0).weightedScore(24.0)
+                .evaluationMethod(eval1).student(cs1).build();
         given(teacherService.authenticate("t1")).willReturn(teacher);
-        given(evaluationMethodService.findById(50L)).willReturn(eval1);
-        given(teacherSubjectService.findByTeacherAndSubject(teacher, subjectMath))
-                .willReturn(null);
-        given(classroomService.findClassroom(anyInt(),anyInt(),anyInt())).willReturn(classroom);
-        given(classroomStudentService.findByClassroomAndNumber(classroom, 1)).willReturn(cs1);
-        given(scoreRepository.findByEvaluationMethodAndStudent(eval1, cs1))
-                .willReturn(Optional.of(existing));
+        givenBulkLookups(Map.of(50L, eval1), List.of(existing));
 
         scoreService.saveOrUpdateScores("t1", List.of(request));
 
         assertThat(existing.getRawScore()).isEqualTo(45);
         // weighted recalculated: 45/50*30 = 27
         assertThat(existing.getWeightedScore()).isEqualTo(27);
-        then(scoreSummaryService).should().updateSummaryForClass(2025,1,3,1);
+        assertThat(captureSavedScores()).isEmpty();
+        assertThat(captureRecomputeKeys()).containsExactly(SummaryRecomputeKey.of(2025, 1, 3, 1, 40L));
+    }
+
+    @Test
+    @DisplayName("saveOrUpdateScores: 같은 반/과목 요청은 재계산 키 하나로 합쳐진다")
+    void saveOrUpdateScores_coalescesSameKey() {
+        ScoreRequestDto request1 = ScoreRequestDto.builder()
+                .evaluationId(50L).classNum(1)
+                .students(List.of(ScoreRequestDto.StudentScoreDto.builder().number(1).rawScore(30.0).build()))
+                .build();
+        ScoreRequestDto request2 = ScoreRequestDto.builder()
+                .evaluationId(51L).classNum(1)
+                .students(List.of(ScoreRequestDto.StudentScoreDto.builder().number(1).rawScore(80.0).build()))
+                .build();
+
+        given(teacherService.authenticate("t1")).willReturn(teacher);
+        givenBulkLookups(Map.of(50L, eval1, 51L, eval2), List.of());
+
+        scoreService.saveOrUpdateScores("t1", List.of(request1, request2));
+
+        // 과목 권한 검증 / 반 조회 / 학생 조회는 한 번씩만
+        then(teacherSubjectService).should(times(1)).findByTeacherAndSubject(teacher, subjectMath);
+        then(classroomService).should(times(1)).findClassroom(2025, 3, 1);
+        then(classroomStudentService).should(times(1)).findByClassroomIn(anyCollection());
+        assertThat(captureSavedScores()).hasSize(2);
+        assertThat(captureRecomputeKeys()).containsExactly(SummaryRecomputeKey.of(2025, 1, 3, 1, 40L));
+    }
+
+    @Test
+    @DisplayName("saveOrUpdateScores: 반에 없는 출석번호 -> CLASSROOM_NOT_FOUND")
+    void saveOrUpdateScores_unknownStudent() {
+        ScoreRequestDto request = ScoreRequestDto.builder()
+                .evaluationId(50L).classNum(1)
+                .students(List.of(ScoreRequestDto.StudentScoreDto.builder().number(99).rawScore(30.0).build()))
+                .build();
+        given(teacherService.authenticate("t1")).willReturn(teacher);
+        givenBulkLookups(Map.of(50L, eval1), List.of());
+
+        assertThatThrownBy(() ->
+                scoreService.saveOrUpdateScores("t1", List.of(request)))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.CLASSROOM_NOT_FOUND.getMessage());
+        then(scoreRepository).should(never()).saveAll(anyList());
     }
 
     @Test
@@ -236,11 +349,7 @@ class ScoreServiceTest {
                 .evaluationId(50L).classNum(1)
                 .students(List.of(stuDto)).build();
         given(teacherService.authenticate("t1")).willReturn(teacher);
-        given(evaluationMethodService.findById(50L)).willReturn(eval1);
-        given(teacherSubjectService.findByTeacherAndSubject(teacher, subjectMath))
-                .willReturn(null);
-        given(classroomService.findClassroom(anyInt(),anyInt(),anyInt())).willReturn(classroom);
-        given(classroomStudentService.findByClassroomAndNumber(classroom, 1)).willReturn(cs1);
+        givenBulkLookups(Map.of(50L, eval1), List.of());
 
         assertThatThrownBy(() ->
                 scoreService.saveOrUpdateScores("t1", List.of(request)))
@@ -257,7 +366,7 @@ class ScoreServiceTest {
                 .evaluationId(50L).classNum(1)
                 .students(List.of(stuDto)).build();
         given(teacherService.authenticate("t1")).willReturn(teacher);
-        given(evaluationMethodService.findById(50L)).willReturn(eval1);
+        given(evaluationMethodService.findAllByIds(anyCollection())).willReturn(Map.of(50L, eval1));
         given(teacherSubjectService.findByTeacherAndSubject(teacher, subjectMath))
                 .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
@@ -266,4 +375,36 @@ class ScoreServiceTest {
                 .isInstanceOf(CustomException.class)
                 .hasMessageContaining(ErrorCode.HANDLE_ACCESS_DENIED.getMessage());
     }
+
+    // 평가 방식 / 반 / 반 학생 / 기존 점수 일괄 조회 stub
+    private void givenBulkLookups(Map<Long, EvaluationMethod> evals, List<Score> existingScores) {
+        ReflectionTestUtils.setField(cs1, "classroom", classroom);
+        given(evaluationMethodService.findAllByIds(anyCollection())).willReturn(evals);
+        given(classroomService.findClassroom(anyInt(), anyInt(), anyInt())).willReturn(classroom);
+        given(classroomStudentService.findByClassroomIn(anyCollection())).willReturn(List.of(cs1));
+        given(scoreRepository.findAllByEvaluationMethodInAndStudentIn(anyCollection(), anyCollection()))
+                .willReturn(existingScores);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Score> captureSavedScores() {
+        ArgumentCaptor<List<Score>> captor = ArgumentCaptor.forClass(List.class);
+        then(scoreRepository).should().saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private Set<SummaryRecomputeKey> captureRecomputeKeys() {
+        ArgumentCaptor<ScoreSummaryRecomputeEvent> captor = ArgumentCaptor.forClass(ScoreSummaryRecomputeEvent.class);
+        then(eventPublisher).should().publishEvent(captor.capture());
+        return captor.getValue().getKeys();
+    }
+
+    private void givenSummaries(ScoreSummary first, ClassroomStudent firstStudent,
+                                ScoreSummary second, ClassroomStudent secondStudent) {
+        ReflectionTestUtils.setField(first, "subject", subjectMath);
+        ReflectionTestUtils.setField(first, "classroomStudent", firstStudent);
+        ReflectionTestUtils.setField(second, "subject", subjectMath);
+        ReflectionTestUtils.setField(second, "classroomStudent", secondStudent);
+        given(scoreSummaryService.findAllBySubjectsAndStudents(any(), any(), eq(202513))).willReturn(List.of(first, second));
+    }
 }
@@ -4,10 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
 import com.neeis.neeis.domain.scoreSummary.dto.req.ScoreFeedbackRequestDto;
 import com.neeis.neeis.domain.scoreSummary.dto.req.ScoreFeedbackUpdateDto;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeStatus;
+import com.neeis.neeis.domain.scoreSummary.dto.res.CohortRankingResultDto;
+import com.neeis.neeis.domain.scoreSummary.dto.res.RecomputeStatusDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.EvaluationMethodScoreDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.ScoreFeedbackDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.StudentScoreSummaryDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.SubjectScoreDto;
+import com.neeis.neeis.domain.scoreSummary.service.ScoreCohortRankingService;
+import com.neeis.neeis.domain.scoreSummary.service.ScoreSummaryRecomputeQueue;
 import com.neeis.neeis.domain.scoreSummary.service.ScoreSummaryService;
 import com.neeis.neeis.global.common.StatusCode;
 import com.neeis.neeis.global.config.SecurityConfig;
@@ -57,6 +63,12 @@ class ScoreSummaryControllerTest {
     @MockBean
     private ScoreSummaryService scoreSummaryService;
 
+    @MockBean
+    private ScoreCohortRankingService scoreCohortRankingService;
+
+    @MockBean
+    private ScoreSummaryRecomputeQueue scoreSummaryRecomputeQueue;
+
     // 테스트용 더미 데이터
     private StudentScoreSummaryDto studentScoreSummaryDto;
     private ScoreFeedbackRequestDto scoreFeedbackRequestDto;
@@ -297,6 +309,64 @@ class ScoreSummaryControllerTest {
         verify(scoreSummaryService).getFeedback("testTeacher",eq(scoreSummaryId));
     }
 
+    @Test
+    @DisplayName("학년 전체 석차 재계산 테스트")
+    @WithMockUser(username = "testTeacher", roles = "TEACHER")
+    void recomputeCohortRankingTest() throws Exception {
+        // given
+        CohortRankingResultDto resultDto = CohortRankingResultDto.builder()
+                .year(2025)
+                .semester(1)
+                .grade(2)
+                .cohortStudentCount(312)
+                .subjectCount(10)
+                .failedSubjects(List.of())
+                .elapsedMillis(1200L)
+                .build();
+        given(scoreCohortRankingService.recomputeGrade(anyString(), anyInt(), anyInt(), anyInt())).willReturn(resultDto);
+
+        // when & then
+        mockMvc.perform(post("/score-summary/cohort")
+                        .param("year", "2025")
+                        .param("semester", "1")
+                        .param("grade", "2")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(StatusCode.SUCCESS_UPDATE_SCORE_SUMMARY.getMessage()))
+                .andExpect(jsonPath("$.response.cohortStudentCount").value(312))
+                .andExpect(jsonPath("$.response.subjectCount").value(10));
+
+        verify(scoreCohortRankingService).recomputeGrade("testTeacher", 2025, 1, 2);
+    }
+
+    @Test
+    @DisplayName("성적 요약 재계산 상태 조회 테스트")
+    @WithMockUser(username = "testTeacher", roles = "TEACHER")
+    void getRecomputeStatusTest() throws Exception {
+        // given
+        RecomputeStatusDto statusDto = RecomputeStatusDto.builder()
+                .status(SummaryRecomputeStatus.DONE)
+                .requestedVersion(3)
+                .completedVersion(3)
+                .build();
+        given(scoreSummaryRecomputeQueue.getStatus(SummaryRecomputeKey.of(2025, 1, 1, 1, 7L))).willReturn(statusDto);
+
+        // when & then
+        mockMvc.perform(get("/score-summary/recompute-status")
+                        .param("year", "2025")
+                        .param("semester", "1")
+                        .param("grade", "1")
+                        .param("classNum", "1")
+                        .param("subjectId", "7")
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.response.status").value("DONE"))
+                .andExpect(jsonPath("$.response.requestedVersion").value(3))
+                .andExpect(jsonPath("$.response.completedVersion").value(3));
+    }
+
     @Test
     @DisplayName("권한 없는 사용자의 성적 조회 실패 테스트")
     @WithMockUser(username = "testUser", roles = "USER")
@@ -0,0 +1,152 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import com.neeis.neeis.domain.scoreSummary.ScoreSummaryJdbcRepository;
+import com.neeis.neeis.domain.scoreSummary.dto.CohortRankRowDto;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreCohortRankTrackerTest {
+
+    @Mock private ScoreSummaryJdbcRepository scoreSummaryJdbcRepository;
+
+    private ScoreCohortRankTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ScoreCohortRankTracker(scoreSummaryJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("학년 재계산 전에는 반 결과를 반영하지 않는다")
+    void applyClassResult_withoutIndex_noop() {
+        int updated = tracker.applyClassResult(2025, 1, 2, 7L, List.of(1L), List.of(row(1L, 50.0)));
+
+        assertThat(updated).isZero();
+        then(scoreSummaryJdbcRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("점수 정정 시 석차가 바뀐 학생만 학년 석차를 갱신한다")
+    void applyClassResult_updatesOnlyMovedStudents() {
+        // given: 학년 4명 (1반: 1, 2 / 2반: 3, 4)
+        tracker.reset(2025, 1, 2, 7L,
+                List.of(row(1L, 70.0), row(2L, 60.0), row(3L, 90.0), row(4L, 80.0)), 4);
+
+        // when: 1반 2번 학생 점수가 60 -> 85 로 정정
+        int updated = tracker.applyClassResult(2025, 1, 2, 7L, List.of(1L, 2L),
+                List.of(row(1L, 70.0), row(2L, 85.0)));
+
+        // then: 2번(4위->2위), 4번(2위->3위), 1번(3위->4위)만 갱신, 3번(1위)은 그대로
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CohortRankRowDto>> captor = ArgumentCaptor.forClass(List.class);
+        then(scoreSummaryJdbcRepository).should().updateCohortRanks(eq(7L), eq(202512), captor.capture());
+
+        Map<Long, CohortRankRowDto> rows = captor.getValue().stream()
+                .collect(Collectors.toMap(CohortRankRowDto::getClassroomStudentId, Function.identity()));
+        assertThat(updated).isEqualTo(3);
+        assertThat(rows).containsOnlyKeys(1L, 2L, 4L);
+        assertThat(rows.get(2L).getCohortRank()).isEqualTo(2);
+        assertThat(rows.get(4L).getCohortRank()).isEqualTo(3);
+        assertThat(rows.get(1L).getCohortRank()).isEqualTo(4);
+        assertThat(rows.get(1L).getCohortGrade()).isEqualTo(9);
+        assertThat(rows.get(1L).getCohortStudentCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("요약이 사라진 학생은 인덱스에서 빠지고 아래 학생들이 올라간다")
+    void applyClassResult_removedStudent() {
+        tracker.reset(2025, 1, 2, 7L,
+                List.of(row(1L, 70.0), row(2L, 60.0), row(3L, 90.0)), 3);
+
+        tracker.applyClassResult(2025, 1, 2, 7L, List.of(1L, 2L), List.of(row(2L, 60.0)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CohortRankRowDto>> captor = ArgumentCaptor.forClass(List.class);
+        then(scoreSummaryJdbcRepository).should().updateCohortRanks(eq(7L), eq(202512), captor.capture());
+        assertThat(captor.getValue()).extracting(CohortRankRowDto::getClassroomStudentId).containsExactly(2L);
+        assertThat(captor.getValue().get(0).getCohortRank()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에만 인덱스에 반영하고, 롤백되면 버린다")
+    void applyClassResult_appliesIndexAfterCommit() {
+        // given
+        tracker.reset(2025, 1, 2, 7L, List.of(row(1L, 70.0), row(2L, 60.0), row(3L, 90.0)), 3);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when: 2번 60 -> 95 정정 후 롤백
+            tracker.applyClassResult(2025, 1, 2, 7L, List.of(1L, 2L), List.of(row(1L, 70.0), row(2L, 95.0)));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then: 인덱스는 그대로라 같은 정정이 다시 들어오면 같은 학생들을 다시 갱신한다
+        clearInvocations(scoreSummaryJdbcRepository);
+        int updated = tracker.applyClassResult(2025, 1, 2, 7L, List.of(1L, 2L),
+                List.of(row(1L, 70.0), row(2L, 95.0)));
+        assertThat(updated).isEqualTo(3);
+
+        // 커밋된 뒤에는 변동이 없다
+        clearInvocations(scoreSummaryJdbcRepository);
+        assertThat(tracker.applyClassResult(2025, 1, 2, 7L, List.of(1L, 2L),
+                List.of(row(1L, 70.0), row(2L, 95.0)))).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋 중인 반 결과가 있으면 인덱스에 반영될 때까지 기다린 뒤 석차를 계산한다")
+    void applyClassResult_waitsForCommittingResult() throws Exception {
+        // given: 1반 재계산이 커밋 직전까지 진행 (2번 60 -> 95)
+        tracker.reset(2025, 1, 2, 7L, List.of(row(1L, 70.0), row(2L, 60.0), row(3L, 90.0)), 3);
+
+        List<TransactionSynchronization> syncs;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tracker.applyClassResult(2025, 1, 2, 7L, List.of(1L, 2L), List.of(row(1L, 70.0), row(2L, 95.0)));
+            syncs = TransactionSynchronizationManager.getSynchronizations();
+            syncs.forEach(sync -> sync.beforeCommit(false));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // when: 같은 과목의 2반 재계산이 먼저 들어오면
+        clearInvocations(scoreSummaryJdbcRepository);
+        CompletableFuture<Integer> other = CompletableFuture.supplyAsync(() ->
+                tracker.applyClassResult(2025, 1, 2, 7L, List.of(3L), List.of(row(3L, 90.0))));
+
+        // then: 1반 결과가 인덱스에 반영되기 전에는 진행하지 않고, 반영 후에는 바뀐 인덱스 기준으로 계산한다
+        assertThatThrownBy(() -> other.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        syncs.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(other.get(5, TimeUnit.SECONDS)).isZero();
+    }
+
+    private ScoreSummaryRowDto row(Long classroomStudentId, double sumScore) {
+        return ScoreSummaryRowDto.builder()
+                .classroomStudentId(classroomStudentId)
+                .sumScore(sumScore)
+                .build();
+    }
+}
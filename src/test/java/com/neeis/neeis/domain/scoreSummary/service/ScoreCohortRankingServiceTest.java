@@ -0,0 +1,170 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import com.neeis.neeis.domain.classroom.Classroom;
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
+import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
+import com.neeis.neeis.domain.evaluationMethod.service.EvaluationMethodService;
+import com.neeis.neeis.domain.score.ScoreRepository;
+import com.neeis.neeis.domain.score.dto.ScoreRowDto;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummaryJdbcRepository;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
+import com.neeis.neeis.domain.scoreSummary.dto.res.CohortRankingResultDto;
+import com.neeis.neeis.domain.subject.Subject;
+import com.neeis.neeis.domain.teacher.service.TeacherService;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreCohortRankingServiceTest {
+
+    @Mock private ClassroomStudentRepository classroomStudentRepository;
+    @Mock private EvaluationMethodService evaluationMethodService;
+    @Mock private ScoreRepository scoreRepository;
+    @Mock private ScoreSummaryJdbcRepository scoreSummaryJdbcRepository;
+    @Mock private TeacherService teacherService;
+    @Mock private ScoreCohortRankTracker scoreCohortRankTracker;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private ScoreCohortRankingService scoreCohortRankingService;
+
+    private Subject math, english;
+    private List<ClassroomStudent> cohort;
+
+    @BeforeEach
+    void setUp() {
+        // 과목별 작업을 호출 스레드에서 바로 실행
+        scoreCohortRankingService = new ScoreCohortRankingService(classroomStudentRepository, evaluationMethodService,
+                scoreRepository, scoreSummaryJdbcRepository, teacherService, scoreCohortRankTracker, transactionManager, Runnable::run);
+
+        math = Subject.builder().name("수학").build();
+        ReflectionTestUtils.setField(math, "id", 1L);
+        english = Subject.builder().name("영어").build();
+        ReflectionTestUtils.setField(english, "id", 2L);
+
+        // 2학년 1반 2명(id 1, 2), 2반 2명(id 3, 4)
+        Classroom class1 = Classroom.builder().year(2025).grade(2).classNum(1).build();
+        ReflectionTestUtils.setField(class1, "id", 10L);
+        Classroom class2 = Classroom.builder().year(2025).grade(2).classNum(2).build();
+        ReflectionTestUtils.setField(class2, "id", 20L);
+
+        cohort = new ArrayList<>();
+        cohort.add(classroomStudent(1L, class1, 1));
+        cohort.add(classroomStudent(2L, class1, 2));
+        cohort.add(classroomStudent(3L, class2, 1));
+        cohort.add(classroomStudent(4L, class2, 2));
+    }
+
+    @Test
+    @DisplayName("반 구분 없이 학년 전체 석차를 매기고 반 석차는 반 안에서 유지한다")
+    void recomputeGrade_ranksAcrossClassrooms() {
+        // given
+        given(classroomStudentRepository.findByClassroomYearAndGrade(2025, 2)).willReturn(cohort);
+        given(evaluationMethodService.findSubject(2025, 1, 2)).willReturn(List.of(math));
+        given(scoreRepository.findCohortRowsForSummary(math, 2025, 1, 2)).willReturn(List.of(
+                row(1L, 10L, 70.0),
+                row(2L, 10L, 60.0),
+                row(3L, 20L, 90.0),
+                row(4L, 20L, 80.0)
+        ));
+
+        // when
+        CohortRankingResultDto result = scoreCohortRankingService.recomputeGrade(2025, 1, 2);
+
+        // then
+        assertThat(result.getCohortStudentCount()).isEqualTo(4);
+        assertThat(result.getSubjectCount()).isEqualTo(1);
+        assertThat(result.getFailedSubjects()).isEmpty();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ScoreSummaryRowDto>> captor = ArgumentCaptor.forClass(List.class);
+        then(scoreSummaryJdbcRepository).should().lock(eq(1L), argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(10L, 20L))));
+        then(scoreSummaryJdbcRepository).should().upsertAll(eq(1L), anyInt(), captor.capture());
+
+        Map<Long, ScoreSummaryRowDto> rows = captor.getValue().stream()
+                .collect(Collectors.toMap(ScoreSummaryRowDto::getClassroomStudentId, Function.identity()));
+
+        assertThat(rows.get(3L).getCohortRank()).isEqualTo(1);
+        assertThat(rows.get(4L).getCohortRank()).isEqualTo(2);
+        assertThat(rows.get(1L).getCohortRank()).isEqualTo(3);
+        assertThat(rows.get(2L).getCohortRank()).isEqualTo(4);
+        assertThat(rows.get(1L).getCohortStudentCount()).isEqualTo(4);
+        assertThat(rows.get(2L).getCohortGrade()).isEqualTo(9);
+
+        // 반 석차 / 반 인원은 반 단위 그대로
+        assertThat(rows.get(1L).getRank()).isEqualTo(1);
+        assertThat(rows.get(3L).getRank()).isEqualTo(1);
+        assertThat(rows.get(1L).getTotalStudentCount()).isEqualTo(2);
+        assertThat(rows.get(1L).getAverage()).isEqualTo(65.0);
+        assertThat(rows.get(3L).getAverage()).isEqualTo(85.0);
+
+        // 반 단위 재계산용 학년 석차 인덱스 재구성
+        then(scoreCohortRankTracker).should().reset(2025, 1, 2, 1L, captor.getValue(), 4);
+    }
+
+    @Test
+    @DisplayName("한 과목이 실패해도 다른 과목은 계속 처리한다")
+    void recomputeGrade_continuesOnSubjectFailure() {
+        // given
+        given(classroomStudentRepository.findByClassroomYearAndGrade(2025, 2)).willReturn(cohort);
+        given(evaluationMethodService.findSubject(2025, 1, 2)).willReturn(List.of(math, english));
+        given(scoreRepository.findCohortRowsForSummary(math, 2025, 1, 2))
+                .willThrow(new RuntimeException("Database error"));
+        given(scoreRepository.findCohortRowsForSummary(english, 2025, 1, 2))
+                .willReturn(List.of(row(1L, 10L, 50.0)));
+
+        // when
+        CohortRankingResultDto result = scoreCohortRankingService.recomputeGrade(2025, 1, 2);
+
+        // then
+        assertThat(result.getFailedSubjects()).containsExactly("수학");
+        then(scoreSummaryJdbcRepository).should(never()).upsertAll(eq(1L), anyInt(), anyList());
+        then(scoreSummaryJdbcRepository).should().upsertAll(eq(2L), anyInt(), anyList());
+    }
+
+    @Test
+    @DisplayName("교사가 아니면 재계산할 수 없다")
+    void recomputeGrade_accessDenied() {
+        // given
+        given(teacherService.authenticate("student1"))
+                .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
+
+        // when & then
+        assertThatThrownBy(() -> scoreCohortRankingService.recomputeGrade("student1", 2025, 1, 2))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.HANDLE_ACCESS_DENIED);
+
+        then(classroomStudentRepository).shouldHaveNoInteractions();
+    }
+
+    private ClassroomStudent classroomStudent(Long id, Classroom classroom, int number) {
+        ClassroomStudent cs = ClassroomStudent.builder()
+                .classroom(classroom)
+                .number(number)
+                .build();
+        ReflectionTestUtils.setField(cs, "id", id);
+        return cs;
+    }
+
+    private ScoreRowDto row(Long classroomStudentId, Long classroomId, double score) {
+        return new ScoreRowDto(classroomStudentId, classroomId, score, score, 100, 100.0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ScoreRankIndexTest {
+
+    @Test
+    @DisplayName("동점 처리를 포함해 기존 정렬 기반 석차와 같은 결과를 낸다")
+    void ranks_matchSortBasedRanks() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            Map<Long, Double> scoreMap = new HashMap<>();
+            for (long id = 1; id <= 200; id++) {
+                // 동점이 자주 생기도록 0.5 단위 점수
+                scoreMap.put(id, random.nextInt(60) * 0.5);
+            }
+
+            ScoreRankIndex index = ScoreRankIndex.of(scoreMap);
+
+            Map<Long, Integer> expected = ScoreLevelUtil.calculateRanks(scoreMap);
+            assertThat(index.ranks()).isEqualTo(expected);
+            expected.forEach((id, rank) -> assertThat(index.rank(id)).isEqualTo(rank));
+        }
+    }
+
+    @Test
+    @DisplayName("점수 수정 시 석차가 바뀐 학생만 돌려준다")
+    void update_returnsOnlyMovedStudents() {
+        Random random = new Random(11);
+        Map<Long, Double> scoreMap = new HashMap<>();
+        for (long id = 1; id <= 100; id++) {
+            scoreMap.put(id, (double) random.nextInt(40));
+        }
+        ScoreRankIndex index = ScoreRankIndex.of(scoreMap);
+
+        for (int i = 0; i < 300; i++) {
+            long id = 1 + random.nextInt(120); // 일부는 신규 학생
+            double score = random.nextInt(40);
+
+            Map<Long, Integer> before = ScoreLevelUtil.calculateRanks(scoreMap);
+            scoreMap.put(id, score);
+            Map<Long, Integer> after = ScoreLevelUtil.calculateRanks(scoreMap);
+
+            Set<Long> expectedMoved = new HashSet<>();
+            after.forEach((studentId, rank) -> {
+                if (!rank.equals(before.get(studentId))) expectedMoved.add(studentId);
+            });
+
+            assertThat(index.update(id, score)).isEqualTo(expectedMoved);
+            assertThat(index.size()).isEqualTo(scoreMap.size());
+        }
+        assertThat(index.ranks()).isEqualTo(ScoreLevelUtil.calculateRanks(scoreMap));
+    }
+
+    @Test
+    @DisplayName("학생 제거 시 더 낮은 점수의 학생들이 한 칸씩 올라간다")
+    void remove_movesLowerStudents() {
+        ScoreRankIndex index = ScoreRankIndex.of(Map.of(1L, 90.0, 2L, 80.0, 3L, 80.0, 4L, 70.0));
+
+        Set<Long> moved = index.remove(1L);
+
+        assertThat(moved).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(index.rank(2L)).isEqualTo(1);
+        assertThat(index.rank(4L)).isEqualTo(3);
+        assertThat(index.rank(1L)).isZero();
+        assertThat(index.remove(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 점수로 수정하면 아무도 움직이지 않는다")
+    void update_sameScore_noop() {
+        ScoreRankIndex index = ScoreRankIndex.of(Map.of(1L, 90.0, 2L, 80.0));
+
+        assertThat(index.update(2L, 80.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상위 비율과 n번째 점수 조회")
+    void percentile_and_scoreAt() {
+        ScoreRankIndex index = ScoreRankIndex.of(Map.of(1L, 90.0, 2L, 80.0, 3L, 80.0, 4L, 70.0, 5L, 60.0));
+
+        assertThat(index.percentile(2L)).isEqualTo(0.4);
+        assertThat(index.percentile(5L)).isEqualTo(1.0);
+        assertThat(index.rankOf(85.0)).isEqualTo(2);
+        assertThat(index.scoreAt(1)).isEqualTo(90.0);
+        assertThat(index.scoreAt(3)).isEqualTo(80.0);
+        assertThat(index.scoreAt(5)).isEqualTo(60.0);
+        assertThatThrownBy(() -> index.scoreAt(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ScoreStatUtilTest {
+
+    @Test
+    @DisplayName("double[] 평균 / 표준편차는 기존 스트림 기반 계산과 비트 단위로 같다")
+    void primitiveKernel_matchesLegacyBitForBit() {
+        Random random = new Random(3);
+        for (int round = 0; round < 5000; round++) {
+            int n = 2 + random.nextInt(60);
+            List<Double> boxed = new ArrayList<>(n);
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                double v = random.nextInt(3) == 0 ? random.nextDouble() * 100 : random.nextInt(1000) / 7.0;
+                boxed.add(v);
+                values[i] = v;
+            }
+
+            assertThat(Double.doubleToLongBits(ScoreStatUtil.average(values)))
+                    .isEqualTo(Double.doubleToLongBits(legacyAverage(boxed)));
+            assertThat(Double.doubleToLongBits(ScoreStatUtil.standardDeviation(values)))
+                    .isEqualTo(Double.doubleToLongBits(legacyStandardDeviation(boxed)));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 입력 / 한 명은 0.0")
+    void emptyOrSingle() {
+        assertThat(ScoreStatUtil.average(new double[0])).isZero();
+        assertThat(ScoreStatUtil.standardDeviation(new double[]{80.0})).isZero();
+        assertThat(ScoreStatUtil.average(List.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("Welford 평균 / 분산")
+    void moments() {
+        ScoreStatUtil.Moments moments = ScoreStatUtil.moments(new double[]{2, 4, 4, 4, 5, 5, 7, 9});
+
+        assertThat(moments.getCount()).isEqualTo(8);
+        assertThat(moments.getMean()).isEqualTo(5.0);
+        assertThat(moments.getVariance()).isCloseTo(4.0, within(1e-12));
+        assertThat(moments.getStdDeviation()).isCloseTo(2.0, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("중앙값 / 백분위수는 인접 값 사이를 선형 보간한다")
+    void medianAndPercentile() {
+        double[] sorted = {10, 20, 30, 40};
+
+        assertThat(ScoreStatUtil.median(sorted)).isEqualTo(25.0);
+        assertThat(ScoreStatUtil.percentile(sorted, 0.0)).isEqualTo(10.0);
+        assertThat(ScoreStatUtil.percentile(sorted, 1.0)).isEqualTo(40.0);
+        assertThat(ScoreStatUtil.percentile(sorted, 0.25)).isEqualTo(17.5);
+        assertThatThrownBy(() -> ScoreStatUtil.percentile(sorted, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("구간별 인원 - 최댓값은 마지막 구간, 범위 밖은 양 끝 구간")
+    void histogram() {
+        int[] buckets = ScoreStatUtil.histogram(new double[]{0, 9.9, 10, 55, 100, 120, -5}, 0, 100, 10);
+
+        assertThat(buckets[0]).isEqualTo(3);
+        assertThat(buckets[1]).isEqualTo(1);
+        assertThat(buckets[5]).isEqualTo(1);
+        assertThat(buckets[9]).isEqualTo(2);
+    }
+
+    // 변경 전 구현
+    private double legacyAverage(List<Double> values) {
+        double sum = 0.0;
+        for (double v : values) {
+            sum += v;
+        }
+        return Math.round(sum / values.size() * 100.0) / 100.0;
+    }
+
+    private double legacyStandardDeviation(List<Double> values) {
+        double mean = values.stream().mapToDouble(d -> d).average().orElse(0.0);
+        double sumSquared = values.stream()
+                .mapToDouble(d -> Math.pow(d - mean, 2))
+                .sum();
+        return Math.round(Math.sqrt(sumSquared / values.size()) * 10.0) / 10.0;
+    }
+}
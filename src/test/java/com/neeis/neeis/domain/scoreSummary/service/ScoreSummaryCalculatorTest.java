@@ -0,0 +1,111 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import com.neeis.neeis.domain.score.dto.ScoreRowDto;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ScoreSummaryCalculator 테스트 클래스
+
+ * 정적 메서드 테스트이므로 Mockito 없이 순수 단위 테스트로 구성
+ */
+@DisplayName("ScoreSummaryCalculator 테스트")
+class ScoreSummaryCalculatorTest {
+
+    @Test
+    @DisplayName("학생별 점수 행을 합산하여 석차와 등급을 계산한다")
+    void calculate_sumsRowsPerStudent() {
+        // given: 평가 2개(중간 60%, 기말 40%) 에 대한 학생 3명의 점수
+        List<ScoreRowDto> rows = List.of(
+                new ScoreRowDto(1L, 90.0, 54.0, 100, 60.0),
+                new ScoreRowDto(1L, 80.0, 32.0, 100, 40.0),
+                new ScoreRowDto(2L, 70.0, 42.0, 100, 60.0),
+                new ScoreRowDto(2L, 50.0, 20.0, 100, 40.0),
+                new ScoreRowDto(3L, 100.0, 60.0, 100, 60.0)
+        );
+
+        // when
+        Map<Long, ScoreSummaryRowDto> result = byStudent(ScoreSummaryCalculator.calculate(rows, 10));
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result.get(1L).getSumScore()).isEqualTo(86.0);
+        assertThat(result.get(1L).getOriginalScore()).isEqualTo(86);
+        assertThat(result.get(1L).getRank()).isEqualTo(1);
+        assertThat(result.get(1L).getGrade()).isEqualTo(1);
+        assertThat(result.get(1L).getAchievementLevel()).isEqualTo("A");
+
+        assertThat(result.get(2L).getSumScore()).isEqualTo(62.0);
+        assertThat(result.get(2L).getRank()).isEqualTo(2);
+
+        assertThat(result.get(3L).getSumScore()).isEqualTo(60.0);
+        assertThat(result.get(3L).getRank()).isEqualTo(3);
+        assertThat(result.get(3L).getTotalStudentCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("동점자는 같은 석차를 받고 다음 석차는 건너뛴다")
+    void calculate_sameScoreSameRank() {
+        // given
+        List<ScoreRowDto> rows = List.of(
+                new ScoreRowDto(1L, 80.0, 80.0, 100, 100.0),
+                new ScoreRowDto(2L, 80.0, 80.0, 100, 100.0),
+                new ScoreRowDto(3L, 70.0, 70.0, 100, 100.0)
+        );
+
+        // when
+        Map<Long, ScoreSummaryRowDto> result = byStudent(ScoreSummaryCalculator.calculate(rows, 3));
+
+        // then
+        assertThat(result.get(1L).getRank()).isEqualTo(1);
+        assertThat(result.get(2L).getRank()).isEqualTo(1);
+        assertThat(result.get(3L).getRank()).isEqualTo(3);
+        assertThat(result.values())
+                .extracting(ScoreSummaryRowDto::getAverage)
+                .containsOnly(ScoreStatUtil.average(List.of(80.0, 80.0, 70.0)));
+    }
+
+    @Test
+    @DisplayName("점수 행이 없으면 빈 결과를 반환한다")
+    void calculate_emptyRows() {
+        assertThat(ScoreSummaryCalculator.calculate(List.of(), 30)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("학년 전체 석차등급은 누적 비율 4/11/23/40/60/77/89/96% 기준 1~9등급이다")
+    void applyCohortRanks_nineGrades() {
+        // given: 100명, 점수가 모두 달라 석차 = 100 - 점수 + 1
+        List<ScoreRowDto> rows = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            rows.add(new ScoreRowDto(id, (double) id, (double) id, 100, 100.0));
+        }
+
+        // when
+        Map<Long, ScoreSummaryRowDto> result = byStudent(
+                ScoreSummaryCalculator.applyCohortRanks(ScoreSummaryCalculator.calculate(rows, 100), 100));
+
+        // then
+        assertThat(result.get(100L).getCohortRank()).isEqualTo(1);
+        assertThat(result.get(97L).getCohortGrade()).isEqualTo(1);  // 석차 4
+        assertThat(result.get(96L).getCohortGrade()).isEqualTo(2);  // 석차 5
+        assertThat(result.get(78L).getCohortGrade()).isEqualTo(3);  // 석차 23
+        assertThat(result.get(77L).getCohortGrade()).isEqualTo(4);  // 석차 24
+        assertThat(result.get(41L).getCohortGrade()).isEqualTo(5);  // 석차 60
+        assertThat(result.get(5L).getCohortGrade()).isEqualTo(8);   // 석차 96
+        assertThat(result.get(1L).getCohortGrade()).isEqualTo(9);   // 석차 100
+        assertThat(result.get(1L).getCohortStudentCount()).isEqualTo(100);
+    }
+
+    private Map<Long, ScoreSummaryRowDto> byStudent(List<ScoreSummaryRowDto> rows) {
+        return rows.stream().collect(Collectors.toMap(ScoreSummaryRowDto::getClassroomStudentId, Function.identity()));
+    }
+}
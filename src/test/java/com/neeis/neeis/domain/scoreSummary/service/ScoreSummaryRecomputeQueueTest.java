@@ -0,0 +1,165 @@
+package com.neeis.neeis.domain.scoreSummary.service;
+
+import com.neeis.neeis.domain.score.service.ScoreNotificationService;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeKey;
+import com.neeis.neeis.domain.scoreSummary.dto.SummaryRecomputeStatus;
+import com.neeis.neeis.domain.scoreSummary.dto.res.RecomputeStatusDto;
+import com.neeis.neeis.domain.scoreSummary.dto.res.RecomputeTicketDto;
+import com.neeis.neeis.domain.scoreSummary.event.ScoreSummaryRecomputeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreSummaryRecomputeQueueTest {
+
+    @Mock private ScoreSummaryService scoreSummaryService;
+    @Mock private ScoreNotificationService scoreNotificationService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private TaskScheduler worker;
+
+    private ScoreSummaryRecomputeQueue queue;
+
+    private final SummaryRecomputeKey key = SummaryRecomputeKey.of(2025, 1, 2, 3, 7L);
+
+    @BeforeEach
+    void setUp() {
+        queue = new ScoreSummaryRecomputeQueue(scoreSummaryService, scoreNotificationService,
+                transactionManager, worker, Duration.ofMillis(300), Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("병합 구간 안의 같은 키 요청은 한 번만 재계산한다")
+    void enqueue_coalescesSameKey() {
+        // when: 커밋 이벤트 두 번
+        queue.onScoresSaved(new ScoreSummaryRecomputeEvent(Set.of(key)));
+        queue.onScoresSaved(new ScoreSummaryRecomputeEvent(Set.of(key)));
+
+        // then: 예약은 한 번, 상태는 대기
+        List<Runnable> scheduled = captureScheduled(1);
+        assertThat(queue.getStatus(key).getStatus()).isEqualTo(SummaryRecomputeStatus.PENDING);
+
+        scheduled.get(0).run();
+
+        then(scoreSummaryService).should(times(1)).updateSummaryForSpecificSubject(7L, 2025, 1, 2, 3);
+        then(scoreNotificationService).should(times(1))
+                .sendNotificationsForAffectedSubjects(2025, 1, 2, 3, Set.of(7L));
+
+        RecomputeStatusDto status = queue.getStatus(key);
+        assertThat(status.getStatus()).isEqualTo(SummaryRecomputeStatus.DONE);
+        assertThat(status.getRequestedVersion()).isEqualTo(2);
+        assertThat(status.getCompletedVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재계산 중 들어온 요청은 끝난 뒤 한 번 더 재계산한다")
+    void enqueue_duringRun_reschedules() {
+        // given: 재계산 도중 새 성적이 저장됨
+        queue.enqueue(key);
+        willAnswer(inv -> {
+            queue.enqueue(key);
+            assertThat(queue.getStatus(key).getStatus()).isEqualTo(SummaryRecomputeStatus.RUNNING);
+            return null;
+        }).willDoNothing().given(scoreSummaryService).updateSummaryForSpecificSubject(7L, 2025, 1, 2, 3);
+
+        // when
+        captureScheduled(1).get(0).run();
+
+        // then: 첫 실행은 버전 1까지만 반영, 다시 예약됨
+        assertThat(queue.getStatus(key).getCompletedVersion()).isEqualTo(1);
+        List<Runnable> scheduled = captureScheduled(2);
+        assertThat(queue.getStatus(key).getStatus()).isEqualTo(SummaryRecomputeStatus.PENDING);
+
+        scheduled.get(1).run();
+
+        assertThat(queue.getStatus(key).getCompletedVersion()).isEqualTo(2);
+        assertThat(queue.getStatus(key).getStatus()).isEqualTo(SummaryRecomputeStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("재계산이 실패하면 백오프 후 다시 시도하고, 성공하면 완료 버전을 올린다")
+    void run_failure_retries() {
+        // given: 첫 시도만 실패
+        queue.enqueue(key);
+        willThrow(new RuntimeException("Lock wait timeout")).willDoNothing()
+                .given(scoreSummaryService).updateSummaryForSpecificSubject(7L, 2025, 1, 2, 3);
+
+        // when
+        captureScheduled(1).get(0).run();
+
+        // then: FAILED 가 아니라 재시도 대기
+        assertThat(queue.getStatus(key).getStatus()).isEqualTo(SummaryRecomputeStatus.PENDING);
+        captureScheduled(2).get(1).run();
+
+        RecomputeStatusDto status = queue.getStatus(key);
+        assertThat(status.getStatus()).isEqualTo(SummaryRecomputeStatus.DONE);
+        assertThat(status.getCompletedVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("MAX_ATTEMPTS 번 모두 실패하면 FAILED 상태가 되고 완료 버전은 그대로다")
+    void run_failure_marksFailedAfterMaxAttempts() {
+        // given
+        queue.enqueue(key);
+        willThrow(new RuntimeException("Database error"))
+                .given(scoreSummaryService).updateSummaryForSpecificSubject(7L, 2025, 1, 2, 3);
+
+        // when: 예약된 재시도를 모두 실행
+        for (int attempt = 1; attempt <= ScoreSummaryRecomputeQueue.MAX_ATTEMPTS; attempt++) {
+            captureScheduled(attempt).get(attempt - 1).run();
+        }
+
+        // then: 더 이상 예약하지 않는다
+        captureScheduled(ScoreSummaryRecomputeQueue.MAX_ATTEMPTS);
+        RecomputeStatusDto status = queue.getStatus(key);
+        assertThat(status.getStatus()).isEqualTo(SummaryRecomputeStatus.FAILED);
+        assertThat(status.getRequestedVersion()).isEqualTo(1);
+        assertThat(status.getCompletedVersion()).isZero();
+        then(scoreSummaryService).should(times(ScoreSummaryRecomputeQueue.MAX_ATTEMPTS))
+                .updateSummaryForSpecificSubject(7L, 2025, 1, 2, 3);
+        then(scoreNotificationService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("저장 티켓은 커밋 시점까지 등록된 요청 버전을 돌려준다")
+    void ticketsFor_returnsRequestedVersion() {
+        // given
+        SummaryRecomputeKey other = SummaryRecomputeKey.of(2025, 1, 2, 3, 8L);
+        queue.onScoresSaved(new ScoreSummaryRecomputeEvent(Set.of(key)));
+        queue.onScoresSaved(new ScoreSummaryRecomputeEvent(Set.of(key)));
+
+        // when
+        List<RecomputeTicketDto> tickets = queue.ticketsFor(List.of(key, other));
+
+        // then
+        assertThat(tickets).extracting(RecomputeTicketDto::getSubjectId, RecomputeTicketDto::getVersion)
+                .containsExactly(tuple(7L, 2L), tuple(8L, 0L));
+    }
+
+    @Test
+    @DisplayName("요청 이력이 없는 키는 IDLE 이다")
+    void getStatus_unknownKey() {
+        assertThat(queue.getStatus(key).getStatus()).isEqualTo(SummaryRecomputeStatus.IDLE);
+    }
+
+    private List<Runnable> captureScheduled(int count) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        then(worker).should(times(count)).schedule(captor.capture(), any(Instant.class));
+        return captor.getAllValues();
+    }
+}
@@ -8,6 +8,9 @@ import com.neeis.neeis.domain.evaluationMethod.EvaluationMethod;
 import com.neeis.neeis.domain.evaluationMethod.service.EvaluationMethodService;
 import com.neeis.neeis.domain.score.Score;
 import com.neeis.neeis.domain.score.ScoreRepository;
+import com.neeis.neeis.domain.score.dto.ScoreRowDto;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummaryJdbcRepository;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummaryRepository;
 import com.neeis.neeis.domain.student.Student;
 import com.neeis.neeis.domain.subject.Subject;
@@ -26,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -49,6 +53,8 @@ class ScoreSummaryServiceNewMethodsTest {
     private ScoreSummaryService scoreSummaryService;
 
     @Mock private ScoreSummaryRepository scoreSummaryRepository;
+    @Mock private ScoreSummaryJdbcRepository scoreSummaryJdbcRepository;
+    @Mock private ScoreCohortRankTracker scoreCohortRankTracker;
     @Mock private ClassroomService classroomService;
     @Mock private ClassroomStudentService classroomStudentService;
     @Mock private SubjectService subjectService;
@@ -61,6 +67,7 @@ class ScoreSummaryServiceNewMethodsTest {
     private Subject testSubject1, testSubject2;
     private EvaluationMethod testEvaluationMethod;
     private Score testScore;
+    private ScoreRowDto testRow;
 
     @BeforeEach
     void setUp() {
@@ -123,6 +130,9 @@ class ScoreSummaryServiceNewMethodsTest {
                 .weightedScore(85.0)
                 .build();
         ReflectionTestUtils.setField(testScore, "id", 1L);
+
+        // 성적 요약 계산용 프로젝션 행
+        testRow = new ScoreRowDto(testClassroomStudent.getId(), 85.0, 85.0, 100, 100.0);
     }
 
     @Nested
@@ -139,10 +149,8 @@ class ScoreSummaryServiceNewMethodsTest {
             given(classroomService.findClassroom(year, grade, classNum)).willReturn(testClassroom);
             given(classroomStudentService.findByClassroom(testClassroom)).willReturn(List.of(testClassroomStudent));
             given(subjectService.findById(subjectId)).willReturn(testSubject1);
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(
-                    testSubject1, year, semester, grade)).willReturn(List.of(testEvaluationMethod));
-            given(scoreRepository.findAllByStudentAndEvaluationMethodIn(
-                    testClassroomStudent, List.of(testEvaluationMethod))).willReturn(List.of(testScore));
+            given(scoreRepository.findRowsForSummary(
+                    testSubject1, year, semester, grade, testClassroom)).willReturn(List.of(testRow));
 
             // when - 실제 메서드 시그니처에 맞게 수정 (5개 파라미터)
             assertThatCode(() -> scoreSummaryService.updateSummaryForSpecificSubject(
@@ -153,13 +161,10 @@ class ScoreSummaryServiceNewMethodsTest {
             verify(classroomService).findClassroom(year, grade, classNum);
             verify(classroomStudentService).findByClassroom(testClassroom);
             verify(subjectService).findById(subjectId);
-            verify(evaluationMethodService).findAllBySubjectAndYearAndSemesterAndGrade(
-                    testSubject1, year, semester, grade);
-            verify(scoreRepository).findAllByStudentAndEvaluationMethodIn(
-                    testClassroomStudent, List.of(testEvaluationMethod));
-            verify(scoreSummaryRepository).deleteBySubjectAndClassroomStudentIn(
-                    testSubject1, List.of(testClassroomStudent));
-            verify(scoreSummaryRepository).saveAll(anyList());
+            verify(scoreRepository).findRowsForSummary(
+                    testSubject1, year, semester, grade, testClassroom);
+            verify(scoreSummaryJdbcRepository).deleteStale(eq(1L), eq(202412), eq(List.of(1L)), eq(Set.of(1L)));
+            verify(scoreSummaryJdbcRepository).upsertAll(eq(1L), anyInt(), anyList());
         }
 
         @Test
@@ -213,10 +218,8 @@ class ScoreSummaryServiceNewMethodsTest {
             given(classroomService.findClassroom(year, grade, classNum)).willReturn(testClassroom);
             given(classroomStudentService.findByClassroom(testClassroom)).willReturn(List.of(testClassroomStudent));
             given(subjectService.findById(subjectId)).willReturn(testSubject1);
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(
-                    testSubject1, year, semester, grade)).willReturn(List.of(testEvaluationMethod));
-            given(scoreRepository.findAllByStudentAndEvaluationMethodIn(
-                    testClassroomStudent, List.of(testEvaluationMethod))).willReturn(List.of()); // 빈 리스트
+            given(scoreRepository.findRowsForSummary(
+                    testSubject1, year, semester, grade, testClassroom)).willReturn(List.of()); // 빈 리스트
 
             // when
             assertThatCode(() -> scoreSummaryService.updateSummaryForSpecificSubject(
@@ -224,8 +227,8 @@ class ScoreSummaryServiceNewMethodsTest {
                     .doesNotThrowAnyException();
 
             // then - 점수가 없으면 삭제/저장이 호출되지 않음
-            verify(scoreSummaryRepository, never()).deleteBySubjectAndClassroomStudentIn(any(), any());
-            verify(scoreSummaryRepository, never()).saveAll(any());
+            verify(scoreSummaryJdbcRepository, never()).deleteStale(any(), anyInt(), any(), any());
+            verify(scoreSummaryJdbcRepository, never()).upsertAll(any(), anyInt(), any());
         }
     }
 
@@ -249,7 +252,7 @@ class ScoreSummaryServiceNewMethodsTest {
                     for (Long subjectId : subjectIds) {
                         try {
                             Subject subject = subjectService.findById(subjectId);
-                            updateSummaryForSubject(subject, year, semester, grade, students);
+                            updateSummaryForSubject(subject, year, semester, grade, classroom, students);
                         } catch (Exception e) {
                             log.error("특정 과목 성적 요약 업데이트 실패: 과목ID={}, 오류={}", subjectId, e.getMessage(), e);
                             // 한 과목 실패해도 다른 과목은 계속 처리
@@ -282,12 +285,10 @@ class ScoreSummaryServiceNewMethodsTest {
             given(subjectService.findById(1L)).willReturn(testSubject1);
             given(subjectService.findById(2L)).willReturn(testSubject2);
 
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(
-                    testSubject1, year, semester, grade)).willReturn(List.of(testEvaluationMethod));
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(
-                    testSubject2, year, semester, grade)).willReturn(List.of());
-            given(scoreRepository.findAllByStudentAndEvaluationMethodIn(
-                    testClassroomStudent, List.of(testEvaluationMethod))).willReturn(List.of(testScore));
+            given(scoreRepository.findRowsForSummary(
+                    testSubject1, year, semester, grade, testClassroom)).willReturn(List.of(testRow));
+            given(scoreRepository.findRowsForSummary(
+                    testSubject2, year, semester, grade, testClassroom)).willReturn(List.of());
 
             // when
             assertThatCode(() -> scoreSummaryService.updateSummaryForSpecificSubjects(
@@ -297,9 +298,7 @@ class ScoreSummaryServiceNewMethodsTest {
             // then
             verify(subjectService).findById(1L);
             verify(subjectService).findById(2L);
-            verify(scoreSummaryRepository).deleteBySubjectAndClassroomStudentIn(
-                    testSubject1, List.of(testClassroomStudent));
-            verify(scoreSummaryRepository).saveAll(anyList());
+            verify(scoreSummaryJdbcRepository).upsertAll(eq(1L), anyInt(), anyList());
         }
         */
     }
@@ -317,10 +316,8 @@ class ScoreSummaryServiceNewMethodsTest {
             given(classroomService.findClassroom(year, grade, classNum)).willReturn(testClassroom);
             given(classroomStudentService.findByClassroom(testClassroom)).willReturn(List.of(testClassroomStudent));
             given(evaluationMethodService.findSubject(year, semester, grade)).willReturn(List.of(testSubject1));
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(
-                    testSubject1, year, semester, grade)).willReturn(List.of(testEvaluationMethod));
-            given(scoreRepository.findAllByStudentAndEvaluationMethodIn(
-                    testClassroomStudent, List.of(testEvaluationMethod))).willReturn(List.of(testScore));
+            given(scoreRepository.findRowsForSummary(
+                    testSubject1, year, semester, grade, testClassroom)).willReturn(List.of(testRow));
 
             // when
             assertThatCode(() -> scoreSummaryService.updateSummaryForClass(year, semester, grade, classNum))
@@ -330,9 +327,7 @@ class ScoreSummaryServiceNewMethodsTest {
             verify(classroomService).findClassroom(year, grade, classNum);
             verify(classroomStudentService).findByClassroom(testClassroom);
             verify(evaluationMethodService).findSubject(year, semester, grade);
-            verify(scoreSummaryRepository).deleteBySubjectAndClassroomStudentIn(
-                    testSubject1, List.of(testClassroomStudent));
-            verify(scoreSummaryRepository).saveAll(anyList());
+            verify(scoreSummaryJdbcRepository).upsertAll(eq(1L), anyInt(), anyList());
         }
 
         @Test
@@ -369,5 +364,32 @@ class ScoreSummaryServiceNewMethodsTest {
             assertThat(result).isEmpty();
             verify(scoreSummaryRepository).findByStudentAndSubject(studentId, subjectId);
         }
+
+        @Test
+        @DisplayName("findAllForNotification 메서드 테스트 - 반 전체 x 과목 요약을 한 번에 조회")
+        void findAllForNotification_success() {
+            // given
+            Set<Long> subjectIds = Set.of(1L, 2L);
+            given(scoreSummaryRepository.findAllWithStudentUserByClassroomAndTermKeyAndSubjectIdIn(testClassroom, 202412, subjectIds))
+                    .willReturn(List.of());
+
+            // when
+            List<ScoreSummary> result = scoreSummaryService.findAllForNotification(testClassroom, 202412, subjectIds);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(scoreSummaryRepository, times(1)).findAllWithStudentUserByClassroomAndTermKeyAndSubjectIdIn(testClassroom, 202412, subjectIds);
+        }
+
+        @Test
+        @DisplayName("findAllForNotification 메서드 테스트 - 과목이 없으면 조회하지 않음")
+        void findAllForNotification_emptySubjects() {
+            // when
+            List<ScoreSummary> result = scoreSummaryService.findAllForNotification(testClassroom, 202412, Set.of());
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(scoreSummaryRepository);
+        }
     }
 }
\ No newline at end of file
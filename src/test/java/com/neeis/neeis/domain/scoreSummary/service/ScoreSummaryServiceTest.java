@@ -3,16 +3,19 @@ package com.neeis.neeis.domain.scoreSummary.service;
 import com.neeis.neeis.domain.classroom.Classroom;
 import com.neeis.neeis.domain.classroom.ClassroomService;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudent;
-import com.neeis.neeis.domain.classroomStudent.ClassroomStudentRepository;
 import com.neeis.neeis.domain.classroomStudent.ClassroomStudentService;
+import com.neeis.neeis.domain.classroomStudent.StudentAccessResolver;
 import com.neeis.neeis.domain.evaluationMethod.EvaluationMethod;
 import com.neeis.neeis.domain.evaluationMethod.ExamType;
 import com.neeis.neeis.domain.evaluationMethod.service.EvaluationMethodService;
 import com.neeis.neeis.domain.notification.service.NotificationService;
 import com.neeis.neeis.domain.score.Score;
 import com.neeis.neeis.domain.score.ScoreRepository;
+import com.neeis.neeis.domain.score.dto.ScoreRowDto;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummary;
+import com.neeis.neeis.domain.scoreSummary.ScoreSummaryJdbcRepository;
 import com.neeis.neeis.domain.scoreSummary.ScoreSummaryRepository;
+import com.neeis.neeis.domain.scoreSummary.dto.ScoreSummaryRowDto;
 import com.neeis.neeis.domain.scoreSummary.dto.req.ScoreFeedbackRequestDto;
 import com.neeis.neeis.domain.scoreSummary.dto.req.ScoreFeedbackUpdateDto;
 import com.neeis.neeis.domain.scoreSummary.dto.res.ScoreFeedbackDto;
@@ -34,6 +37,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -42,8 +46,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.neeis.neeis.domain.classroomStudent.StudentAccessResolver.STUDENT_TEACHER;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -61,10 +68,12 @@ import static org.mockito.BDDMockito.*;
 class ScoreSummaryServiceTest {
 
     @Mock private ScoreSummaryRepository scoreSummaryRepository;
+    @Mock private ScoreSummaryJdbcRepository scoreSummaryJdbcRepository;
+    @Mock private ScoreCohortRankTracker scoreCohortRankTracker;
     @Mock private ClassroomService classroomService;
     @Mock private UserService userService;
     @Mock private ClassroomStudentService classroomStudentService;
-    @Mock private ClassroomStudentRepository classroomStudentRepository;
+    @Mock private StudentAccessResolver studentAccessResolver;
     @Mock private EvaluationMethodService evaluationMethodService;
     @Mock private ScoreRepository scoreRepository;
     @Mock private TeacherService teacherService;
@@ -131,14 +140,11 @@ class ScoreSummaryServiceTest {
         @DisplayName("교사가 학생의 성적 요약을 정상적으로 조회한다")
         void should_ReturnStudentSummary_When_TeacherRequests() {
             // Given: 교사가 학생의 성적 요약을 조회할 때
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1))
-                    .willReturn(Optional.of(classroomStudent));
-            given(scoreRepository.findAllByStudentAndEvaluationMethod_YearAndEvaluationMethod_Semester(
-                    classroomStudent, 2025, 2)).willReturn(List.of(score1, score2));
-            given(scoreSummaryRepository.findAllByClassroomStudent(classroomStudent))
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1, STUDENT_TEACHER))
+                    .willReturn(classroomStudent);
+            given(scoreRepository.findAllWithEvaluationByStudentAndTermKey(
+                    classroomStudent, 202522)).willReturn(List.of(score1, score2));
+            given(scoreSummaryRepository.findAllWithSubjectByClassroomStudentAndTermKey(classroomStudent, 202522))
                     .willReturn(List.of(scoreSummary));
 
             // When: 성적 요약을 조회하면
@@ -159,12 +165,11 @@ class ScoreSummaryServiceTest {
         @DisplayName("학생이 자신의 성적 요약을 조회할 수 있다")
         void should_ReturnStudentSummary_When_StudentRequestsOwnData() {
             // Given: 학생이 자신의 성적 요약을 조회할 때
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser))
-                    .willReturn(Optional.of(classroomStudent));
-            given(scoreRepository.findAllByStudentAndEvaluationMethod_YearAndEvaluationMethod_Semester(
-                    classroomStudent, 2025, 2)).willReturn(List.of(score1, score2));
-            given(scoreSummaryRepository.findAllByClassroomStudent(classroomStudent))
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1, STUDENT_TEACHER))
+                    .willReturn(classroomStudent);
+            given(scoreRepository.findAllWithEvaluationByStudentAndTermKey(
+                    classroomStudent, 202522)).willReturn(List.of(score1, score2));
+            given(scoreSummaryRepository.findAllWithSubjectByClassroomStudentAndTermKey(classroomStudent, 202522))
                     .willReturn(List.of(scoreSummary));
 
             // When: 본인 성적 요약을 조회하면
@@ -180,9 +185,8 @@ class ScoreSummaryServiceTest {
         @DisplayName("학생이 다른 학생의 성적을 조회하면 예외가 발생한다")
         void should_ThrowException_When_StudentRequestsOthersData() {
             // Given: 학생이 다른 학생의 성적을 조회할 때
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser))
-                    .willReturn(Optional.of(classroomStudent));
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 2, STUDENT_TEACHER))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 다른 학생 번호로 조회하면 예외가 발생한다
             assertThatThrownBy(() -> scoreSummaryService.getStudentSummary(
@@ -196,17 +200,15 @@ class ScoreSummaryServiceTest {
         @DisplayName("존재하지 않는 학급에 접근하면 예외가 발생한다")
         void should_ThrowException_When_ClassroomNotFound() {
             // Given: 존재하지 않는 학급에 접근할 때
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 3, 5))
-                    .willThrow(new CustomException(ErrorCode.CLASSROOM_NOT_FOUND));
+            given(studentAccessResolver.resolve("teacher1", 2025, 3, 5, 1, STUDENT_TEACHER))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
-            // When & Then: 학급을 찾을 수 없다는 예외가 발생한다
+            // When & Then: 대상 학생을 찾을 수 없어 접근이 거부된다
             assertThatThrownBy(() -> scoreSummaryService.getStudentSummary(
                     "teacher1", 2025, 2, 3, 5, 1))
                     .isInstanceOf(CustomException.class)
                     .extracting(ex -> ((CustomException) ex).getErrorCode())
-                    .isEqualTo(ErrorCode.CLASSROOM_NOT_FOUND);
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
         }
     }
 
@@ -221,19 +223,45 @@ class ScoreSummaryServiceTest {
             given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
             given(classroomStudentService.findByClassroom(classroom)).willReturn(List.of(classroomStudent));
             given(evaluationMethodService.findSubject(2025, 2, 2)).willReturn(List.of(subject));
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(subject, 2025, 2, 2))
-                    .willReturn(List.of(evaluationMethod));
-            given(scoreRepository.findAllByStudentAndEvaluationMethodIn(classroomStudent, List.of(evaluationMethod)))
-                    .willReturn(List.of(score1, score2));
+            given(scoreRepository.findRowsForSummary(subject, 2025, 2, 2, classroom))
+                    .willReturn(List.of(toRow(score1), toRow(score2)));
 
             // When: 성적 요약을 업데이트하면
             assertThatCode(() -> scoreSummaryService.updateSummaryForClass(2025, 2, 2, 1))
                     .doesNotThrowAnyException();
 
-            // Then: 기존 요약이 삭제되고 새로운 요약이 저장된다
-            then(scoreSummaryRepository).should().deleteBySubjectAndClassroomStudentIn(
-                    subject, List.of(classroomStudent));
-            then(scoreSummaryRepository).should().saveAll(anyList());
+            // Then: 점수 없는 학생 요약 정리 후 계산된 요약이 일괄 upsert 된다
+            then(scoreSummaryJdbcRepository).should().deleteStale(eq(1L), eq(202522), eq(List.of(1L)), eq(Set.of(1L)));
+            then(scoreSummaryJdbcRepository).should().upsertAll(eq(1L), anyInt(), argThat(rows ->
+                    rows.size() == 1
+                            && rows.get(0).getSumScore() == 175.0
+                            && rows.get(0).getRank() == 1
+                            && rows.get(0).getTotalStudentCount() == 1));
+        }
+
+        @Test
+        @DisplayName("잠금 행을 먼저 잡은 뒤 점수를 읽고, 저장된 값과 같은 학생은 다시 쓰지 않는다")
+        void should_SkipUnchangedRows_When_ValuesAreSame() {
+            // Given: 이미 같은 값으로 저장된 요약이 있을 때
+            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
+            given(classroomStudentService.findByClassroom(classroom)).willReturn(List.of(classroomStudent));
+            given(evaluationMethodService.findSubject(2025, 2, 2)).willReturn(List.of(subject));
+            given(classroomService.findClassroomIds(2025, 2)).willReturn(List.of(2L, 1L));
+            given(scoreRepository.findRowsForSummary(subject, 2025, 2, 2, classroom))
+                    .willReturn(List.of(toRow(score1), toRow(score2)));
+
+            List<ScoreSummaryRowDto> computed = ScoreSummaryCalculator.calculate(List.of(toRow(score1), toRow(score2)), 1);
+            given(scoreSummaryJdbcRepository.findCurrentRows(1L, 202522, List.of(1L)))
+                    .willReturn(Map.of(1L, computed.get(0)));
+
+            // When: 성적 요약을 업데이트하면
+            scoreSummaryService.updateSummaryForClass(2025, 2, 2, 1);
+
+            // Then: 학년 전체 반을 ID 순으로 잠근 뒤 점수를 조회하고, upsert 대상은 없다
+            InOrder inOrder = inOrder(scoreSummaryJdbcRepository, scoreRepository);
+            inOrder.verify(scoreSummaryJdbcRepository).lock(1L, List.of(1L, 2L));
+            inOrder.verify(scoreRepository).findRowsForSummary(subject, 2025, 2, 2, classroom);
+            then(scoreSummaryJdbcRepository).should().upsertAll(eq(1L), eq(202522), argThat(List::isEmpty));
         }
 
         @Test
@@ -243,9 +271,7 @@ class ScoreSummaryServiceTest {
             given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
             given(classroomStudentService.findByClassroom(classroom)).willReturn(List.of(classroomStudent));
             given(evaluationMethodService.findSubject(2025, 2, 2)).willReturn(List.of(subject));
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(subject, 2025, 2, 2))
-                    .willReturn(List.of(evaluationMethod));
-            given(scoreRepository.findAllByStudentAndEvaluationMethodIn(classroomStudent, List.of(evaluationMethod)))
+            given(scoreRepository.findRowsForSummary(subject, 2025, 2, 2, classroom))
                     .willReturn(List.of()); // 빈 점수 리스트
 
             // When: 성적 요약을 업데이트하면
@@ -253,8 +279,8 @@ class ScoreSummaryServiceTest {
                     .doesNotThrowAnyException();
 
             // Then: 삭제나 저장이 호출되지 않는다
-            then(scoreSummaryRepository).should(never()).deleteBySubjectAndClassroomStudentIn(any(), any());
-            then(scoreSummaryRepository).should(never()).saveAll(any());
+            then(scoreSummaryJdbcRepository).should(never()).deleteStale(any(), anyInt(), any(), any());
+            then(scoreSummaryJdbcRepository).should(never()).upsertAll(any(), anyInt(), any());
         }
 
         @Test
@@ -269,22 +295,18 @@ class ScoreSummaryServiceTest {
             given(evaluationMethodService.findSubject(2025, 2, 2)).willReturn(List.of(subject, subject2));
 
             // 첫 번째 과목은 정상, 두 번째 과목은 실패
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(subject, 2025, 2, 2))
-                    .willReturn(List.of(evaluationMethod));
-            given(evaluationMethodService.findAllBySubjectAndYearAndSemesterAndGrade(subject2, 2025, 2, 2))
+            given(scoreRepository.findRowsForSummary(subject, 2025, 2, 2, classroom))
+                    .willReturn(List.of(toRow(score1), toRow(score2)));
+            given(scoreRepository.findRowsForSummary(subject2, 2025, 2, 2, classroom))
                     .willThrow(new RuntimeException("Database error"));
 
-            given(scoreRepository.findAllByStudentAndEvaluationMethodIn(classroomStudent, List.of(evaluationMethod)))
-                    .willReturn(List.of(score1, score2));
-
             // When: 성적 요약을 업데이트하면
             assertThatCode(() -> scoreSummaryService.updateSummaryForClass(2025, 2, 2, 1))
                     .doesNotThrowAnyException();
 
             // Then: 첫 번째 과목은 정상 처리되어야 한다
-            then(scoreSummaryRepository).should().deleteBySubjectAndClassroomStudentIn(
-                    subject, List.of(classroomStudent));
-            then(scoreSummaryRepository).should().saveAll(anyList());
+            then(scoreSummaryJdbcRepository).should().upsertAll(eq(1L), anyInt(), anyList());
+            then(scoreSummaryJdbcRepository).should(never()).upsertAll(eq(2L), anyInt(), anyList());
         }
     }
 
@@ -420,16 +442,10 @@ class ScoreSummaryServiceTest {
         @DisplayName("학생의 과목별 피드백 목록을 정상적으로 조회한다")
         void should_ReturnSubjectFeedbacks_When_ValidRequest() {
             // Given: 학생의 과목별 피드백을 조회할 때
-            scoreSummary.update("수학 피드백입니다.");
-
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1))
-                    .willReturn(Optional.of(classroomStudent));
-            given(evaluationMethodService.findSubject(2025, 2, 2)).willReturn(List.of(subject));
-            given(scoreSummaryRepository.findAllByClassroomStudent(classroomStudent))
-                    .willReturn(List.of(scoreSummary));
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1, STUDENT_TEACHER))
+                    .willReturn(classroomStudent);
+            given(scoreSummaryRepository.findFeedbacksByClassroomStudentAndTermKey(classroomStudent, 202522))
+                    .willReturn(List.of(new SubjectFeedbackDto("수학", "수학 피드백입니다.")));
 
             // When: 과목별 피드백을 조회하면
             List<SubjectFeedbackDto> result = scoreSummaryService.getSubjectFeedbacks(
@@ -442,31 +458,22 @@ class ScoreSummaryServiceTest {
         }
 
         @Test
-        @DisplayName("해당 학기에 속하지 않은 과목은 필터링된다")
-        void should_FilterOutSubjectsNotInThisTerm() {
-            // Given: 해당 학기에 속하지 않은 과목이 있을 때
-            Subject anotherSubject = createSubject("영어");
-            ReflectionTestUtils.setField(anotherSubject, "id", 2L);
-
-            ScoreSummary anotherSummary = createScoreSummary(classroomStudent, anotherSubject, 150.0, 75.0, 8.0, 3, 3, "C");
-            anotherSummary.update("영어 피드백입니다.");
-
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 1))
-                    .willReturn(Optional.of(classroomStudent));
-            given(evaluationMethodService.findSubject(2025, 2, 2)).willReturn(List.of(subject)); // 수학만 이 학기 과목
-            given(scoreSummaryRepository.findAllByClassroomStudent(classroomStudent))
-                    .willReturn(List.of(scoreSummary, anotherSummary)); // 수학, 영어 모두 존재
+        @DisplayName("해당 학기 키로만 조회하고 전체 요약을 불러오지 않는다")
+        void should_QueryOnlyThisTerm() {
+            // Given: 학생의 과목별 피드백을 조회할 때
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 1, STUDENT_TEACHER))
+                    .willReturn(classroomStudent);
+            given(scoreSummaryRepository.findFeedbacksByClassroomStudentAndTermKey(classroomStudent, 202522))
+                    .willReturn(List.of());
 
             // When: 과목별 피드백을 조회하면
             List<SubjectFeedbackDto> result = scoreSummaryService.getSubjectFeedbacks(
                     "teacher1", 2025, 2, 2, 1, 1);
 
-            // Then: 해당 학기 과목(수학)만 반환된다
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getSubjectName()).isEqualTo("수학");
+            // Then: 학기 키 조회만 사용한다
+            assertThat(result).isEmpty();
+            then(scoreSummaryRepository).should(never()).findAllByClassroomStudent(any());
+            then(evaluationMethodService).shouldHaveNoInteractions();
         }
     }
 
@@ -475,31 +482,26 @@ class ScoreSummaryServiceTest {
     class AccessValidationTest {
 
         @Test
-        @DisplayName("역할이 null인 사용자가 접근하면 NullPointerException이 발생한다")
-        void should_ThrowNPE_When_UserRoleIsNull() {
+        @DisplayName("역할이 null인 사용자가 접근하면 예외가 발생한다")
+        void should_ThrowException_When_UserRoleIsNull() {
             // Given: 역할이 null인 사용자가 접근할 때
-            User nullRoleUser = User.builder()
-                    .school("테스트중학교")
-                    .username("nullrole1")
-                    .password("password")
-                    .role(null)
-                    .build();
-
-            given(userService.getUser("nullrole1")).willReturn(nullRoleUser);
+            given(studentAccessResolver.resolve("nullrole1", 2025, 2, 1, 1, STUDENT_TEACHER))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
-            // When & Then: NullPointerException이 발생한다
+            // When & Then: 접근 권한이 없다는 예외가 발생한다
             assertThatThrownBy(() -> scoreSummaryService.getStudentSummary(
                     "nullrole1", 2025, 2, 2, 1, 1))
-                    .isInstanceOf(NullPointerException.class);
+                    .isInstanceOf(CustomException.class)
+                    .extracting(ex -> ((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
         }
 
         @Test
         @DisplayName("학생이 학급에 속하지 않은 경우 예외가 발생한다")
         void should_ThrowException_When_StudentNotInAnyClassroom() {
             // Given: 학생이 어떤 학급에도 속하지 않은 경우
-            given(userService.getUser("student1")).willReturn(studentUser);
-            given(classroomStudentRepository.findByStudentUser(studentUser))
-                    .willReturn(Optional.empty());
+            given(studentAccessResolver.resolve("student1", 2025, 2, 1, 1, STUDENT_TEACHER))
+                    .willThrow(new CustomException(ErrorCode.CLASSROOM_NOT_FOUND));
 
             // When & Then: 학급을 찾을 수 없다는 예외가 발생한다
             assertThatThrownBy(() -> scoreSummaryService.getStudentSummary(
@@ -513,11 +515,8 @@ class ScoreSummaryServiceTest {
         @DisplayName("교사가 존재하지 않는 학생 번호로 접근하면 예외가 발생한다")
         void should_ThrowException_When_TeacherAccessesNonExistentStudent() {
             // Given: 교사가 존재하지 않는 학생 번호로 접근할 때
-            given(userService.getUser("teacher1")).willReturn(teacherUser);
-            given(teacherService.authenticate("teacher1")).willReturn(teacher);
-            given(classroomService.findClassroom(2025, 2, 1)).willReturn(classroom);
-            given(classroomStudentRepository.findByClassroomAndNumber(classroom, 99))
-                    .willReturn(Optional.empty());
+            given(studentAccessResolver.resolve("teacher1", 2025, 2, 1, 99, STUDENT_TEACHER))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 접근 권한이 없다는 예외가 발생한다
             assertThatThrownBy(() -> scoreSummaryService.getStudentSummary(
@@ -531,8 +530,8 @@ class ScoreSummaryServiceTest {
         @DisplayName("지원하지 않는 역할의 사용자가 접근하면 예외가 발생한다")
         void should_ThrowException_When_UnsupportedRoleAccesses() {
             // Given: 지원하지 않는 역할(PARENT 등)의 사용자가 접근할 때
-            User parentUser = createUser("parent1", Role.PARENT);
-            given(userService.getUser("parent1")).willReturn(parentUser);
+            given(studentAccessResolver.resolve("parent1", 2025, 2, 1, 1, STUDENT_TEACHER))
+                    .willThrow(new CustomException(ErrorCode.HANDLE_ACCESS_DENIED));
 
             // When & Then: 접근 권한이 없다는 예외가 발생한다
             assertThatThrownBy(() -> scoreSummaryService.getStudentSummary(
@@ -675,6 +674,11 @@ class ScoreSummaryServiceTest {
                 .build();
     }
 
+    private ScoreRowDto toRow(Score score) {
+        return new ScoreRowDto(score.getStudent().getId(), score.getRawScore(), score.getWeightedScore(),
+                score.getEvaluationMethod().getFullScore(), score.getEvaluationMethod().getWeight());
+    }
+
     private ScoreSummary createScoreSummary(ClassroomStudent classroomStudent, Subject subject,
                                             double sumScore, double average, double stdDeviation,
                                             int rank, int grade, String achievementLevel) {
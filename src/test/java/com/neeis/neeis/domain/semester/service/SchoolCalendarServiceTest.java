@@ -0,0 +1,127 @@
+package com.neeis.neeis.domain.semester.service;
+
+import com.neeis.neeis.domain.semester.CalendarEventType;
+import com.neeis.neeis.domain.semester.SchoolCalendarEvent;
+import com.neeis.neeis.domain.semester.SchoolCalendarEventRepository;
+import com.neeis.neeis.domain.semester.Semester;
+import com.neeis.neeis.domain.semester.SemesterRepository;
+import com.neeis.neeis.domain.semester.dto.req.CalendarEventRequestDto;
+import com.neeis.neeis.domain.semester.event.SchoolCalendarChangedEvent;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchoolCalendarServiceTest {
+
+    @Mock private SemesterRepository semesterRepository;
+    @Mock private SchoolCalendarEventRepository eventRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private SchoolCalendarService schoolCalendarService;
+
+    private Semester semester;
+
+    @BeforeEach
+    void setUp() {
+        semester = Semester.builder()
+                .year(2025).semester(1)
+                .startDate(LocalDate.of(2025, 3, 3))
+                .endDate(LocalDate.of(2025, 3, 30))
+                .build();
+        ReflectionTestUtils.setField(semester, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("학기 달력은 한 번만 만들고 이후에는 캐시를 사용한다")
+    void should_LoadCalendarOnce_When_CountingRepeatedly() {
+        // given
+        given(eventRepository.findAllBySemesterOrderByDateAsc(semester)).willReturn(List.of());
+
+        // when
+        int first = schoolCalendarService.countSchoolDays(semester, LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 30));
+        int second = schoolCalendarService.countSchoolDays(semester, LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 9));
+
+        // then
+        assertThat(first).isEqualTo(20);
+        assertThat(second).isEqualTo(5);
+        then(eventRepository).should(times(1)).findAllBySemesterOrderByDateAsc(semester);
+    }
+
+    @Test
+    @DisplayName("일정 변경 이벤트를 받으면 해당 학기 달력을 다시 만든다")
+    void should_ReloadCalendar_When_CalendarChanged() {
+        // given: 처음에는 일정이 없다가 휴업일이 추가됨
+        SchoolCalendarEvent holiday = SchoolCalendarEvent.builder()
+                .semester(semester)
+                .date(LocalDate.of(2025, 3, 4))
+                .type(CalendarEventType.HOLIDAY)
+                .name("재량휴업일")
+                .build();
+        given(eventRepository.findAllBySemesterOrderByDateAsc(semester))
+                .willReturn(List.of())
+                .willReturn(List.of(holiday));
+
+        assertThat(schoolCalendarService.getCalendar(semester).getTotalSchoolDays()).isEqualTo(20);
+
+        // when
+        schoolCalendarService.onCalendarChanged(new SchoolCalendarChangedEvent(1L));
+
+        // then
+        assertThat(schoolCalendarService.getCalendar(semester).getTotalSchoolDays()).isEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("일정을 등록하면 저장 후 변경 이벤트를 발행한다")
+    void should_PublishEvent_When_AddingEvent() {
+        // given
+        CalendarEventRequestDto requestDto = CalendarEventRequestDto.builder()
+                .date(LocalDate.of(2025, 3, 8))
+                .type(CalendarEventType.MAKEUP_DAY)
+                .name("보강일")
+                .build();
+        given(semesterRepository.findByYearAndSemester(2025, 1)).willReturn(Optional.of(semester));
+        given(eventRepository.save(any(SchoolCalendarEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        schoolCalendarService.addEvent(2025, 1, requestDto);
+
+        // then
+        then(eventRepository).should().save(any(SchoolCalendarEvent.class));
+        then(eventPublisher).should().publishEvent(any(SchoolCalendarChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("학기 기간 밖의 날짜는 등록할 수 없다")
+    void should_ThrowException_When_DateOutOfSemester() {
+        // given
+        CalendarEventRequestDto requestDto = CalendarEventRequestDto.builder()
+                .date(LocalDate.of(2025, 4, 1))
+                .type(CalendarEventType.HOLIDAY)
+                .name("휴업일")
+                .build();
+        given(semesterRepository.findByYearAndSemester(2025, 1)).willReturn(Optional.of(semester));
+
+        // when & then
+        assertThatThrownBy(() -> schoolCalendarService.addEvent(2025, 1, requestDto))
+                .isInstanceOf(CustomException.class)
+                .hasMessageContaining(ErrorCode.CALENDAR_DATE_OUT_OF_SEMESTER.getMessage());
+        then(eventRepository).should(never()).save(any());
+    }
+}
@@ -0,0 +1,77 @@
+package com.neeis.neeis.domain.semester.service;
+
+import com.neeis.neeis.domain.semester.CalendarEventType;
+import com.neeis.neeis.domain.semester.SchoolCalendarEvent;
+import com.neeis.neeis.domain.semester.Semester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SchoolCalendarTest {
+
+    // 2025-03-03(월) ~ 2025-03-30(일), 4주
+    private final Semester semester = Semester.builder()
+            .year(2025).semester(1)
+            .startDate(LocalDate.of(2025, 3, 3))
+            .endDate(LocalDate.of(2025, 3, 30))
+            .build();
+
+    @Test
+    @DisplayName("일정이 없으면 평일만 수업일로 센다")
+    void should_CountWeekdays_When_NoEvents() {
+        SchoolCalendar calendar = SchoolCalendar.of(semester, List.of());
+
+        assertThat(calendar.getTotalSchoolDays()).isEqualTo(20);
+        assertThat(calendar.countSchoolDays(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 9))).isEqualTo(5);
+        assertThat(calendar.isSchoolDay(LocalDate.of(2025, 3, 8))).isFalse();
+    }
+
+    @Test
+    @DisplayName("휴업일은 빼고 보강일은 더하며, 학교 행사는 영향이 없다")
+    void should_ApplyEvents_When_CalendarHasEvents() {
+        SchoolCalendar calendar = SchoolCalendar.of(semester, List.of(
+                event(LocalDate.of(2025, 3, 4), CalendarEventType.HOLIDAY),
+                event(LocalDate.of(2025, 3, 5), CalendarEventType.SCHOOL_EVENT),
+                event(LocalDate.of(2025, 3, 8), CalendarEventType.MAKEUP_DAY)));
+
+        assertThat(calendar.getTotalSchoolDays()).isEqualTo(20);
+        assertThat(calendar.isSchoolDay(LocalDate.of(2025, 3, 4))).isFalse();
+        assertThat(calendar.isSchoolDay(LocalDate.of(2025, 3, 5))).isTrue();
+        assertThat(calendar.isSchoolDay(LocalDate.of(2025, 3, 8))).isTrue();
+        assertThat(calendar.countSchoolDays(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 7))).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 날 휴업일과 보강일이 있으면 보강일이 우선한다")
+    void should_PreferMakeupDay_When_SameDateAsHoliday() {
+        SchoolCalendar calendar = SchoolCalendar.of(semester, List.of(
+                event(LocalDate.of(2025, 3, 10), CalendarEventType.MAKEUP_DAY),
+                event(LocalDate.of(2025, 3, 10), CalendarEventType.HOLIDAY)));
+
+        assertThat(calendar.isSchoolDay(LocalDate.of(2025, 3, 10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("학기 밖 구간은 제외하고, 역순 구간은 0 을 반환한다")
+    void should_ClampRange_When_OutsideSemester() {
+        SchoolCalendar calendar = SchoolCalendar.of(semester, List.of());
+
+        assertThat(calendar.countSchoolDays(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 4, 30))).isEqualTo(20);
+        assertThat(calendar.countSchoolDays(LocalDate.of(2025, 3, 28), LocalDate.of(2025, 4, 30))).isEqualTo(1);
+        assertThat(calendar.countSchoolDays(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 9))).isZero();
+        assertThat(calendar.isSchoolDay(LocalDate.of(2025, 4, 1))).isFalse();
+    }
+
+    private SchoolCalendarEvent event(LocalDate date, CalendarEventType type) {
+        return SchoolCalendarEvent.builder()
+                .semester(semester)
+                .date(date)
+                .type(type)
+                .name("일정")
+                .build();
+    }
+}
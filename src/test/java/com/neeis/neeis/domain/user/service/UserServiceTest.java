@@ -12,15 +12,20 @@ import com.neeis.neeis.domain.teacher.Teacher;
 import com.neeis.neeis.domain.teacher.TeacherRepository;
 import com.neeis.neeis.domain.teacherSubject.TeacherSubject;
 import com.neeis.neeis.domain.teacherSubject.TeacherSubjectRepository;
+import com.neeis.neeis.domain.user.dto.TokenRefreshResponseDto;
 import com.neeis.neeis.domain.user.dto.TokenResponseDto;
 import com.neeis.neeis.domain.user.User;
 import com.neeis.neeis.domain.user.UserRepository;
 import com.neeis.neeis.domain.user.dto.FcmTokenRequestDto;
 import com.neeis.neeis.domain.user.dto.LoginRequestDto;
 import com.neeis.neeis.domain.user.dto.UpdatePasswordRequestDto;
+import com.neeis.neeis.domain.user.event.UserCredentialsChangedEvent;
 import com.neeis.neeis.global.exception.CustomException;
 import com.neeis.neeis.global.exception.ErrorCode;
+import com.neeis.neeis.global.jwt.CustomUserDetails;
+import com.neeis.neeis.global.jwt.JwtClaims;
 import com.neeis.neeis.global.jwt.JwtProvider;
+import com.neeis.neeis.global.jwt.PrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,10 +33,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -45,6 +53,8 @@ class UserServiceTest {
     @Mock private ClassroomStudentRepository classroomStudentRepository;
     @Mock private JwtProvider jwtProvider;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private PrincipalCache principalCache;
     @InjectMocks private UserService userService;
 
     private User user;
@@ -102,7 +112,7 @@ class UserServiceTest {
         ReflectionTestUtils.setField(user, "password", "$2a$10$dummyhashed");
         given(userRepository.findByUsername("user1")).willReturn(Optional.of(user));
         given(passwordEncoder.matches("input", "$2a$10$dummyhashed")).willReturn(true);
-        given(jwtProvider.createAccessToken("user1", "STUDENT")).willReturn("tokenABC");
+        given(jwtProvider.createAccessToken(user.getId(), "user1", "STUDENT")).willReturn("tokenABC");
 
         // Student 로그인에 필요한 Mock 설정
         given(studentRepository.findByUser(user)).willReturn(Optional.of(student));
@@ -161,7 +171,7 @@ class UserServiceTest {
         ReflectionTestUtils.setField(user, "password", "plainpw");
         given(userRepository.findByUsername("user1")).willReturn(Optional.of(user));
         given(passwordEncoder.encode("plainpw")).willReturn("encPw");
-        given(jwtProvider.createAccessToken("user1", "STUDENT")).willReturn("gotToken");
+        given(jwtProvider.createAccessToken(user.getId(), "user1", "STUDENT")).willReturn("gotToken");
 
         // Student 로그인에 필요한 Mock 설정
         given(studentRepository.findByUser(user)).willReturn(Optional.of(student));
@@ -241,6 +251,10 @@ class UserServiceTest {
         userService.updatePassword(UpdatePasswordRequestDto.builder()
                 .loginId("u").oldPassword("oldpw").newPassword("newpw").build());
         assertThat(user.getPassword()).isEqualTo("newEnc");
+        // 이전에 발급된 토큰 무효화
+        assertThat(user.getTokensValidAfter()).isNotNull();
+        // 인증 주체 캐시 무효화 이벤트 발행
+        then(eventPublisher).should().publishEvent(any(UserCredentialsChangedEvent.class));
     }
 
     @Test
@@ -274,4 +288,125 @@ class UserServiceTest {
         // Then
         assertThat(user.getFcmToken()).isEqualTo("fcm-token-123");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("reissue: 리프레시 토큰을 폐기하고 같은 계열로 새 토큰을 발급한다")
+    void reissue_rotatesRefreshToken() {
+        // Given
+        ReflectionTestUtils.setField(user, "id", 1L);
+        JwtClaims claims = refreshClaims(1L, "user1");
+        given(claims.getFamilyId()).willReturn("family-1");
+        given(jwtProvider.verify("refresh-1")).willReturn(claims);
+        given(jwtProvider.isRevoked(claims)).willReturn(false);
+        given(jwtProvider.revoke(claims)).willReturn(true);
+        given(principalCache.get("user1")).willReturn(new CustomUserDetails(user));
+        given(jwtProvider.createAccessToken(1L, "user1", "STUDENT")).willReturn("access-2");
+        given(jwtProvider.createRefreshToken(1L, "user1", "family-1")).willReturn("refresh-2");
+
+        // When
+        TokenRefreshResponseDto res = userService.reissue("refresh-1");
+
+        // Then
+        assertThat(res.getAccessToken()).isEqualTo("access-2");
+        assertThat(res.getRefreshToken()).isEqualTo("refresh-2");
+        then(jwtProvider).should(never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("reissue: 비밀번호 변경 이전에 발급된 리프레시 토큰으로는 재발급할 수 없다")
+    void reissue_issuedBeforePasswordChange_rejected() {
+        // Given
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "tokensValidAfter", LocalDateTime.now());
+        JwtClaims claims = refreshClaims(1L, "user1");
+        given(claims.getIssuedAt()).willReturn(Instant.now().minusSeconds(3600));
+        given(jwtProvider.verify("refresh-1")).willReturn(claims);
+        given(jwtProvider.isRevoked(claims)).willReturn(false);
+        given(jwtProvider.revoke(claims)).willReturn(true);
+        given(principalCache.get("user1")).willReturn(new CustomUserDetails(user));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.reissue("refresh-1"))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+        then(jwtProvider).should(never()).createAccessToken(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("reissue: 이미 교체된 리프레시 토큰을 다시 쓰면 계열 전체를 폐기한다")
+    void reissue_reusedToken_revokesFamily() {
+        // Given
+        JwtClaims claims = mock(JwtClaims.class);
+        given(claims.isRefreshToken()).willReturn(true);
+        given(jwtProvider.verify("refresh-1")).willReturn(claims);
+        given(jwtProvider.isRevoked(claims)).willReturn(false);
+        given(jwtProvider.revoke(claims)).willReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.reissue("refresh-1"))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+        then(jwtProvider).should().revokeFamily(claims);
+        then(principalCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("reissue: 액세스 토큰으로는 재발급할 수 없다")
+    void reissue_accessToken_rejected() {
+        // Given
+        JwtClaims claims = mock(JwtClaims.class);
+        given(claims.isRefreshToken()).willReturn(false);
+        given(jwtProvider.verify("access-1")).willReturn(claims);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.reissue("access-1"))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+        then(jwtProvider).should(never()).revoke(any());
+    }
+
+    @Test
+    @DisplayName("logout: 액세스 토큰과 본인 리프레시 토큰 계열을 폐기한다")
+    void logout_revokesAccessAndRefreshFamily() {
+        // Given
+        JwtClaims accessClaims = mock(JwtClaims.class);
+        given(accessClaims.getUsername()).willReturn("user1");
+        JwtClaims refreshClaims = refreshClaims(1L, "user1");
+        given(jwtProvider.verify("refresh-1")).willReturn(refreshClaims);
+
+        // When
+        userService.logout(accessClaims, "refresh-1");
+
+        // Then
+        then(jwtProvider).should().revoke(accessClaims);
+        then(jwtProvider).should().revokeFamily(refreshClaims);
+    }
+
+    @Test
+    @DisplayName("logout: 다른 사용자의 리프레시 토큰은 폐기하지 않는다")
+    void logout_otherUsersRefreshToken_ignored() {
+        // Given
+        JwtClaims accessClaims = mock(JwtClaims.class);
+        given(accessClaims.getUsername()).willReturn("user1");
+        JwtClaims refreshClaims = refreshClaims(2L, "user2");
+        given(jwtProvider.verify("refresh-2")).willReturn(refreshClaims);
+
+        // When
+        userService.logout(accessClaims, "refresh-2");
+
+        // Then
+        then(jwtProvider).should().revoke(accessClaims);
+        then(jwtProvider).should(never()).revokeFamily(any());
+    }
+
+    private JwtClaims refreshClaims(Long userId, String username) {
+        JwtClaims claims = mock(JwtClaims.class);
+        given(claims.isRefreshToken()).willReturn(true);
+        lenient().when(claims.getUserId()).thenReturn(userId);
+        given(claims.getUsername()).willReturn(username);
+        return claims;
+    }
+}
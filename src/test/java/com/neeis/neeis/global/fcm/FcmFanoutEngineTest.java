@@ -0,0 +1,183 @@
+package com.neeis.neeis.global.fcm;
+
+import com.google.firebase.messaging.*;
+import com.neeis.neeis.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FcmFanoutEngineTest {
+
+    @Mock private FirebaseMessaging firebaseMessaging;
+    @Mock private UserRepository userRepository;
+
+    private FcmFanoutEngine fcmFanoutEngine;
+
+    @BeforeEach
+    void setUp() {
+        fcmFanoutEngine = new FcmFanoutEngine(firebaseMessaging, userRepository);
+        ReflectionTestUtils.setField(fcmFanoutEngine, "retryBackoffMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("multicast: 토큰을 500개씩 묶어 묶음당 한 번 호출한다")
+    void multicast_batchesBy500() throws Exception {
+        // given
+        List<String> tokens = IntStream.range(0, 1200).mapToObj(i -> "token-" + i).toList();
+        BatchResponse first = batchResponse(success(500));
+        BatchResponse second = batchResponse(success(500));
+        BatchResponse last = batchResponse(success(200));
+        given(firebaseMessaging.sendEachForMulticast(any(MulticastMessage.class))).willReturn(first, second, last);
+
+        // when
+        FcmFanoutEngine.FanoutResult result = fcmFanoutEngine.multicast(tokens, "제목", "본문", Map.of("type", "TEST"));
+
+        // then
+        then(firebaseMessaging).should(times(3)).sendEachForMulticast(any(MulticastMessage.class));
+        assertThat(result.getSentCount()).isEqualTo(1200);
+        assertThat(result.getFailedCount()).isZero();
+        then(userRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("multicast: 빈 토큰과 중복 토큰은 보내지 않는다")
+    void multicast_skipsBlankAndDuplicateTokens() throws Exception {
+        // given
+        BatchResponse response = batchResponse(success(2));
+        given(firebaseMessaging.sendEachForMulticast(any(MulticastMessage.class))).willReturn(response);
+
+        // when
+        FcmFanoutEngine.FanoutResult result = fcmFanoutEngine.multicast(
+                Arrays.asList("a", null, " ", "b", "a"), "제목", "본문", Map.of());
+
+        // then
+        assertThat(result.getSentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("multicast: 보낼 토큰이 없으면 호출하지 않는다")
+    void multicast_noTokens() {
+        FcmFanoutEngine.FanoutResult result = fcmFanoutEngine.multicast(List.of(), "제목", "본문", Map.of());
+
+        assertThat(result.getSentCount()).isZero();
+        then(firebaseMessaging).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("sendEach: UNREGISTERED 토큰은 발송 후 한 번에 제거한다")
+    @SuppressWarnings("unchecked")
+    void sendEach_clearsUnregisteredTokensInBulk() throws Exception {
+        // given
+        List<FcmMessageRequest> requests = List.of(
+                FcmMessageRequest.of("ok", "제목", "본문1", Map.of()),
+                FcmMessageRequest.of("stale-1", "제목", "본문2", Map.of()),
+                FcmMessageRequest.of("stale-2", "제목", "본문3", Map.of()));
+        BatchResponse response = batchResponse(List.of(
+                success(), failure(MessagingErrorCode.UNREGISTERED), failure(MessagingErrorCode.UNREGISTERED)));
+        given(firebaseMessaging.sendEach(anyList())).willReturn(response);
+        given(userRepository.clearFcmTokens(any())).willReturn(2);
+
+        // when
+        FcmFanoutEngine.FanoutResult result = fcmFanoutEngine.sendEach(requests);
+
+        // then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        then(userRepository).should(times(1)).clearFcmTokens(captor.capture());
+        assertThat(captor.getValue()).containsExactly("stale-1", "stale-2");
+        assertThat(result.getSentCount()).isEqualTo(1);
+        assertThat(result.getUnregisteredTokens()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("sendEach: 일시 오류 토큰만 다시 보낸다")
+    @SuppressWarnings("unchecked")
+    void sendEach_retriesOnlyTransientFailures() throws Exception {
+        // given
+        List<FcmMessageRequest> requests = List.of(
+                FcmMessageRequest.of("ok", "제목", "본문", Map.of()),
+                FcmMessageRequest.of("busy", "제목", "본문", Map.of()),
+                FcmMessageRequest.of("bad", "제목", "본문", Map.of()));
+        BatchResponse first = batchResponse(List.of(
+                success(), failure(MessagingErrorCode.UNAVAILABLE), failure(MessagingErrorCode.INVALID_ARGUMENT)));
+        BatchResponse retried = batchResponse(success(1));
+        given(firebaseMessaging.sendEach(anyList())).willReturn(first, retried);
+
+        // when
+        FcmFanoutEngine.FanoutResult result = fcmFanoutEngine.sendEach(requests);
+
+        // then
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        then(firebaseMessaging).should(times(2)).sendEach(captor.capture());
+        assertThat(captor.getAllValues().get(1)).hasSize(1);
+        assertThat(result.getSentCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("sendEach: 계속 일시 오류면 최대 횟수까지만 시도하고 실패로 센다")
+    void sendEach_givesUpAfterMaxAttempts() throws Exception {
+        // given
+        FirebaseMessagingException unavailable = mock(FirebaseMessagingException.class);
+        given(unavailable.getMessagingErrorCode()).willReturn(MessagingErrorCode.UNAVAILABLE);
+        given(firebaseMessaging.sendEach(anyList())).willThrow(unavailable);
+
+        // when
+        FcmFanoutEngine.FanoutResult result = fcmFanoutEngine.sendEach(List.of(
+                FcmMessageRequest.of("busy", "제목", "본문", Map.of())));
+
+        // then
+        then(firebaseMessaging).should(times(FcmFanoutEngine.MAX_ATTEMPTS)).sendEach(anyList());
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getSentCount()).isZero();
+        assertThat(result.isTransientOutage()).isTrue();
+    }
+
+    private BatchResponse batchResponse(List<SendResponse> responses) {
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        given(batchResponse.getResponses()).willReturn(responses);
+        return batchResponse;
+    }
+
+    private List<SendResponse> success(int count) {
+        List<SendResponse> responses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            responses.add(success());
+        }
+        return responses;
+    }
+
+    private SendResponse success() {
+        SendResponse response = mock(SendResponse.class);
+        given(response.isSuccessful()).willReturn(true);
+        return response;
+    }
+
+    private SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        given(exception.getMessagingErrorCode()).willReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        given(response.isSuccessful()).willReturn(false);
+        given(response.getException()).willReturn(exception);
+        return response;
+    }
+}
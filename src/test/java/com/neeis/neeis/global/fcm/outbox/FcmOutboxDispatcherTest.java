@@ -0,0 +1,132 @@
+package com.neeis.neeis.global.fcm.outbox;
+
+import com.neeis.neeis.global.fcm.FcmFanoutEngine;
+import com.neeis.neeis.global.fcm.FcmService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FcmOutboxDispatcherTest {
+
+    @Mock private FcmOutboxRepository fcmOutboxRepository;
+    @Mock private FcmService fcmService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private TaskScheduler worker;
+
+    private FcmOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new FcmOutboxDispatcher(fcmOutboxRepository, fcmService, transactionManager, worker,
+                10, Duration.ofSeconds(2), Duration.ofMinutes(5), 3, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("임대한 행을 발송하고 성공하면 삭제한다")
+    void dispatchBatch_success_deletesRow() {
+        // given
+        FcmOutbox outbox = outbox(1L, FcmOutboxType.SCORE, List.of(10L, 11L), 0);
+        given(fcmOutboxRepository.findDispatchableIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(1L));
+        given(fcmOutboxRepository.findByLeaseTokenOrderByIdAsc(anyString())).willReturn(List.of(outbox));
+        given(fcmService.dispatch(FcmOutboxType.SCORE, List.of(10L, 11L))).willReturn(new FcmFanoutEngine.FanoutResult());
+
+        // when
+        int leased = dispatcher.dispatchBatch();
+
+        // then
+        assertThat(leased).isEqualTo(1);
+        then(fcmOutboxRepository).should().lease(eq(List.of(1L)), anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        then(fcmOutboxRepository).should().deleteLeased(eq(1L), anyString());
+        then(fcmOutboxRepository).should(never()).releaseFailed(anyLong(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("발송 중 예외가 나면 백오프 후 다시 대기 상태로 돌린다")
+    void dispatchBatch_failure_reschedules() {
+        // given
+        FcmOutbox outbox = outbox(2L, FcmOutboxType.COUNSEL, List.of(5L), 0);
+        given(fcmOutboxRepository.findDispatchableIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(2L));
+        given(fcmOutboxRepository.findByLeaseTokenOrderByIdAsc(anyString())).willReturn(List.of(outbox));
+        given(fcmService.dispatch(FcmOutboxType.COUNSEL, List.of(5L))).willThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchBatch();
+
+        // then
+        then(fcmOutboxRepository).should().releaseFailed(eq(2L), anyString(), eq(FcmOutboxStatus.PENDING),
+                argThat(next -> !next.isBefore(before.plusSeconds(5))), contains("DB 오류"));
+        then(fcmOutboxRepository).should(never()).deleteLeased(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("FCM 장애로 한 건도 못 보내면 다시 시도하고, 최대 횟수를 넘기면 DEAD 로 남긴다")
+    void dispatchBatch_transientOutage_deadLetters() {
+        // given: 이미 두 번 실패한 행 (최대 3회)
+        FcmOutbox outbox = outbox(3L, FcmOutboxType.FEEDBACK, List.of(7L), 2);
+        FcmFanoutEngine.FanoutResult outage = new FcmFanoutEngine.FanoutResult();
+        ReflectionTestUtils.setField(outage, "retryableCount", 2);
+        given(fcmOutboxRepository.findDispatchableIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(3L));
+        given(fcmOutboxRepository.findByLeaseTokenOrderByIdAsc(anyString())).willReturn(List.of(outbox));
+        given(fcmService.dispatch(FcmOutboxType.FEEDBACK, List.of(7L))).willReturn(outage);
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        then(fcmOutboxRepository).should().releaseFailed(eq(3L), anyString(), eq(FcmOutboxStatus.DEAD),
+                any(LocalDateTime.class), anyString());
+    }
+
+    @Test
+    @DisplayName("발송할 행이 없으면 임대하지 않는다")
+    void dispatchBatch_empty() {
+        given(fcmOutboxRepository.findDispatchableIds(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of());
+
+        assertThat(dispatcher.dispatchBatch()).isZero();
+        then(fcmOutboxRepository).should(never()).lease(any(), anyString(), any(), any());
+        then(fcmService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 두 배로 늘고 최대 1시간이다")
+    void backoffFor_doublesAndCaps() {
+        assertThat(dispatcher.backoffFor(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(dispatcher.backoffFor(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(dispatcher.backoffFor(4)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(dispatcher.backoffFor(30)).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("깨우기가 이미 예약되어 있으면 다시 예약하지 않는다")
+    void wakeUp_schedulesOnce() {
+        dispatcher.wakeUp();
+        dispatcher.wakeUp();
+
+        then(worker).should(times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private FcmOutbox outbox(Long id, FcmOutboxType type, List<Long> targetIds, int attempts) {
+        FcmOutbox outbox = FcmOutbox.builder().type(type).targetIds(targetIds).build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        ReflectionTestUtils.setField(outbox, "attempts", attempts);
+        return outbox;
+    }
+}
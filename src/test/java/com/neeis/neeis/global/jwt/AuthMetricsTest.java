@@ -0,0 +1,31 @@
+package com.neeis.neeis.global.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthMetricsTest {
+
+    private final AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("기본값은 추적 로그를 남기지 않는다")
+    void sampleTrace_offByDefault() {
+        assertThat(authMetrics.getTraceSampleRate()).isZero();
+        assertThat(authMetrics.sampleTrace()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비율 1이면 모든 요청을 추적하고, 범위를 벗어난 값은 0~1로 맞춘다")
+    void sampleTrace_rateClamped() {
+        authMetrics.setTraceSampleRate(5.0);
+        assertThat(authMetrics.getTraceSampleRate()).isEqualTo(1.0);
+        assertThat(authMetrics.sampleTrace()).isTrue();
+
+        authMetrics.setTraceSampleRate(-1.0);
+        assertThat(authMetrics.getTraceSampleRate()).isZero();
+        assertThat(authMetrics.sampleTrace()).isFalse();
+    }
+}
@@ -1,29 +1,40 @@
 package com.neeis.neeis.global.jwt;
 
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.global.exception.CustomException;
+import com.neeis.neeis.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.security.core.GrantedAuthority;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class JwtProviderTest {
 
     @Mock
-    private CustomUserDetailsService customUserDetailsService;
+    private PrincipalCache principalCache;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private JwtProvider jwtProvider;
 
     private final String secretKey = "0123456789abcdefghijklmnopqrstuvwx"; // 32 chars
@@ -31,9 +42,12 @@ class JwtProviderTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtProvider = new JwtProvider(principalCache, new AuthMetrics(meterRegistry), new TokenDenylist(mock(TaskScheduler.class), Duration.ofMinutes(10)));
         // set private fields via reflection
         ReflectionTestUtils.setField(jwtProvider, "key", secretKey);
         ReflectionTestUtils.setField(jwtProvider, "accessTokenValidTime", validTime);
+        ReflectionTestUtils.setField(jwtProvider, "refreshTokenValidTime", validTime * 24);
         // initialize secretKey
         jwtProvider.init();
     }
@@ -44,7 +58,7 @@ class JwtProviderTest {
         String username = "userA";
         String role = "ROLE_TEACHER";
 
-        String token = jwtProvider.createAccessToken(username, role);
+        String token = jwtProvider.createAccessToken(1L, username, role);
         assertThat(token).isNotNull();
 
         String parsed = jwtProvider.getUsername(token);
@@ -73,17 +87,43 @@ class JwtProviderTest {
     }
 
     @Test
-    @DisplayName("getAuthentication: 토큰으로 Authentication 생성")
+    @DisplayName("verify: 검증된 클레임에 사용자 ID / 역할이 담긴다")
+    void verify_carriesUserIdAndRole() {
+        String token = jwtProvider.createAccessToken(7L, "userC", "TEACHER");
+
+        JwtClaims claims = jwtProvider.verify(token);
+
+        assertThat(claims.getUserId()).isEqualTo(7L);
+        assertThat(claims.getUsername()).isEqualTo("userC");
+        assertThat(claims.getRole()).isEqualTo("TEACHER");
+    }
+
+    @Test
+    @DisplayName("verify: 서명이 다른 토큰은 null 반환")
+    void verify_invalidToken() {
+        assertThat(jwtProvider.verify("not.a.token")).isNull();
+    }
+
+    @Test
+    @DisplayName("verify: 토큰 검증 시간이 결과별로 기록된다")
+    void verify_recordsParseTimer() {
+        jwtProvider.verify(jwtProvider.createAccessToken(1L, "userA", "STUDENT"));
+        jwtProvider.verify("not.a.token");
+
+        assertThat(meterRegistry.get("auth.token.parse").tag("result", AuthMetrics.RESULT_VALID).timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("auth.token.parse").tag("result", AuthMetrics.RESULT_INVALID).timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getAuthentication: 캐시된 주체로 Authentication 생성")
     void getAuthentication_success() {
         String username = "userB";
-        String role = "ROLE_STUDENT";
 
-        // create token and stub userDetailsService
-        String token = jwtProvider.createAccessToken(username, role);
-        UserDetails userDetails = User.withUsername(username)
-                .password("pwd").roles("STUDENT").build();
-        given(customUserDetailsService.loadUserByUsername(username))
-                .willReturn(userDetails);
+        // create token and stub principal cache
+        String token = jwtProvider.createAccessToken(2L, username, "STUDENT");
+        given(principalCache.get(username)).willReturn(principal(2L, username, Role.STUDENT));
 
         Authentication auth = jwtProvider.getAuthentication(token);
         assertThat(auth).isNotNull();
@@ -91,5 +131,102 @@ class JwtProviderTest {
         assertThat(auth.getAuthorities())
                 .extracting(GrantedAuthority::getAuthority)
                 .containsExactly("ROLE_STUDENT");
+        then(principalCache).should(never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("getAuthentication: 토큰과 캐시의 역할이 다르면 다시 불러온다")
+    void getAuthentication_roleChanged_reloads() {
+        JwtClaims claims = jwtProvider.verify(jwtProvider.createAccessToken(3L, "userD", "TEACHER"));
+        given(principalCache.get("userD"))
+                .willReturn(principal(3L, "userD", Role.STUDENT))
+                .willReturn(principal(3L, "userD", Role.TEACHER));
+
+        Authentication auth = jwtProvider.getAuthentication(claims);
+
+        then(principalCache).should().evict("userD");
+        assertThat(auth.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_TEACHER");
+    }
+
+    @Test
+    @DisplayName("getAuthentication: 같은 아이디로 다시 만든 계정에는 이전 토큰을 인정하지 않는다")
+    void getAuthentication_userIdMismatch() {
+        JwtClaims claims = jwtProvider.verify(jwtProvider.createAccessToken(4L, "userE", "STUDENT"));
+        given(principalCache.get("userE")).willReturn(principal(40L, "userE", Role.STUDENT));
+
+        assertThatThrownBy(() -> jwtProvider.getAuthentication(claims))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("getAuthentication: 비밀번호 변경 이전에 발급된 토큰은 인정하지 않는다")
+    void getAuthentication_issuedBeforePasswordChange() {
+        JwtClaims claims = jwtProvider.verify(jwtProvider.createAccessToken(8L, "userI", "STUDENT"));
+        CustomUserDetails principal = principal(8L, "userI", Role.STUDENT, LocalDateTime.now().plusMinutes(1));
+        given(principalCache.get("userI")).willReturn(principal);
+
+        assertThatThrownBy(() -> jwtProvider.getAuthentication(claims))
+                .isInstanceOf(CustomException.class)
+                .extracting(ex -> ((CustomException) ex).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("getAuthentication: 비밀번호 변경 이후에 발급된 토큰은 인정한다")
+    void getAuthentication_issuedAfterPasswordChange() {
+        CustomUserDetails principal = principal(9L, "userJ", Role.STUDENT, LocalDateTime.now().minusMinutes(1));
+        JwtClaims claims = jwtProvider.verify(jwtProvider.createAccessToken(9L, "userJ", "STUDENT"));
+        given(principalCache.get("userJ")).willReturn(principal);
+
+        assertThat(jwtProvider.getAuthentication(claims).getName()).isEqualTo("userJ");
+    }
+
+    @Test
+    @DisplayName("refreshToken: 교체 발급해도 계열 ID 는 유지되고 토큰 ID 는 새로 만든다")
+    void createRefreshToken_keepsFamily() {
+        JwtClaims first = jwtProvider.verify(jwtProvider.createRefreshToken(5L, "userF"));
+        JwtClaims rotated = jwtProvider.verify(jwtProvider.createRefreshToken(5L, "userF", first.getFamilyId()));
+
+        assertThat(first.isRefreshToken()).isTrue();
+        assertThat(first.isAccessToken()).isFalse();
+        assertThat(rotated.getFamilyId()).isEqualTo(first.getFamilyId());
+        assertThat(rotated.getTokenId()).isNotEqualTo(first.getTokenId());
+    }
+
+    @Test
+    @DisplayName("revoke: 폐기한 토큰은 한 번만 폐기되고 이후 폐기된 것으로 판단한다")
+    void revoke_marksTokenRevoked() {
+        JwtClaims claims = jwtProvider.verify(jwtProvider.createAccessToken(6L, "userG", "STUDENT"));
+
+        assertThat(jwtProvider.isRevoked(claims)).isFalse();
+        assertThat(jwtProvider.revoke(claims)).isTrue();
+        assertThat(jwtProvider.revoke(claims)).isFalse();
+        assertThat(jwtProvider.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    @DisplayName("revokeFamily: 같은 계열의 다른 리프레시 토큰도 폐기된 것으로 판단한다")
+    void revokeFamily_revokesSiblings() {
+        JwtClaims first = jwtProvider.verify(jwtProvider.createRefreshToken(7L, "userH"));
+        JwtClaims rotated = jwtProvider.verify(jwtProvider.createRefreshToken(7L, "userH", first.getFamilyId()));
+
+        jwtProvider.revokeFamily(first);
+
+        assertThat(jwtProvider.isRevoked(rotated)).isTrue();
+    }
+
+    private CustomUserDetails principal(Long id, String username, Role role) {
+        return principal(id, username, role, null);
+    }
+
+    private CustomUserDetails principal(Long id, String username, Role role, LocalDateTime tokensValidAfter) {
+        User user = User.builder().school("테스트중학교").username(username).password("pwd").role(role).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        ReflectionTestUtils.setField(user, "tokensValidAfter", tokensValidAfter);
+        return new CustomUserDetails(user);
     }
 }
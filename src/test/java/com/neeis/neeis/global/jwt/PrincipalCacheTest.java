@@ -0,0 +1,63 @@
+package com.neeis.neeis.global.jwt;
+
+import com.neeis.neeis.domain.user.Role;
+import com.neeis.neeis.domain.user.User;
+import com.neeis.neeis.domain.user.event.UserCredentialsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(customUserDetailsService, new AuthMetrics(meterRegistry));
+
+        User user = User.builder().school("테스트중학교").username("userA").password("pwd").role(Role.TEACHER).build();
+        given(customUserDetailsService.loadUserByUsername("userA")).willReturn(new CustomUserDetails(user));
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 TTL 동안 한 번만 조회한다")
+    void get_cachesPrincipal() {
+        CustomUserDetails first = principalCache.get("userA");
+        CustomUserDetails second = principalCache.get("userA");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getRole()).isEqualTo(Role.TEACHER);
+        then(customUserDetailsService).should(times(1)).loadUserByUsername("userA");
+
+        // 적중 / 미스와 조회 시간이 기록된다
+        assertThat(meterRegistry.get("auth.principal.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.principal.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.principal.load").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비밀번호 / 역할 변경 이벤트를 받으면 다시 조회한다")
+    void credentialsChanged_evicts() {
+        principalCache.get("userA");
+
+        principalCache.onCredentialsChanged(new UserCredentialsChangedEvent("userA"));
+        principalCache.get("userA");
+
+        then(customUserDetailsService).should(times(2)).loadUserByUsername("userA");
+    }
+}
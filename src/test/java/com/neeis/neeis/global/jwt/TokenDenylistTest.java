@@ -0,0 +1,80 @@
+package com.neeis.neeis.global.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class TokenDenylistTest {
+
+    private TaskScheduler worker;
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        worker = mock(TaskScheduler.class);
+        tokenDenylist = new TokenDenylist(worker, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("시작 시 전용 스케줄러에 정리 작업을 주기 실행으로 등록한다")
+    void start_schedulesPurge() {
+        tokenDenylist.start();
+
+        then(worker).should().scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("폐기한 ID 만 폐기된 것으로 판단한다")
+    void revoke_and_isRevoked() {
+        assertThat(tokenDenylist.revoke("jti-1", Instant.now().plusSeconds(60))).isTrue();
+
+        assertThat(tokenDenylist.isRevoked("jti-1")).isTrue();
+        assertThat(tokenDenylist.isRevoked("jti-2")).isFalse();
+        assertThat(tokenDenylist.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 폐기된 ID 를 다시 폐기하면 false")
+    void revoke_twice_returnsFalse() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        assertThat(tokenDenylist.revoke("jti-1", expiresAt)).isTrue();
+        assertThat(tokenDenylist.revoke("jti-1", expiresAt)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 목록에 넣지 않는다")
+    void revoke_expired_ignored() {
+        assertThat(tokenDenylist.revoke("jti-1", Instant.now().minusSeconds(1))).isFalse();
+        assertThat(tokenDenylist.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("정리 시 만료된 항목만 지우고 남은 항목은 계속 폐기 상태다")
+    @SuppressWarnings("unchecked")
+    void purgeExpired_keepsLiveEntries() {
+        tokenDenylist.revoke("live", Instant.now().plusSeconds(60));
+        tokenDenylist.revoke("expired", Instant.now().plusSeconds(60));
+        // 만료 시각이 지난 상태로 만든다
+        Map<String, Instant> revoked = (Map<String, Instant>) ReflectionTestUtils.getField(tokenDenylist, "revoked");
+        revoked.put("expired", Instant.now().minusSeconds(1));
+
+        tokenDenylist.purgeExpired();
+
+        assertThat(tokenDenylist.size()).isEqualTo(1);
+        assertThat(tokenDenylist.isRevoked("live")).isTrue();
+        assertThat(tokenDenylist.isRevoked("expired")).isFalse();
+    }
+}